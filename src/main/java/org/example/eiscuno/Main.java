@@ -2,7 +2,11 @@ package org.example.eiscuno;
 
 import javafx.application.Application;
 import javafx.stage.Stage;
+import org.example.eiscuno.model.persistence.GameResultStore;
+import org.example.eiscuno.view.AssetPreloader;
+import org.example.eiscuno.view.CardImageCache;
 import org.example.eiscuno.view.GameUnoStage;
+import org.example.eiscuno.view.StartupMetrics;
 
 import java.io.IOException;
 
@@ -22,12 +26,35 @@ public class Main extends Application {
 
     /**
      * Starts the application.
+     * <p>
+     * The image preload is started before the stage so the assets are decoded in the background
+     * while the FXML file is loaded and the window is shown. The card faces are drawn from the
+     * shared atlas, which the preload builds once they are decoded. The stage title reports the
+     * progress of the preload until every asset is ready.
      *
      * @param primaryStage the primary stage of the application
      * @throws IOException if an error occurs while loading the stage
      */
     @Override
     public void start(Stage primaryStage) throws IOException {
-        GameUnoStage.getInstance();
+        StartupMetrics.begin();
+        CardImageCache.setAtlasEnabled(true);
+        AssetPreloader preloader = AssetPreloader.getInstance();
+        GameUnoStage stage = GameUnoStage.getInstance();
+        preloader.progressProperty().addListener((observable, oldValue, newValue) ->
+                stage.setTitle(newValue.doubleValue() < 1
+                        ? String.format("EISC Uno - Cargando %.0f%%", newValue.doubleValue() * 100)
+                        : "EISC Uno"));
     }
-}
\ No newline at end of file
+
+    /**
+     * Stops the application.
+     * <p>
+     * The shared result store is closed so the results still in its queue are written before the
+     * JVM exits.
+     */
+    @Override
+    public void stop() {
+        GameResultStore.closeShared();
+    }
+}
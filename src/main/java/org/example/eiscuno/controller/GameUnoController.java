@@ -10,15 +10,34 @@ import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.GridPane;
 import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardColor;
+import org.example.eiscuno.model.clock.TimeControl;
+import org.example.eiscuno.model.clock.TurnClock;
 import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.game.GameActor;
+import org.example.eiscuno.model.game.GameSnapshot;
 import org.example.eiscuno.model.game.GameUno;
-import org.example.eiscuno.model.machine.BasicAIPlayerStrategy;
+import org.example.eiscuno.model.game.Move;
+import org.example.eiscuno.model.machine.AIPlayerStrategy;
+import org.example.eiscuno.model.machine.IsmctsAIPlayerStrategy;
 import org.example.eiscuno.model.machine.ThreadPlayMachine;
-import org.example.eiscuno.model.machine.ThreadSingUNOMachine;
+import org.example.eiscuno.model.machine.UnoCallDetector;
+import org.example.eiscuno.model.persistence.GameRecord;
+import org.example.eiscuno.model.persistence.GameResultStore;
 import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.rng.GameRng;
+import org.example.eiscuno.model.session.SessionExecutor;
 import org.example.eiscuno.model.table.Table;
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+import org.example.eiscuno.view.AssetPreloader;
+import org.example.eiscuno.view.CardView;
+import org.example.eiscuno.view.StartupMetrics;
 
-import java.util.Random;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Controller class for the Uno game.
@@ -39,61 +58,143 @@ public class GameUnoController implements GameUno.GameEventListener {
 
     private Player humanPlayer;
     private Player machinePlayer;
-    private BasicAIPlayerStrategy strategy = new BasicAIPlayerStrategy();
+    private static final long MACHINE_THINKING_MILLIS = 300;
+    private static final long REPLAYABLE_THINKING_MILLIS = 60_000;
+    private static final int MACHINE_ITERATIONS = 2000;
+    private AIPlayerStrategy strategy;
     private Deck deck;
     private Table table;
     private GameUno gameUno;
+    private GameActor gameActor;
     private int posInitCardToShow;
 
-    private ThreadSingUNOMachine threadSingUNOMachine;
+    private final GameRng sessionRng = GameRng.create();
+    private GameRng gameRng;
+
+    private static final int UNO_CALL_MAX_DELAY_MILLIS = 5000;
+    private UnoCallDetector unoCallDetector;
     private ThreadPlayMachine threadPlayMachine;
-    private Thread singUnoMachineThread;
+    private Future<?> machineTask;
+
+    private static final long HUMAN_TIME_MILLIS = 120_000;
+    private static final long HUMAN_INCREMENT_MILLIS = 15_000;
+    private static final int MAX_CONSECUTIVE_TIMEOUTS = 3;
+    private final TurnClock turnClock = TurnClock.create();
+    private TimeControl humanTime;
+    private volatile TurnClock.Turn humanTurn;
+    private final AtomicInteger consecutiveTimeouts = new AtomicInteger();
+
+    private final GameResultStore resultStore = GameResultStore.shared();
+    private long gameId;
+    private long gameStartNanos;
+    private final AtomicBoolean gameSaved = new AtomicBoolean();
 
     /**
      * Initializes the controller.
+     * <p>
+     * The cards are dealt right away, but they are rendered, and the machine threads started,
+     * only once the images of the visible cards have been decoded by the {@link AssetPreloader}.
+     * This lets the window show before any card image is ready.
      */
     @FXML
     public void initialize() {
         bottonMenu.setVisible(false);
         initVariables();
-        this.gameUno.startGame();
-        tableImageView.setImage(table.getCurrentCardOnTheTable().getImage());
+        this.gameActor.execute(GameUno::startGame).join();
+        AssetPreloader.getInstance().whenReady(fetchVisibleAssets())
+                .thenRun(() -> Platform.runLater(this::onVisibleAssetsReady));
+    }
+
+    /**
+     * Collects the assets needed to render the first frame of the game.
+     * <p>
+     * These are the images of the card on the table and of the visible cards of the human player.
+     *
+     * @return the assets of the cards currently on screen
+     */
+    private List<EISCUnoEnum> fetchVisibleAssets() {
+        List<EISCUnoEnum> assets = new ArrayList<>();
+        assets.add(fetchCurrentTableCard().getFace().getAsset());
+        for (Card card : fetchVisibleCardsForHumanPlayer()) {
+            assets.add(card.getFace().getAsset());
+        }
+        return assets;
+    }
+
+    /**
+     * Renders the first frame of the game and makes it interactive.
+     * <p>
+     * Called on the JavaFX Application Thread once the visible card images are decoded.
+     */
+    private void onVisibleAssetsReady() {
+        CardView.bind(tableImageView, fetchCurrentTableCard());
         printCardsHumanPlayer();
         System.out.println("GAME START!");
         createUnoMachineThread();
+        startHumanTurn();
+        StartupMetrics.mark(StartupMetrics.Phase.INTERACTIVE);
     }
 
     /**
-     * Creates and starts the threads for handling the human player's UNO card checking and the machine player's turn.
+     * Starts the UNO call detection and the task of the machine player's turn.
      * <p>
-     * This method initializes two threads:
+     * This method sets up:
      * <ul>
-     *     <li>A thread that monitors the human player's cards to check if they have only one card left ("UNO").</li>
-     *     <li>A thread that controls the machine player's actions during the game, including playing cards.</li>
+     *     <li>A {@link UnoCallDetector} that reacts when the human player is left with one card
+     *     ("UNO"), after a delay on the clock of the game, and applies the call as a command of the
+     *     game actor.</li>
+     *     <li>A task that controls the machine player's actions during the game, including playing cards,
+     *     run by the shared {@link SessionExecutor}.</li>
      * </ul>
-     * The threads are started immediately after creation to handle their respective tasks concurrently.
      */
     private void createUnoMachineThread() {
-        threadSingUNOMachine = new ThreadSingUNOMachine(this.humanPlayer.getCardsPlayer(), this.gameUno);
-        singUnoMachineThread = new Thread(threadSingUNOMachine, "ThreadSingUNO");
-        singUnoMachineThread.start();
-
-        threadPlayMachine = new ThreadPlayMachine(this.table, this.machinePlayer, this.tableImageView, this.deck,
-                this.strategy, this, this.gameUno);
-        threadPlayMachine.start();
+        unoCallDetector = new UnoCallDetector(this.humanPlayer.getHand(), this.turnClock,
+                command -> gameActor.execute(game -> command.run()), () -> {
+                    gameUno.haveSungOne("MACHINE_PLAYER");
+                    Platform.runLater(this::printCardsHumanPlayer);
+                }, this.gameRng.split(), UNO_CALL_MAX_DELAY_MILLIS);
+
+        threadPlayMachine = new ThreadPlayMachine(this.machinePlayer, this.tableImageView, this.strategy, this,
+                this.gameUno, this.gameActor, this.turnClock);
+        machineTask = SessionExecutor.shared().submit("MachinePlayer-" + gameRng.getSeed(), threadPlayMachine);
     }
 
     /**
      * Initializes the variables for the game.
+     * <p>
+     * Each game gets its own random stream, split from the one of the session, and its seed is
+     * printed so the game can be replayed. The machine player searches with a stream split from
+     * it, on one worker, for a fixed number of iterations; when the seed is set with the
+     * {@value GameRng#SEED_PROPERTY} system property, its thinking time is not capped, so the
+     * iterations, and the moves, do not depend on the speed of the computer. The game is owned by a {@link GameActor} whose commands
+     * run on the shared {@link SessionExecutor}; the controller reads the game from its snapshots.
+     * The human player gets a fresh time bank for each game. When the results are saved, the game
+     * gets an id in the {@link GameResultStore}, which also records its events if configured to.
      */
     private void initVariables() {
+        this.gameRng = sessionRng.split();
+        System.out.println("Game seed: " + gameRng.getSeed() + " (session seed: " + sessionRng.getSeed() + ")");
         this.humanPlayer = new Player("HUMAN_PLAYER");
         this.machinePlayer = new Player("MACHINE_PLAYER");
-        this.deck = new Deck();
+        this.deck = new Deck(gameRng.split().generator());
         this.table = new Table();
-        this.gameUno = new GameUno(this.humanPlayer, this.machinePlayer, this.deck, this.table);
+        this.gameUno = new GameUno(this.humanPlayer, this.machinePlayer, this.deck, this.table, gameRng.split());
+        boolean replayable = Long.getLong(GameRng.SEED_PROPERTY) != null;
+        this.strategy = new IsmctsAIPlayerStrategy(replayable ? REPLAYABLE_THINKING_MILLIS : MACHINE_THINKING_MILLIS,
+                MACHINE_ITERATIONS, 1, gameRng.split());
         this.posInitCardToShow = 0;
+        this.humanTime = new TimeControl(HUMAN_TIME_MILLIS, HUMAN_INCREMENT_MILLIS);
+        this.humanTurn = null;
+        this.consecutiveTimeouts.set(0);
         this.gameUno.setGameEventListener(this);
+        if (resultStore != null) {
+            this.gameId = resultStore.nextGameId();
+            this.gameUno.setEventSink(resultStore.eventSink(gameId));
+        }
+        this.gameStartNanos = System.nanoTime();
+        this.gameSaved.set(false);
+        String sessionName = "Game-" + gameRng.getSeed();
+        this.gameActor = new GameActor(this.gameUno, command -> SessionExecutor.shared().submit(sessionName, command));
     }
 
 
@@ -126,12 +227,14 @@ public class GameUnoController implements GameUno.GameEventListener {
      * Fetches the visible cards for the human player based on the current game state.
      * <p>
      * This method retrieves the cards that are visible to the human player, starting from a specified position.
-     * The cards are fetched using the current game state and the position from which to start showing the cards.
+     * The cards are read from the latest snapshot of the game, from the position from which to start showing them.
      *
      * @return an array of cards that are visible to the human player
      */
     private Card[] fetchVisibleCardsForHumanPlayer() {
-        return this.gameUno.getCurrentVisibleCardsHumanPlayer(this.posInitCardToShow);
+        List<Card> hand = this.gameActor.snapshot().getHumanHand();
+        int from = Math.min(this.posInitCardToShow, hand.size());
+        return hand.subList(from, Math.min(hand.size(), from + 4)).toArray(new Card[0]);
     }
 
     /**
@@ -143,7 +246,7 @@ public class GameUnoController implements GameUno.GameEventListener {
      * @return the current card on the table, or null if no card is present
      */
     private Card fetchCurrentTableCard() {
-        return this.table.getCurrentCardOnTheTable();
+        return this.gameActor.snapshot().getTopCard();
     }
 
     /**
@@ -158,7 +261,7 @@ public class GameUnoController implements GameUno.GameEventListener {
     private void renderPlayerCards(Card[] cards, Card currentTableCard) {
         for (int i = 0; i < cards.length; i++) {
             Card card = cards[i];
-            ImageView cardImageView = card.getCard();
+            ImageView cardImageView = CardView.getImageView(card);
             attachCardClickHandler(cardImageView, card, currentTableCard);
             addCardToGrid(cardImageView, i);
         }
@@ -181,46 +284,55 @@ public class GameUnoController implements GameUno.GameEventListener {
     /**
      * Handles the click event of a card by the human player.
      * <p>
-     * This method checks if the clicked card is valid to play based on the current game state. If the card is valid,
-     * it processes the card play; otherwise, it prints a message indicating that the card is not valid.
+     * This method sends a command to the game actor that checks if the clicked card is valid to play and,
+     * if so, ends the turn on the clock and plays it. The result is then processed on the JavaFX Application Thread; if the card is not valid
+     * or it is not the player's turn, a message is printed instead.
      *
      * @param card the card that was clicked by the human player
      * @param currentTableCard the card currently on the table, used to check if the clicked card can be played
      */
     private void handleCardClick(Card card, Card currentTableCard) {
-        if(gameUno.canPlayCard(card)) {
-            processValidCardPlay(card);
-
-        }
-        else {
-            System.out.println("Card is not valid");
-        }
+        gameActor.submit(game -> {
+            if (!game.canPlayCard(card)) {
+                System.out.println("Card is not valid");
+                return false;
+            }
+            endHumanTurn();
+            game.applyMove(humanPlayer, Move.play(card));
+            return true;
+        }).whenComplete((played, failure) -> Platform.runLater(() -> {
+            if (failure != null) {
+                System.out.println("Not Player's Turn: " + GameActor.causeOf(failure).getMessage());
+            } else if (played) {
+                processValidCardPlay(card);
+            }
+        }));
     }
 
 
     /**
      * Processes a valid card play made by the human player.
      * <p>
-     * This method performs the necessary actions when the human player plays a valid card:
+     * This method performs the necessary actions once the game actor has played the card and removed it
+     * from the human player's hand:
      * <ul>
-     *     <li>The card is played in the game using the {@link GameUno#playCard(Card)} method.</li>
      *     <li>The card's image is updated on the table.</li>
-     *     <li>The card is removed from the human player's hand.</li>
      *     <li>The game over condition is checked.</li>
-     *     <li>If the current player is the machine player, it signals that the AI player has played.</li>
+     *     <li>If the current player is the machine player, it signals that the AI player has played;
+     *     otherwise a new turn of the human player starts on the clock.</li>
      *     <li>The human player's cards are printed again to reflect the updated hand.</li>
      * </ul>
      *
      * @param card the valid card to be played
      */
     private void processValidCardPlay(Card card) {
-        gameUno.playCard(card);
-        tableImageView.setImage(card.getImage());
-        humanPlayer.removeCard(findPosCardsHumanPlayer(card));
+        CardView.bind(tableImageView, card);
 
         checkGameOver();
-        if (gameUno.getCurrentPlayer().equals(machinePlayer)) {
+        if (!gameActor.snapshot().isHumanTurn()) {
             threadPlayMachine.setHasPlayerPlayed(true);
+        } else {
+            startHumanTurn();
         }
         printCardsHumanPlayer();
     }
@@ -237,21 +349,6 @@ public class GameUnoController implements GameUno.GameEventListener {
         this.gridPaneCardsPlayer.add(cardImageView, position, 0);
     }
 
-    /**
-     * Finds the position of a specific card in the human player's hand.
-     *
-     * @param card the card to find
-     * @return the position of the card, or -1 if not found
-     */
-    private Integer findPosCardsHumanPlayer(Card card) {
-        for (int i = 0; i < this.humanPlayer.getCardsPlayer().size(); i++) {
-            if (this.humanPlayer.getCardsPlayer().get(i).equals(card)) {
-                return i;
-            }
-        }
-        return -1;
-    }
-
     /**
      * Handles the "Back" button action to show the previous set of cards.
      *
@@ -272,7 +369,7 @@ public class GameUnoController implements GameUno.GameEventListener {
      */
     @FXML
     void onHandleNext(ActionEvent event) {
-        if (this.posInitCardToShow < this.humanPlayer.getCardsPlayer().size() - 4) {
+        if (this.posInitCardToShow < this.gameActor.snapshot().getHumanHand().size() - 4) {
             this.posInitCardToShow++;
             printCardsHumanPlayer();
         }
@@ -285,22 +382,29 @@ public class GameUnoController implements GameUno.GameEventListener {
      */
     @FXML
     void onHandleTakeCard(ActionEvent event) {
-        if (threadPlayMachine.getHasPlayerPlayed()) {
-            if (!deck.isEmpty()) {
-                Card playerNewCard = deck.takeCard();
-                humanPlayer.addCard(playerNewCard);
-                System.out.println("Added Player Card!: " + playerNewCard.getColor() + "/" + playerNewCard.getValue());
-                System.out.println("-----------------------");
-                printCardsHumanPlayer();
-            }
-            else {
-                System.out.println("Deck is empty!");
-
-                checkGameOver();
-
-            }
-            gameUno.cardTaken();
-            threadPlayMachine.setHasPlayerPlayed(true);
+        if (threadPlayMachine != null && threadPlayMachine.getHasPlayerPlayed()) {
+            gameActor.submit(game -> {
+                        endHumanTurn();
+                        return game.applyMove(humanPlayer, Move.draw());
+                    })
+                    .whenComplete((playerNewCard, failure) -> Platform.runLater(() -> {
+                        if (failure != null) {
+                            System.out.println("Not Player's Turn");
+                            return;
+                        }
+                        if (playerNewCard != null) {
+                            System.out.println("Added Player Card!: " + playerNewCard.getColor() + "/" + playerNewCard.getValue());
+                            System.out.println("-----------------------");
+                            printCardsHumanPlayer();
+                        }
+                        else {
+                            System.out.println("Deck is empty!");
+
+                            checkGameOver();
+
+                        }
+                        threadPlayMachine.setHasPlayerPlayed(true);
+                    }));
         }
         else {
             System.out.println("Not Player's Turn");
@@ -314,7 +418,98 @@ public class GameUnoController implements GameUno.GameEventListener {
      */
     @FXML
     void onHandleUno(ActionEvent event) {
-    gameUno.haveSungOne("HUMAN_PLAYER");
+        gameActor.execute(game -> {
+            if (unoCallDetector != null && humanPlayer.getCardsPlayer().size() == 1) {
+                unoCallDetector.humanCalled();
+            }
+            game.haveSungOne("HUMAN_PLAYER");
+        });
+    }
+
+    /**
+     * Starts the turn of the human player on the clock of the game.
+     * <p>
+     * Called on the JavaFX Application Thread whenever the turn passes to the human player. If the
+     * time bank of the player runs out before they play or draw, {@link #onHumanTimeout()} draws a
+     * card for them and passes the turn.
+     */
+    public void startHumanTurn() {
+        GameSnapshot snapshot = gameActor.snapshot();
+        if (snapshot.getHumanHand().isEmpty() || snapshot.getMachineCardCount() == 0 || !snapshot.canDrawCard()) {
+            return;
+        }
+        TurnClock.Turn previous = humanTurn;
+        if (previous != null) {
+            previous.end();
+        }
+        humanTurn = turnClock.startTurn(humanTime, this::onHumanTimeout);
+    }
+
+    /**
+     * Ends the turn of the human player on the clock, inside a command of the game actor.
+     *
+     * @throws IllegalStateException if the turn already expired or was not started
+     */
+    private void endHumanTurn() {
+        TurnClock.Turn turn = humanTurn;
+        if (turn == null || !turn.end()) {
+            throw new IllegalStateException("The turn is over");
+        }
+        consecutiveTimeouts.set(0);
+    }
+
+    /**
+     * Draws a card for the human player and passes the turn, because their time ran out.
+     * <p>
+     * Called on the thread of the timer wheel; the draw is a command of the game actor, and it does
+     * nothing if the turn passed in the meantime, as the move is then refused. After {@value #MAX_CONSECUTIVE_TIMEOUTS} timeouts
+     * in a row, the player is considered gone and the session is abandoned.
+     */
+    private void onHumanTimeout() {
+        gameActor.submit(game -> game.applyMove(humanPlayer, Move.draw()))
+                .whenComplete((card, failure) -> Platform.runLater(() -> {
+                    if (failure != null) {
+                        return;
+                    }
+                    System.out.println("Time is up! " + (card != null ? "Added Player Card!: "
+                            + card.getColor() + "/" + card.getValue() : "Deck is empty!"));
+                    if (consecutiveTimeouts.incrementAndGet() >= MAX_CONSECUTIVE_TIMEOUTS) {
+                        abandonSession();
+                        return;
+                    }
+                    printCardsHumanPlayer();
+                    checkGameOver();
+                    if (threadPlayMachine != null) {
+                        threadPlayMachine.setHasPlayerPlayed(true);
+                    }
+                }));
+    }
+
+    /**
+     * Stops the background work of a game whose human player stopped playing.
+     * <p>
+     * The machine task, the UNO call detection and the turn timeout are released, so an abandoned
+     * window holds no thread and no pending timer.
+     */
+    private void abandonSession() {
+        System.out.println("The player is gone after " + consecutiveTimeouts + " timeouts; the game is paused.");
+        stopSession();
+    }
+
+    /**
+     * Cancels the machine task, the UNO call detection and the turn of the human player.
+     */
+    private void stopSession() {
+        if (machineTask != null) {
+            machineTask.cancel(true); // Interrupts the task
+        }
+        if (unoCallDetector != null) {
+            unoCallDetector.close();
+        }
+        TurnClock.Turn turn = humanTurn;
+        if (turn != null) {
+            turn.end();
+        }
     }
 
     /**
@@ -325,22 +520,30 @@ public class GameUnoController implements GameUno.GameEventListener {
      * <ul>
      *     <li>If the human player has no cards left, the human player wins.</li>
      *     <li>If the machine player has no cards left, the machine player wins.</li>
-     *     <li>If the deck is empty, the player with fewer cards wins. If both players have the same number of cards, the game is a tie.</li>
+     *     <li>If no card can be drawn, even after recycling the table into the deck, the player with fewer cards wins. If both players have the same number of cards, the game is a tie.</li>
      * </ul>
      * If a winner is determined, it triggers the display of the game over dialog with the appropriate message.
      */
     public void checkGameOver(){
+        GameSnapshot snapshot = gameActor.snapshot();
+        int humanCards = snapshot.getHumanHand().size();
+        int machineCards = snapshot.getMachineCardCount();
         String winner = null;
-        if(humanPlayer.getCardsPlayer().isEmpty()){
+        Player winnerPlayer = null;
+        if(humanCards == 0){
             winner = "Felicidades! Has ganado la partida";
-        } else if (machinePlayer.getCardsPlayer().isEmpty()) {
+            winnerPlayer = humanPlayer;
+        } else if (machineCards == 0) {
             winner = "La máquina a ganado la partida.";
+            winnerPlayer = machinePlayer;
             
-        } else if (deck.isEmpty()) {
-            if(humanPlayer.getCardsPlayer().size() < machinePlayer.getCardsPlayer().size()){
+        } else if (!snapshot.canDrawCard()) {
+            if(humanCards < machineCards){
                 winner = "Felicidades! Has ganado la partida";
-            } else if (machinePlayer.getCardsPlayer().size() < humanPlayer.getCardsPlayer().size()) {
+                winnerPlayer = humanPlayer;
+            } else if (machineCards < humanCards) {
                 winner = "La máquina a ganado la partida.";
+                winnerPlayer = machinePlayer;
                 
             } else {
                 winner = "Empate! Tienen el mismo numéro de cartas.";
@@ -348,11 +551,37 @@ public class GameUnoController implements GameUno.GameEventListener {
 
         }
         if(winner != null){
+            TurnClock.Turn turn = humanTurn;
+            if (turn != null) {
+                turn.end();
+            }
+            saveResult(winnerPlayer);
             showGameOverDialog(winner);
 
         }
     }
 
+    /**
+     * Queues the result of the finished game in the {@link GameResultStore}, once per game.
+     * <p>
+     * The number of moves is read inside a command of the game actor; the store writes the
+     * record later, so the game never waits on the database.
+     *
+     * @param winnerPlayer the winner, or {@code null} for a tie
+     */
+    private void saveResult(Player winnerPlayer) {
+        if (resultStore == null || !gameSaved.compareAndSet(false, true)) {
+            return;
+        }
+        long id = gameId;
+        long seed = gameRng.getSeed();
+        List<String> players = List.of(humanPlayer.getTypePlayer(), machinePlayer.getTypePlayer());
+        String winnerName = winnerPlayer == null ? null : winnerPlayer.getTypePlayer();
+        long durationMillis = (System.nanoTime() - gameStartNanos) / 1_000_000;
+        gameActor.execute(game ->
+                resultStore.submit(new GameRecord(id, seed, players, winnerName, game.getMoveCount(), durationMillis)));
+    }
+
     /**
      * Displays a game over dialog with options to restart the game or exit.
      * <p>
@@ -391,19 +620,15 @@ public class GameUnoController implements GameUno.GameEventListener {
      * It stops any ongoing threads, reinitializes variables, and starts a new game session.
      */
     private void restartGame() {
-        if (threadPlayMachine != null) {
-            threadPlayMachine.interrupt();
-        }
-        if (threadSingUNOMachine != null) {
-            Thread.currentThread().interrupt();
-        }
+        stopSession();
 
         initVariables();
-        this.gameUno.startGame();
-        tableImageView.setImage(table.getCurrentCardOnTheTable().getImage());
+        this.gameActor.execute(GameUno::startGame).join();
+        CardView.bind(tableImageView, fetchCurrentTableCard());
         printCardsHumanPlayer();
 
         createUnoMachineThread();
+        startHumanTurn();
     }
 
     /**
@@ -414,13 +639,35 @@ public class GameUnoController implements GameUno.GameEventListener {
     @Override
     public void onWildCardPlayed(boolean isPlayer) {
         if (isPlayer) {
-            bottonMenu.setVisible(true);
+            Platform.runLater(() -> bottonMenu.setVisible(true));
         }
         else {
-            String selectedColor = getRandomColor();
+            String selectedColor = gameUno.getRandomColor();
             gameUno.setGameColor(selectedColor);
+            showGameColor(selectedColor);
+        }
+    }
 
-            switch (selectedColor) {
+    /**
+     * Called when the machine played a wild card and chose the new game color itself.
+     * <p>
+     * The background is updated on the JavaFX Application Thread.
+     *
+     * @param color the new game color
+     */
+    @Override
+    public void onGameColorChanged(CardColor color) {
+        showGameColor(color.name());
+    }
+
+    /**
+     * Paints the background of the game with the current game color.
+     *
+     * @param color the name of the game color: "RED", "GREEN", "YELLOW" or "BLUE"
+     */
+    private void showGameColor(String color) {
+        Platform.runLater(() -> {
+            switch (color) {
                 case "RED":
                     mainPane.setStyle("-fx-background-color: red;");
                     break;
@@ -434,7 +681,7 @@ public class GameUnoController implements GameUno.GameEventListener {
                     mainPane.setStyle("-fx-background-color: blue;");
                     break;
             }
-        }
+        });
     }
 
 
@@ -448,7 +695,7 @@ public class GameUnoController implements GameUno.GameEventListener {
      */
     public void setColorRed(ActionEvent actionEvent) {
         mainPane.setStyle("-fx-background-color: red;");
-        gameUno.setGameColor("RED");
+        gameActor.execute(game -> game.setGameColor("RED"));
         bottonMenu.setVisible(false);
     }
 
@@ -462,7 +709,7 @@ public class GameUnoController implements GameUno.GameEventListener {
      */
     public void setColorBlue(ActionEvent actionEvent) {
         mainPane.setStyle("-fx-background-color: blue;");
-        gameUno.setGameColor("BLUE");
+        gameActor.execute(game -> game.setGameColor("BLUE"));
         bottonMenu.setVisible(false);
     }
 
@@ -476,7 +723,7 @@ public class GameUnoController implements GameUno.GameEventListener {
      */
     public void setColorGreen(ActionEvent actionEvent) {
         mainPane.setStyle("-fx-background-color: green;");
-        gameUno.setGameColor("GREEN");
+        gameActor.execute(game -> game.setGameColor("GREEN"));
         bottonMenu.setVisible(false);
     }
 
@@ -490,35 +737,13 @@ public class GameUnoController implements GameUno.GameEventListener {
      */
     public void setColorYellow(ActionEvent actionEvent) {
         mainPane.setStyle("-fx-background-color: yellow;");
-        gameUno.setGameColor("YELLOW");
+        gameActor.execute(game -> game.setGameColor("YELLOW"));
         bottonMenu.setVisible(false);
     }
 
-    /**
-     * Returns a randomly selected color from a predefined set of colors.
-     * The colors are: "RED", "GREEN", "YELLOW", and "BLUE". The color is chosen
-     * randomly each time the function is called.
-     *
-     * @return a randomly selected color as a String, which can be one of the following:
-     *         "RED", "GREEN", "YELLOW", or "BLUE".
-     */
-    public static String getRandomColor() {
-        // Create an array of the colors as strings
-        String[] colors = {"RED", "GREEN", "YELLOW", "BLUE"};
-
-        // Create a Random object
-        Random random = new Random();
-
-        // Generate a random index between 0 and 3 (inclusive)
-        int randomIndex = random.nextInt(colors.length);
-
-        // Return the randomly selected color as a string
-        return colors[randomIndex];
-    }
-
     /**
      * Exits the game and stops all running game threads.
-     * This method interrupts the game threads (e.g., `threadPlayMachine` and `singUnoMachineThread`)
+     * This method cancels the machine player's task (`threadPlayMachine`), stops the UNO call detection
      * and then closes the JavaFX application using `Platform.exit()`.
      * <p>
      * This function is typically triggered by an action event (e.g., a button click) to stop the game
@@ -528,13 +753,7 @@ public class GameUnoController implements GameUno.GameEventListener {
      */
     public void exitGame(ActionEvent actionEvent) {
         // Interrupt the game threads to stop them
-        if (threadPlayMachine != null) {
-            threadPlayMachine.interrupt(); // Interrupts the thread
-        }
-
-        if (singUnoMachineThread != null) {
-            singUnoMachineThread.interrupt();
-        }
+        stopSession();
 
         Platform.exit(); // This will close the JavaFX application
     }
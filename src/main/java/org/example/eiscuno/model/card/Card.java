@@ -1,73 +1,87 @@
 package org.example.eiscuno.model.card;
 
-import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
-
 /**
  * Represents a card in the Uno game.
  * <p>
- * Each card has a value, color, and card type. It also has an image and an ImageView for display purposes.
- * The card's properties are used to determine its validity in gameplay.
+ * Each card has a value, color, and card type, plus the URL of the image used to draw it.
+ * The card is pure data: it holds no JavaFX types, so decks, hands and games can be created
+ * without the FX toolkit. Images are attached lazily by {@code org.example.eiscuno.view.CardView}
+ * only when the card is actually rendered.
+ * The card's properties are used to determine its validity in gameplay. They are stored as
+ * {@link CardValue}, {@link CardColor} and {@link CardType} codes, together with the
+ * precomputed face code for the {@link PlayabilityTable}, in a shared {@link CardFace}.
+ * A card itself is only a lightweight physical copy: a reference to its face and an id.
  */
 public class Card {
-    private String url;
-    private String value;
-    private String color;
-    private Image image;
-    private ImageView cardImageView;
-    private String cardType;
+    private final CardFace face;
+    private final int id;
 
     /**
      * Constructs a Card with the specified image URL, value, color, and card type.
      * <p>
      * This constructor initializes the card with the provided image URL, value, color, and card type.
-     * It also creates an Image and an ImageView for the card.
+     * No image is loaded here; the URL is only resolved when the card is rendered.
      *
      * @param url the URL of the card image
      * @param value the value of the card (e.g., "1", "WILD")
      * @param color the color of the card (e.g., "RED", "GREEN")
      * @param cardType the type of the card (e.g., "WILD", "DRAW_TWO")
+     * @throws IllegalArgumentException if the value, color or type is not a known name
      */
     public Card(String url, String value, String color, String cardType) {
-        this.url = url;
-        this.value = value;
-        this.color = color;
-        this.cardType = cardType;
-        this.image = new Image(String.valueOf(getClass().getResource(url)));
-        this.cardImageView = createCardImageView();
+        this(url, CardValue.fromLabel(value), CardColor.fromName(color), CardType.fromName(cardType));
     }
 
     /**
-     * Creates and configures the ImageView for the card.
-     * <p>
-     * This method creates an ImageView to display the card's image, setting its size and position.
+     * Constructs a Card with the specified image URL and typed value, color, and card type.
+     *
+     * @param url the URL of the card image
+     * @param value the value of the card
+     * @param color the color of the card
+     * @param cardType the type of the card
+     */
+    public Card(String url, CardValue value, CardColor color, CardType cardType) {
+        this(CardFace.of(url, value, color, cardType), 0);
+    }
+
+    /**
+     * Constructs a physical copy of a shared card face.
+     *
+     * @param face the face of the card
+     * @param id the id of this copy within its deck
+     */
+    public Card(CardFace face, int id) {
+        this.face = face;
+        this.id = id;
+    }
+
+    /**
+     * Gets the shared face of the card.
      *
-     * @return the configured ImageView of the card
+     * @return the face of the card
      */
-    private ImageView createCardImageView() {
-        ImageView card = new ImageView(this.image);
-        card.setY(16);
-        card.setFitHeight(90);
-        card.setFitWidth(70);
-        return card;
+    public CardFace getFace() {
+        return face;
     }
 
     /**
-     * Gets the ImageView representation of the card.
+     * Gets the id of this physical copy within its deck.
      *
-     * @return the ImageView of the card
+     * @return the id of the card
      */
-    public ImageView getCard() {
-        return cardImageView;
+    public int getId() {
+        return id;
     }
 
     /**
-     * Gets the image of the card.
+     * Gets the URL of the card image.
+     * <p>
+     * The URL is a classpath resource path (e.g., "/org/example/eiscuno/cards-uno/0_red.png").
      *
-     * @return the Image of the card
+     * @return the URL of the card image
      */
-    public Image getImage() {
-        return image;
+    public String getUrl() {
+        return face.getUrl();
     }
 
     /**
@@ -78,7 +92,8 @@ public class Card {
      * @return the value of the card
      */
     public String getValue() {
-        return value;
+        CardValue value = face.getValue();
+        return value == null ? null : value.getLabel();
     }
 
     /**
@@ -89,7 +104,8 @@ public class Card {
      * @return the color of the card
      */
     public String getColor() {
-        return color;
+        CardColor color = face.getColor();
+        return color == null ? null : color.name();
     }
 
     /**
@@ -99,7 +115,52 @@ public class Card {
      *
      * @return the type of the card
      */
-    public String getCardType() {return cardType; }
+    public String getCardType() {return face.getCardType() == null ? null : face.getCardType().name(); }
+
+    /**
+     * Gets the value code of the card.
+     *
+     * @return the value of the card
+     */
+    public CardValue getValueCode() {
+        return face.getValue();
+    }
+
+    /**
+     * Gets the color code of the card.
+     *
+     * @return the color of the card
+     */
+    public CardColor getColorCode() {
+        return face.getColor();
+    }
+
+    /**
+     * Gets the type code of the card.
+     *
+     * @return the type of the card, or {@code null} if the card has no type
+     */
+    public CardType getTypeCode() {
+        return face.getCardType();
+    }
+
+    /**
+     * Gets the face code of the card, as used by the {@link PlayabilityTable}.
+     *
+     * @return the face code, or -1 if the card has no value or color
+     */
+    public int getFaceCode() {
+        return face.getFaceCode();
+    }
+
+    /**
+     * Checks whether the card is a wild card that can be played on any card.
+     *
+     * @return {@code true} if the card type is WILD or WILD_DRAW_FOUR
+     */
+    public boolean isWild() {
+        return face.getCardType() != null && face.getCardType().isWild();
+    }
 
     /**
      * Utility class for validating card playability.
@@ -121,16 +182,25 @@ public class Card {
          * @return {@code true} if the card can be played, {@code false} otherwise.
          */
         public static boolean canPlayCard(Card cardToPlay, Card topCard, String gameColor) {
-            if (topCard == null) {
-                return true;
-            }
+            return canPlay(cardToPlay, topCard, CardColor.fromName(gameColor));
+        }
 
-            if (cardToPlay.getCardType() != null &&
-                    (cardToPlay.getCardType().equals("WILD") ||
-                            cardToPlay.getCardType().equals("WILD_DRAW_FOUR"))) {
+        /**
+         * Checks if a card can be played on top of another card, given a typed game color.
+         * <p>
+         * Wild cards are always playable; every other combination is answered by a single read
+         * of the {@link PlayabilityTable}.
+         *
+         * @param cardToPlay The card the player wants to play.
+         * @param topCard    The current top card on the table.
+         * @param gameColor  The current game color, or {@code null} if none is set.
+         * @return {@code true} if the card can be played, {@code false} otherwise.
+         */
+        public static boolean canPlay(Card cardToPlay, Card topCard, CardColor gameColor) {
+            if (topCard == null || cardToPlay.isWild()) {
                 return true;
             }
-            return (cardToPlay.getValue().equals(topCard.getValue()) || (cardToPlay.getColor().equals(topCard.getColor()) || cardToPlay.getColor().equals(gameColor)));
+            return PlayabilityTable.canPlay(cardToPlay.getFaceCode(), topCard.getFaceCode(), PlayabilityTable.colorCode(gameColor));
         }
     }
 }
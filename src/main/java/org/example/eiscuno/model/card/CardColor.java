@@ -0,0 +1,33 @@
+package org.example.eiscuno.model.card;
+
+/**
+ * The colors a card can have in the Uno game.
+ * <p>
+ * Besides the four playing colors, wild cards carry the pseudo-colors {@code WILD} and
+ * {@code FOUR_WILD_DRAW}, which are also used as the game color until a real color is chosen.
+ * The enum constants use the same names as the color strings of {@link Card}.
+ */
+public enum CardColor {
+    GREEN,
+    YELLOW,
+    BLUE,
+    RED,
+    WILD,
+    FOUR_WILD_DRAW;
+
+    /**
+     * The number of card colors.
+     */
+    public static final int COUNT = values().length;
+
+    /**
+     * Finds the color with the given name.
+     *
+     * @param name the name of the color (e.g., "RED"), may be {@code null}
+     * @return the matching color, or {@code null} if the name is {@code null}
+     * @throws IllegalArgumentException if the name is not a card color
+     */
+    public static CardColor fromName(String name) {
+        return name == null ? null : valueOf(name);
+    }
+}
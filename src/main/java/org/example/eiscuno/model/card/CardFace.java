@@ -0,0 +1,142 @@
+package org.example.eiscuno.model.card;
+
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The immutable, shared description of a card face: its value, color, type, face code and the
+ * image asset used to draw it.
+ * <p>
+ * Faces are flyweights. There is one shared instance per playable {@link EISCUnoEnum} entry, and
+ * every physical {@link Card} of that face points to it, so a shoe with many copies of a card only
+ * pays for the copies themselves, not for their attributes or image data.
+ */
+public final class CardFace {
+    private static final Map<EISCUnoEnum, CardFace> SHARED_FACES = new EnumMap<>(EISCUnoEnum.class);
+
+    static {
+        for (EISCUnoEnum cardEnum : EISCUnoEnum.values()) {
+            if (cardEnum.isPlayableCard()) {
+                SHARED_FACES.put(cardEnum, new CardFace(cardEnum, cardEnum.getFilePath(),
+                        cardEnum.getCardValue(), cardEnum.getCardColor(), cardEnum.getTypeCode()));
+            }
+        }
+    }
+
+    private final EISCUnoEnum asset;
+    private final String url;
+    private final CardValue value;
+    private final CardColor color;
+    private final CardType cardType;
+    private final int faceCode;
+
+    /**
+     * Constructs a card face.
+     *
+     * @param asset the image asset of the face, or {@code null} if the face has no shared asset
+     * @param url the URL of the card image
+     * @param value the value of the card
+     * @param color the color of the card
+     * @param cardType the type of the card
+     */
+    private CardFace(EISCUnoEnum asset, String url, CardValue value, CardColor color, CardType cardType) {
+        this.asset = asset;
+        this.url = url;
+        this.value = value;
+        this.color = color;
+        this.cardType = cardType;
+        this.faceCode = (value == null || color == null) ? -1 : PlayabilityTable.faceCode(color, value);
+    }
+
+    /**
+     * Gets the shared face of a playable asset.
+     *
+     * @param asset the playable asset
+     * @return the shared face of the asset
+     * @throws IllegalArgumentException if the asset is not a playable card
+     */
+    public static CardFace of(EISCUnoEnum asset) {
+        CardFace face = SHARED_FACES.get(asset);
+        if (face == null) {
+            throw new IllegalArgumentException(asset + " is not a playable card");
+        }
+        return face;
+    }
+
+    /**
+     * Gets the face with the given attributes.
+     * <p>
+     * When the URL and the attributes match a playable asset, the shared face of that asset is
+     * returned; otherwise a new, unshared face is created.
+     *
+     * @param url the URL of the card image
+     * @param value the value of the card
+     * @param color the color of the card
+     * @param cardType the type of the card
+     * @return the matching face
+     */
+    public static CardFace of(String url, CardValue value, CardColor color, CardType cardType) {
+        EISCUnoEnum asset = EISCUnoEnum.fromFilePath(url);
+        CardFace shared = asset == null ? null : SHARED_FACES.get(asset);
+        if (shared != null && shared.value == value && shared.color == color && shared.cardType == cardType) {
+            return shared;
+        }
+        return new CardFace(null, url, value, color, cardType);
+    }
+
+    /**
+     * Gets the image asset of the face.
+     *
+     * @return the asset, or {@code null} if the face is not one of the shared faces
+     */
+    public EISCUnoEnum getAsset() {
+        return asset;
+    }
+
+    /**
+     * Gets the URL of the card image.
+     *
+     * @return the URL of the card image
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Gets the value of the face.
+     *
+     * @return the value of the face
+     */
+    public CardValue getValue() {
+        return value;
+    }
+
+    /**
+     * Gets the color of the face.
+     *
+     * @return the color of the face
+     */
+    public CardColor getColor() {
+        return color;
+    }
+
+    /**
+     * Gets the type of the face.
+     *
+     * @return the type of the face, or {@code null} if it has none
+     */
+    public CardType getCardType() {
+        return cardType;
+    }
+
+    /**
+     * Gets the face code, as used by the {@link PlayabilityTable}.
+     *
+     * @return the face code, or -1 if the face has no value or color
+     */
+    public int getFaceCode() {
+        return faceCode;
+    }
+}
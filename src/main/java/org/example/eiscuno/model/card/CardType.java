@@ -0,0 +1,35 @@
+package org.example.eiscuno.model.card;
+
+/**
+ * The types of card in the Uno game, which determine the effect of playing them.
+ * <p>
+ * The enum constants use the same names as the card type strings of {@link Card}.
+ */
+public enum CardType {
+    NUMBER,
+    SKIP,
+    REVERSE,
+    DRAW_TWO,
+    WILD,
+    WILD_DRAW_FOUR;
+
+    /**
+     * Checks whether cards of this type can be played on any card.
+     *
+     * @return {@code true} for the WILD and WILD_DRAW_FOUR types
+     */
+    public boolean isWild() {
+        return this == WILD || this == WILD_DRAW_FOUR;
+    }
+
+    /**
+     * Finds the type with the given name.
+     *
+     * @param name the name of the type (e.g., "SKIP"), may be {@code null}
+     * @return the matching type, or {@code null} if the name is {@code null}
+     * @throws IllegalArgumentException if the name is not a card type
+     */
+    public static CardType fromName(String name) {
+        return name == null ? null : valueOf(name);
+    }
+}
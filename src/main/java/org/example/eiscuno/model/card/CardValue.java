@@ -0,0 +1,87 @@
+package org.example.eiscuno.model.card;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The values a card can have in the Uno game.
+ * <p>
+ * Each value keeps the label used by the value strings of {@link Card} (e.g., "7", "SKIP").
+ */
+public enum CardValue {
+    ZERO("0"),
+    ONE("1"),
+    TWO("2"),
+    THREE("3"),
+    FOUR("4"),
+    FIVE("5"),
+    SIX("6"),
+    SEVEN("7"),
+    EIGHT("8"),
+    NINE("9"),
+    TWO_WILD_DRAW("TWO_WILD_DRAW"),
+    REVERSE("REVERSE"),
+    SKIP("SKIP"),
+    FOUR_WILD_DRAW("FOUR_WILD_DRAW"),
+    WILD("WILD");
+
+    /**
+     * The number of card values.
+     */
+    public static final int COUNT = values().length;
+
+    private static final Map<String, CardValue> BY_LABEL = new HashMap<>();
+
+    static {
+        for (CardValue value : values()) {
+            BY_LABEL.put(value.label, value);
+        }
+    }
+
+    private final String label;
+
+    /**
+     * Constructor for the CardValue enum.
+     *
+     * @param label the label of the value
+     */
+    CardValue(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Gets the label of the value.
+     *
+     * @return the label of the value (e.g., "7", "SKIP")
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Checks whether the value belongs to a wild card that can be played on any card.
+     *
+     * @return {@code true} for the WILD and FOUR_WILD_DRAW values
+     */
+    public boolean isWild() {
+        return this == WILD || this == FOUR_WILD_DRAW;
+    }
+
+    /**
+     * Finds the value with the given label.
+     *
+     * @param label the label of the value (e.g., "7", "SKIP"), may be {@code null}
+     * @return the matching value, or {@code null} if the label is {@code null}
+     * @throws IllegalArgumentException if the label is not a card value
+     */
+    public static CardValue fromLabel(String label) {
+        if (label == null) {
+            return null;
+        }
+        CardValue value = BY_LABEL.get(label);
+        if (value == null) {
+            throw new IllegalArgumentException("Unknown card value: " + label);
+        }
+        return value;
+    }
+}
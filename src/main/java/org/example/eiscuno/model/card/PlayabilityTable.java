@@ -0,0 +1,198 @@
+package org.example.eiscuno.model.card;
+
+import java.util.Arrays;
+
+/**
+ * Precomputed answers to "can this card be played?" for every combination of card, top card
+ * and game color.
+ * <p>
+ * A card face is identified by a small integer code built from its {@link CardColor} and
+ * {@link CardValue}, and the game color by the ordinal of its {@link CardColor} or
+ * {@link #NO_COLOR}. The whole rule set is evaluated once when the class is loaded, so a check
+ * during the game is a single array read. The table follows the rules of
+ * {@link Card.CardValidator}: wild values can always be played, and any other card can be played
+ * when it shares the value or the color of the top card, or matches the game color.
+ * <p>
+ * The 54 faces that exist in a real deck (four colors of 0-9, TWO_WILD_DRAW, REVERSE and SKIP,
+ * plus WILD and FOUR_WILD_DRAW) also have a bit between 0 and 63, so a set of faces fits in one
+ * {@code long}. {@link #playableBits(int, int)} gives the set of those faces that can be played
+ * for a top card and game color, which lets a hand find its playable cards with one AND.
+ */
+public final class PlayabilityTable {
+
+    /**
+     * The number of distinct card face codes.
+     */
+    public static final int FACES = CardColor.COUNT * CardValue.COUNT;
+
+    /**
+     * The game color code used when no game color is set.
+     */
+    public static final int NO_COLOR = CardColor.COUNT;
+
+    /**
+     * The number of distinct game color codes, including {@link #NO_COLOR}.
+     */
+    public static final int GAME_COLORS = CardColor.COUNT + 1;
+
+    /**
+     * The number of faces of a real deck, each of which has a bit in a face set.
+     */
+    public static final int STANDARD_FACES = 54;
+
+    private static final int COLORED_VALUES = CardValue.SKIP.ordinal() + 1;
+    private static final CardColor[] COLORS = CardColor.values();
+    private static final CardValue[] VALUES = CardValue.values();
+    private static final boolean[] PLAYABLE = new boolean[FACES * FACES * GAME_COLORS];
+    private static final long[] PLAYABLE_BITS = new long[FACES * GAME_COLORS];
+    private static final int[] BIT_OF_FACE = new int[FACES];
+    private static final int[] FACE_OF_BIT = new int[STANDARD_FACES];
+
+    static {
+        Arrays.fill(BIT_OF_FACE, -1);
+        for (int color = 0; color <= CardColor.RED.ordinal(); color++) {
+            for (int value = 0; value < COLORED_VALUES; value++) {
+                int bit = color * COLORED_VALUES + value;
+                int face = color * CardValue.COUNT + value;
+                BIT_OF_FACE[face] = bit;
+                FACE_OF_BIT[bit] = face;
+            }
+        }
+        int wild = faceCode(CardColor.WILD, CardValue.WILD);
+        int wildDrawFour = faceCode(CardColor.FOUR_WILD_DRAW, CardValue.FOUR_WILD_DRAW);
+        BIT_OF_FACE[wild] = STANDARD_FACES - 2;
+        FACE_OF_BIT[STANDARD_FACES - 2] = wild;
+        BIT_OF_FACE[wildDrawFour] = STANDARD_FACES - 1;
+        FACE_OF_BIT[STANDARD_FACES - 1] = wildDrawFour;
+
+        for (int face = 0; face < FACES; face++) {
+            for (int top = 0; top < FACES; top++) {
+                for (int gameColor = 0; gameColor < GAME_COLORS; gameColor++) {
+                    boolean playable = evaluate(face, top, gameColor);
+                    PLAYABLE[index(face, top, gameColor)] = playable;
+                    if (playable && BIT_OF_FACE[face] >= 0) {
+                        PLAYABLE_BITS[top * GAME_COLORS + gameColor] |= 1L << BIT_OF_FACE[face];
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private PlayabilityTable() {
+    }
+
+    /**
+     * Checks whether a card face can be played.
+     *
+     * @param face      the face code of the card to play
+     * @param topFace   the face code of the card on the table
+     * @param gameColor the code of the current game color, or {@link #NO_COLOR}
+     * @return {@code true} if the card can be played, {@code false} otherwise
+     */
+    public static boolean canPlay(int face, int topFace, int gameColor) {
+        return PLAYABLE[index(face, topFace, gameColor)];
+    }
+
+    /**
+     * Gets the set of standard faces that can be played.
+     *
+     * @param topFace   the face code of the card on the table
+     * @param gameColor the code of the current game color, or {@link #NO_COLOR}
+     * @return a bit set, indexed by {@link #bitOf(int)}, of the playable standard faces
+     */
+    public static long playableBits(int topFace, int gameColor) {
+        return PLAYABLE_BITS[topFace * GAME_COLORS + gameColor];
+    }
+
+    /**
+     * Gets the bit of a face in a face set.
+     *
+     * @param face the face code
+     * @return the bit of the face, or -1 if the face is not one of the standard faces
+     */
+    public static int bitOf(int face) {
+        return face < 0 ? -1 : BIT_OF_FACE[face];
+    }
+
+    /**
+     * Gets the face code that owns a bit of a face set.
+     *
+     * @param bit the bit, between 0 and {@link #STANDARD_FACES} - 1
+     * @return the face code of the bit
+     */
+    public static int faceOfBit(int bit) {
+        return FACE_OF_BIT[bit];
+    }
+
+    /**
+     * Computes the face code of a card.
+     *
+     * @param color the color of the card
+     * @param value the value of the card
+     * @return the face code, between 0 and {@link #FACES} - 1
+     */
+    public static int faceCode(CardColor color, CardValue value) {
+        return color.ordinal() * CardValue.COUNT + value.ordinal();
+    }
+
+    /**
+     * Computes the code of a game color.
+     *
+     * @param color the game color, may be {@code null}
+     * @return the color code, or {@link #NO_COLOR} if the color is {@code null}
+     */
+    public static int colorCode(CardColor color) {
+        return color == null ? NO_COLOR : color.ordinal();
+    }
+
+    /**
+     * Gets the color of a face code.
+     *
+     * @param face the face code
+     * @return the color of the face
+     */
+    public static CardColor colorOf(int face) {
+        return COLORS[face / CardValue.COUNT];
+    }
+
+    /**
+     * Gets the value of a face code.
+     *
+     * @param face the face code
+     * @return the value of the face
+     */
+    public static CardValue valueOf(int face) {
+        return VALUES[face % CardValue.COUNT];
+    }
+
+    /**
+     * Computes the position of a combination in the table.
+     *
+     * @param face      the face code of the card to play
+     * @param topFace   the face code of the card on the table
+     * @param gameColor the code of the current game color
+     * @return the index of the combination
+     */
+    private static int index(int face, int topFace, int gameColor) {
+        return (face * FACES + topFace) * GAME_COLORS + gameColor;
+    }
+
+    /**
+     * Evaluates the playing rules for one combination.
+     *
+     * @param face      the face code of the card to play
+     * @param top       the face code of the card on the table
+     * @param gameColor the code of the current game color
+     * @return {@code true} if the card can be played
+     */
+    private static boolean evaluate(int face, int top, int gameColor) {
+        if (valueOf(face).isWild()) {
+            return true;
+        }
+        int color = face / CardValue.COUNT;
+        return valueOf(face) == valueOf(top) || color == top / CardValue.COUNT || color == gameColor;
+    }
+}
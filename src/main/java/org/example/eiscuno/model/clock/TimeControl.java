@@ -0,0 +1,57 @@
+package org.example.eiscuno.model.clock;
+
+/**
+ * The time budget of one player: a bank of thinking time, topped up after every turn.
+ * <p>
+ * A turn may last as long as the bank; the time used is then taken off and the increment added
+ * back, as with a chess clock. A player who runs out of time on a turn loses the whole bank and
+ * only gets the increment for the next turn. The times are in game milliseconds, which the
+ * {@link TurnClock} maps to real time with its playback scale.
+ */
+public final class TimeControl {
+    private final long initialMillis;
+    private final long incrementMillis;
+    private long remainingMillis;
+
+    /**
+     * Constructs a time control with a full bank.
+     *
+     * @param initialMillis   the initial bank, in milliseconds
+     * @param incrementMillis the time added after each turn, in milliseconds
+     */
+    public TimeControl(long initialMillis, long incrementMillis) {
+        if (initialMillis < 1 || incrementMillis < 0) {
+            throw new IllegalArgumentException("Invalid time control: " + initialMillis + " + " + incrementMillis);
+        }
+        this.initialMillis = initialMillis;
+        this.incrementMillis = incrementMillis;
+        this.remainingMillis = initialMillis;
+    }
+
+    /**
+     * Gets the time the player has left for the current turn.
+     *
+     * @return the bank, in milliseconds
+     */
+    public synchronized long getRemainingMillis() {
+        return remainingMillis;
+    }
+
+    /**
+     * Gets the initial bank of the player.
+     *
+     * @return the initial bank, in milliseconds
+     */
+    public long getInitialMillis() {
+        return initialMillis;
+    }
+
+    /**
+     * Takes the time of a finished turn off the bank and adds the increment.
+     *
+     * @param usedMillis the time the turn lasted, in milliseconds
+     */
+    synchronized void charge(long usedMillis) {
+        remainingMillis = Math.max(0, remainingMillis - usedMillis) + incrementMillis;
+    }
+}
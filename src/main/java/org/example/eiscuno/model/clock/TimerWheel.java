@@ -0,0 +1,238 @@
+package org.example.eiscuno.model.clock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A hashed timer wheel: one thread runs the timeouts of every game of the process.
+ * <p>
+ * Time is cut into ticks. The wheel is a ring of buckets, one per tick; a timeout is put in the
+ * bucket of the tick it expires on, with the number of full turns of the wheel still to wait.
+ * Each tick the worker thread only looks at one bucket, so scheduling and cancelling are constant
+ * time whatever the number of pending timeouts, and thousands of idle sessions cost no thread at
+ * all. The price is precision: a timeout fires up to one tick late.
+ * <p>
+ * New timeouts are handed to the worker through a lock-free queue, and cancelled ones are dropped
+ * the next time their bucket comes up. The tasks run on the worker thread, so they must be short;
+ * they typically hand the real work to the executor or the actor of their game.
+ */
+public final class TimerWheel {
+    private static final long DEFAULT_TICK_MILLIS = 10;
+    private static final int DEFAULT_WHEEL_SIZE = 512;
+
+    private final long tickNanos;
+    private final List<List<Timeout>> buckets;
+    private final int mask;
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+    private final long startNanos;
+    private final Thread worker;
+    private volatile boolean stopped;
+    private long tick;
+
+    /**
+     * Constructs a wheel and starts its worker thread.
+     *
+     * @param tickMillis the duration of a tick, in milliseconds
+     * @param wheelSize  the number of buckets, rounded up to a power of two
+     * @param name       the name of the worker thread
+     */
+    public TimerWheel(long tickMillis, int wheelSize, String name) {
+        if (tickMillis < 1 || wheelSize < 1) {
+            throw new IllegalArgumentException("Invalid timer wheel: " + tickMillis + " ms x " + wheelSize);
+        }
+        int size = 1;
+        while (size < wheelSize) {
+            size <<= 1;
+        }
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.mask = size - 1;
+        this.buckets = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        this.startNanos = System.nanoTime();
+        this.worker = new Thread(this::work, name);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Schedules a task.
+     *
+     * @param task  the task, run on the worker thread
+     * @param delay the delay before the task runs
+     * @param unit  the unit of the delay
+     * @return the handle of the timeout, which can cancel it
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        if (stopped) {
+            throw new IllegalStateException("The timer wheel is stopped.");
+        }
+        Timeout timeout = new Timeout(task, System.nanoTime() + unit.toNanos(Math.max(0, delay)));
+        pending.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Stops the worker thread; the pending timeouts never fire.
+     */
+    public void stop() {
+        stopped = true;
+        worker.interrupt();
+    }
+
+    /**
+     * Runs the ticks of the wheel until it is stopped.
+     */
+    private void work() {
+        while (!stopped) {
+            long tickDeadline = startNanos + (tick + 1) * tickNanos;
+            for (long wait = tickDeadline - System.nanoTime(); wait > 0 && !stopped;
+                 wait = tickDeadline - System.nanoTime()) {
+                LockSupport.parkNanos(this, wait);
+            }
+            transferPending();
+            expire(buckets.get((int) (tick & mask)));
+            tick++;
+        }
+    }
+
+    /**
+     * Moves the newly scheduled timeouts into their buckets.
+     */
+    private void transferPending() {
+        Timeout timeout;
+        while ((timeout = pending.poll()) != null) {
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            long expiryTick = Math.max(tick, (timeout.deadlineNanos - startNanos) / tickNanos);
+            timeout.remainingRounds = (expiryTick - tick) / buckets.size();
+            buckets.get((int) (expiryTick & mask)).add(timeout);
+        }
+    }
+
+    /**
+     * Runs the due timeouts of a bucket and drops the cancelled ones.
+     *
+     * @param bucket the bucket of the current tick
+     */
+    private void expire(List<Timeout> bucket) {
+        int kept = 0;
+        for (int i = 0; i < bucket.size(); i++) {
+            Timeout timeout = bucket.get(i);
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            if (timeout.remainingRounds > 0) {
+                timeout.remainingRounds--;
+                bucket.set(kept++, timeout);
+                continue;
+            }
+            timeout.expire();
+        }
+        bucket.subList(kept, bucket.size()).clear();
+    }
+
+    /**
+     * Gets the wheel shared by every game of the process, with ticks of 10 ms.
+     *
+     * @return the shared wheel
+     */
+    public static synchronized TimerWheel shared() {
+        if (TimerWheelHolder.INSTANCE == null) {
+            TimerWheelHolder.INSTANCE = new TimerWheel(DEFAULT_TICK_MILLIS, DEFAULT_WHEEL_SIZE, "TimerWheel");
+        }
+        return TimerWheelHolder.INSTANCE;
+    }
+
+    /**
+     * Holder class for the shared wheel.
+     * This class ensures lazy initialization of the wheel.
+     */
+    private static class TimerWheelHolder {
+        private static TimerWheel INSTANCE;
+    }
+
+    /**
+     * A task scheduled on a wheel, which can be cancelled until it runs.
+     */
+    public static final class Timeout {
+        private static final int WAITING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final Runnable task;
+        private final long deadlineNanos;
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+        private long remainingRounds;
+
+        /**
+         * Constructs a timeout.
+         *
+         * @param task          the task to run
+         * @param deadlineNanos the {@link System#nanoTime()} at which it is due
+         */
+        private Timeout(Runnable task, long deadlineNanos) {
+            this.task = task;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        /**
+         * Creates a timeout whose task already ran, for delays of zero run by the caller.
+         *
+         * @return an expired timeout
+         */
+        static Timeout expired() {
+            Timeout timeout = new Timeout(() -> { }, System.nanoTime());
+            timeout.state.set(EXPIRED);
+            return timeout;
+        }
+
+        /**
+         * Cancels the timeout if its task did not run yet.
+         *
+         * @return true if the timeout was cancelled by this call
+         */
+        public boolean cancel() {
+            return state.compareAndSet(WAITING, CANCELLED);
+        }
+
+        /**
+         * Checks whether the timeout was cancelled.
+         *
+         * @return true if it was cancelled before running
+         */
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        /**
+         * Checks whether the task of the timeout ran.
+         *
+         * @return true if the task ran or is running
+         */
+        public boolean isExpired() {
+            return state.get() == EXPIRED;
+        }
+
+        /**
+         * Runs the task unless the timeout was cancelled meanwhile.
+         */
+        private void expire() {
+            if (!state.compareAndSet(WAITING, EXPIRED)) {
+                return;
+            }
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                System.out.println("Timer task failed: " + e);
+            }
+        }
+    }
+}
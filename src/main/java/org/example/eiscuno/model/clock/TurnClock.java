@@ -0,0 +1,186 @@
+package org.example.eiscuno.model.clock;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Owns the pacing of a game: the delays of the machine, the reaction times and the turn limits.
+ * <p>
+ * Every delay of a game is asked from its clock in game milliseconds, and the clock scales it to
+ * real time: a scale of 1 plays in real time, a smaller scale speeds the game up for demos, and a
+ * scale of 0 removes every delay for simulations and tests. The delays are timeouts on a shared
+ * {@link TimerWheel}, never sleeping threads.
+ * <p>
+ * A turn started with {@link #startTurn(TimeControl, Runnable)} expires when the player's bank
+ * runs out, and its timeout action (typically drawing a card and passing) runs once, unless the
+ * turn was ended first. Ending and expiring race on one atomic state, so exactly one of them wins.
+ * With a scale of 0 turns never expire.
+ * <p>
+ * The scale of {@link #create()} is read from the {@value #SCALE_PROPERTY} system property.
+ */
+public final class TurnClock {
+    /**
+     * The system property that sets the playback scale of {@link #create()}.
+     */
+    public static final String SCALE_PROPERTY = "eiscuno.clock.scale";
+
+    private final TimerWheel wheel;
+    private final double scale;
+
+    /**
+     * Constructs a clock.
+     *
+     * @param wheel the wheel of the timeouts, unused when the scale is 0
+     * @param scale the real time of one game millisecond, in milliseconds
+     */
+    public TurnClock(TimerWheel wheel, double scale) {
+        if (!(scale >= 0) || Double.isInfinite(scale)) {
+            throw new IllegalArgumentException("Invalid clock scale: " + scale);
+        }
+        this.wheel = wheel;
+        this.scale = scale;
+    }
+
+    /**
+     * Creates a clock on the shared wheel, with the scale of the {@value #SCALE_PROPERTY} system
+     * property or in real time.
+     *
+     * @return the clock
+     */
+    public static TurnClock create() {
+        String property = System.getProperty(SCALE_PROPERTY);
+        double scale = property == null ? 1.0 : Double.parseDouble(property.trim());
+        return scale == 0 ? instant() : new TurnClock(TimerWheel.shared(), scale);
+    }
+
+    /**
+     * Creates a clock without any delay, for simulations and tests.
+     *
+     * @return a clock with a scale of 0
+     */
+    public static TurnClock instant() {
+        return new TurnClock(null, 0);
+    }
+
+    /**
+     * Gets the playback scale of the clock.
+     *
+     * @return the real time of one game millisecond, in milliseconds
+     */
+    public double getScale() {
+        return scale;
+    }
+
+    /**
+     * Converts game time to real time.
+     *
+     * @param gameMillis a duration in game milliseconds
+     * @return the duration in real milliseconds
+     */
+    public long toRealMillis(long gameMillis) {
+        return Math.round(gameMillis * scale);
+    }
+
+    /**
+     * Runs a task after a delay.
+     * <p>
+     * A delay that scales to zero runs the task right away on the calling thread.
+     *
+     * @param task       the task, run on the thread of the wheel; it must be short
+     * @param gameMillis the delay, in game milliseconds
+     * @return the timeout of the task
+     */
+    public TimerWheel.Timeout schedule(Runnable task, long gameMillis) {
+        long realMillis = toRealMillis(gameMillis);
+        if (realMillis <= 0) {
+            task.run();
+            return TimerWheel.Timeout.expired();
+        }
+        return wheel.schedule(task, realMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Creates a future completed after a delay.
+     *
+     * @param gameMillis the delay, in game milliseconds
+     * @return a future completed once the delay has passed
+     */
+    public CompletableFuture<Void> delay(long gameMillis) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        schedule(() -> done.complete(null), gameMillis);
+        return done;
+    }
+
+    /**
+     * Starts the turn of a player.
+     *
+     * @param timeControl the time budget of the player
+     * @param onTimeout   the action run, on the thread of the wheel, if the turn expires
+     * @return the turn, to end when the player has moved
+     */
+    public Turn startTurn(TimeControl timeControl, Runnable onTimeout) {
+        Turn turn = new Turn(timeControl);
+        if (scale > 0) {
+            turn.timeout = wheel.schedule(() -> {
+                if (turn.state.compareAndSet(Turn.RUNNING, Turn.EXPIRED)) {
+                    timeControl.charge(timeControl.getRemainingMillis());
+                    onTimeout.run();
+                }
+            }, toRealMillis(timeControl.getRemainingMillis()), TimeUnit.MILLISECONDS);
+        }
+        return turn;
+    }
+
+    /**
+     * The turn of one player, which is either ended by the player or expires.
+     */
+    public final class Turn {
+        private static final int RUNNING = 0;
+        private static final int ENDED = 1;
+        private static final int EXPIRED = 2;
+
+        private final TimeControl timeControl;
+        private final long startNanos = System.nanoTime();
+        private final AtomicInteger state = new AtomicInteger(RUNNING);
+        private volatile TimerWheel.Timeout timeout;
+
+        /**
+         * Constructs a running turn.
+         *
+         * @param timeControl the time budget of the player
+         */
+        private Turn(TimeControl timeControl) {
+            this.timeControl = timeControl;
+        }
+
+        /**
+         * Ends the turn because the player moved, and charges its time to the player.
+         *
+         * @return true if the turn was still running; false if it had already expired or ended
+         */
+        public boolean end() {
+            if (!state.compareAndSet(RUNNING, ENDED)) {
+                return false;
+            }
+            TimerWheel.Timeout pending = timeout;
+            if (pending != null) {
+                pending.cancel();
+            }
+            if (scale > 0) {
+                long realMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+                timeControl.charge(Math.round(realMillis / scale));
+            }
+            return true;
+        }
+
+        /**
+         * Checks whether the turn expired before the player moved.
+         *
+         * @return true if the timeout action ran
+         */
+        public boolean isExpired() {
+            return state.get() == EXPIRED;
+        }
+    }
+}
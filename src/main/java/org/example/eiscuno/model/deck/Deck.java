@@ -1,145 +1,107 @@
 package org.example.eiscuno.model.deck;
 
-import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+import org.example.eiscuno.model.player.IPlayer;
 import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.table.Table;
+import org.example.eiscuno.model.rng.GameRng;
 
-import java.util.Collections;
-import java.util.Stack;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents a deck of Uno cards.
+ * <p>
+ * The cards are kept in a plain array with a cursor marking the top of the deck, so taking a
+ * card is an array read with no locking. The deck is shuffled in place with the random generator
+ * given at construction, which makes the order reproducible when the generator is seeded.
+ * Decks with other compositions, or shoes made of several decks, are created with
+ * {@link #builder()}.
  */
 public class Deck {
-    private Stack<Card> deckOfCards;
+    private final Card[] deckOfCards;
+    private final RandomGenerator random;
+    private int size;
+    private int recycleCount;
 
     /**
      * Constructs a new deck of Uno cards and initializes it.
      */
     public Deck() {
-        deckOfCards = new Stack<>();
-        initializeDeck();
+        this(GameRng.create().generator());
     }
 
     /**
-     * Initializes the deck with cards based on the EISCUnoEnum values.
+     * Constructs a new deck of Uno cards and shuffles it with the given random generator.
+     * <p>
+     * The deck holds one card of each face; use {@link #builder()} for other compositions.
+     *
+     * @param random the random generator used to shuffle the deck
+     */
+    public Deck(RandomGenerator random) {
+        this(builder().buildCards(), random);
+    }
+
+    /**
+     * Constructs a deck from the given cards and shuffles it.
+     *
+     * @param cards the cards of the deck; the array is owned by the deck afterwards
+     * @param random the random generator used to shuffle the deck
      */
-    private void initializeDeck() {
-        for (EISCUnoEnum cardEnum : EISCUnoEnum.values()) {
-            if (cardEnum.isPlayableCard()) {
-                Card card = new Card(
-                        cardEnum.getFilePath(),
-                        getCardValue(cardEnum.name()),
-                        getCardColor(cardEnum.name()),
-                        cardEnum.getCardType()
-                );
-                deckOfCards.push(card);
-            }
+    Deck(Card[] cards, RandomGenerator random) {
+        this(cards, random, true);
+    }
+
+    /**
+     * Constructs a deck from the given cards, shuffling them or not.
+     *
+     * @param cards the cards of the deck; the array is owned by the deck afterwards
+     * @param random the random generator used to shuffle the deck
+     * @param shuffle whether to shuffle the cards now
+     */
+    private Deck(Card[] cards, RandomGenerator random, boolean shuffle) {
+        this.deckOfCards = cards;
+        this.size = cards.length;
+        this.random = random;
+        if (shuffle) {
+            shuffle();
         }
-        Collections.shuffle(deckOfCards);
     }
 
     /**
-     * Retrieves the card value based on its name.
-     * <p>
-     * This method analyzes the provided card name string and extracts its value.
-     * It checks for numeric card values (0-9) and special card types such as "REVERSE",
-     * "SKIP", "WILD", "TWO_WILD_DRAW", and "FOUR_WILD_DRAW".
-     *
-     * @param name The name of the card as a string. It is expected to follow specific naming conventions
-     *             where numeric cards end with a digit, and special cards contain keywords like "REVERSE",
-     *             "SKIP", or "WILD".
-     * @return A string representing the card's value. Possible values include:
-     *         <ul>
-     *             <li>"0" through "9" for numeric cards</li>
-     *             <li>"REVERSE" for reverse cards</li>
-     *             <li>"SKIP" for skip cards</li>
-     *             <li>"TWO_WILD_DRAW" for +2 wild draw cards</li>
-     *             <li>"FOUR_WILD_DRAW" for +4 wild draw cards</li>
-     *             <li>"WILD" for wild cards</li>
-     *         </ul>
-     *         Returns {@code null} if the card name does not match any known value.
-     */
-    private String getCardValue(String name) {
-        if (name.endsWith("0")){
-            return "0";
-        } else if (name.endsWith("1")){
-            return "1";
-        } else if (name.endsWith("2")){
-            return "2";
-        } else if (name.endsWith("3")){
-            return "3";
-        } else if (name.endsWith("4")){
-            return "4";
-        } else if (name.endsWith("5")){
-            return "5";
-        } else if (name.endsWith("6")){
-            return "6";
-        } else if (name.endsWith("7")){
-            return "7";
-        } else if (name.endsWith("8")){
-            return "8";
-        } else if (name.endsWith("9")){
-            return "9";
-        } else if (name.startsWith("TWO_WILD_DRAW_")){
-            return "TWO_WILD_DRAW";
-        } else if (name.startsWith("REVERSE")){
-            return "REVERSE";
-        } else if (name.startsWith("SKIP")){
-            return "SKIP";
-        } else if (name.equals("FOUR_WILD_DRAW")){
-            return "FOUR_WILD_DRAW";
-        } else if (name.equals("WILD")){
-            return "WILD";
-        } else {
-            return null;}
-
-    }
-
-    /**
-     * Retrieves the card color based on its name.
+     * Creates a deck holding the given cards in the given order, without shuffling them.
      * <p>
-     * This method analyzes the provided card name string and extracts its color.
-     * It checks for standard card colors ("GREEN", "YELLOW", "BLUE", "RED") that appear
-     * at the beginning or end of the card name. It also handles special cards like "WILD"
-     * and "FOUR_WILD_DRAW", which do not have a specific color.
-     *
-     * @param name The name of the card as a string. It is expected to follow specific naming conventions
-     *             where colors like "GREEN", "YELLOW", "BLUE", or "RED" appear at the start or end
-     *             of the card name.
-     * @return A string representing the card's color. Possible values include:
-     *         <ul>
-     *             <li>"GREEN" for green cards</li>
-     *             <li>"YELLOW" for yellow cards</li>
-     *             <li>"BLUE" for blue cards</li>
-     *             <li>"RED" for red cards</li>
-     *             <li>"FOUR_WILD_DRAW" for +4 wild draw cards</li>
-     *             <li>"WILD" for wild cards</li>
-     *         </ul>
-     *         Returns {@code null} if the card name does not match any known color.
-     */
-    private String getCardColor(String name){
-        if(name.startsWith("GREEN")){
-            return "GREEN";
-        } else if(name.startsWith("YELLOW")){
-            return "YELLOW";
-        } else if(name.startsWith("BLUE")){
-            return "BLUE";
-        } else if(name.startsWith("RED")){
-            return "RED";
-        } else if (name.endsWith("GREEN")) {
-            return "GREEN";
-        } else if (name.endsWith("YELLOW")) {
-            return "YELLOW";
-        } else if (name.endsWith("RED")) {
-            return "RED";
-        } else if (name.endsWith("BLUE")) {
-            return "BLUE";
-        }else if (name.equals("FOUR_WILD_DRAW")){
-            return "FOUR_WILD_DRAW";
-        } else if (name.equals("WILD")) {
-            return "WILD";
-        } else {
-            return null;
+     * This restores a deck saved with {@link #toArray()}.
+     *
+     * @param cards the cards of the deck, from the bottom to the top; the array is copied
+     * @param capacity the number of cards of the shoe, at least the number of cards given
+     * @param random the random generator used when the deck is refilled from the table
+     * @return the deck
+     */
+    public static Deck ofCards(Card[] cards, int capacity, RandomGenerator random) {
+        Card[] slots = new Card[Math.max(capacity, cards.length)];
+        System.arraycopy(cards, 0, slots, 0, cards.length);
+        Deck deck = new Deck(slots, random, false);
+        deck.size = cards.length;
+        return deck;
+    }
+
+    /**
+     * Creates a builder for standard and multi-deck shoes.
+     *
+     * @return a new deck builder
+     */
+    public static DeckBuilder builder() {
+        return new DeckBuilder();
+    }
+
+    /**
+     * Shuffles the cards left in the deck in place (Fisher-Yates).
+     */
+    private void shuffle() {
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Card card = deckOfCards[i];
+            deckOfCards[i] = deckOfCards[j];
+            deckOfCards[j] = card;
         }
     }
 
@@ -150,10 +112,119 @@ public class Deck {
      * @throws IllegalStateException if the deck is empty
      */
     public Card takeCard() {
-        if (deckOfCards.isEmpty()) {
+        if (size == 0) {
             throw new IllegalStateException("No hay más cartas en el mazo.");
         }
-        return deckOfCards.pop();
+        return pop();
+    }
+
+    /**
+     * Takes a card from the top of the deck if there is one.
+     * <p>
+     * Unlike {@link #takeCard()}, this method does not throw when the deck is empty, so callers
+     * can handle an empty deck without exceptions.
+     *
+     * @return the card from the top of the deck, or {@code null} if the deck is empty
+     */
+    public Card tryTakeCard() {
+        return size == 0 ? null : pop();
+    }
+
+    /**
+     * Deals cards from the top of the deck straight into a player's hand.
+     * <p>
+     * If the deck holds fewer cards than requested, every remaining card is dealt.
+     *
+     * @param numberOfCards the number of cards to deal
+     * @param player the player who receives the cards
+     * @return the number of cards actually dealt
+     */
+    public int takeCards(int numberOfCards, IPlayer player) {
+        int dealt = Math.min(numberOfCards, size);
+        for (int i = 0; i < dealt; i++) {
+            player.addCard(pop());
+        }
+        return dealt;
+    }
+
+    /**
+     * Removes the top card of a non-empty deck.
+     *
+     * @return the card from the top of the deck
+     */
+    private Card pop() {
+        Card card = deckOfCards[--size];
+        deckOfCards[size] = null;
+        return card;
+    }
+
+    /**
+     * Refills the deck with the cards played on the table, leaving only the top card there.
+     * <p>
+     * The cards are moved straight into the free slots of the deck array, and the deck is then
+     * shuffled in place, so recycling takes time proportional to the number of cards and does not
+     * allocate. The deck never grows beyond its {@link #capacity()}.
+     *
+     * @param table the table whose discard pile is recycled
+     * @return the number of cards moved into the deck
+     */
+    public int recycle(Table table) {
+        int moved = table.removeAllButTop(deckOfCards, size, deckOfCards.length - size);
+        if (moved > 0) {
+            size += moved;
+            recycleCount++;
+            shuffle();
+        }
+        return moved;
+    }
+
+    /**
+     * Gets the number of times the deck was refilled from the table.
+     *
+     * @return the number of recycles that moved at least one card
+     */
+    public int getRecycleCount() {
+        return recycleCount;
+    }
+
+    /**
+     * Adds the cards left in the deck to per-face counters, without revealing their order.
+     *
+     * @param counts the counters, indexed by {@link Card#getFaceCode()}
+     */
+    public void countFaces(int[] counts) {
+        for (int i = 0; i < size; i++) {
+            counts[deckOfCards[i].getFaceCode()]++;
+        }
+    }
+
+    /**
+     * Copies the cards left in the deck.
+     *
+     * @return the cards, from the bottom to the top of the deck
+     */
+    public Card[] toArray() {
+        Card[] cards = new Card[size];
+        System.arraycopy(deckOfCards, 0, cards, 0, size);
+        return cards;
+    }
+
+    /**
+     * Gets the number of cards the deck was built with.
+     *
+     * @return the total number of cards of the shoe
+     */
+    public int capacity() {
+        return deckOfCards.length;
+    }
+
+    /**
+     * Gets the number of cards left in the deck.
+     *
+     * @return the number of cards left
+     */
+    public int size() {
+        return size;
     }
 
     /**
@@ -162,6 +233,6 @@ public class Deck {
      * @return true if the deck is empty, false otherwise
      */
     public boolean isEmpty() {
-        return deckOfCards.isEmpty();
+        return size == 0;
     }
 }
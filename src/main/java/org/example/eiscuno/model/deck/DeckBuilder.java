@@ -0,0 +1,140 @@
+package org.example.eiscuno.model.deck;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardFace;
+import org.example.eiscuno.model.card.CardValue;
+import org.example.eiscuno.model.rng.GameRng;
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Builds decks and multi-deck shoes of Uno cards.
+ * <p>
+ * A shoe is made of one or more copies of a {@link Composition}. Every copy of a face shares the
+ * same {@link CardFace} flyweight; each physical card only adds a reference to its face and an id,
+ * so the memory of a shoe grows with the number of cards, not with their attributes or images.
+ */
+public class DeckBuilder {
+
+    /**
+     * The card composition of a single deck.
+     */
+    public enum Composition {
+        /**
+         * One card of each face, 54 cards in total.
+         */
+        CLASSIC,
+        /**
+         * The standard Uno deck of 108 cards: one 0 and two of every other colored card per color,
+         * plus four WILD and four FOUR_WILD_DRAW cards.
+         */
+        STANDARD;
+
+        /**
+         * Gets the number of copies of a face in one deck of this composition.
+         *
+         * @param cardEnum the playable face
+         * @return the number of copies of the face
+         */
+        public int copiesOf(EISCUnoEnum cardEnum) {
+            if (this == CLASSIC) {
+                return 1;
+            }
+            CardValue value = cardEnum.getCardValue();
+            if (value.isWild()) {
+                return 4;
+            }
+            return value == CardValue.ZERO ? 1 : 2;
+        }
+
+        /**
+         * Gets the number of cards in one deck of this composition.
+         *
+         * @return the number of cards
+         */
+        public int size() {
+            int size = 0;
+            for (EISCUnoEnum cardEnum : EISCUnoEnum.values()) {
+                if (cardEnum.isPlayableCard()) {
+                    size += copiesOf(cardEnum);
+                }
+            }
+            return size;
+        }
+    }
+
+    private Composition composition = Composition.CLASSIC;
+    private int decks = 1;
+    private RandomGenerator random;
+
+    /**
+     * Sets the composition of each deck of the shoe.
+     *
+     * @param composition the composition of a deck
+     * @return this builder
+     */
+    public DeckBuilder composition(Composition composition) {
+        this.composition = composition;
+        return this;
+    }
+
+    /**
+     * Sets the number of decks in the shoe.
+     *
+     * @param decks the number of decks, at least 1
+     * @return this builder
+     * @throws IllegalArgumentException if the number of decks is less than 1
+     */
+    public DeckBuilder decks(int decks) {
+        if (decks < 1) {
+            throw new IllegalArgumentException("A shoe needs at least one deck: " + decks);
+        }
+        this.decks = decks;
+        return this;
+    }
+
+    /**
+     * Sets the random generator used to shuffle the shoe.
+     *
+     * @param random the random generator
+     * @return this builder
+     */
+    public DeckBuilder random(RandomGenerator random) {
+        this.random = random;
+        return this;
+    }
+
+    /**
+     * Builds the shuffled shoe.
+     *
+     * @return the new deck
+     */
+    public Deck build() {
+        return new Deck(buildCards(), random != null ? random : GameRng.create().generator());
+    }
+
+    /**
+     * Creates the physical cards of the shoe, in composition order.
+     * <p>
+     * The cards are numbered from 0 and every copy of a face shares the face flyweight.
+     *
+     * @return the unshuffled cards of the shoe
+     */
+    Card[] buildCards() {
+        Card[] cards = new Card[composition.size() * decks];
+        int id = 0;
+        for (int deck = 0; deck < decks; deck++) {
+            for (EISCUnoEnum cardEnum : EISCUnoEnum.values()) {
+                if (cardEnum.isPlayableCard()) {
+                    CardFace face = CardFace.of(cardEnum);
+                    for (int copy = 0; copy < composition.copiesOf(cardEnum); copy++) {
+                        cards[id] = new Card(face, id);
+                        id++;
+                    }
+                }
+            }
+        }
+        return cards;
+    }
+}
@@ -0,0 +1,248 @@
+package org.example.eiscuno.model.game;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardColor;
+import org.example.eiscuno.model.card.CardValue;
+import org.example.eiscuno.model.card.PlayabilityTable;
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.player.Hand;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.table.Table;
+
+import java.util.Arrays;
+
+/**
+ * Counts the cards of a game that are not on the table, updated as the game is played.
+ * <p>
+ * The tracker counts the whole shoe once, when the game is created. From then on, every card
+ * played takes one off the per-face, per-color and per-value counts, and a recycle of the table
+ * resets them to the shoe minus the top card. The cards a player cannot see are the ones off the
+ * table minus its own hand, whose counts the {@link Hand} index gives in constant time, so every
+ * query is a subtraction and no history is scanned.
+ * <p>
+ * The tracker also remembers, for each player, the game colors it drew on: a player who draws
+ * most likely held no card of that color. Only the cards received since then may be of that
+ * color, which sharpens the estimate of the opponent's hand. This is an inference, not a rule:
+ * nothing forbids a player to draw while holding a playable card.
+ * <p>
+ * The counts assume the table keeps every card played since the last recycle, which holds as long
+ * as its capacity is at least the size of the deck.
+ */
+final class CardTracker {
+    private static final int NOT_VOID = -1;
+
+    private final int[] shoeFaces = new int[PlayabilityTable.FACES];
+    private final int[] shoeColors = new int[CardColor.COUNT];
+    private final int[] shoeValues = new int[CardValue.COUNT];
+    private final int shoeTotal;
+    private final int[] faces = new int[PlayabilityTable.FACES];
+    private final int[] colors = new int[CardColor.COUNT];
+    private final int[] values = new int[CardValue.COUNT];
+    private int total;
+    private final int[][] receivedSinceVoid;
+
+    /**
+     * Constructs the tracker of a game from the cards it holds now.
+     *
+     * @param deck    the deck of the game
+     * @param table   the table of the game
+     * @param players the players of the game, by seat
+     */
+    CardTracker(Deck deck, Table table, Player... players) {
+        int[] deckFaces = new int[PlayabilityTable.FACES];
+        deck.countFaces(deckFaces);
+        int cards = 0;
+        for (int face = 0; face < PlayabilityTable.FACES; face++) {
+            count(face, deckFaces[face]);
+            cards += deckFaces[face];
+        }
+        for (Player player : players) {
+            for (Card card : player.getCardsPlayer()) {
+                count(card.getFaceCode(), 1);
+                cards++;
+            }
+        }
+        for (int i = 0; i < table.size(); i++) {
+            count(table.getCard(i).getFaceCode(), 1);
+            cards++;
+        }
+        System.arraycopy(faces, 0, shoeFaces, 0, faces.length);
+        System.arraycopy(colors, 0, shoeColors, 0, colors.length);
+        System.arraycopy(values, 0, shoeValues, 0, values.length);
+        this.shoeTotal = cards;
+        this.total = cards;
+        this.receivedSinceVoid = new int[players.length][CardColor.COUNT];
+        for (int i = 0; i < table.size(); i++) {
+            count(table.getCard(i).getFaceCode(), -1);
+            total--;
+        }
+        for (int[] seat : receivedSinceVoid) {
+            Arrays.fill(seat, NOT_VOID);
+        }
+    }
+
+    /**
+     * Overwrites the counts and the inferences of this tracker with those of the tracker of a game
+     * holding the same cards.
+     *
+     * @param other the tracker to copy
+     */
+    void copyFrom(CardTracker other) {
+        System.arraycopy(other.faces, 0, faces, 0, faces.length);
+        System.arraycopy(other.colors, 0, colors, 0, colors.length);
+        System.arraycopy(other.values, 0, values, 0, values.length);
+        total = other.total;
+        for (int seat = 0; seat < receivedSinceVoid.length; seat++) {
+            System.arraycopy(other.receivedSinceVoid[seat], 0, receivedSinceVoid[seat], 0, CardColor.COUNT);
+        }
+    }
+
+    /**
+     * Takes a card put on the table off the counts.
+     *
+     * @param card the card
+     */
+    void cardShown(Card card) {
+        count(card.getFaceCode(), -1);
+        total--;
+    }
+
+    /**
+     * Takes a card played by a player off the counts.
+     * <p>
+     * If the player was thought to lack the color of the card, the card must be one of those it
+     * received since.
+     *
+     * @param seat the seat of the player
+     * @param card the card played
+     */
+    void cardPlayed(int seat, Card card) {
+        cardShown(card);
+        CardColor color = card.getColorCode();
+        if (color != null && receivedSinceVoid[seat][color.ordinal()] > 0) {
+            receivedSinceVoid[seat][color.ordinal()]--;
+        }
+    }
+
+    /**
+     * Notes that a player drew a card while the game had a color, so it likely held none.
+     *
+     * @param seat  the seat of the player
+     * @param color the game color, or {@code null}
+     */
+    void cardDrawn(int seat, CardColor color) {
+        if (color != null) {
+            receivedSinceVoid[seat][color.ordinal()] = 0;
+        }
+    }
+
+    /**
+     * Counts the cards a player received, which may be of the colors it lacked.
+     *
+     * @param seat  the seat of the player
+     * @param cards the number of cards received
+     */
+    void cardsReceived(int seat, int cards) {
+        int[] received = receivedSinceVoid[seat];
+        for (int color = 0; color < received.length; color++) {
+            if (received[color] != NOT_VOID) {
+                received[color] += cards;
+            }
+        }
+    }
+
+    /**
+     * Puts back every card but the top one after the table was recycled into the deck.
+     *
+     * @param top the card left on the table
+     */
+    void tableRecycled(Card top) {
+        System.arraycopy(shoeFaces, 0, faces, 0, faces.length);
+        System.arraycopy(shoeColors, 0, colors, 0, colors.length);
+        System.arraycopy(shoeValues, 0, values, 0, values.length);
+        total = shoeTotal;
+        cardShown(top);
+    }
+
+    /**
+     * Counts the cards of a face that a player cannot see.
+     *
+     * @param hand the hand of the player
+     * @param face the face code
+     * @return the number of cards of that face in the deck or the opponent's hand
+     */
+    int unseenFace(Hand hand, int face) {
+        return face < 0 ? 0 : faces[face] - hand.countOfFace(face);
+    }
+
+    /**
+     * Counts the cards of a color that a player cannot see.
+     *
+     * @param hand  the hand of the player
+     * @param color the color
+     * @return the number of cards of that color in the deck or the opponent's hand
+     */
+    int unseenColor(Hand hand, CardColor color) {
+        return colors[color.ordinal()] - hand.countOfColor(color);
+    }
+
+    /**
+     * Counts the cards of a value that a player cannot see.
+     *
+     * @param hand  the hand of the player
+     * @param value the value
+     * @return the number of cards of that value in the deck or the opponent's hand
+     */
+    int unseenValue(Hand hand, CardValue value) {
+        return values[value.ordinal()] - hand.countOfValue(value);
+    }
+
+    /**
+     * Counts the cards a player cannot see.
+     *
+     * @param hand the hand of the player
+     * @return the number of cards in the deck and the opponent's hand
+     */
+    int unseenTotal(Hand hand) {
+        return total - hand.size();
+    }
+
+    /**
+     * Estimates the probability that the opponent of a player holds a card of a color.
+     * <p>
+     * Each card of the opponent that may be of the color is taken as an independent draw from the
+     * unseen cards; those are every card of its hand, or only the ones it received since it drew
+     * on that color.
+     *
+     * @param hand           the hand of the player
+     * @param opponentSeat   the seat of the opponent
+     * @param opponentCards  the number of cards of the opponent
+     * @param color          the color
+     * @return the probability, between 0 and 1
+     */
+    double opponentHolds(Hand hand, int opponentSeat, int opponentCards, CardColor color) {
+        int unseen = unseenTotal(hand);
+        if (unseen <= 0) {
+            return 0;
+        }
+        int received = receivedSinceVoid[opponentSeat][color.ordinal()];
+        int candidates = received == NOT_VOID ? opponentCards : Math.min(received, opponentCards);
+        double miss = 1 - (double) Math.max(0, unseenColor(hand, color)) / unseen;
+        return 1 - Math.pow(miss, candidates);
+    }
+
+    /**
+     * Adds or removes cards of a face from the counts.
+     *
+     * @param face  the face code, or -1 for a card outside the standard faces
+     * @param delta the number of cards to add, negative to remove them
+     */
+    private void count(int face, int delta) {
+        if (face < 0) {
+            return;
+        }
+        faces[face] += delta;
+        colors[PlayabilityTable.colorOf(face).ordinal()] += delta;
+        values[PlayabilityTable.valueOf(face).ordinal()] += delta;
+    }
+}
@@ -0,0 +1,222 @@
+package org.example.eiscuno.model.game;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * The single owner of a {@link GameUno}: every change to the game goes through its command queue.
+ * <p>
+ * Any thread may submit a command; the commands are queued in a lock-free mailbox and run one at
+ * a time, in order, by whichever task of the executor currently drains the mailbox. At most one
+ * such task runs at a time, so the game is only ever touched by one thread and needs no locks. No
+ * thread is reserved for the game: when the mailbox is empty, the actor costs nothing.
+ * <p>
+ * After each command the actor publishes an immutable {@link GameSnapshot}, which readers such as
+ * the user interface use instead of the live game. The depth of the queue and the latency of the
+ * commands, from submission to completion, are kept as metrics.
+ * <p>
+ * A command must not wait for another command of the same actor, as that one only runs after it.
+ * A command that fails, even with an {@link Error}, completes its future with the failure and the
+ * actor goes on with the next commands, so no caller waits forever on a broken game.
+ */
+public final class GameActor {
+    private final GameUno game;
+    private final Executor executor;
+    private final Queue<Runnable> mailbox = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final LongAccumulator maxQueueDepth = new LongAccumulator(Math::max, 0);
+    private final LongAdder processedCommands = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final LongAccumulator maxLatencyNanos = new LongAccumulator(Math::max, 0);
+    private long version;
+    private volatile GameSnapshot snapshot;
+
+    /**
+     * Constructs the actor of a game.
+     * <p>
+     * The game must not be used directly anymore, except by the commands of the actor.
+     *
+     * @param game     the game
+     * @param executor the executor that runs the draining tasks
+     */
+    public GameActor(GameUno game, Executor executor) {
+        this.game = game;
+        this.executor = executor;
+        this.snapshot = new GameSnapshot(game, 0);
+    }
+
+    /**
+     * Queues a command that returns a result.
+     *
+     * @param command the command, applied to the game by its owner
+     * @param <T>     the type of the result
+     * @return a future completed with the result of the command, or with its exception, once the
+     *         snapshot that follows it is published; it fails with the exception that stopped the
+     *         snapshot if the game could not be read after the command
+     */
+    public <T> CompletableFuture<T> submit(Function<GameUno, T> command) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        long submitted = System.nanoTime();
+        mailbox.add(() -> {
+            T value = null;
+            Throwable failure = null;
+            try {
+                value = command.apply(game);
+            } catch (Throwable e) {
+                failure = e;
+            }
+            try {
+                snapshot = new GameSnapshot(game, ++version);
+            } catch (Throwable e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            } finally {
+                long latency = System.nanoTime() - submitted;
+                processedCommands.increment();
+                totalLatencyNanos.add(latency);
+                maxLatencyNanos.accumulate(latency);
+                if (failure == null) {
+                    result.complete(value);
+                } else {
+                    result.completeExceptionally(failure);
+                }
+            }
+        });
+        maxQueueDepth.accumulate(queueDepth.incrementAndGet());
+        scheduleDrain();
+        return result;
+    }
+
+    /**
+     * Queues a command without a result.
+     *
+     * @param command the command, applied to the game by its owner
+     * @return a future completed once the command ran and the snapshot that follows it is published
+     */
+    public CompletableFuture<Void> execute(Consumer<GameUno> command) {
+        return submit(g -> {
+            command.accept(g);
+            return null;
+        });
+    }
+
+    /**
+     * Gets the exception thrown by a failed command from the failure of a future.
+     * <p>
+     * The future returned by {@link #submit(Function)} fails with the exception of the command
+     * itself, but the stages derived from it wrap that exception in a {@link CompletionException}.
+     *
+     * @param failure the failure of the future
+     * @return the exception thrown by the command
+     */
+    public static Throwable causeOf(Throwable failure) {
+        Throwable cause = failure;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    /**
+     * Gets the snapshot published after the last command.
+     *
+     * @return the latest snapshot of the game
+     */
+    public GameSnapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Gets the number of commands waiting in the queue.
+     *
+     * @return the depth of the queue
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * Gets the largest number of commands that waited in the queue at once.
+     *
+     * @return the maximum depth of the queue
+     */
+    public long getMaxQueueDepth() {
+        return maxQueueDepth.get();
+    }
+
+    /**
+     * Gets the number of commands applied to the game.
+     *
+     * @return the number of processed commands
+     */
+    public long getProcessedCommands() {
+        return processedCommands.sum();
+    }
+
+    /**
+     * Gets the average time from the submission of a command to its completion.
+     *
+     * @return the average latency in nanoseconds, or 0 if no command ran
+     */
+    public long getAverageLatencyNanos() {
+        long processed = processedCommands.sum();
+        return processed == 0 ? 0 : totalLatencyNanos.sum() / processed;
+    }
+
+    /**
+     * Gets the longest time from the submission of a command to its completion.
+     *
+     * @return the maximum latency in nanoseconds
+     */
+    public long getMaxLatencyNanos() {
+        return maxLatencyNanos.get();
+    }
+
+    /**
+     * Starts a draining task unless one is already running.
+     */
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::drain);
+            } catch (RuntimeException e) {
+                draining.set(false);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Runs the queued commands until the mailbox is empty.
+     * <p>
+     * A command queued just after the last poll is picked up by a new draining task, and so are
+     * the commands left in the mailbox if the draining task itself is stopped by a failure.
+     */
+    private void drain() {
+        try {
+            Runnable command;
+            while ((command = mailbox.poll()) != null) {
+                queueDepth.decrementAndGet();
+                command.run();
+            }
+        } finally {
+            draining.set(false);
+            if (!mailbox.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+}
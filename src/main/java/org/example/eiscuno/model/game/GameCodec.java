@@ -0,0 +1,320 @@
+package org.example.eiscuno.model.game;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardColor;
+import org.example.eiscuno.model.card.CardFace;
+import org.example.eiscuno.model.card.PlayabilityTable;
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.rng.GameRng;
+import org.example.eiscuno.model.table.Table;
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Saves a {@link GameUno} in a compact binary format and restores it.
+ * <p>
+ * A saved game holds the whole state of play: the order of the draw pile, the discard pile, the
+ * hands and names of the players, the seat whose turn it is, the direction, the game color and
+ * the number of moves. Every card takes four bytes, its id and the code of its face, so a game
+ * of one deck fits in less than half a kilobyte. The code of a face is its bit in a face set of
+ * the {@link PlayabilityTable}: 0 to 51 for the colored faces, green, yellow, blue then red, each
+ * with 0 to 9, TWO_WILD_DRAW, REVERSE and SKIP; 52 for WILD and 53 for FOUR_WILD_DRAW. It does
+ * not depend on the order of the {@link EISCUnoEnum} entries. The format starts with a header, in
+ * little-endian order:
+ * <pre>
+ *  0  magic    int    {@value #MAGIC}
+ *  4  version  short  {@value #VERSION}
+ *  6  unused   short
+ *  8  length   int    the number of bytes of the body
+ * </pre>
+ * A reader refuses the versions newer than its own, so the body can grow in later versions.
+ * <p>
+ * The random streams of a game cannot be saved, so the saved game holds a seed derived from the
+ * seed of the game and its move count. The restored game draws its random colors and the
+ * shuffles of its recycled cards from that seed: it is not the game that would have been played
+ * without the save, but restoring the same save always plays the same game. The knowledge of the
+ * {@link CardTracker} is not saved either; the restored game only knows the cards on the table.
+ */
+public final class GameCodec {
+    /**
+     * The first bytes of a saved game: "UNOG" in little-endian order.
+     */
+    public static final int MAGIC = 0x474F4E55;
+
+    /**
+     * The version of the format written by this codec.
+     */
+    public static final short VERSION = 1;
+
+    /**
+     * The number of bytes of the header.
+     */
+    public static final int HEADER_SIZE = 12;
+
+    private static final int CARD_SIZE = 4;
+    private static final EISCUnoEnum[] ASSET_OF_CODE = new EISCUnoEnum[PlayabilityTable.STANDARD_FACES];
+    private static final CardColor[] COLORS = CardColor.values();
+
+    static {
+        for (EISCUnoEnum asset : EISCUnoEnum.values()) {
+            if (asset.isPlayableCard()) {
+                ASSET_OF_CODE[PlayabilityTable.bitOf(CardFace.of(asset).getFaceCode())] = asset;
+            }
+        }
+    }
+
+    private GameCodec() {
+    }
+
+    /**
+     * Computes the number of bytes of a saved game, header included.
+     *
+     * @param game the game
+     * @return the size of the saved game
+     */
+    public static int sizeOf(GameUno game) {
+        int size = HEADER_SIZE + 8 + 4 + 4 + 4 + 2 + game.getDeck().size() * CARD_SIZE
+                + 2 + game.getTable().size() * CARD_SIZE;
+        for (int seat = 0; seat < game.getPlayerCount(); seat++) {
+            Player player = game.getPlayer(seat);
+            size += 2 + player.getTypePlayer().getBytes(StandardCharsets.UTF_8).length
+                    + 2 + player.getCardsPlayer().size() * CARD_SIZE;
+        }
+        return size;
+    }
+
+    /**
+     * Saves a game into a buffer.
+     * <p>
+     * The game must not change while it is saved: call it from the thread that owns the game.
+     * The byte order of the buffer is set to little-endian.
+     *
+     * @param game   the game
+     * @param buffer the buffer, with at least {@link #sizeOf(GameUno)} bytes remaining
+     * @throws java.nio.BufferOverflowException if the buffer is too small
+     * @throws IllegalArgumentException if the game holds a card without an asset
+     */
+    public static void write(GameUno game, ByteBuffer buffer) {
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        int start = buffer.position();
+        buffer.putInt(MAGIC).putShort(VERSION).putShort((short) 0).putInt(0);
+        buffer.putLong(resumeSeed(game));
+        buffer.putInt(game.getMoveCount());
+        CardColor color = game.getGameColor();
+        buffer.put((byte) game.getPlayerCount()).put((byte) game.getCurrentSeat())
+                .put((byte) game.getDirection()).put((byte) (color == null ? -1 : color.ordinal()));
+        buffer.putShort((short) game.getDeck().capacity()).putShort((short) game.getTable().capacity());
+
+        Card[] drawPile = game.getDeck().toArray();
+        buffer.putShort((short) drawPile.length);
+        for (Card card : drawPile) {
+            putCard(buffer, card);
+        }
+        Table table = game.getTable();
+        buffer.putShort((short) table.size());
+        for (int fromTop = table.size() - 1; fromTop >= 0; fromTop--) {
+            putCard(buffer, table.getCard(fromTop));
+        }
+        for (int seat = 0; seat < game.getPlayerCount(); seat++) {
+            Player player = game.getPlayer(seat);
+            byte[] name = player.getTypePlayer().getBytes(StandardCharsets.UTF_8);
+            buffer.putShort((short) name.length).put(name);
+            List<Card> hand = player.getCardsPlayer();
+            buffer.putShort((short) hand.size());
+            for (Card card : hand) {
+                putCard(buffer, card);
+            }
+        }
+        buffer.putInt(start + 8, buffer.position() - start - HEADER_SIZE);
+    }
+
+    /**
+     * Saves a game to a channel.
+     *
+     * @param game    the game
+     * @param channel the channel, a file or a socket
+     * @return the number of bytes written
+     * @throws IOException if the channel fails
+     */
+    public static int write(GameUno game, WritableByteChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(sizeOf(game));
+        write(game, buffer);
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        return buffer.limit();
+    }
+
+    /**
+     * Restores a game from a buffer.
+     * <p>
+     * The game is not started: play continues from the saved state, without a listener.
+     *
+     * @param buffer the buffer, positioned at the header of the saved game; its byte order is set
+     *               to little-endian
+     * @return the restored game
+     * @throws IllegalArgumentException if the buffer does not hold a saved game of a known version,
+     *                                  or holds an invalid card or color
+     * @throws java.nio.BufferUnderflowException if the saved game is truncated
+     */
+    public static GameUno read(ByteBuffer buffer) {
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        int length = readHeader(buffer);
+        if (buffer.remaining() < length) {
+            throw new IllegalArgumentException("The saved game is truncated: " + buffer.remaining() + " of "
+                    + length + " bytes");
+        }
+        long resumeSeed = buffer.getLong();
+        GameRng rng = new GameRng(resumeSeed);
+        int moves = buffer.getInt();
+        int players = buffer.get();
+        int current = buffer.get();
+        int direction = buffer.get();
+        int color = buffer.get();
+        int deckCapacity = buffer.getShort() & 0xFFFF;
+        int tableCapacity = buffer.getShort() & 0xFFFF;
+        if (players < GameUno.MIN_PLAYERS || players > GameUno.MAX_PLAYERS || current < 0 || current >= players
+                || Math.abs(direction) != 1 || color < -1 || color >= COLORS.length) {
+            throw new IllegalArgumentException("Invalid saved game: " + players + " players, seat " + current
+                    + ", direction " + direction + ", color " + color);
+        }
+
+        Card[] drawPile = new Card[buffer.getShort() & 0xFFFF];
+        for (int i = 0; i < drawPile.length; i++) {
+            drawPile[i] = getCard(buffer);
+        }
+        Deck deck = Deck.ofCards(drawPile, deckCapacity, rng.split().generator());
+        Table table = new Table(tableCapacity);
+        int onTable = buffer.getShort() & 0xFFFF;
+        for (int i = 0; i < onTable; i++) {
+            table.addCardOnTheTable(getCard(buffer));
+        }
+        List<Player> seats = new ArrayList<>(players);
+        for (int seat = 0; seat < players; seat++) {
+            byte[] name = new byte[buffer.getShort() & 0xFFFF];
+            buffer.get(name);
+            Player player = new Player(new String(name, StandardCharsets.UTF_8));
+            int cards = buffer.getShort() & 0xFFFF;
+            for (int i = 0; i < cards; i++) {
+                player.addCard(getCard(buffer));
+            }
+            seats.add(player);
+        }
+        GameUno game = new GameUno(seats, deck, table, rng.split());
+        game.restoreTurn(current, direction, color < 0 ? null : COLORS[color], moves, resumeSeed);
+        return game;
+    }
+
+    /**
+     * Restores a game from a channel.
+     *
+     * @param channel the channel, positioned at the header of the saved game
+     * @return the restored game
+     * @throws IOException if the channel fails or ends before the saved game
+     * @throws IllegalArgumentException if the channel does not hold a saved game of a known version
+     */
+    public static GameUno read(ReadableByteChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        readFully(channel, header);
+        int length = readHeader(header.flip());
+        ByteBuffer saved = ByteBuffer.allocate(HEADER_SIZE + length);
+        saved.put(header.rewind());
+        readFully(channel, saved);
+        return read(saved.flip());
+    }
+
+    /**
+     * Checks the header of a saved game.
+     *
+     * @param buffer the buffer, positioned at the header; it is moved past it
+     * @return the number of bytes of the body
+     * @throws IllegalArgumentException if the header is not the one of a saved game of a known version
+     */
+    private static int readHeader(ByteBuffer buffer) {
+        int magic = buffer.getInt();
+        short version = buffer.getShort();
+        buffer.getShort();
+        int length = buffer.getInt();
+        if (magic != MAGIC) {
+            throw new IllegalArgumentException("Not a saved game: " + Integer.toHexString(magic));
+        }
+        if (version < 1 || version > VERSION) {
+            throw new IllegalArgumentException("Unknown version of saved game: " + version);
+        }
+        if (length < 0) {
+            throw new IllegalArgumentException("Invalid length of saved game: " + length);
+        }
+        return length;
+    }
+
+    /**
+     * Fills a buffer from a channel.
+     *
+     * @param channel the channel
+     * @param buffer  the buffer
+     * @throws IOException if the channel fails or ends first
+     */
+    private static void readFully(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("The saved game ends after " + buffer.position() + " bytes");
+            }
+        }
+    }
+
+    /**
+     * Writes a card.
+     *
+     * @param buffer the buffer
+     * @param card   the card
+     * @throws IllegalArgumentException if the card has no asset
+     */
+    private static void putCard(ByteBuffer buffer, Card card) {
+        if (card.getFace().getAsset() == null) {
+            throw new IllegalArgumentException("The card " + card.getColor() + "/" + card.getValue()
+                    + " cannot be saved: it has no asset");
+        }
+        buffer.putShort((short) card.getId()).putShort((short) PlayabilityTable.bitOf(card.getFaceCode()));
+    }
+
+    /**
+     * Reads a card.
+     *
+     * @param buffer the buffer
+     * @return a new card with the saved id and the shared face of its code
+     * @throws IllegalArgumentException if the code is not the one of a face
+     */
+    private static Card getCard(ByteBuffer buffer) {
+        int id = buffer.getShort() & 0xFFFF;
+        int code = buffer.getShort();
+        if (code < 0 || code >= ASSET_OF_CODE.length) {
+            throw new IllegalArgumentException("Invalid card code in saved game: " + code);
+        }
+        return new Card(CardFace.of(ASSET_OF_CODE[code]), id);
+    }
+
+    /**
+     * Derives the seed of the random streams of a game restored from a save of a game.
+     * <p>
+     * The seed only depends on the seed of the game and its move count, so a replay that rebuilt
+     * the game as it was saved derives the same seed.
+     *
+     * @param game the saved game
+     * @return the seed of the random streams of the restored game
+     */
+    public static long resumeSeed(GameUno game) {
+        return new SplittableRandom(game.getRng().getSeed() + game.getMoveCount() * 0x9E3779B97F4A7C15L).nextLong();
+    }
+}
@@ -0,0 +1,83 @@
+package org.example.eiscuno.model.game;
+
+/**
+ * Receives every action of a {@link GameUno} as a handful of primitive fields.
+ * <p>
+ * A game announces its actions to its sink as they happen, from the thread that owns the game. An
+ * action is either an input, which a replay must apply again, or derived, when it is a consequence
+ * of another action: the cards drawn by the victim of a DRAW_TWO, or the card played inside a
+ * move. Replaying the inputs alone, in order, from a game dealt with the same seed rebuilds the
+ * same game.
+ * <p>
+ * The fields are primitives so that a sink can store an event without allocating anything.
+ */
+@FunctionalInterface
+public interface GameEventSink {
+    /**
+     * The game was dealt; the seat field holds the number of players and the argument the seed
+     * given to {@link GameUno#newGame}, or the color field is {@link #NO_COLOR} if the game was
+     * built otherwise and cannot be dealt again.
+     */
+    int START = 1;
+    /** A player played a card with {@link GameUno#applyMove}; the argument is the id of the card. */
+    int MOVE_PLAY = 2;
+    /** A player drew with {@link GameUno#applyMove}; the argument is the id of the card, or -1. */
+    int MOVE_DRAW = 3;
+    /** A card was put on the table by the current player; the argument is the id of the card. */
+    int CARD_PLAYED = 4;
+    /** A player was given cards; the argument is the number of cards asked for. */
+    int CARDS_EATEN = 5;
+    /** The turn passed after a card was taken. */
+    int TURN_PASSED = 6;
+    /** A player called "UNO". */
+    int UNO_CALLED = 7;
+    /** The game color was set from outside the game, for a wild card. */
+    int COLOR_SET = 8;
+    /**
+     * Play goes on from a saved game, see {@link GameCodec}; the seat field holds the number of
+     * players and the argument the seed of the restored game. The color field is 0 if the events
+     * of the game before its save are in the same log, or {@link #NO_COLOR} if the game was saved
+     * elsewhere and cannot be replayed.
+     */
+    int RESUME = 9;
+
+    /**
+     * The value of the color field when the event has no color.
+     */
+    int NO_COLOR = -1;
+
+    /**
+     * The sink of a game that records nothing.
+     */
+    GameEventSink NONE = (type, seat, color, derived, argument) -> { };
+
+    /**
+     * Receives one action of the game.
+     *
+     * @param type     the kind of action, one of the constants of this interface
+     * @param seat     the seat of the player who acted, or the number of players for {@link #START}
+     * @param color    the ordinal of the color of the action, or {@link #NO_COLOR}
+     * @param derived  true if the action is a consequence of another one
+     * @param argument the card id, card count or seed of the action
+     */
+    void append(int type, int seat, int color, boolean derived, long argument);
+
+    /**
+     * Gets a sink that gives every event to this sink, then to another one.
+     *
+     * @param other the second sink
+     * @return the combined sink
+     */
+    default GameEventSink andThen(GameEventSink other) {
+        if (this == NONE) {
+            return other;
+        }
+        if (other == NONE) {
+            return this;
+        }
+        return (type, seat, color, derived, argument) -> {
+            append(type, seat, color, derived, argument);
+            other.append(type, seat, color, derived, argument);
+        };
+    }
+}
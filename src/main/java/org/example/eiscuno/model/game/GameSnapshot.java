@@ -0,0 +1,126 @@
+package org.example.eiscuno.model.game;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardColor;
+import org.example.eiscuno.model.table.Table;
+
+import java.util.List;
+
+/**
+ * An immutable picture of a game of Uno, taken by its {@link GameActor} after a command.
+ * <p>
+ * The snapshot holds what the user interface shows: the human player's hand, the number of cards
+ * of the machine, the card on the table, the game color and whose turn it is. Any thread can read
+ * it without locking, while the game itself is only touched by its actor.
+ */
+public final class GameSnapshot {
+    private final long version;
+    private final List<Card> humanHand;
+    private final int machineCardCount;
+    private final Card topCard;
+    private final CardColor gameColor;
+    private final boolean humanTurn;
+    private final int deckSize;
+    private final int tableSize;
+    private final boolean canDrawCard;
+
+    /**
+     * Takes the snapshot of a game.
+     *
+     * @param game    the game, read by its owner
+     * @param version the number of commands applied to the game so far
+     */
+    GameSnapshot(GameUno game, long version) {
+        Table table = game.getTable();
+        this.version = version;
+        this.humanHand = List.copyOf(game.getHumanPlayer().getCardsPlayer());
+        this.machineCardCount = game.getMachinePlayer().getCardsPlayer().size();
+        this.topCard = table.size() == 0 ? null : table.getCurrentCardOnTheTable();
+        this.gameColor = game.getGameColor();
+        this.humanTurn = game.getCurrentPlayer() == game.getHumanPlayer();
+        this.deckSize = game.getDeck().size();
+        this.tableSize = table.size();
+        this.canDrawCard = game.canDrawCard();
+    }
+
+    /**
+     * Gets the number of commands applied to the game when the snapshot was taken.
+     *
+     * @return the version of the snapshot
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Gets the cards of the human player.
+     *
+     * @return an immutable list of the cards, in the order they were received
+     */
+    public List<Card> getHumanHand() {
+        return humanHand;
+    }
+
+    /**
+     * Gets the number of cards of the machine player.
+     *
+     * @return the size of the machine's hand
+     */
+    public int getMachineCardCount() {
+        return machineCardCount;
+    }
+
+    /**
+     * Gets the card on the table.
+     *
+     * @return the top card, or {@code null} before the game starts
+     */
+    public Card getTopCard() {
+        return topCard;
+    }
+
+    /**
+     * Gets the game color.
+     *
+     * @return the game color, or {@code null} if none is set
+     */
+    public CardColor getGameColor() {
+        return gameColor;
+    }
+
+    /**
+     * Checks whether it is the turn of the human player.
+     *
+     * @return true if the human player plays next
+     */
+    public boolean isHumanTurn() {
+        return humanTurn;
+    }
+
+    /**
+     * Gets the number of cards left in the deck.
+     *
+     * @return the size of the draw pile
+     */
+    public int getDeckSize() {
+        return deckSize;
+    }
+
+    /**
+     * Gets the number of cards on the table.
+     *
+     * @return the size of the discard pile
+     */
+    public int getTableSize() {
+        return tableSize;
+    }
+
+    /**
+     * Checks if a card could still be drawn, from the deck or from the recycled table.
+     *
+     * @return true if drawing was possible
+     */
+    public boolean canDrawCard() {
+        return canDrawCard;
+    }
+}
@@ -0,0 +1,853 @@
+package org.example.eiscuno.model.game;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardColor;
+import org.example.eiscuno.model.card.PlayabilityTable;
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.rng.GameRng;
+import org.example.eiscuno.model.table.Table;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * A compact copy of a two-player game of Uno, made to be copied and explored by search algorithms.
+ * <p>
+ * Every card of the game gets a small code, an index into a card table shared by all the copies of
+ * a state. The hands, the deck and the discard pile are arrays of codes in their real order, and
+ * each hand also keeps a count and a bit set of its faces (see {@link PlayabilityTable#bitOf(int)}),
+ * so the legal moves are found with one mask operation. The turn, the direction and the game color
+ * are plain integers, as is the number of moves played. {@link #copy()} and
+ * {@link #copyFrom(GameState)} are a handful of array copies.
+ * <p>
+ * Moves are small integers: an action plays the first card of the hand with a face, with a color
+ * for wild cards, or draws a card (see {@link #DRAW_ACTION}). {@link #apply(int, RandomGenerator)}
+ * records what it changed on an undo stack, and {@link #undo()} reverts the last move exactly,
+ * including the reshuffle of the discard pile into an empty deck.
+ * <p>
+ * The state follows the rules of {@link GameUno} for two players, without the UNO calls. Seat 0 is
+ * the human player and seat 1 the machine player. A state built with {@link #from(GameUno)}
+ * converts back to an equal game with {@link #toGame(RandomGenerator, GameRng)}, which also keeps
+ * the number of moves and the resume seed of the game (see {@link GameUno#resumeGame(boolean)}).
+ */
+public final class GameState {
+    /**
+     * The first action that plays a WILD card; the four actions from it choose GREEN, YELLOW, BLUE
+     * and RED.
+     */
+    public static final int WILD_ACTION = PlayabilityTable.STANDARD_FACES - 2;
+
+    /**
+     * The first action that plays a FOUR_WILD_DRAW card; the four actions from it choose GREEN,
+     * YELLOW, BLUE and RED.
+     */
+    public static final int WILD_DRAW_FOUR_ACTION = WILD_ACTION + 4;
+
+    /**
+     * The action that draws a card and passes the turn.
+     */
+    public static final int DRAW_ACTION = WILD_DRAW_FOUR_ACTION + 4;
+
+    /**
+     * The number of distinct actions.
+     */
+    public static final int ACTIONS = DRAW_ACTION + 1;
+
+    private static final int FACES = PlayabilityTable.STANDARD_FACES;
+    private static final int WILD_BIT = FACES - 2;
+    private static final int WILD_DRAW_FOUR_BIT = FACES - 1;
+    private static final long COLORED_ACTIONS = (1L << WILD_BIT) - 1;
+    private static final int FRAME_SIZE = 9;
+    private static final CardColor[] COLORS = CardColor.values();
+
+    private final Card[] cards;
+    private final byte[] bits;
+    private final short[][] hands = new short[2][];
+    private final byte[][] faceCounts = new byte[2][FACES];
+    private final long[] handBits = new long[2];
+    private final int[] handSizes = new int[2];
+    private final short[] drawPile;
+    private int drawSize;
+    private final short[] discard;
+    private int discardSize;
+    private int gameColor;
+    private int current;
+    private int direction;
+    private int moves;
+    private long resumeSeed;
+
+    private int[] frames = new int[FRAME_SIZE * 4];
+    private int frameTop;
+    private short[] recycled = new short[0];
+    private int recycledTop;
+    private short[] scratch;
+
+    /**
+     * Constructs an empty state for a set of cards.
+     *
+     * @param cards the card of each code, shared with the copies; entries may be {@code null} for
+     *              hidden cards
+     * @param bits  the face bit of each code, shared with the copies
+     */
+    private GameState(Card[] cards, byte[] bits) {
+        int n = bits.length;
+        this.cards = cards;
+        this.bits = bits;
+        this.hands[0] = new short[n];
+        this.hands[1] = new short[n];
+        this.drawPile = new short[n];
+        this.discard = new short[n];
+        this.direction = 1;
+    }
+
+    /**
+     * Captures the exact state of a game.
+     *
+     * @param game a started two-player game
+     * @return the state of the game
+     * @throws IllegalArgumentException if a card of the game is not one of the standard faces, or
+     *                                  if the game has more than two players
+     */
+    public static GameState from(GameUno game) {
+        requireTwoPlayers(game.getPlayerCount());
+        Card[] deckCards = game.getDeck().toArray();
+        Table table = game.getTable();
+        List<Card> human = game.getHumanPlayer().getCardsPlayer();
+        List<Card> machine = game.getMachinePlayer().getCardsPlayer();
+        int n = deckCards.length + table.size() + human.size() + machine.size();
+        Card[] cards = new Card[n];
+        byte[] bits = new byte[n];
+        GameState state = new GameState(cards, bits);
+
+        int code = 0;
+        for (Card card : deckCards) {
+            state.drawPile[state.drawSize++] = register(cards, bits, code++, card);
+        }
+        for (int i = table.size() - 1; i >= 0; i--) {
+            state.discard[state.discardSize++] = register(cards, bits, code++, table.getCard(i));
+        }
+        for (Card card : human) {
+            state.addToHand(0, register(cards, bits, code++, card));
+        }
+        for (Card card : machine) {
+            state.addToHand(1, register(cards, bits, code++, card));
+        }
+        state.gameColor = PlayabilityTable.colorCode(game.getGameColor());
+        state.current = game.getCurrentPlayer() == game.getHumanPlayer() ? 0 : 1;
+        state.direction = game.isReversed() ? -1 : 1;
+        state.moves = game.getMoveCount();
+        state.resumeSeed = game.getResumeSeed();
+        return state;
+    }
+
+    /**
+     * Builds the state of a game as seen by the player of a view, who sits at seat 0.
+     * <p>
+     * The cards the player cannot see are dealt in an arbitrary order between the opponent's hand
+     * and the deck; {@link #redealHidden(int, RandomGenerator)} deals them again at random. Hidden
+     * cards have no {@link Card}, so such a state cannot be converted back to a game.
+     *
+     * @param view the view of the player whose turn it is
+     * @return the state of the game
+     * @throws IllegalArgumentException if a visible card is not one of the standard faces, or if
+     *                                  the game has more than two players
+     */
+    public static GameState fromView(GameView view) {
+        requireTwoPlayers(view.getPlayerCount());
+        int[] unseen = new int[PlayabilityTable.FACES];
+        view.countUnseenFaces(unseen);
+        int hidden = 0;
+        for (int count : unseen) {
+            hidden += count;
+        }
+        List<Card> hand = view.getHand();
+        int tableCards = view.getTableSize();
+        int n = hidden + tableCards + hand.size();
+        Card[] cards = new Card[n];
+        byte[] bits = new byte[n];
+        GameState state = new GameState(cards, bits);
+
+        int code = 0;
+        for (int i = tableCards - 1; i >= 0; i--) {
+            state.discard[state.discardSize++] = register(cards, bits, code++, view.getTableCard(i));
+        }
+        for (Card card : hand) {
+            state.addToHand(0, register(cards, bits, code++, card));
+        }
+        int opponentCards = view.getOpponentCardCount();
+        for (int face = 0; face < unseen.length; face++) {
+            for (int i = 0; i < unseen[face]; i++) {
+                int bit = PlayabilityTable.bitOf(face);
+                if (bit < 0) {
+                    throw new IllegalArgumentException("Face " + face + " is not a standard face.");
+                }
+                bits[code] = (byte) bit;
+                if (state.handSizes[1] < opponentCards) {
+                    state.addToHand(1, (short) code++);
+                } else {
+                    state.drawPile[state.drawSize++] = (short) code++;
+                }
+            }
+        }
+        state.gameColor = PlayabilityTable.colorCode(view.getGameColor());
+        return state;
+    }
+
+    /**
+     * Records the card of a code.
+     *
+     * @param cards the card table
+     * @param bits  the face bits of the codes
+     * @param code  the code of the card
+     * @param card  the card
+     * @return the code
+     */
+    private static short register(Card[] cards, byte[] bits, int code, Card card) {
+        int bit = PlayabilityTable.bitOf(card.getFaceCode());
+        if (bit < 0 || card.isWild() != card.getValueCode().isWild()) {
+            throw new IllegalArgumentException("Card " + card.getColor() + "/" + card.getValue()
+                    + " is not a standard card.");
+        }
+        cards[code] = card;
+        bits[code] = (byte) bit;
+        return (short) code;
+    }
+
+    /**
+     * Rebuilds a game from this state.
+     * <p>
+     * The game gets new players, holding the same card objects in the same order, and a deck and
+     * a table in the same order as this state. It is not started: play continues from this state.
+     *
+     * @param deckRandom the random generator of the new deck, used when the table is recycled
+     * @param rng        the random stream of the new game
+     * @return the game
+     * @throws IllegalStateException if this state has hidden cards
+     */
+    public GameUno toGame(RandomGenerator deckRandom, GameRng rng) {
+        Card[] deckCards = new Card[drawSize];
+        for (int i = 0; i < drawSize; i++) {
+            deckCards[i] = cardOf(drawPile[i]);
+        }
+        Deck deck = Deck.ofCards(deckCards, cards.length, deckRandom);
+        Table table = new Table(Math.max(128, cards.length));
+        for (int i = 0; i < discardSize; i++) {
+            table.addCardOnTheTable(cardOf(discard[i]));
+        }
+        Player human = new Player("HUMAN_PLAYER");
+        Player machine = new Player("MACHINE_PLAYER");
+        for (int i = 0; i < handSizes[0]; i++) {
+            human.addCard(cardOf(hands[0][i]));
+        }
+        for (int i = 0; i < handSizes[1]; i++) {
+            machine.addCard(cardOf(hands[1][i]));
+        }
+        GameUno game = new GameUno(human, machine, deck, table, rng);
+        game.restoreTurn(current, direction, gameColor < COLORS.length ? COLORS[gameColor] : null, moves, resumeSeed);
+        return game;
+    }
+
+    /**
+     * Checks that a game can be captured: a state only has the two seats of a game against the
+     * machine.
+     *
+     * @param players the number of players of the game
+     * @throws IllegalArgumentException if there are not exactly two players
+     */
+    private static void requireTwoPlayers(int players) {
+        if (players != 2) {
+            throw new IllegalArgumentException("A state holds two players, not " + players + ".");
+        }
+    }
+
+    /**
+     * Gets the card of a code of a state that has no hidden cards.
+     *
+     * @param code the code
+     * @return the card
+     */
+    private Card cardOf(short code) {
+        Card card = cards[code];
+        if (card == null) {
+            throw new IllegalStateException("A state with hidden cards cannot be converted to a game.");
+        }
+        return card;
+    }
+
+    /**
+     * Creates an independent copy of this state.
+     * <p>
+     * The copy shares the card table but starts with an empty undo history.
+     *
+     * @return the copy
+     */
+    public GameState copy() {
+        GameState copy = new GameState(cards, bits);
+        copy.copyFrom(this);
+        return copy;
+    }
+
+    /**
+     * Overwrites this state with another state of the same cards, without allocating.
+     * <p>
+     * The undo history of this state is cleared.
+     *
+     * @param other a state sharing the card table of this one, such as a copy
+     */
+    public void copyFrom(GameState other) {
+        if (other.bits != bits) {
+            throw new IllegalArgumentException("The states do not share the same cards.");
+        }
+        for (int p = 0; p < 2; p++) {
+            System.arraycopy(other.hands[p], 0, hands[p], 0, other.handSizes[p]);
+            System.arraycopy(other.faceCounts[p], 0, faceCounts[p], 0, FACES);
+        }
+        handBits[0] = other.handBits[0];
+        handBits[1] = other.handBits[1];
+        handSizes[0] = other.handSizes[0];
+        handSizes[1] = other.handSizes[1];
+        System.arraycopy(other.drawPile, 0, drawPile, 0, other.drawSize);
+        drawSize = other.drawSize;
+        System.arraycopy(other.discard, 0, discard, 0, other.discardSize);
+        discardSize = other.discardSize;
+        gameColor = other.gameColor;
+        current = other.current;
+        direction = other.direction;
+        moves = other.moves;
+        resumeSeed = other.resumeSeed;
+        frameTop = 0;
+        recycledTop = 0;
+    }
+
+    /**
+     * Deals the cards a player cannot see again at random: the opponent's hand and the deck.
+     * <p>
+     * The opponent keeps the same number of cards. The undo history is cleared.
+     *
+     * @param observer the seat of the player whose knowledge is kept
+     * @param random   the random generator of the new deal
+     */
+    public void redealHidden(int observer, RandomGenerator random) {
+        int opponent = 1 - observer;
+        int opponentCards = handSizes[opponent];
+        if (scratch == null) {
+            scratch = new short[bits.length];
+        }
+        int hidden = 0;
+        System.arraycopy(hands[opponent], 0, scratch, 0, opponentCards);
+        hidden += opponentCards;
+        System.arraycopy(drawPile, 0, scratch, hidden, drawSize);
+        hidden += drawSize;
+        shuffle(scratch, hidden, random);
+
+        Arrays.fill(faceCounts[opponent], (byte) 0);
+        handBits[opponent] = 0;
+        handSizes[opponent] = 0;
+        for (int i = 0; i < opponentCards; i++) {
+            addToHand(opponent, scratch[i]);
+        }
+        System.arraycopy(scratch, opponentCards, drawPile, 0, drawSize);
+        frameTop = 0;
+        recycledTop = 0;
+    }
+
+    /**
+     * Gets the actions legal for the player whose turn it is.
+     * <p>
+     * The player may draw only when no card can be played.
+     *
+     * @return a bit set of actions, empty only when the game is over
+     */
+    public long legalActions() {
+        if (isOver()) {
+            return 0;
+        }
+        long playable = handBits[current] & PlayabilityTable.playableBits(
+                PlayabilityTable.faceOfBit(bits[discard[discardSize - 1]]), gameColor);
+        long actions = playable & COLORED_ACTIONS;
+        if ((playable & (1L << WILD_BIT)) != 0) {
+            actions |= 0xFL << WILD_ACTION;
+        }
+        if ((playable & (1L << WILD_DRAW_FOUR_BIT)) != 0) {
+            actions |= 0xFL << WILD_DRAW_FOUR_ACTION;
+        }
+        return actions != 0 ? actions : 1L << DRAW_ACTION;
+    }
+
+    /**
+     * Checks if the game is over.
+     *
+     * @return true if a hand is empty or no card can be drawn any more
+     */
+    public boolean isOver() {
+        return handSizes[0] == 0 || handSizes[1] == 0 || (drawSize == 0 && discardSize <= 1);
+    }
+
+    /**
+     * Gets the winner of a finished game: the player with fewer cards.
+     *
+     * @return the winning seat, or -1 for a tie
+     */
+    public int winner() {
+        if (handSizes[0] != handSizes[1]) {
+            return handSizes[0] < handSizes[1] ? 0 : 1;
+        }
+        return -1;
+    }
+
+    /**
+     * Applies an action of the player whose turn it is and records how to undo it.
+     *
+     * @param action a legal action
+     * @param random the random generator used if the discard pile must be reshuffled into the deck
+     */
+    public void apply(int action, RandomGenerator random) {
+        int frame = pushFrame();
+        frames[frame] = action;
+        frames[frame + 1] = current;
+        frames[frame + 2] = gameColor;
+        frames[frame + 3] = direction;
+        frames[frame + 4] = -1;
+        frames[frame + 5] = 0;
+        frames[frame + 6] = -1;
+        frames[frame + 7] = 0;
+        frames[frame + 8] = 0;
+        moves++;
+        int other = 1 - current;
+        if (action == DRAW_ACTION) {
+            draw(frame, current, 1, random);
+            current = other;
+            return;
+        }
+        int bit = faceBitOf(action);
+        int index = indexOfBit(current, bit);
+        frames[frame + 4] = index;
+        short code = removeFromHand(current, index);
+        discard[discardSize++] = code;
+        int face = PlayabilityTable.faceOfBit(bit);
+        int chosen = colorOf(action);
+        gameColor = chosen >= 0 ? chosen : PlayabilityTable.colorOf(face).ordinal();
+        switch (PlayabilityTable.valueOf(face)) {
+            case SKIP:
+            case WILD:
+                break;
+            case REVERSE:
+                direction = -direction;
+                current = other;
+                break;
+            case TWO_WILD_DRAW:
+                draw(frame, other, 2, random);
+                current = other;
+                break;
+            case FOUR_WILD_DRAW:
+                draw(frame, other, 4, random);
+                break;
+            default:
+                current = other;
+                break;
+        }
+    }
+
+    /**
+     * Reverts the last action applied and not undone yet.
+     *
+     * @throws IllegalStateException if there is nothing to undo
+     */
+    public void undo() {
+        if (frameTop == 0) {
+            throw new IllegalStateException("There is no move to undo.");
+        }
+        frameTop -= FRAME_SIZE;
+        int frame = frameTop;
+        int drawnPlayer = frames[frame + 5];
+        int drawn = frames[frame + 8];
+        int recycleAt = frames[frame + 6];
+        for (int i = drawn - 1; i >= 0; i--) {
+            if (i == recycleAt - 1) {
+                undoRecycle(frames[frame + 7]);
+            }
+            drawPile[drawSize++] = removeFromHand(drawnPlayer, handSizes[drawnPlayer] - 1);
+        }
+        if (recycleAt == 0) {
+            undoRecycle(frames[frame + 7]);
+        }
+        int index = frames[frame + 4];
+        int player = frames[frame + 1];
+        if (index >= 0) {
+            insertIntoHand(player, index, discard[--discardSize]);
+        }
+        current = player;
+        gameColor = frames[frame + 2];
+        direction = frames[frame + 3];
+        moves--;
+    }
+
+    /**
+     * Gets the number of moves that can be undone.
+     *
+     * @return the depth of the undo history
+     */
+    public int undoDepth() {
+        return frameTop / FRAME_SIZE;
+    }
+
+    /**
+     * Gets the seat of the player whose turn it is.
+     *
+     * @return 0 for the human player, 1 for the machine player
+     */
+    public int getCurrentPlayer() {
+        return current;
+    }
+
+    /**
+     * Gets the direction of play.
+     *
+     * @return 1, or -1 when an odd number of REVERSE cards was played
+     */
+    public int getDirection() {
+        return direction;
+    }
+
+    /**
+     * Gets the game color.
+     *
+     * @return the game color, or {@code null} if none is set
+     */
+    public CardColor getGameColor() {
+        return gameColor < COLORS.length ? COLORS[gameColor] : null;
+    }
+
+    /**
+     * Gets the number of cards of a player.
+     *
+     * @param seat the seat of the player
+     * @return the size of the hand
+     */
+    public int getHandSize(int seat) {
+        return handSizes[seat];
+    }
+
+    /**
+     * Gets the number of moves played in the game, before and since this state was captured.
+     *
+     * @return the number of cards played and drawn by the players on their turns
+     */
+    public int getMoveCount() {
+        return moves;
+    }
+
+    /**
+     * Gets the number of cards left in the deck.
+     *
+     * @return the size of the draw pile
+     */
+    public int getDeckSize() {
+        return drawSize;
+    }
+
+    /**
+     * Gets the number of cards on the table, the top card included.
+     *
+     * @return the size of the discard pile
+     */
+    public int getTableSize() {
+        return discardSize;
+    }
+
+    /**
+     * Gets the face bit of the card on top of the table.
+     *
+     * @return the bit of the top card, see {@link PlayabilityTable#bitOf(int)}
+     */
+    public int getTopFaceBit() {
+        return bits[discard[discardSize - 1]];
+    }
+
+    /**
+     * Converts an action into a move of the player whose turn it is.
+     *
+     * @param action a legal action
+     * @return the move, playing the card of the hand the action refers to
+     * @throws IllegalStateException if the card is hidden
+     */
+    public Move toMove(int action) {
+        if (action == DRAW_ACTION) {
+            return Move.draw();
+        }
+        Card card = cardOf(hands[current][indexOfBit(current, faceBitOf(action))]);
+        int color = colorOf(action);
+        return Move.play(card, color >= 0 ? COLORS[color] : null);
+    }
+
+    /**
+     * Converts a move into an action.
+     *
+     * @param move a move
+     * @return the action that plays a card of the same face, with the same chosen color
+     * @throws IllegalArgumentException if the card is not one of the standard faces
+     */
+    public static int actionOf(Move move) {
+        if (move.isDraw()) {
+            return DRAW_ACTION;
+        }
+        int bit = PlayabilityTable.bitOf(move.getCard().getFaceCode());
+        if (bit < 0) {
+            throw new IllegalArgumentException("The card of the move is not a standard card.");
+        }
+        if (bit < WILD_BIT) {
+            return bit;
+        }
+        CardColor chosen = move.getChosenColor();
+        int color = chosen != null && chosen.ordinal() <= CardColor.RED.ordinal() ? chosen.ordinal() : 0;
+        return (bit == WILD_BIT ? WILD_ACTION : WILD_DRAW_FOUR_ACTION) + color;
+    }
+
+    /**
+     * Gets the face bit played by an action.
+     *
+     * @param action a play action
+     * @return the bit of the face of the played card
+     */
+    public static int faceBitOf(int action) {
+        if (action < WILD_ACTION) {
+            return action;
+        }
+        return action < WILD_DRAW_FOUR_ACTION ? WILD_BIT : WILD_DRAW_FOUR_BIT;
+    }
+
+    /**
+     * Gets the color chosen by an action.
+     *
+     * @param action a play action
+     * @return the ordinal of the chosen {@link CardColor}, or -1 for a colored card
+     */
+    public static int colorOf(int action) {
+        return action < WILD_ACTION ? -1 : (action - WILD_ACTION) & 3;
+    }
+
+    /**
+     * Compares two states card by card.
+     *
+     * @param o the other object
+     * @return true if both states hold the same cards in the same places, with the same turn,
+     *         direction, game color and number of moves
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof GameState)) {
+            return false;
+        }
+        GameState other = (GameState) o;
+        if (current != other.current || direction != other.direction || gameColor != other.gameColor
+                || moves != other.moves
+                || drawSize != other.drawSize || discardSize != other.discardSize
+                || handSizes[0] != other.handSizes[0] || handSizes[1] != other.handSizes[1]) {
+            return false;
+        }
+        for (int p = 0; p < 2; p++) {
+            for (int i = 0; i < handSizes[p]; i++) {
+                if (!sameCard(hands[p][i], other, other.hands[p][i])) {
+                    return false;
+                }
+            }
+        }
+        for (int i = 0; i < drawSize; i++) {
+            if (!sameCard(drawPile[i], other, other.drawPile[i])) {
+                return false;
+            }
+        }
+        for (int i = 0; i < discardSize; i++) {
+            if (!sameCard(discard[i], other, other.discard[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Computes a hash code consistent with {@link #equals(Object)}.
+     *
+     * @return the hash code
+     */
+    @Override
+    public int hashCode() {
+        int hash = current * 31 + direction;
+        hash = hash * 31 + gameColor;
+        for (int p = 0; p < 2; p++) {
+            for (int i = 0; i < handSizes[p]; i++) {
+                hash = hash * 31 + bits[hands[p][i]];
+            }
+        }
+        return hash * 31 + drawSize;
+    }
+
+    /**
+     * Checks whether two codes stand for the same card.
+     *
+     * @param code      a code of this state
+     * @param other     the other state
+     * @param otherCode a code of the other state
+     * @return true if the codes have the same face and the same card, when known
+     */
+    private boolean sameCard(short code, GameState other, short otherCode) {
+        return bits[code] == other.bits[otherCode] && cards[code] == other.cards[otherCode];
+    }
+
+    /**
+     * Deals cards from the deck, reshuffling the discard pile into it when it runs out.
+     *
+     * @param frame  the undo frame of the move
+     * @param player the seat that receives the cards
+     * @param count  the number of cards
+     * @param random the random generator of the reshuffle
+     */
+    private void draw(int frame, int player, int count, RandomGenerator random) {
+        frames[frame + 5] = player;
+        for (int i = 0; i < count; i++) {
+            if (drawSize == 0) {
+                if (discardSize <= 1) {
+                    return;
+                }
+                frames[frame + 6] = i;
+                frames[frame + 7] = recycle(random);
+            }
+            addToHand(player, drawPile[--drawSize]);
+            frames[frame + 8]++;
+        }
+    }
+
+    /**
+     * Moves every card of the table but the top one into the empty deck and shuffles it, keeping
+     * their previous order for {@link #undo()}.
+     *
+     * @param random the random generator of the reshuffle
+     * @return the number of recycled cards
+     */
+    private int recycle(RandomGenerator random) {
+        int moved = discardSize - 1;
+        if (recycled.length < recycledTop + moved) {
+            recycled = Arrays.copyOf(recycled, Math.max(recycled.length * 2, recycledTop + moved));
+        }
+        System.arraycopy(discard, 0, recycled, recycledTop, moved);
+        recycledTop += moved;
+        System.arraycopy(discard, 0, drawPile, 0, moved);
+        drawSize = moved;
+        discard[0] = discard[moved];
+        discardSize = 1;
+        shuffle(drawPile, drawSize, random);
+        return moved;
+    }
+
+    /**
+     * Puts recycled cards back on the table in their previous order.
+     *
+     * @param moved the number of recycled cards
+     */
+    private void undoRecycle(int moved) {
+        short top = discard[0];
+        recycledTop -= moved;
+        System.arraycopy(recycled, recycledTop, discard, 0, moved);
+        discard[moved] = top;
+        discardSize = moved + 1;
+        drawSize = 0;
+    }
+
+    /**
+     * Reserves an undo frame.
+     *
+     * @return the position of the frame
+     */
+    private int pushFrame() {
+        if (frameTop + FRAME_SIZE > frames.length) {
+            frames = Arrays.copyOf(frames, frames.length * 2);
+        }
+        int frame = frameTop;
+        frameTop += FRAME_SIZE;
+        return frame;
+    }
+
+    /**
+     * Finds the first card of a hand with a face.
+     *
+     * @param player the seat
+     * @param bit    the face bit
+     * @return the position of the card in the hand
+     */
+    private int indexOfBit(int player, int bit) {
+        short[] hand = hands[player];
+        for (int i = 0; i < handSizes[player]; i++) {
+            if (bits[hand[i]] == bit) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Seat " + player + " has no card of face bit " + bit);
+    }
+
+    /**
+     * Adds a card at the end of a hand.
+     *
+     * @param player the seat
+     * @param code   the code of the card
+     */
+    private void addToHand(int player, short code) {
+        insertIntoHand(player, handSizes[player], code);
+    }
+
+    /**
+     * Inserts a card into a hand.
+     *
+     * @param player the seat
+     * @param index  the position of the card
+     * @param code   the code of the card
+     */
+    private void insertIntoHand(int player, int index, short code) {
+        short[] hand = hands[player];
+        System.arraycopy(hand, index, hand, index + 1, handSizes[player] - index);
+        hand[index] = code;
+        handSizes[player]++;
+        int bit = bits[code];
+        faceCounts[player][bit]++;
+        handBits[player] |= 1L << bit;
+    }
+
+    /**
+     * Removes a card from a hand.
+     *
+     * @param player the seat
+     * @param index  the position of the card
+     * @return the code of the removed card
+     */
+    private short removeFromHand(int player, int index) {
+        short[] hand = hands[player];
+        short code = hand[index];
+        System.arraycopy(hand, index + 1, hand, index, handSizes[player] - index - 1);
+        handSizes[player]--;
+        int bit = bits[code];
+        if (--faceCounts[player][bit] == 0) {
+            handBits[player] &= ~(1L << bit);
+        }
+        return code;
+    }
+
+    /**
+     * Shuffles the first codes of an array in place (Fisher-Yates).
+     *
+     * @param codes  the array
+     * @param size   the number of codes to shuffle
+     * @param random the random generator
+     */
+    private static void shuffle(short[] codes, int size, RandomGenerator random) {
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            short code = codes[i];
+            codes[i] = codes[j];
+            codes[j] = code;
+        }
+    }
+}
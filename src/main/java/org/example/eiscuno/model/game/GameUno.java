@@ -1,34 +1,70 @@
 package org.example.eiscuno.model.game;
 
 import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardColor;
+import org.example.eiscuno.model.card.CardType;
+import org.example.eiscuno.model.card.CardValue;
 import org.example.eiscuno.model.deck.Deck;
 import org.example.eiscuno.model.exception.InvalidCardPlayException;
 import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.rng.GameRng;
 import org.example.eiscuno.model.table.Table;
 
-import java.util.Random;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Represents a game of Uno.
  * This class manages the game logic and interactions between players, deck, and the table.
+ * <p>
+ * The players sit on a ring of 2 to {@value #MAX_PLAYERS} seats, numbered in the order they were
+ * given. The turn is the index of a seat and the direction of play is +1 or -1, so every card
+ * moves the turn with one modular addition: a number card or a WILD passes it to the next seat,
+ * a SKIP, a DRAW_TWO or a WILD_DRAW_FOUR jumps over the next seat, and a REVERSE flips the
+ * direction and passes the turn. With two players the game keeps the rules it always had: the
+ * victim of a DRAW_TWO plays next, and a WILD lets the same player play again. Seat 0 is the
+ * player on screen, called the human player, and seat 1 the machine player.
  */
 public class GameUno implements IGameUno {
+    /**
+     * The smallest number of players of a game.
+     */
+    public static final int MIN_PLAYERS = 2;
+
+    /**
+     * The largest number of players of a game.
+     */
+    public static final int MAX_PLAYERS = 10;
 
-    private Player humanPlayer;
-    private Player machinePlayer;
+    /**
+     * The seat reported by {@link #getWinnerSeat()} when a game ends without a winner.
+     */
+    public static final int NO_WINNER = -1;
+
+    private static final int CARDS_PER_PLAYER = 5;
+
+    private final Player[] seats;
+    private final Player humanPlayer;
+    private final Player machinePlayer;
     private Deck deck;
     private Table table;
-    private boolean isReversed;
-    private Player currentPlayer;
-    private Player nextPlayer;
-    private String gameColor;
+    private int current;
+    private int direction = 1;
+    private CardColor gameColor;
     private GameEventListener gameEventListener;
-    private static final String NUMBER = "NUMBER";
-    private static final String SKIP = "SKIP";
-    private static final String REVERSE = "REVERSE";
-    private static final String DRAW_TWO = "DRAW_TWO";
-    private static final String WILD = "WILD";
-    private static final String WILD_DRAW_FOUR = "WILD_DRAW_FOUR";
+    private final GameRng rng;
+    private boolean verbose = true;
+    private CardColor pendingColor;
+    private final GameView[] views;
+    private final CardTracker tracker;
+    private GameEventSink eventSink = GameEventSink.NONE;
+    private int depth;
+    private long originSeed;
+    private boolean seeded;
+    private long resumeSeed;
+    private int moves;
 
     /**
      * Internal interface for handling game events in the {@link GameUno} class.
@@ -46,6 +82,17 @@ public class GameUno implements IGameUno {
          * classes should define the appropriate action to take when this event occurs.
          */
         void onWildCardPlayed(boolean isPlayer);
+
+        /**
+         * Called when the player of a wild card has already chosen the new game color.
+         * <p>
+         * In that case {@link #onWildCardPlayed(boolean)} is not called. The method may be called
+         * from the thread that runs the game, not necessarily the JavaFX Application Thread.
+         *
+         * @param color the new game color
+         */
+        default void onGameColorChanged(CardColor color) {
+        }
     }
 
     /**
@@ -57,44 +104,213 @@ public class GameUno implements IGameUno {
      * @param table         The table where cards are placed during the game.
      */
     public GameUno(Player humanPlayer, Player machinePlayer, Deck deck, Table table) {
-        this.humanPlayer = humanPlayer;
-        this.machinePlayer = machinePlayer;
+        this(humanPlayer, machinePlayer, deck, table, GameRng.create());
+    }
+
+    /**
+     * Constructs a new GameUno instance whose random choices are drawn from the given stream.
+     *
+     * @param humanPlayer   The human player participating in the game.
+     * @param machinePlayer The machine player participating in the game.
+     * @param deck          The deck of cards used in the game.
+     * @param table         The table where cards are placed during the game.
+     * @param rng           The random stream used for the colors chosen at random.
+     */
+    public GameUno(Player humanPlayer, Player machinePlayer, Deck deck, Table table, GameRng rng) {
+        this(List.of(humanPlayer, machinePlayer), deck, table, rng);
+    }
+
+    /**
+     * Constructs a new GameUno instance for a ring of players.
+     * <p>
+     * The first player plays first; the human and machine players of the two-player game are the
+     * first two seats.
+     *
+     * @param players The players, by seat, from {@value #MIN_PLAYERS} to {@value #MAX_PLAYERS}.
+     * @param deck    The deck of cards used in the game.
+     * @param table   The table where cards are placed during the game.
+     * @param rng     The random stream used for the colors chosen at random.
+     * @throws IllegalArgumentException if the number of players is out of range.
+     */
+    public GameUno(List<Player> players, Deck deck, Table table, GameRng rng) {
+        if (players.size() < MIN_PLAYERS || players.size() > MAX_PLAYERS) {
+            throw new IllegalArgumentException("A game needs " + MIN_PLAYERS + " to " + MAX_PLAYERS
+                    + " players: " + players.size());
+        }
+        this.rng = rng;
+        this.seats = players.toArray(new Player[0]);
+        this.humanPlayer = seats[0];
+        this.machinePlayer = seats[1];
         this.deck = deck;
         this.table = table;
-        this.isReversed = false;
-        this.currentPlayer = humanPlayer;
-        this.nextPlayer = machinePlayer;
+        this.views = new GameView[seats.length];
+        for (int seat = 0; seat < seats.length; seat++) {
+            views[seat] = new PlayerView(seat);
+        }
+        this.tracker = new CardTracker(deck, table, seats);
+    }
+
+    /**
+     * Builds a game whose deck and random choices all come from one seed.
+     * <p>
+     * The deck is shuffled by the first stream split from the given one and the game uses the
+     * second, so the game can be dealt again from the seed alone, which is what a replay of its
+     * {@link GameEventSink events} does.
+     *
+     * @param players The players, by seat.
+     * @param rng     The random stream of the game.
+     * @return The new game, not started.
+     */
+    public static GameUno newGame(List<Player> players, GameRng rng) {
+        Deck deck = new Deck(rng.split().generator());
+        Table table = new Table(Math.max(128, deck.capacity()));
+        GameUno game = new GameUno(players, deck, table, rng.split());
+        game.originSeed = rng.getSeed();
+        game.seeded = true;
+        return game;
+    }
+
+    /**
+     * Copies the game, for a player to decide its move away from the thread that owns the game.
+     * <p>
+     * The copy has its own players, deck and table, holding the same card objects in the same
+     * order, so a move decided on the copy can be applied to this game. The card tracker is copied
+     * with what it inferred, so a view of the copy tells what the same view of this game tells.
+     * The copy has no listener and no sink, and its random choices come from a stream of its own,
+     * so copying does not change the random stream of this game.
+     *
+     * @return the copy, not started: play continues from the state of this game
+     */
+    public GameUno copy() {
+        List<Player> players = new ArrayList<>(seats.length);
+        for (Player seat : seats) {
+            Player player = new Player(seat.getTypePlayer());
+            for (Card card : seat.getCardsPlayer()) {
+                player.addCard(card);
+            }
+            players.add(player);
+        }
+        Table tableCopy = new Table(table.capacity());
+        for (int fromTop = table.size() - 1; fromTop >= 0; fromTop--) {
+            tableCopy.addCardOnTheTable(table.getCard(fromTop));
+        }
+        GameRng copyRng = new GameRng(rng.getSeed() + moves);
+        Deck deckCopy = Deck.ofCards(deck.toArray(), deck.capacity(), copyRng.split().generator());
+        GameUno copy = new GameUno(players, deckCopy, tableCopy, copyRng.split());
+        copy.tracker.copyFrom(tracker);
+        copy.restoreTurn(current, direction, gameColor, moves, resumeSeed);
+        copy.verbose = false;
+        return copy;
+    }
+
+    /**
+     * Sets the sink that receives every action of the game.
+     *
+     * @param eventSink The sink, or {@link GameEventSink#NONE} to record nothing.
+     */
+    public void setEventSink(GameEventSink eventSink) {
+        this.eventSink = eventSink;
     }
 
     /**
      * Starts the Uno game by distributing cards to players.
-     * The human player and the machine player each receive 10 cards from the deck.
+     * Each player receives 5 cards from the deck, seat after seat.
      */
     @Override
     public void startGame() {
-        for (int i = 0; i < 10; i++) {
-            if (i < 5) {
-                humanPlayer.addCard(this.deck.takeCard());
-            } else {
-                machinePlayer.addCard(this.deck.takeCard());
+        eventSink.append(GameEventSink.START, seats.length, seeded ? 0 : GameEventSink.NO_COLOR, depth > 0,
+                originSeed);
+        for (Player player : seats) {
+            for (int i = 0; i < CARDS_PER_PLAYER; i++) {
+                player.addCard(this.deck.takeCard());
             }
         }
         Card firstCard = this.deck.takeCard();
         table.addCardOnTheTable(firstCard);
-        setGameColor(firstCard.getColor());
+        tracker.cardShown(firstCard);
+        gameColor = firstCard.getColorCode();
+    }
+
+    /**
+     * Announces that play goes on from a saved game, instead of starting the game.
+     * <p>
+     * The sink receives a {@link GameEventSink#RESUME} event with the seed the random streams of
+     * the restored game are drawn from, so a replay of the events of the game before its save can
+     * restore the same game and go on.
+     *
+     * @param continued True if the events of the game before its save went to the same sink.
+     */
+    public void resumeGame(boolean continued) {
+        eventSink.append(GameEventSink.RESUME, seats.length, continued ? 0 : GameEventSink.NO_COLOR, depth > 0,
+                resumeSeed);
     }
 
     /**
      * Allows a player to draw a specified number of cards from the deck.
+     * <p>
+     * The cards are dealt in bulk operations. If the deck runs out, the cards played on the table
+     * are recycled into it; if there is still not enough, the player receives the cards that are
+     * left.
      *
      * @param player        The player who will draw cards.
      * @param numberOfCards The number of cards to draw.
      */
     @Override
     public void eatCard(Player player, int numberOfCards) {
-        for (int i = 0; i < numberOfCards; i++) {
-            player.addCard(this.deck.takeCard());
+        int seat = seatOf(player);
+        int dealt = this.deck.takeCards(numberOfCards, player);
+        if (dealt < numberOfCards && recycleTable()) {
+            dealt += this.deck.takeCards(numberOfCards - dealt, player);
+        }
+        tracker.cardsReceived(seat, dealt);
+        eventSink.append(GameEventSink.CARDS_EATEN, seat, GameEventSink.NO_COLOR, depth > 0, numberOfCards);
+    }
+
+    /**
+     * Draws one card from the deck for the current player, recycling the table into the deck first
+     * if it is empty.
+     * <p>
+     * The caller adds the card to the hand of the current player. The draw is noted by the card
+     * tracker, as the player most likely held no card of the game color.
+     *
+     * @return the drawn card, or {@code null} if there is no card left to draw
+     */
+    public Card drawCard() {
+        if (deck.isEmpty()) {
+            recycleTable();
+        }
+        Card card = deck.tryTakeCard();
+        tracker.cardDrawn(current, gameColor);
+        if (card != null) {
+            tracker.cardsReceived(current, 1);
+        }
+        return card;
+    }
+
+    /**
+     * Checks if a card can still be drawn, either from the deck or from the table once recycled.
+     *
+     * @return true if the deck or the discard pile below the top card holds a card
+     */
+    public boolean canDrawCard() {
+        return !deck.isEmpty() || table.size() > 1;
+    }
+
+    /**
+     * Moves the cards played on the table, except the top one, back into the deck.
+     *
+     * @return true if at least one card was recycled
+     */
+    private boolean recycleTable() {
+        int recycled = deck.recycle(table);
+        if (recycled == 0) {
+            return false;
+        }
+        tracker.tableRecycled(table.getCurrentCardOnTheTable());
+        if (verbose) {
+            System.out.println("Deck recycled: " + recycled + " cards (recycle #" + deck.getRecycleCount() + ")");
         }
+        return true;
     }
 
     /**
@@ -104,16 +320,117 @@ public class GameUno implements IGameUno {
      */
     @Override
     public void playCard(Card card) {
+        checkPlayable(card);
+        eventSink.append(GameEventSink.CARD_PLAYED, current, colorField(pendingColor), depth > 0, card.getId());
+        depth++;
+        try {
+            gameColor = card.getColorCode();
+            table.addCardOnTheTable(card);
+            tracker.cardPlayed(current, card);
+            handleCards(card);
+        } finally {
+            depth--;
+        }
+        if (verbose) {
+            System.out.println("Played card: " + card.getColor() + "/" + card.getValue());
+        }
+    }
+
+    /**
+     * Checks that a card can be played on the table.
+     *
+     * @param card The card to be played.
+     * @throws InvalidCardPlayException if the card matches neither the top card nor the game color.
+     */
+    private void checkPlayable(Card card) {
         if(!canPlayCard(card)) {
             throw new InvalidCardPlayException("No se puede usar la carta " + card.getColor() + "/" + card.getValue() +
                     " sobre " + table.getCurrentCardOnTheTable().getColor() + "/" +
                     table.getCurrentCardOnTheTable().getValue());
         }
+    }
+
+    /**
+     * Encodes a color for the event sink.
+     *
+     * @param color A color, or {@code null}.
+     * @return The ordinal of the color, or {@link GameEventSink#NO_COLOR}.
+     */
+    private static int colorField(CardColor color) {
+        return color == null ? GameEventSink.NO_COLOR : color.ordinal();
+    }
 
-        setGameColor(card.getColor());
-        table.addCardOnTheTable(card);
-        handleCards(card);
-        System.out.println("Played card: " + card.getColor() + "/" + card.getValue());
+    /**
+     * Places a card on the table and, if it is wild, sets the new game color right away.
+     *
+     * @param card        The card to be placed on the table.
+     * @param chosenColor The new game color for a wild card, or {@code null} to let the event
+     *                    listener choose it.
+     */
+    public void playCard(Card card, CardColor chosenColor) {
+        pendingColor = card.isWild() ? chosenColor : null;
+        try {
+            playCard(card);
+        } finally {
+            pendingColor = null;
+        }
+    }
+
+    /**
+     * Applies the move a player decided on its turn.
+     * <p>
+     * A played card is checked, placed on the table and removed from the player's hand; a draw
+     * takes one card, recycling the table if needed, and passes the turn.
+     *
+     * @param player The player whose turn it is.
+     * @param move   The move to apply.
+     * @return The card drawn by a draw move, or {@code null}.
+     * @throws IllegalStateException if it is not the turn of the player.
+     * @throws InvalidCardPlayException if the card is not in the player's hand or cannot be played.
+     */
+    public Card applyMove(Player player, Move move) {
+        if (player != seats[current]) {
+            throw new IllegalStateException("It is not the turn of " + player.getTypePlayer());
+        }
+        int seat = current;
+        boolean derived = depth > 0;
+        depth++;
+        try {
+            if (move.isDraw()) {
+                Card card = drawCard();
+                if (card != null) {
+                    player.addCard(card);
+                }
+                cardTaken();
+                moves++;
+                eventSink.append(GameEventSink.MOVE_DRAW, seat, GameEventSink.NO_COLOR, derived,
+                        card == null ? -1 : card.getId());
+                return card;
+            }
+            Card card = move.getCard();
+            if (!player.getHand().contains(card)) {
+                throw new InvalidCardPlayException("La carta " + card.getColor() + "/" + card.getValue() +
+                        " no está en la mano de " + player.getTypePlayer());
+            }
+            checkPlayable(card);
+            eventSink.append(GameEventSink.MOVE_PLAY, seat, colorField(move.getChosenColor()), derived, card.getId());
+            playCard(card, move.getChosenColor());
+            player.removeCard(card);
+            moves++;
+            return null;
+        } finally {
+            depth--;
+        }
+    }
+
+    /**
+     * Gets the read-only view of the game of one of its players.
+     *
+     * @param player A player of this game.
+     * @return The view of the game from that player.
+     */
+    public GameView viewFor(Player player) {
+        return views[seatOf(player)];
     }
 
     /**
@@ -133,103 +450,193 @@ public class GameUno implements IGameUno {
         } catch (IndexOutOfBoundsException e) {
             return true;
         }
-        return Card.CardValidator.canPlayCard(card, topCard, gameColor);
+        return Card.CardValidator.canPlay(card, topCard, gameColor);
     }
 
     /**
-     * Switches to the next player after a card has been taken.
+     * Passes the turn to the next player after a card has been taken.
      * <p>
-     * This method is called when a player takes a card, and it triggers the switching
-     * of players to ensure the game progresses. The player turn is updated accordingly.
+     * This method is called when a player takes a card, and it moves the turn one seat along the
+     * direction of play to ensure the game progresses.
      */
     public void cardTaken(){
-        switchPlayers();
+        eventSink.append(GameEventSink.TURN_PASSED, current, GameEventSink.NO_COLOR, depth > 0, 0);
+        advance(1);
     }
 
     /**
      * Handles the effects of the special cards when they are played.
      * <p>
      * This method executes the special actions associated with each type of card. These actions include skipping the
-     * next player, reversing the play order, drawing cards, and switching players.
+     * next player, reversing the play order, drawing cards, and passing the turn; each is a constant number of steps
+     * around the ring of seats. With two players, a DRAW_TWO passes the turn to its victim and a WILD keeps it, as
+     * the game always did.
      * </p>
      *
      * @param card The card that was played.
      */
     private void handleCards(Card card) {
-        String cardType = card.getCardType();
+        CardType cardType = card.getTypeCode();
         if (cardType == null) {
             return;
         }
 
+        Player nextPlayer = seats[seatAfter(1)];
         switch (cardType) {
             case NUMBER:
-                switchPlayers();
+                advance(1);
                 break;
             case SKIP:
-                System.out.println("SKIPPED " + nextPlayer.getTypePlayer());
+                if (verbose) {
+                    System.out.println("SKIPPED " + nextPlayer.getTypePlayer());
+                }
+                advance(2);
                 break;
             case REVERSE:
-                isReversed = !isReversed;
-                Player temp = nextPlayer;
-                nextPlayer = currentPlayer;
-                currentPlayer = temp;
-                System.out.println(currentPlayer.getTypePlayer() + "'s Turn");
+                direction = -direction;
+                advance(1);
                 break;
             case DRAW_TWO:
                 eatCard(nextPlayer, 2);
-                System.out.println(nextPlayer.getTypePlayer() + " draws 2 cards!!");
-                switchPlayers();
+                if (verbose) {
+                    System.out.println(nextPlayer.getTypePlayer() + " draws 2 cards!!");
+                }
+                advance(seats.length == 2 ? 1 : 2);
                 break;
             case WILD_DRAW_FOUR:
-                System.out.println(nextPlayer.getCardsPlayer().size());
+                if (verbose) {
+                    System.out.println(nextPlayer.getCardsPlayer().size());
+                }
                 eatCard(nextPlayer, 4);
-                System.out.println("Now you draw 4!");
-                if ((gameEventListener != null) && currentPlayer == humanPlayer) {
-                    gameEventListener.onWildCardPlayed(true);
-                } else if (gameEventListener != null && (currentPlayer == machinePlayer)) {
-                    gameEventListener.onWildCardPlayed(false);
+                if (verbose) {
+                    System.out.println("Now you draw 4!");
                 }
-                System.out.println(nextPlayer.getCardsPlayer().size());
+                chooseWildColor();
+                if (verbose) {
+                    System.out.println(nextPlayer.getCardsPlayer().size());
+                }
+                advance(2);
                 break;
             case WILD:
-                if ((gameEventListener != null) && currentPlayer == humanPlayer) {
-                    gameEventListener.onWildCardPlayed(true);
-                } else if (gameEventListener != null && (currentPlayer == machinePlayer)) {
-                    gameEventListener.onWildCardPlayed(false);
+                chooseWildColor();
+                if (seats.length > 2) {
+                    advance(1);
                 }
                 break;
         }
     }
 
     /**
-     * Switches the current player and the next player.
+     * Sets the game color after a wild card, or asks the event listener to choose it.
+     */
+    private void chooseWildColor() {
+        if (pendingColor != null) {
+            gameColor = pendingColor;
+            if (gameEventListener != null) {
+                gameEventListener.onGameColorChanged(pendingColor);
+            }
+        } else if (gameEventListener != null) {
+            // The listener chooses from outside the game: what it does is an input, not a consequence.
+            int saved = depth;
+            depth = 0;
+            try {
+                gameEventListener.onWildCardPlayed(current == 0);
+            } finally {
+                depth = saved;
+            }
+        }
+    }
+
+    /**
+     * Gets the seat of a player.
+     *
+     * @param player a player of this game
+     * @return the index of its seat
+     * @throws IllegalArgumentException if the player does not play this game
+     */
+    private int seatOf(Player player) {
+        for (int seat = 0; seat < seats.length; seat++) {
+            if (seats[seat] == player) {
+                return seat;
+            }
+        }
+        throw new IllegalArgumentException("The player " + player.getTypePlayer() + " does not play this game");
+    }
+
+    /**
+     * Passes the turn a number of seats along the direction of play.
      * <p>
-     * This method is called when a player's turn is over. It updates the current player and the next player, ensuring
-     * that the game proceeds to the next player in the sequence.
+     * This method is called when a player's turn is over. With 1 step the next player plays, with 2 the next player
+     * is skipped.
      * </p>
+     *
+     * @param steps the number of seats to move
+     */
+    private void advance(int steps) {
+        current = seatAfter(current, steps);
+        if (verbose) {
+            System.out.println(seats[current].getTypePlayer() + "'s Turn");
+        }
+    }
+
+    /**
+     * Gets the seat a number of steps after the current one, along the direction of play.
+     *
+     * @param steps the number of seats to move
+     * @return the index of the seat
      */
-    private void switchPlayers() {
-        Player temp = currentPlayer;
-        currentPlayer = nextPlayer;
-        nextPlayer = temp;
-        System.out.println(currentPlayer.getTypePlayer() + "'s Turn");
+    @Override
+    public int seatAfter(int steps) {
+        return seatAfter(current, steps);
     }
 
+    /**
+     * Gets the seat a number of steps after a seat, along the direction of play.
+     *
+     * @param seat  the seat to start from
+     * @param steps the number of seats to move
+     * @return the index of the seat
+     */
+    private int seatAfter(int seat, int steps) {
+        return Math.floorMod(seat + direction * steps, seats.length);
+    }
 
     /**
      * Handles the scenario when a player shouts "Uno", forcing the other player to draw a card.
+     * <p>
+     * The caller is the first player whose type is the given one.
      *
-     * @param playerWhoSang The player who shouted "Uno".
+     * @param playerWhoSang The type of the player who shouted "Uno".
      */
     @Override
     public void haveSungOne(String playerWhoSang) {
-        if (playerWhoSang.equals("HUMAN_PLAYER") && (machinePlayer.getCardsPlayer().size() == 1)) {
-            machinePlayer.addCard(this.deck.takeCard());
-        } else if (playerWhoSang.equals("MACHINE_PLAYER") && (humanPlayer.getCardsPlayer().size() == 1)) {
-            humanPlayer.addCard(this.deck.takeCard());
+        for (int seat = 0; seat < seats.length; seat++) {
+            if (seats[seat].getTypePlayer().equals(playerWhoSang)) {
+                callUno(seat);
+                return;
+            }
         }
+    }
 
-    } //needs to be implemented
+    /**
+     * Handles the scenario when a player shouts "Uno": every other player left with one card draws a card.
+     *
+     * @param seat The seat of the player who shouted "Uno".
+     */
+    @Override
+    public void callUno(int seat) {
+        eventSink.append(GameEventSink.UNO_CALLED, seat, GameEventSink.NO_COLOR, depth > 0, 0);
+        depth++;
+        try {
+            for (int other = 0; other < seats.length; other++) {
+                if (other != seat && seats[other].getCardsPlayer().size() == 1) {
+                    eatCard(seats[other], 1);
+                }
+            }
+        } finally {
+            depth--;
+        }
+    }
 
     /**
      * Retrieves the current visible cards of the human player starting from a specific position.
@@ -253,13 +660,38 @@ public class GameUno implements IGameUno {
     /**
      * Checks if the game is over.
      *
-     * @return True if the deck is empty, indicating the game is over; otherwise, false.
+     * @return True if a player has no cards left, or if no card can be drawn even after recycling
+     * the table; otherwise, false.
      */
     @Override
     public Boolean isGameOver() {
-        return humanPlayer.getCardsPlayer().isEmpty() ||
-                machinePlayer.getCardsPlayer().isEmpty() ||
-                deck.isEmpty();
+        for (Player player : seats) {
+            if (player.getCardsPlayer().isEmpty()) {
+                return true;
+            }
+        }
+        return !canDrawCard();
+    }
+
+    /**
+     * Finds the winner of a finished game.
+     *
+     * @return The seat with the fewest cards, or {@link #NO_WINNER} if several seats share the
+     * fewest cards.
+     */
+    public int getWinnerSeat() {
+        int winner = NO_WINNER;
+        int fewest = Integer.MAX_VALUE;
+        for (int seat = 0; seat < seats.length; seat++) {
+            int cards = seats[seat].getCardsPlayer().size();
+            if (cards < fewest) {
+                fewest = cards;
+                winner = seat;
+            } else if (cards == fewest) {
+                winner = NO_WINNER;
+            }
+        }
+        return winner;
     }
 
 
@@ -272,7 +704,7 @@ public class GameUno implements IGameUno {
      * @return The {@link Player} representing the current player.
      */
     public Player getCurrentPlayer() {
-        return currentPlayer;
+        return seats[current];
     }
 
     /**
@@ -283,7 +715,137 @@ public class GameUno implements IGameUno {
      *
      * @return The {@link Player} representing the next player.
      */
-    public Player getNextPlayer() {return nextPlayer;}
+    public Player getNextPlayer() {return seats[seatAfter(1)];}
+
+    /**
+     * Gets the number of players of the game.
+     *
+     * @return The number of seats of the ring.
+     */
+    @Override
+    public int getPlayerCount() {
+        return seats.length;
+    }
+
+    /**
+     * Gets the player of a seat.
+     *
+     * @param seat The index of the seat.
+     * @return The player sitting there.
+     */
+    @Override
+    public Player getPlayer(int seat) {
+        return seats[seat];
+    }
+
+    /**
+     * Gets the seat of the player whose turn it is.
+     *
+     * @return The index of the current seat.
+     */
+    @Override
+    public int getCurrentSeat() {
+        return current;
+    }
+
+    /**
+     * Gets the number of moves applied with {@link #applyMove}.
+     *
+     * @return The number of cards played and drawn by the players on their turns.
+     */
+    public int getMoveCount() {
+        return moves;
+    }
+
+    /**
+     * Gets the seed announced by {@link #resumeGame} for a game restored from a save.
+     *
+     * @return The seed of the random streams of the restored game, or 0 for a game that was started.
+     */
+    long getResumeSeed() {
+        return resumeSeed;
+    }
+
+    /**
+     * Gets the direction of play.
+     *
+     * @return 1, or -1 when an odd number of REVERSE cards was played.
+     */
+    @Override
+    public int getDirection() {
+        return direction;
+    }
+
+    /**
+     * Gets the human player of this game.
+     *
+     * @return The human player.
+     */
+    Player getHumanPlayer() {
+        return humanPlayer;
+    }
+
+    /**
+     * Gets the machine player of this game.
+     *
+     * @return The machine player.
+     */
+    Player getMachinePlayer() {
+        return machinePlayer;
+    }
+
+    /**
+     * Gets the deck of this game.
+     *
+     * @return The deck.
+     */
+    Deck getDeck() {
+        return deck;
+    }
+
+    /**
+     * Gets the table of this game.
+     *
+     * @return The table.
+     */
+    Table getTable() {
+        return table;
+    }
+
+    /**
+     * Gets the random stream of this game.
+     *
+     * @return The stream of the colors chosen at random.
+     */
+    GameRng getRng() {
+        return rng;
+    }
+
+    /**
+     * Checks if the order of play is reversed.
+     *
+     * @return True if an odd number of REVERSE cards was played.
+     */
+    boolean isReversed() {
+        return direction < 0;
+    }
+
+    /**
+     * Restores the turn of a game of any number of players rebuilt from a saved game.
+     *
+     * @param seat      The seat whose turn it is.
+     * @param direction 1, or -1 if the order of play is reversed.
+     * @param color     The game color, or {@code null}.
+     * @param moves     The number of moves already played.
+     * @param resumeSeed The seed of the random streams of the game, announced by {@link #resumeGame}.
+     */
+    void restoreTurn(int seat, int direction, CardColor color, int moves, long resumeSeed) {
+        this.current = seat;
+        this.direction = direction;
+        this.gameColor = color;
+        this.moves = moves;
+        this.resumeSeed = resumeSeed;
+    }
 
     /**
      * Sets the game color.
@@ -295,7 +857,38 @@ public class GameUno implements IGameUno {
      *              This value is expected to be a valid color name, such as "RED", "GREEN", etc.
      */
     public void setGameColor(String color) {
-        gameColor = color;
+        gameColor = CardColor.fromName(color);
+        eventSink.append(GameEventSink.COLOR_SET, current, colorField(gameColor), depth > 0, 0);
+    }
+
+    /**
+     * Gets the current game color.
+     *
+     * @return the current game color, or {@code null} if none is set
+     */
+    public CardColor getGameColor() {
+        return gameColor;
+    }
+
+    /**
+     * Turns the console log of the game on or off.
+     * <p>
+     * The log is on by default; headless simulations turn it off so that a turn does not build
+     * or print any message.
+     *
+     * @param verbose true to print the moves of the game, false to stay silent
+     */
+    public void setVerbose(boolean verbose) {
+        this.verbose = verbose;
+    }
+
+    /**
+     * Checks whether the game prints its moves to the console.
+     *
+     * @return true if the console log is on
+     */
+    public boolean isVerbose() {
+        return verbose;
     }
 
     /**
@@ -313,22 +906,162 @@ public class GameUno implements IGameUno {
 
     /**
      * Returns a randomly selected color as a String.
+     * <p>
+     * The color is drawn from the random stream of the game, so it is reproducible from its seed.
      *
      * @return a color as a String: "RED", "GREEN", "YELLOW", or "BLUE"
      */
-    public static String getRandomColor() {
-        // Create an array of the colors as strings
-        String[] colors = {"RED", "GREEN", "YELLOW", "BLUE"};
+    public String getRandomColor() {
+        return rng.randomColor().name();
+    }
 
-        // Create a Random object
-        Random random = new Random();
+    /**
+     * Sets a game event listener that picks the color of every wild card with
+     * {@link #getRandomColor()}, for games played without a human to choose it.
+     */
+    public void chooseRandomColors() {
+        setGameEventListener(isPlayer -> setGameColor(getRandomColor()));
+    }
 
-        // Generate a random index between 0 and 3 (inclusive)
-        int randomIndex = random.nextInt(colors.length);
+    /**
+     * The read-only view of the game from one player.
+     * <p>
+     * The opponent of the player is the one who plays after it in the current direction of play,
+     * which in a two-player game is always the other player.
+     */
+    private final class PlayerView implements GameView {
+        private final int seat;
+        private final Player player;
+        private final List<Card> hand;
 
-        // Return the randomly selected color as a string
-        return colors[randomIndex];
-    }
-}
+        /**
+         * Constructs the view of a player.
+         *
+         * @param seat the seat of the player who looks at the game
+         */
+        PlayerView(int seat) {
+            this.seat = seat;
+            this.player = seats[seat];
+            this.hand = Collections.unmodifiableList(player.getHand());
+        }
 
+        /**
+         * Gets the seat of the opponent of the player.
+         *
+         * @return the seat after the one of the player
+         */
+        private int opponentSeat() {
+            return seatAfter(seat, 1);
+        }
+
+        @Override
+        public List<Card> getHand() {
+            return hand;
+        }
+
+        @Override
+        public long getPlayableBits() {
+            return player.getHand().getPlayableBits(table.getCurrentCardOnTheTable(), gameColor);
+        }
+
+        @Override
+        public boolean isHandFullyIndexed() {
+            return player.getHand().isFullyIndexed();
+        }
 
+        @Override
+        public int indexOfFirst(long bits) {
+            return player.getHand().indexOfFirst(bits);
+        }
+
+        @Override
+        public int countOfColor(CardColor color) {
+            return player.getHand().countOfColor(color);
+        }
+
+        @Override
+        public boolean canPlay(Card card) {
+            return canPlayCard(card);
+        }
+
+        @Override
+        public Card getTopCard() {
+            return table.getCurrentCardOnTheTable();
+        }
+
+        @Override
+        public int getTableSize() {
+            return table.size();
+        }
+
+        @Override
+        public Card getTableCard(int fromTop) {
+            return table.getCard(fromTop);
+        }
+
+        @Override
+        public void countUnseenFaces(int[] counts) {
+            Arrays.fill(counts, 0);
+            deck.countFaces(counts);
+            for (Player other : seats) {
+                if (other == player) {
+                    continue;
+                }
+                for (Card card : other.getCardsPlayer()) {
+                    counts[card.getFaceCode()]++;
+                }
+            }
+        }
+
+        @Override
+        public int getUnseenCount(int face) {
+            return tracker.unseenFace(player.getHand(), face);
+        }
+
+        @Override
+        public int getUnseenCount(CardColor color) {
+            return tracker.unseenColor(player.getHand(), color);
+        }
+
+        @Override
+        public int getUnseenCount(CardValue value) {
+            return tracker.unseenValue(player.getHand(), value);
+        }
+
+        @Override
+        public int getUnseenCardCount() {
+            return tracker.unseenTotal(player.getHand());
+        }
+
+        @Override
+        public double getOpponentColorProbability(CardColor color) {
+            int opponent = opponentSeat();
+            return tracker.opponentHolds(player.getHand(), opponent, seats[opponent].getCardsPlayer().size(), color);
+        }
+
+        @Override
+        public CardColor getGameColor() {
+            return gameColor;
+        }
+
+        @Override
+        public int getOpponentCardCount() {
+            return seats[opponentSeat()].getCardsPlayer().size();
+        }
+
+        @Override
+        public int getPlayerCount() {
+            return seats.length;
+        }
+
+        @Override
+        public int getDeckSize() {
+            return deck.size();
+        }
+
+        @Override
+        public boolean canDrawCard() {
+            return GameUno.this.canDrawCard();
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package org.example.eiscuno.model.game;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardColor;
+import org.example.eiscuno.model.card.CardValue;
+import org.example.eiscuno.model.card.PlayabilityTable;
+
+import java.util.List;
+
+/**
+ * A read-only view of a game of Uno from the point of view of one player.
+ * <p>
+ * The view exposes what the player is allowed to know: its own hand, the card on the table, the
+ * game color and the size of the other piles. It cannot change the game, so a strategy given a
+ * view can only decide on a {@link Move}. The view reads the live game; it must be used while the
+ * game is not being changed, typically during the turn of its player.
+ */
+public interface GameView {
+
+    /**
+     * Gets the cards of the player, in the order they were received.
+     *
+     * @return an unmodifiable list of the cards of the player
+     */
+    List<Card> getHand();
+
+    /**
+     * Gets the set of standard faces of the player's hand that can be played.
+     *
+     * @return a bit set, indexed by {@link PlayabilityTable#bitOf(int)}, of the playable faces held
+     */
+    long getPlayableBits();
+
+    /**
+     * Checks whether every card of the player's hand is described by {@link #getPlayableBits()}.
+     *
+     * @return true if the playable bits cover the whole hand
+     */
+    boolean isHandFullyIndexed();
+
+    /**
+     * Finds the first card of the player's hand whose face is in a face set.
+     *
+     * @param bits a bit set of faces, indexed by {@link PlayabilityTable#bitOf(int)}
+     * @return the position of the first matching card in {@link #getHand()}, or -1
+     */
+    int indexOfFirst(long bits);
+
+    /**
+     * Counts the cards of a color in the player's hand.
+     *
+     * @param color the color to count
+     * @return the number of cards of that color
+     */
+    int countOfColor(CardColor color);
+
+    /**
+     * Checks if a card can be played on the current table.
+     *
+     * @param card the card to check
+     * @return true if the card can be played
+     */
+    boolean canPlay(Card card);
+
+    /**
+     * Gets the card on top of the table.
+     *
+     * @return the current card on the table
+     */
+    Card getTopCard();
+
+    /**
+     * Gets the number of cards on the table, the top card included.
+     *
+     * @return the size of the discard pile
+     */
+    int getTableSize();
+
+    /**
+     * Gets a card of the discard pile, counting from the top.
+     *
+     * @param fromTop the position of the card, 0 being the top card
+     * @return the card at that position
+     */
+    Card getTableCard(int fromTop);
+
+    /**
+     * Counts, by face code, the cards the player cannot see: those of the deck and of the
+     * opponent's hand together.
+     * <p>
+     * The view only tells how many cards of each face are hidden, not where they are, which is
+     * what the player could work out from the cards it has seen.
+     *
+     * @param counts an array of {@link PlayabilityTable#FACES} counters, overwritten with the counts
+     */
+    void countUnseenFaces(int[] counts);
+
+    /**
+     * Counts the cards of a face the player cannot see, from the incremental card tracker.
+     * <p>
+     * Unlike {@link #countUnseenFaces(int[])}, this does not scan the deck or the opponent's hand.
+     *
+     * @param face the face code, as given by {@link Card#getFaceCode()}
+     * @return the number of cards of that face in the deck or the opponent's hand
+     */
+    int getUnseenCount(int face);
+
+    /**
+     * Counts the cards of a color the player cannot see, in constant time.
+     *
+     * @param color the color
+     * @return the number of cards of that color in the deck or the opponent's hand
+     */
+    int getUnseenCount(CardColor color);
+
+    /**
+     * Counts the cards of a value the player cannot see, in constant time.
+     *
+     * @param value the value
+     * @return the number of cards of that value in the deck or the opponent's hand
+     */
+    int getUnseenCount(CardValue value);
+
+    /**
+     * Counts the cards the player cannot see.
+     *
+     * @return the number of cards in the deck and the opponent's hand
+     */
+    int getUnseenCardCount();
+
+    /**
+     * Estimates the probability that the opponent holds at least one card of a color.
+     * <p>
+     * The estimate draws the opponent's cards from the unseen cards, and takes into account that an
+     * opponent who drew on a game color most likely held none of it.
+     *
+     * @param color the color
+     * @return the probability, between 0 and 1
+     */
+    double getOpponentColorProbability(CardColor color);
+
+    /**
+     * Gets the current game color.
+     *
+     * @return the game color, or {@code null} if none is set
+     */
+    CardColor getGameColor();
+
+    /**
+     * Gets the number of cards held by the other player.
+     * <p>
+     * With more than two players, the opponent is the player who plays next.
+     *
+     * @return the size of the opponent's hand
+     */
+    int getOpponentCardCount();
+
+    /**
+     * Gets the number of players of the game.
+     *
+     * @return the number of seats, 2 for a game against the machine
+     */
+    int getPlayerCount();
+
+    /**
+     * Gets the number of cards left in the deck.
+     *
+     * @return the size of the draw pile
+     */
+    int getDeckSize();
+
+    /**
+     * Checks if a card can still be drawn, from the deck or from the recycled table.
+     *
+     * @return true if drawing is possible
+     */
+    boolean canDrawCard();
+}
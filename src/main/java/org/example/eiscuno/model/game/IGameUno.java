@@ -35,6 +35,50 @@ public interface IGameUno {
      */
     void haveSungOne(String playerWhoSang);
 
+    /**
+     * Handles the action when the player of a seat shouts "Uno".
+     *
+     * @param seat the seat of the player who shouted "Uno"
+     */
+    void callUno(int seat);
+
+    /**
+     * Gets the number of players sitting around the table.
+     *
+     * @return the number of seats, from 2 to 10
+     */
+    int getPlayerCount();
+
+    /**
+     * Gets the player of a seat.
+     *
+     * @param seat the index of the seat
+     * @return the player sitting there
+     */
+    Player getPlayer(int seat);
+
+    /**
+     * Gets the seat of the player whose turn it is.
+     *
+     * @return the index of the current seat
+     */
+    int getCurrentSeat();
+
+    /**
+     * Gets the direction of play around the ring of seats.
+     *
+     * @return 1, or -1 when the order of play is reversed
+     */
+    int getDirection();
+
+    /**
+     * Gets the seat a number of turns after the current one, along the direction of play.
+     *
+     * @param steps the number of seats to move
+     * @return the index of the seat
+     */
+    int seatAfter(int steps);
+
     /**
      * Retrieves the current visible cards of the human player starting from a specific position.
      *
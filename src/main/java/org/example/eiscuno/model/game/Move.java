@@ -0,0 +1,104 @@
+package org.example.eiscuno.model.game;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardColor;
+
+/**
+ * A decision taken by a player on its turn: play a card, or draw one.
+ * <p>
+ * A move only describes the decision; it is applied to the game with
+ * {@link GameUno#applyMove(org.example.eiscuno.model.player.Player, Move)}. Moves are immutable,
+ * so they can be computed on any thread and handed over to the thread that runs the game.
+ */
+public final class Move {
+    private static final Move DRAW = new Move(null, null);
+
+    private final Card card;
+    private final CardColor chosenColor;
+
+    /**
+     * Constructs a move.
+     *
+     * @param card        the card to play, or {@code null} to draw
+     * @param chosenColor the color chosen for a wild card, or {@code null}
+     */
+    private Move(Card card, CardColor chosenColor) {
+        this.card = card;
+        this.chosenColor = chosenColor;
+    }
+
+    /**
+     * Creates a move that plays a card.
+     * <p>
+     * If the card is wild, the new game color is chosen by the game.
+     *
+     * @param card the card to play
+     * @return the move
+     */
+    public static Move play(Card card) {
+        return play(card, null);
+    }
+
+    /**
+     * Creates a move that plays a card and, for a wild card, chooses the new game color.
+     *
+     * @param card        the card to play
+     * @param chosenColor the new game color if the card is wild, or {@code null} to let the game choose
+     * @return the move
+     */
+    public static Move play(Card card, CardColor chosenColor) {
+        if (card == null) {
+            throw new IllegalArgumentException("A move must play a card; use Move.draw() to draw one.");
+        }
+        return new Move(card, chosenColor);
+    }
+
+    /**
+     * Gets the move that draws a card and passes the turn.
+     *
+     * @return the draw move
+     */
+    public static Move draw() {
+        return DRAW;
+    }
+
+    /**
+     * Checks if this move draws a card.
+     *
+     * @return true for the draw move, false if a card is played
+     */
+    public boolean isDraw() {
+        return card == null;
+    }
+
+    /**
+     * Gets the card played by this move.
+     *
+     * @return the card, or {@code null} for the draw move
+     */
+    public Card getCard() {
+        return card;
+    }
+
+    /**
+     * Gets the color chosen for a wild card.
+     *
+     * @return the chosen color, or {@code null} if the game chooses it
+     */
+    public CardColor getChosenColor() {
+        return chosenColor;
+    }
+
+    /**
+     * Describes the move for the console.
+     *
+     * @return a short description of the move
+     */
+    @Override
+    public String toString() {
+        if (isDraw()) {
+            return "DRAW";
+        }
+        return "PLAY " + card.getColor() + "/" + card.getValue() + (chosenColor != null ? " -> " + chosenColor : "");
+    }
+}
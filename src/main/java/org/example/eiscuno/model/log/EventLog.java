@@ -0,0 +1,366 @@
+package org.example.eiscuno.model.log;
+
+import org.example.eiscuno.model.game.GameEventSink;
+import org.example.eiscuno.model.session.SessionExecutor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An append-only log of game events, stored in memory-mapped segment files.
+ * <p>
+ * Every event takes {@value #EVENT_SIZE} bytes, in little-endian order:
+ * <pre>
+ *  0  type      byte   one of the constants of {@link GameEventSink}; 0 marks the end of the log
+ *  1  seat      byte
+ *  2  color     byte   the color ordinal, or -1
+ *  3  flags     byte   bit 0: the event is derived from another one
+ *  4  game      int    the id of the game, so several games can share a log
+ *  8  argument  long   the card id, card count or seed
+ * </pre>
+ * The log is a directory of segments of a fixed size, named {@code events-NNNNNN.log}. A writer
+ * reserves the place of its event with one atomic addition and writes it with absolute puts into
+ * the mapped segment, the type byte last, so appends from many games never lock each other and
+ * allocate nothing. The next segment is mapped in the background, on a {@link SessionExecutor},
+ * while the current one fills up; a writer only maps a segment itself when it outruns the background task, which is counted as a
+ * stall.
+ * <p>
+ * The mapped pages are written back by the operating system, so the events survive a crash of the
+ * process; {@link #close()} forces them to the disk. Opening an existing directory appends after
+ * the last complete event.
+ */
+public final class EventLog implements AutoCloseable {
+    /**
+     * The number of bytes of one event.
+     */
+    public static final int EVENT_SIZE = 16;
+
+    /**
+     * The flag of the events derived from another one.
+     */
+    public static final int DERIVED = 1;
+
+    private static final int RING = 4;
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final SessionExecutor executor;
+    private final AtomicLong position;
+    private final AtomicReferenceArray<Segment> segments = new AtomicReferenceArray<>(RING);
+    private final LongAdder appended = new LongAdder();
+    private final LongAdder stalls = new LongAdder();
+    private volatile boolean closed;
+
+    /**
+     * Opens a log on the shared executor, creating its directory if needed, and appends after its
+     * last event.
+     *
+     * @param directory    the directory of the segments
+     * @param segmentBytes the size of a segment, a multiple of {@value #EVENT_SIZE}
+     * @throws UncheckedIOException if the directory or its segments cannot be opened
+     */
+    public EventLog(Path directory, int segmentBytes) {
+        this(directory, segmentBytes, SessionExecutor.shared());
+    }
+
+    /**
+     * Opens a log, creating its directory if needed, and appends after its last event.
+     *
+     * @param directory    the directory of the segments
+     * @param segmentBytes the size of a segment, a multiple of {@value #EVENT_SIZE}
+     * @param executor     the executor that maps the next segments
+     * @throws UncheckedIOException if the directory or its segments cannot be opened
+     */
+    public EventLog(Path directory, int segmentBytes, SessionExecutor executor) {
+        if (segmentBytes < EVENT_SIZE || segmentBytes % EVENT_SIZE != 0) {
+            throw new IllegalArgumentException("Invalid segment size: " + segmentBytes);
+        }
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.executor = executor;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        long end = findEnd(directory, segmentBytes);
+        this.position = new AtomicLong(end);
+        int first = (int) (end / segmentBytes);
+        segments.set(first % RING, map(first));
+        prepare(first + 1);
+    }
+
+    /**
+     * Gets the sink that appends the events of one game.
+     * <p>
+     * The sink is created once per game; its appends allocate nothing.
+     *
+     * @param gameId the id of the game in the log
+     * @return the sink of the game
+     */
+    public GameEventSink sink(int gameId) {
+        return (type, seat, color, derived, argument) -> append(gameId, type, seat, color, derived, argument);
+    }
+
+    /**
+     * Appends one event.
+     *
+     * @param gameId   the id of the game
+     * @param type     the type of the event
+     * @param seat     the seat of the event
+     * @param color    the color ordinal of the event, or -1
+     * @param derived  true if the event is derived from another one
+     * @param argument the argument of the event
+     * @throws IllegalStateException if the log is closed
+     */
+    public void append(int gameId, int type, int seat, int color, boolean derived, long argument) {
+        if (closed) {
+            throw new IllegalStateException("The event log is closed.");
+        }
+        long at = position.getAndAdd(EVENT_SIZE);
+        int index = (int) (at / segmentBytes);
+        int offset = (int) (at % segmentBytes);
+        MappedByteBuffer buffer = segment(index).buffer;
+        buffer.put(offset + 1, (byte) seat);
+        buffer.put(offset + 2, (byte) color);
+        buffer.put(offset + 3, (byte) (derived ? DERIVED : 0));
+        buffer.putInt(offset + 4, gameId);
+        buffer.putLong(offset + 8, argument);
+        buffer.put(offset, (byte) type);
+        appended.increment();
+        if (offset == 0) {
+            prepare(index + 1);
+        }
+    }
+
+    /**
+     * Gets the segment of an index, mapping it now if the background task did not yet.
+     *
+     * @param index the index of the segment
+     * @return the mapped segment
+     */
+    private Segment segment(int index) {
+        Segment segment = segments.get(index % RING);
+        if (segment != null && segment.index == index) {
+            return segment;
+        }
+        synchronized (this) {
+            segment = segments.get(index % RING);
+            if (segment == null || segment.index != index) {
+                stalls.increment();
+                segment = map(index);
+                segments.set(index % RING, segment);
+            }
+            return segment;
+        }
+    }
+
+    /**
+     * Maps a segment in the background, ahead of the writers.
+     *
+     * @param index the index of the segment
+     */
+    private void prepare(int index) {
+        CompletableFuture.runAsync(() -> {
+            synchronized (this) {
+                Segment segment = segments.get(index % RING);
+                if (!closed && (segment == null || segment.index < index)) {
+                    segments.set(index % RING, map(index));
+                }
+            }
+        }, command -> executor.submit("EventLog", command));
+    }
+
+    /**
+     * Maps a segment file, creating it if needed.
+     *
+     * @param index the index of the segment
+     * @return the mapped segment
+     * @throws UncheckedIOException if the file cannot be mapped
+     */
+    private Segment map(int index) {
+        try (FileChannel channel = FileChannel.open(segmentPath(directory, index),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            return new Segment(index, buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Gets the number of events appended since the log was opened.
+     *
+     * @return the number of appended events
+     */
+    public long getAppendedEvents() {
+        return appended.sum();
+    }
+
+    /**
+     * Gets the number of times a writer had to map a segment itself.
+     *
+     * @return the number of stalls
+     */
+    public long getStalls() {
+        return stalls.sum();
+    }
+
+    /**
+     * Gets the position of the next event.
+     *
+     * @return the number of bytes of events in the log
+     */
+    public long getPosition() {
+        return position.get();
+    }
+
+    /**
+     * Forces the mapped segments to the disk and stops accepting events.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        for (int i = 0; i < RING; i++) {
+            Segment segment = segments.get(i);
+            if (segment != null) {
+                segment.buffer.force();
+            }
+        }
+    }
+
+    /**
+     * Reads every event of a log, in the order they were appended.
+     *
+     * @param directory    the directory of the segments
+     * @param segmentBytes the size of a segment
+     * @param visitor      receives the events
+     * @return the number of events read
+     * @throws UncheckedIOException if a segment cannot be read
+     */
+    public static long read(Path directory, int segmentBytes, Visitor visitor) {
+        long events = 0;
+        for (int index = 0; Files.exists(segmentPath(directory, index)); index++) {
+            MappedByteBuffer buffer = mapReadOnly(directory, index, segmentBytes);
+            for (int offset = 0; offset + EVENT_SIZE <= buffer.limit(); offset += EVENT_SIZE) {
+                int type = buffer.get(offset);
+                if (type == 0) {
+                    return events;
+                }
+                visitor.onEvent(buffer.getInt(offset + 4), type, buffer.get(offset + 1), buffer.get(offset + 2),
+                        (buffer.get(offset + 3) & DERIVED) != 0, buffer.getLong(offset + 8));
+                events++;
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Finds the position after the last event of a log.
+     * <p>
+     * The segments mapped ahead of the writers exist but are empty, so the last segment holding an
+     * event is searched backwards.
+     *
+     * @param directory    the directory of the segments
+     * @param segmentBytes the size of a segment
+     * @return the position of the first free event slot
+     */
+    private static long findEnd(Path directory, int segmentBytes) {
+        int last = 0;
+        while (Files.exists(segmentPath(directory, last + 1))) {
+            last++;
+        }
+        if (!Files.exists(segmentPath(directory, last))) {
+            return 0;
+        }
+        MappedByteBuffer buffer = mapReadOnly(directory, last, segmentBytes);
+        while (last > 0 && (buffer.limit() < EVENT_SIZE || buffer.get(0) == 0)) {
+            last--;
+            buffer = mapReadOnly(directory, last, segmentBytes);
+        }
+        int offset = 0;
+        while (offset + EVENT_SIZE <= buffer.limit() && buffer.get(offset) != 0) {
+            offset += EVENT_SIZE;
+        }
+        return (long) last * segmentBytes + offset;
+    }
+
+    /**
+     * Maps a segment file for reading.
+     *
+     * @param directory    the directory of the segments
+     * @param index        the index of the segment
+     * @param segmentBytes the size of a segment
+     * @return the mapped content, at most one segment long
+     * @throws UncheckedIOException if the file cannot be mapped
+     */
+    private static MappedByteBuffer mapReadOnly(Path directory, int index, int segmentBytes) {
+        try (FileChannel channel = FileChannel.open(segmentPath(directory, index), StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0,
+                    Math.min(channel.size(), segmentBytes));
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            return buffer;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Gets the path of a segment file.
+     *
+     * @param directory the directory of the segments
+     * @param index     the index of the segment
+     * @return the path of the file
+     */
+    private static Path segmentPath(Path directory, int index) {
+        return directory.resolve(String.format("events-%06d.log", index));
+    }
+
+    /**
+     * Receives the events read from a log.
+     */
+    @FunctionalInterface
+    public interface Visitor {
+        /**
+         * Receives one event.
+         *
+         * @param gameId   the id of the game
+         * @param type     the type of the event
+         * @param seat     the seat of the event
+         * @param color    the color ordinal of the event, or -1
+         * @param derived  true if the event is derived from another one
+         * @param argument the argument of the event
+         */
+        void onEvent(int gameId, int type, int seat, int color, boolean derived, long argument);
+    }
+
+    /**
+     * A mapped segment file.
+     */
+    private static final class Segment {
+        private final int index;
+        private final MappedByteBuffer buffer;
+
+        /**
+         * Constructs a segment.
+         *
+         * @param index  the index of the segment
+         * @param buffer the mapped content of its file
+         */
+        private Segment(int index, MappedByteBuffer buffer) {
+            this.index = index;
+            this.buffer = buffer;
+        }
+    }
+}
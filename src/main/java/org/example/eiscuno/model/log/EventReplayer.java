@@ -0,0 +1,192 @@
+package org.example.eiscuno.model.log;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardColor;
+import org.example.eiscuno.model.game.GameCodec;
+import org.example.eiscuno.model.game.GameEventSink;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.game.Move;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.rng.GameRng;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Rebuilds games from an {@link EventLog}.
+ * <p>
+ * A game is dealt again from the seed of its {@link GameEventSink#START} event, then its input
+ * events are applied again in order; the derived events follow from them and are skipped. The
+ * rebuilt games are quiet and have no listener: the colors their listeners chose were logged as
+ * inputs.
+ * <p>
+ * A game that was saved and restored, by a session that hibernated, goes on from a
+ * {@link GameEventSink#RESUME} event: the rebuilt game is saved and restored the same way, which
+ * gives it the random streams the restored game had. A game whose events do not all come from
+ * the log cannot be rebuilt: one not dealt from a seed, or one restored from a game saved
+ * elsewhere. Such games are left out of {@link #replayAll}, so they do not stop the replay of the
+ * other games of the log.
+ */
+public final class EventReplayer implements EventLog.Visitor {
+    private final Map<Integer, GameUno> games = new HashMap<>();
+    private final Set<Integer> notReplayable = new HashSet<>();
+    private final int onlyGameId;
+    private final boolean allGames;
+
+    /**
+     * Constructs a replayer.
+     *
+     * @param onlyGameId the id of the game to rebuild
+     * @param allGames   true to rebuild every game of the log
+     */
+    private EventReplayer(int onlyGameId, boolean allGames) {
+        this.onlyGameId = onlyGameId;
+        this.allGames = allGames;
+    }
+
+    /**
+     * Rebuilds every game of a log.
+     *
+     * @param directory    the directory of the segments
+     * @param segmentBytes the size of a segment
+     * @return the games, by id, in the state of their last event; the games whose events are not
+     *         all in the log are left out
+     * @throws IllegalStateException if the events of a game do not apply to it
+     */
+    public static Map<Integer, GameUno> replayAll(Path directory, int segmentBytes) {
+        EventReplayer replayer = new EventReplayer(0, true);
+        EventLog.read(directory, segmentBytes, replayer);
+        return replayer.games;
+    }
+
+    /**
+     * Rebuilds one game of a log.
+     *
+     * @param directory    the directory of the segments
+     * @param segmentBytes the size of a segment
+     * @param gameId       the id of the game
+     * @return the game in the state of its last event, or {@code null} if it is not in the log
+     * @throws IllegalStateException if the game cannot be replayed
+     */
+    public static GameUno replay(Path directory, int segmentBytes, int gameId) {
+        EventReplayer replayer = new EventReplayer(gameId, false);
+        EventLog.read(directory, segmentBytes, replayer);
+        if (replayer.notReplayable.contains(gameId)) {
+            throw new IllegalStateException("The game " + gameId + " does not have all its events in the log");
+        }
+        return replayer.games.get(gameId);
+    }
+
+    /**
+     * Applies one event to its game.
+     */
+    @Override
+    public void onEvent(int gameId, int type, int seat, int color, boolean derived, long argument) {
+        if (derived || (!allGames && gameId != onlyGameId) || notReplayable.contains(gameId)) {
+            return;
+        }
+        if (type == GameEventSink.START) {
+            if (color != 0) {
+                notReplayable.add(gameId);
+                return;
+            }
+            games.put(gameId, deal(seat, argument));
+            return;
+        }
+        if (type == GameEventSink.RESUME) {
+            GameUno saved = games.remove(gameId);
+            if (color != 0 || saved == null) {
+                notReplayable.add(gameId);
+                return;
+            }
+            games.put(gameId, restore(gameId, saved, argument));
+            return;
+        }
+        GameUno game = games.get(gameId);
+        if (game == null) {
+            throw new IllegalStateException("The game " + gameId + " has events before its start");
+        }
+        switch (type) {
+            case GameEventSink.MOVE_PLAY -> game.applyMove(game.getPlayer(seat),
+                    Move.play(cardInHand(game.getPlayer(seat), argument), colorOf(color)));
+            case GameEventSink.MOVE_DRAW -> game.applyMove(game.getPlayer(seat), Move.draw());
+            case GameEventSink.CARD_PLAYED -> game.playCard(cardInHand(game.getPlayer(seat), argument), colorOf(color));
+            case GameEventSink.CARDS_EATEN -> game.eatCard(game.getPlayer(seat), (int) argument);
+            case GameEventSink.TURN_PASSED -> game.cardTaken();
+            case GameEventSink.UNO_CALLED -> game.callUno(seat);
+            case GameEventSink.COLOR_SET -> game.setGameColor(CardColor.values()[color].name());
+            default -> throw new IllegalStateException("Unknown event type " + type + " in game " + gameId);
+        }
+    }
+
+    /**
+     * Deals a game again from its seed.
+     *
+     * @param players the number of players
+     * @param seed    the seed of the game
+     * @return the dealt game
+     */
+    private static GameUno deal(int players, long seed) {
+        List<Player> seats = new ArrayList<>(players);
+        for (int seat = 0; seat < players; seat++) {
+            seats.add(new Player("PLAYER_" + seat));
+        }
+        GameUno game = GameUno.newGame(seats, new GameRng(seed));
+        game.setVerbose(false);
+        game.startGame();
+        return game;
+    }
+
+    /**
+     * Saves a rebuilt game and restores it, as its session did.
+     *
+     * @param gameId     the id of the game
+     * @param saved      the game rebuilt up to its save
+     * @param resumeSeed the seed of the restored game, from the log
+     * @return the restored game
+     * @throws IllegalStateException if the rebuilt game is not the game that was saved
+     */
+    private static GameUno restore(int gameId, GameUno saved, long resumeSeed) {
+        if (GameCodec.resumeSeed(saved) != resumeSeed) {
+            throw new IllegalStateException("The game " + gameId + " was not saved in the state of its events");
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(GameCodec.sizeOf(saved));
+        GameCodec.write(saved, buffer);
+        GameUno game = GameCodec.read(buffer.flip());
+        game.setVerbose(false);
+        return game;
+    }
+
+    /**
+     * Finds a card in the hand of a player by its id.
+     *
+     * @param player the player
+     * @param id     the id of the card
+     * @return the card
+     * @throws IllegalStateException if the player does not hold the card
+     */
+    private static Card cardInHand(Player player, long id) {
+        for (Card card : player.getCardsPlayer()) {
+            if (card.getId() == id) {
+                return card;
+            }
+        }
+        throw new IllegalStateException(player.getTypePlayer() + " does not hold the card " + id);
+    }
+
+    /**
+     * Decodes a color field.
+     *
+     * @param color the ordinal of the color, or {@link GameEventSink#NO_COLOR}
+     * @return the color, or {@code null}
+     */
+    private static CardColor colorOf(int color) {
+        return color == GameEventSink.NO_COLOR ? null : CardColor.values()[color];
+    }
+}
@@ -1,10 +1,8 @@
 package org.example.eiscuno.model.machine;
 
-import javafx.scene.image.ImageView;
-import org.example.eiscuno.model.deck.Deck;
 import org.example.eiscuno.model.game.GameUno;
-import org.example.eiscuno.model.player.Player;
-import org.example.eiscuno.model.table.Table;
+import org.example.eiscuno.model.game.GameView;
+import org.example.eiscuno.model.game.Move;
 
 /**
  * Interface for AI player strategies in the Uno game.
@@ -13,6 +11,11 @@ import org.example.eiscuno.model.table.Table;
  * for the AI player in the Uno game. Implementing classes should define how the AI
  * plays its turn and how it interacts with the game state, such as choosing a card
  * to play or drawing a card when necessary.
+ * <p>
+ * A strategy only decides: it reads a {@link GameView} and returns a {@link Move}, which the caller
+ * applies with {@link GameUno#applyMove(org.example.eiscuno.model.player.Player, Move)} and then
+ * renders. Since the decision does not touch the game or the user interface, it can run on any
+ * thread and be timed on its own.
  */
 public interface AIPlayerStrategy {
 
@@ -27,18 +30,15 @@ public interface AIPlayerStrategy {
     void setGameUno(GameUno gameUno);
 
     /**
-     * Executes the AI player's turn in the Uno game.
+     * Decides the move of the AI player for its turn in the Uno game.
      * <p>
-     * This method defines the logic for the AI to decide which card to play or whether
-     * to draw a card from the deck. It interacts with the game state to determine the
-     * best course of action.
+     * This method defines the logic for the AI to decide which card to play, and which color to
+     * choose for a wild card, or whether to draw a card from the deck. It must not change the game.
      *
-     * @param machinePlayer    The {@link Player} representing the AI-controlled machine player.
-     * @param table            The {@link Table} where the cards are played.
-     * @param deck             The {@link Deck} from which the AI can draw a card if needed.
-     * @param tableImageView   The {@link ImageView} that displays the current card on the table.
+     * @param view The read-only {@link GameView} of the game from the AI player.
+     * @return The {@link Move} the AI player wants to make.
      */
-    void playTurn(Player machinePlayer, Table table, Deck deck, ImageView tableImageView);
+    Move chooseMove(GameView view);
 
     /**
      * Retrieves the current instance of the {@link GameUno} class.
@@ -1,10 +1,8 @@
 package org.example.eiscuno.model.machine;
 
-import javafx.scene.image.ImageView;
-import org.example.eiscuno.model.deck.Deck;
 import org.example.eiscuno.model.game.GameUno;
-import org.example.eiscuno.model.player.Player;
-import org.example.eiscuno.model.table.Table;
+import org.example.eiscuno.model.game.GameView;
+import org.example.eiscuno.model.game.Move;
 
 /**
  * An abstract adapter class that implements the {@link AIPlayerStrategy} interface.
@@ -40,18 +38,16 @@ public abstract class AIPlayerStrategyAdapter implements AIPlayerStrategy {
     }
 
     /**
-     * Executes the AI player's turn during the game.
+     * Decides the AI player's move during the game.
      * <p>
-     * Default implementation does nothing. Subclasses should override this method
+     * Default implementation draws a card. Subclasses should override this method
      * to define the AI player's behavior when playing a turn.
      *
-     * @param machinePlayer   The AI player executing the turn.
-     * @param table           The game table where the cards are played.
-     * @param deck            The deck of cards available in the game.
-     * @param tableImageView  The visual representation of the table (UI component).
+     * @param view The read-only view of the game from the AI player.
+     * @return The draw move.
      */
     @Override
-    public void playTurn(Player machinePlayer, Table table, Deck deck, ImageView tableImageView) {
-        // Default implementation: do nothing
+    public Move chooseMove(GameView view) {
+        return Move.draw(); // Default implementation
     }
 }
@@ -1,11 +1,15 @@
 package org.example.eiscuno.model.machine;
 
-import javafx.scene.image.ImageView;
 import org.example.eiscuno.model.card.Card;
-import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.card.CardColor;
+import org.example.eiscuno.model.card.CardType;
+import org.example.eiscuno.model.card.CardValue;
+import org.example.eiscuno.model.card.PlayabilityTable;
 import org.example.eiscuno.model.game.GameUno;
-import org.example.eiscuno.model.player.Player;
-import org.example.eiscuno.model.table.Table;
+import org.example.eiscuno.model.game.GameView;
+import org.example.eiscuno.model.game.Move;
+
+import java.util.List;
 
 /**
  * A basic implementation of the {@link AIPlayerStrategy} interface for the Uno game.
@@ -13,12 +17,33 @@ import org.example.eiscuno.model.table.Table;
  * This class provides a simple strategy for the AI player to make decisions during
  * its turn. The strategy is designed to play valid cards from the AI player's hand
  * based on basic game rules, without advanced decision-making or prioritization.
- * It interacts with the {@link GameUno} instance to check for valid plays and update
- * the game state accordingly.
+ * It reads the game through a {@link GameView} and returns the chosen {@link Move}, leaving
+ * the game to apply it.
  */
 public class BasicAIPlayerStrategy extends AIPlayerStrategyAdapter {
+    private static final long PRIORITY_FACES = priorityFaces();
+    private static final CardColor[] PLAYABLE_COLORS = {
+            CardColor.RED, CardColor.GREEN, CardColor.YELLOW, CardColor.BLUE
+    };
     private GameUno gameUno; // Reference to GameUno
 
+    /**
+     * Builds the face set of the cards the strategy plays first: every "DRAW_TWO" and
+     * "WILD_DRAW_FOUR" face.
+     *
+     * @return a bit set, indexed by {@link PlayabilityTable#bitOf(int)}, of the priority faces
+     */
+    private static long priorityFaces() {
+        long faces = 0;
+        for (int bit = 0; bit < PlayabilityTable.STANDARD_FACES; bit++) {
+            CardValue value = PlayabilityTable.valueOf(PlayabilityTable.faceOfBit(bit));
+            if (value == CardValue.TWO_WILD_DRAW || value == CardValue.FOUR_WILD_DRAW) {
+                faces |= 1L << bit;
+            }
+        }
+        return faces;
+    }
+
 
     /**
      * Sets the {@link GameUno} instance for the current game.
@@ -48,62 +73,89 @@ public class BasicAIPlayerStrategy extends AIPlayerStrategyAdapter {
     }
 
     /**
-     * Executes the AI player's turn in the Uno game.
+     * Decides the AI player's move in the Uno game.
      * <p>
-     * This method iterates through the AI player's cards to find the best valid card
-     * that can be played. It prioritizes special cards like "WILD_DRAW_FOUR" or "DRAW_TWO"
-     * and plays the first valid card found. If no valid card can be played, the AI draws a card
-     * from the deck and adds it to its hand. After the card is played or drawn, the method updates
-     * the game state and the visual representation of the table.
+     * This method looks for the best valid card that can be played, following the order of the
+     * AI player's hand. It prioritizes special cards like "WILD_DRAW_FOUR" or "DRAW_TWO"
+     * and plays the first valid card found; for a wild card it chooses the color it holds most,
+     * breaking ties with the card tracker of the view.
+     * If no valid card can be played, the AI draws a card.
+     * <p>
+     * The playable cards are taken from the indexed hand with one mask operation; the hand is only
+     * walked to locate the chosen card.
      *
-     * @param machinePlayer    The {@link Player} representing the AI-controlled machine player.
-     * @param table            The {@link Table} where the cards are played.
-     * @param deck             The {@link Deck} from which the AI can draw a card if needed.
-     * @param tableImageView   The {@link ImageView} that displays the current card on the table.
+     * @param view The read-only {@link GameView} of the game from the AI player.
+     * @return The card to play, or the draw move.
      */
     @Override
-    public void playTurn(Player machinePlayer, Table table, Deck deck, ImageView tableImageView) {
-
-        Card bestCard = null;
-        int bestCardIndex = -1;
-
-        // Iterate through the player's cards to find the best valid card
-        for (int i = 0; i < machinePlayer.getCardsPlayer().size(); i++) {
-            Card card = machinePlayer.getCard(i);
-
-            // Check if the card can be played
-            if (gameUno.canPlayCard(card)) {
-                // Prioritize WILD_DRAW_FOUR or DRAW_TWO
-                if (card.getCardType() != null &&
-                        (card.getCardType().equals("WILD_DRAW_FOUR") || card.getCardType().equals("DRAW_TWO"))) {
-                    bestCard = card;
-                    bestCardIndex = i;
-                    break; // Highest priority, play immediately
-                }
+    public Move chooseMove(GameView view) {
+        int bestCardIndex = findBestCardIndex(view);
+        if (bestCardIndex < 0) {
+            return Move.draw();
+        }
+        Card bestCard = view.getHand().get(bestCardIndex);
+        return Move.play(bestCard, bestCard.isWild() ? mostHeldColor(view) : null);
+    }
 
-                // Otherwise, set the first valid card as the best card if none found yet
-                if (bestCard == null) {
-                    bestCard = card;
-                    bestCardIndex = i;
+    /**
+     * Finds the position of the best card to play in the AI player's hand.
+     * <p>
+     * The first playable "WILD_DRAW_FOUR" or "DRAW_TWO" card wins; otherwise the first playable card
+     * of the hand is chosen. Hands that contain cards outside the standard faces are checked card by
+     * card with {@link GameView#canPlay(Card)}.
+     *
+     * @param view The view of the game from the AI player.
+     * @return The position of the best card, or -1 if no card can be played.
+     */
+    private static int findBestCardIndex(GameView view) {
+        if (!view.isHandFullyIndexed()) {
+            List<Card> hand = view.getHand();
+            int firstPlayable = -1;
+            for (int i = 0; i < hand.size(); i++) {
+                Card card = hand.get(i);
+                if (view.canPlay(card)) {
+                    if (card.getTypeCode() == CardType.WILD_DRAW_FOUR || card.getTypeCode() == CardType.DRAW_TWO) {
+                        return i;
+                    }
+                    if (firstPlayable < 0) {
+                        firstPlayable = i;
+                    }
                 }
             }
+            return firstPlayable;
         }
 
-        // Play the best card if found
-        if (bestCard != null) {
-            gameUno.playCard(bestCard); // Use GameUno to handle the play
-            machinePlayer.removeCard(bestCardIndex); // Remove the card from the AI's hand
-            tableImageView.setImage(bestCard.getImage());
-            return;
-        }
-
-        // Draw a card if no valid play
-        Card newCard = deck.takeCard();
-        machinePlayer.addCard(newCard);
-        System.out.println("Added AI Card!: " + newCard.getColor() + "/" + newCard.getValue());
-        System.out.println("-----------------------");
-        gameUno.cardTaken();
+        long playable = view.getPlayableBits();
+        long preferred = playable & PRIORITY_FACES;
+        return view.indexOfFirst(preferred != 0 ? preferred : playable);
+    }
 
+    /**
+     * Chooses the color the AI player holds most cards of.
+     * <p>
+     * Between colors held as often, the strategy picks the one the opponent is least likely to
+     * hold, as estimated by the card tracker of the view.
+     *
+     * @param view The view of the game from the AI player.
+     * @return The most held of the four playable colors, or the one the opponent is least likely
+     *         to hold when the hand holds none of them.
+     */
+    private static CardColor mostHeldColor(GameView view) {
+        CardColor best = null;
+        int bestCount = -1;
+        double bestOpponent = 0;
+        for (CardColor color : PLAYABLE_COLORS) {
+            int count = view.countOfColor(color);
+            if (count < bestCount) {
+                continue;
+            }
+            double opponent = view.getOpponentColorProbability(color);
+            if (count > bestCount || opponent < bestOpponent) {
+                best = color;
+                bestCount = count;
+                bestOpponent = opponent;
+            }
+        }
+        return best;
     }
 }
-
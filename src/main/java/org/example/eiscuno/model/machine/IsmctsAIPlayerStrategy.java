@@ -0,0 +1,349 @@
+package org.example.eiscuno.model.machine;
+
+import org.example.eiscuno.model.game.GameState;
+import org.example.eiscuno.model.game.GameView;
+import org.example.eiscuno.model.game.Move;
+import org.example.eiscuno.model.rng.GameRng;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * An {@link AIPlayerStrategy} based on information-set Monte Carlo tree search (ISMCTS).
+ * <p>
+ * On each iteration the hidden cards (the opponent's hand and the deck) are sampled again from the
+ * cards the player has not seen, which gives one possible game consistent with what is visible.
+ * The search tree is walked down with the moves that are legal in that game, a new move is added,
+ * and the game is played out at random to the end; the result is counted in every node on the
+ * path. The tree is shared by all the samples, so its statistics describe the information set of
+ * the player rather than one guessed deal.
+ * <p>
+ * Several workers search independent trees in parallel, each with its own random stream, and their
+ * root statistics are added together (root parallelization). The search stops when the time
+ * budget runs out or the iteration budget is spent, whichever comes first. The iterations, the
+ * rollouts per second and the size of the trees of the last decision are kept so budgets can be
+ * sized for each difficulty level.
+ * <p>
+ * The decisions only depend on the random stream given to the strategy and on the game as long as
+ * the iteration budget runs out before the time budget; a game played with a seeded stream and a
+ * generous time budget can then be replayed from its seed.
+ * <p>
+ * The games are simulated on a {@link GameState}, which each worker copies from the root state and
+ * deals again before every iteration, without allocating.
+ */
+public class IsmctsAIPlayerStrategy extends AIPlayerStrategyAdapter {
+    private static final int ACTIONS = GameState.ACTIONS;
+    private static final int MAX_ROLLOUT_MOVES = 1000;
+    private static final int CLOCK_CHECK_INTERVAL = 32;
+    private static final double EXPLORATION = 0.7;
+
+    private final long timeBudgetNanos;
+    private final int iterationBudget;
+    private final int workers;
+    private final GameRng rng;
+    private final BasicAIPlayerStrategy fallback = new BasicAIPlayerStrategy();
+
+    private volatile long lastIterations;
+    private volatile long lastElapsedNanos;
+    private volatile long lastTreeSize;
+
+    /**
+     * Constructs an ISMCTS strategy.
+     *
+     * @param timeBudgetMillis the maximum thinking time of a decision, in milliseconds
+     * @param iterationBudget  the maximum number of iterations of a decision, over all workers
+     * @param workers          the number of trees searched in parallel
+     * @param rng              the random stream of the search
+     */
+    public IsmctsAIPlayerStrategy(long timeBudgetMillis, int iterationBudget, int workers, GameRng rng) {
+        if (timeBudgetMillis < 1 || iterationBudget < 1 || workers < 1) {
+            throw new IllegalArgumentException("The budgets and the number of workers must be positive.");
+        }
+        this.timeBudgetNanos = timeBudgetMillis * 1_000_000;
+        this.iterationBudget = iterationBudget;
+        this.workers = workers;
+        this.rng = rng;
+    }
+
+    /**
+     * Decides the AI player's move by searching the game tree within the budget.
+     * <p>
+     * A game with visible cards outside the standard faces, or with more than two players, cannot
+     * be simulated; the decision is then left to {@link BasicAIPlayerStrategy}. A single legal move is returned without searching.
+     *
+     * @param view The read-only {@link GameView} of the game from the AI player.
+     * @return The move with the most visits in the search.
+     */
+    @Override
+    public Move chooseMove(GameView view) {
+        GameState root;
+        try {
+            root = GameState.fromView(view);
+        } catch (IllegalArgumentException e) {
+            return fallback.chooseMove(view);
+        }
+        long legal = root.legalActions();
+        if (Long.bitCount(legal) <= 1) {
+            lastIterations = 0;
+            lastElapsedNanos = 0;
+            lastTreeSize = 0;
+            return root.toMove(legal == 0 ? GameState.DRAW_ACTION : Long.numberOfTrailingZeros(legal));
+        }
+
+        long start = System.nanoTime();
+        long deadline = start + timeBudgetNanos;
+        int perWorker = (int) Math.max(1, ((long) iterationBudget + workers - 1) / workers);
+        SearchResult total;
+        if (workers == 1) {
+            total = search(root, new SplittableRandom(rng.split().getSeed()), perWorker, deadline);
+        } else {
+            List<CompletableFuture<SearchResult>> futures = new ArrayList<>(workers);
+            for (int i = 0; i < workers; i++) {
+                SplittableRandom random = new SplittableRandom(rng.split().getSeed());
+                futures.add(CompletableFuture.supplyAsync(() -> search(root, random, perWorker, deadline),
+                        ForkJoinPool.commonPool()));
+            }
+            total = new SearchResult();
+            for (CompletableFuture<SearchResult> future : futures) {
+                total.add(future.join());
+            }
+        }
+        lastElapsedNanos = System.nanoTime() - start;
+        lastIterations = total.iterations;
+        lastTreeSize = total.treeSize;
+
+        int best = GameState.DRAW_ACTION;
+        long bestVisits = -1;
+        for (int action = 0; action < ACTIONS; action++) {
+            if ((legal & (1L << action)) != 0 && total.visits[action] > bestVisits) {
+                best = action;
+                bestVisits = total.visits[action];
+            }
+        }
+        return root.toMove(best);
+    }
+
+    /**
+     * Gets the number of iterations of the last decision, over all workers.
+     * <p>
+     * Each iteration plays one rollout.
+     *
+     * @return the number of iterations
+     */
+    public long getLastIterations() {
+        return lastIterations;
+    }
+
+    /**
+     * Gets the thinking time of the last decision.
+     *
+     * @return the duration of the search in nanoseconds
+     */
+    public long getLastElapsedNanos() {
+        return lastElapsedNanos;
+    }
+
+    /**
+     * Gets the number of rollouts per second of the last decision, over all workers.
+     *
+     * @return the rollout throughput, or 0 if the last decision did not search
+     */
+    public double getLastRolloutsPerSecond() {
+        long elapsed = lastElapsedNanos;
+        return elapsed == 0 ? 0 : lastIterations * 1e9 / elapsed;
+    }
+
+    /**
+     * Gets the number of nodes of the trees of the last decision, over all workers.
+     *
+     * @return the size of the search trees
+     */
+    public long getLastTreeSize() {
+        return lastTreeSize;
+    }
+
+    /**
+     * Runs the iterations of one worker on its own tree.
+     *
+     * @param root       the state of the game, which is not modified
+     * @param random     the random stream of the worker
+     * @param iterations the maximum number of iterations
+     * @param deadline   the {@link System#nanoTime()} at which the search stops
+     * @return the statistics of the root of the tree
+     */
+    private static SearchResult search(GameState root, SplittableRandom random, int iterations, long deadline) {
+        Node tree = new Node(null, -1, 1 - root.getCurrentPlayer());
+        GameState state = root.copy();
+        SearchResult result = new SearchResult();
+        for (int i = 0; i < iterations; i++) {
+            if (i % CLOCK_CHECK_INTERVAL == 0 && System.nanoTime() - deadline > 0) {
+                break;
+            }
+            state.copyFrom(root);
+            state.redealHidden(root.getCurrentPlayer(), random);
+            Node node = select(tree, state, random);
+            int winner = playOut(state, random);
+            for (; node != null; node = node.parent) {
+                node.visits++;
+                if (winner < 0) {
+                    node.wins += 0.5;
+                } else if (winner == node.player) {
+                    node.wins++;
+                }
+            }
+            result.iterations++;
+        }
+        result.treeSize = tree.countNodes();
+        for (Node child = tree.firstChild; child != null; child = child.nextSibling) {
+            result.visits[child.action] += child.visits;
+        }
+        return result;
+    }
+
+    /**
+     * Walks the tree down with the moves legal in a sampled game, adding one new node.
+     *
+     * @param tree   the root of the tree
+     * @param state  the sampled game, advanced along the path
+     * @param random the random stream of the worker
+     * @return the last node of the path
+     */
+    private static Node select(Node tree, GameState state, SplittableRandom random) {
+        Node node = tree;
+        while (!state.isOver()) {
+            long legal = state.legalActions();
+            long untried = legal & ~node.childActions;
+            if (untried != 0) {
+                int action = randomBit(untried, random);
+                Node child = node.addChild(action, state.getCurrentPlayer());
+                state.apply(action, random);
+                return child;
+            }
+            Node best = null;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (Node child = node.firstChild; child != null; child = child.nextSibling) {
+                if ((legal & (1L << child.action)) != 0) {
+                    child.availability++;
+                    double score = child.wins / child.visits
+                            + EXPLORATION * Math.sqrt(Math.log(child.availability) / child.visits);
+                    if (score > bestScore) {
+                        best = child;
+                        bestScore = score;
+                    }
+                }
+            }
+            node = best;
+            state.apply(node.action, random);
+        }
+        return node;
+    }
+
+    /**
+     * Plays the rest of a game with random legal moves.
+     *
+     * @param state  the game, advanced to its end
+     * @param random the random stream
+     * @return the winning seat, or -1 for a tie
+     */
+    private static int playOut(GameState state, SplittableRandom random) {
+        for (int moves = 0; moves < MAX_ROLLOUT_MOVES && !state.isOver(); moves++) {
+            state.apply(randomBit(state.legalActions(), random), random);
+        }
+        return state.winner();
+    }
+
+    /**
+     * Picks one set bit of a mask uniformly at random.
+     *
+     * @param mask   a non-empty bit set
+     * @param random the random stream
+     * @return the position of the chosen bit
+     */
+    private static int randomBit(long mask, SplittableRandom random) {
+        for (int skip = random.nextInt(Long.bitCount(mask)); skip > 0; skip--) {
+            mask &= mask - 1;
+        }
+        return Long.numberOfTrailingZeros(mask);
+    }
+
+    /**
+     * The statistics gathered by the workers of a decision.
+     */
+    private static final class SearchResult {
+        private final long[] visits = new long[ACTIONS];
+        private long iterations;
+        private long treeSize;
+
+        /**
+         * Adds the statistics of another worker.
+         *
+         * @param other the result of the worker
+         */
+        void add(SearchResult other) {
+            for (int i = 0; i < ACTIONS; i++) {
+                visits[i] += other.visits[i];
+            }
+            iterations += other.iterations;
+            treeSize += other.treeSize;
+        }
+    }
+
+    /**
+     * A node of the search tree: the move that leads to it and the results seen after it.
+     */
+    private static final class Node {
+        private final Node parent;
+        private final int action;
+        private final int player;
+        private Node firstChild;
+        private Node nextSibling;
+        private long childActions;
+        private int visits;
+        private int availability = 1;
+        private double wins;
+
+        /**
+         * Constructs a node.
+         *
+         * @param parent the parent node, or {@code null} for the root
+         * @param action the action that leads to this node
+         * @param player the player who made that action
+         */
+        Node(Node parent, int action, int player) {
+            this.parent = parent;
+            this.action = action;
+            this.player = player;
+        }
+
+        /**
+         * Adds a child for an action not tried yet.
+         *
+         * @param childAction the action of the child
+         * @param mover       the player who makes the action
+         * @return the new child
+         */
+        Node addChild(int childAction, int mover) {
+            Node child = new Node(this, childAction, mover);
+            child.nextSibling = firstChild;
+            firstChild = child;
+            childActions |= 1L << childAction;
+            return child;
+        }
+
+        /**
+         * Counts the nodes of the subtree.
+         *
+         * @return the number of nodes, this one included
+         */
+        long countNodes() {
+            long count = 1;
+            for (Node child = firstChild; child != null; child = child.nextSibling) {
+                count += child.countNodes();
+            }
+            return count;
+        }
+    }
+}
@@ -3,95 +3,216 @@ package org.example.eiscuno.model.machine;
 import javafx.application.Platform;
 import javafx.scene.image.ImageView;
 import org.example.eiscuno.controller.GameUnoController;
-import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.clock.TurnClock;
+import org.example.eiscuno.model.game.GameActor;
+import org.example.eiscuno.model.game.GameSnapshot;
 import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.game.Move;
 import org.example.eiscuno.model.player.Player;
-import org.example.eiscuno.model.table.Table;
+import org.example.eiscuno.view.CardView;
 
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
- * A thread that handles the gameplay logic for the AI-controlled machine player in the Uno game.
+ * A task that handles the gameplay logic for the AI-controlled machine player in the Uno game.
  * <p>
- * This class extends {@link Thread} and is responsible for executing the AI player's turn logic
- * in a separate thread. It interacts with various game components such as the game table, deck,
- * machine player, and AI strategy. The thread simulates the AI's decision-making process and
+ * This class implements {@link Runnable} and is responsible for executing the AI player's turn logic
+ * in the background, on a thread given by the
+ * {@link org.example.eiscuno.model.session.SessionExecutor} of the session. It interacts with the
+ * machine player, its AI strategy and the {@link GameActor} that owns the game. The thread simulates the AI's decision-making process and
  * updates the game state accordingly. It also checks for game over conditions and updates the UI.
  * <p>
- * The class uses an {@link AtomicBoolean} to track whether the AI player has played its turn,
- * ensuring thread-safe operations.
+ * While the human player thinks, the task is parked on a {@link Condition} and uses no CPU.
+ * The controller hands the turn over with {@link #setHasPlayerPlayed(boolean)}, which wakes the
+ * thread up; the flag that tells whose turn it is is only changed while holding the lock.
+ * <p>
+ * The strategy decides on a copy of the game, taken by a short command of the {@link GameActor},
+ * so a long search does not hold the actor: the commands of the human player, the UNO calls and
+ * the timeouts still run while the machine thinks. Only the decided move is applied by a second
+ * command, which checks the turn again. If the strategy fails or its move is refused, a
+ * {@link BasicAIPlayerStrategy} decides again inside that command, so the turn is always played.
  */
-public class ThreadPlayMachine extends Thread {
-    private final Table table;
+public class ThreadPlayMachine implements Runnable {
+    /**
+     * The time the machine pretends to think before each move, in game milliseconds.
+     */
+    public static final long THINKING_DELAY_MILLIS = 2000;
+
     private final Player machinePlayer;
-    private final Deck deck;
     private final ImageView tableImageView;
-    private final AtomicBoolean hasPlayerPlayed;
+    private final Lock turnLock = new ReentrantLock();
+    private final Condition machineTurn = turnLock.newCondition();
+    private volatile boolean hasPlayerPlayed;
     private final AIPlayerStrategy aiPlayerStrategy;
+    private final AIPlayerStrategy fallbackStrategy = new BasicAIPlayerStrategy();
     private final GameUnoController gameUnoController;
-    private final GameUno gameUno;
+    private final GameActor gameActor;
+    private final TurnClock turnClock;
 
     /**
-     * Constructs a new {@code ThreadPlayMachine} instance.
+     * Constructs a new {@code ThreadPlayMachine} instance whose moves go through the actor of the game.
      * <p>
-     * This constructor initializes the AI player's thread for managing its turn logic
-     * during the game. It sets up the required game components, including the table,
-     * machine player, game deck, AI strategy, and game controller. Additionally, it
-     * initializes the {@code hasPlayerPlayed} flag and associates the AI strategy
-     * with the current game instance.
+     * The strategy reads a copy of the game taken by the actor, so no other thread changes what it
+     * reads, and the move is applied by the actor. The thinking delay of the machine is timed by
+     * the clock of the game, so an instant clock makes the machine play right away.
      *
-     * @param table            The {@link Table} representing the game table where cards are played.
      * @param machinePlayer    The {@link Player} representing the AI-controlled machine player.
      * @param tableImageView   The {@link ImageView} displaying the current state of the table.
-     * @param gameDeck         The {@link Deck} representing the deck of cards used in the game.
      * @param aiPlayerStrategy The {@link AIPlayerStrategy} that defines the AI's gameplay logic.
      * @param gameUnoController The {@link GameUnoController} managing game flow and user interactions.
      * @param gameUno          The {@link GameUno} instance representing the overall game state.
+     * @param gameActor        The {@link GameActor} that owns the game.
+     * @param turnClock        The {@link TurnClock} that paces the game.
      */
-    public ThreadPlayMachine(Table table, Player machinePlayer, ImageView tableImageView, Deck gameDeck, AIPlayerStrategy aiPlayerStrategy, GameUnoController gameUnoController, GameUno gameUno) {
-        this.table = table;
+    public ThreadPlayMachine(Player machinePlayer, ImageView tableImageView, AIPlayerStrategy aiPlayerStrategy, GameUnoController gameUnoController, GameUno gameUno, GameActor gameActor, TurnClock turnClock) {
         this.machinePlayer = machinePlayer;
         this.tableImageView = tableImageView;
-        this.deck = gameDeck;
-        this.hasPlayerPlayed = new AtomicBoolean(false);
         this.aiPlayerStrategy = aiPlayerStrategy;
         this.gameUnoController =  gameUnoController;
-        this.gameUno = gameUno;
+        this.gameActor = gameActor;
+        this.turnClock = turnClock;
         this.aiPlayerStrategy.setGameUno(gameUno);
+        this.fallbackStrategy.setGameUno(gameUno);
     }
 
     /**
-     * Executes the AI player's turn logic in a separate thread.
+     * Executes the AI player's turn logic until the task is cancelled.
      * <p>
-     * This method runs in a loop until the current thread is interrupted. It checks if the player
-     * (AI) has played their turn, simulates a delay to mimic AI thinking, and then executes the AI's
-     * turn strategy. After the AI makes its move, it updates the play status and checks if the game
-     * is over. UI updates are handled on the JavaFX Application Thread using {@code Platform.runLater}.
+     * This method runs in a loop until the current thread is interrupted. It waits, parked, until
+     * the human player has played their turn, waits for the thinking delay on the clock of the game
+     * (a timeout of the shared timer wheel, not a sleep), and then plays the turn with
+     * {@link #playTurn()}; the played card is rendered on the table. Whether the move was played or
+     * not, the play status is then set from the new snapshot, and the game over is checked or the
+     * turn of the human player started, so the game never waits on a turn nobody plays. UI updates are handled on the JavaFX Application Thread using {@code Platform.runLater}.
      * <p>
      * The method ensures proper thread interruption handling by catching {@code InterruptedException}.
      */
     @Override
     public void run() {
         while (!Thread.currentThread().isInterrupted()) {
-            if (hasPlayerPlayed.get()) {
-                try {
-                    Thread.sleep(2000); // Simulate delay for AI thinking
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    break;
+            try {
+                awaitTurn();
+                turnClock.delay(THINKING_DELAY_MILLIS).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("The thinking delay failed", e.getCause());
+            }
+            Move move;
+            try {
+                move = playTurn();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException e) {
+                System.out.println("AI move failed: " + GameActor.causeOf(e.getCause()));
+                move = null;
+            }
+            if (move != null && !move.isDraw()) {
+                Card played = move.getCard();
+                Platform.runLater(() -> CardView.bind(tableImageView, played));
+            }
+            GameSnapshot snapshot = gameActor.snapshot();
+            setHasPlayerPlayed(!snapshot.isHumanTurn());
+
+            Platform.runLater(() -> {
+                if (snapshot.getMachineCardCount() == 0 || !snapshot.canDrawCard()){
+                    gameUnoController.checkGameOver();
+                } else if (snapshot.isHumanTurn()) {
+                    gameUnoController.startHumanTurn();
                 }
-                aiPlayerStrategy.playTurn(machinePlayer, table, deck, tableImageView);
-                hasPlayerPlayed.set(aiPlayerStrategy.getGameUno().getCurrentPlayer().equals(machinePlayer));
+            });
 
+            Platform.runLater(gameUnoController::printCardsHumanPlayer);
+        }
+    }
+
+    /**
+     * Decides the move of the machine player away from the game actor, then applies it.
+     * <p>
+     * The game is copied by a command of the actor and the strategy decides on the copy, on the
+     * calling thread, while the actor keeps running other commands. The move is then applied by
+     * another command, see {@link #applyTurn(GameUno, Move, long)}.
+     *
+     * @return the applied move, or {@code null} if it was not the turn of the machine player
+     * @throws InterruptedException if the thread is interrupted while waiting for the actor
+     * @throws ExecutionException   if no move could be applied, not even the fallback one
+     */
+    Move playTurn() throws InterruptedException, ExecutionException {
+        GameUno copy = gameActor.submit(g -> g.getCurrentPlayer() == machinePlayer ? g.copy() : null).get();
+        if (copy == null) {
+            return null;
+        }
+        long start = System.nanoTime();
+        Move decided;
+        try {
+            decided = aiPlayerStrategy.chooseMove(copy.viewFor(copy.getCurrentPlayer()));
+        } catch (RuntimeException e) {
+            System.out.println("AI decision failed: " + e);
+            decided = null;
+        }
+        long decisionNanos = System.nanoTime() - start;
+        Move move = decided;
+        return gameActor.submit(g -> applyTurn(g, move, decisionNanos)).get();
+    }
 
-                Platform.runLater(() -> {
-                    if (machinePlayer.getCardsPlayer().isEmpty() || deck.isEmpty()){
-                        gameUnoController.checkGameOver();
-                    }
-                });
+    /**
+     * Applies the decided move of the machine player, as a command of the game actor.
+     * <p>
+     * The turn is checked again, as it may have passed while the strategy decided. If there is no
+     * decided move or the game refuses it, the fallback strategy decides on the live game.
+     *
+     * @param gameUno       the game, owned by the actor
+     * @param decided       the move decided on the copy, or {@code null} if the strategy failed
+     * @param decisionNanos the time the strategy took to decide
+     * @return the applied move, or {@code null} if it is not the turn of the machine player
+     */
+    private Move applyTurn(GameUno gameUno, Move decided, long decisionNanos) {
+        if (gameUno.getCurrentPlayer() != machinePlayer) {
+            return null;
+        }
+        Move move = decided;
+        Card drawn = null;
+        if (move != null) {
+            try {
+                drawn = gameUno.applyMove(machinePlayer, move);
+            } catch (RuntimeException e) {
+                System.out.println("AI move " + move + " refused: " + e.getMessage());
+                move = null;
+            }
+        }
+        if (move == null) {
+            move = fallbackStrategy.chooseMove(gameUno.viewFor(machinePlayer));
+            drawn = gameUno.applyMove(machinePlayer, move);
+        }
+        if (gameUno.isVerbose()) {
+            System.out.println("AI move: " + move + " (decided in " + decisionNanos / 1000 + " us)");
+            if (drawn != null) {
+                System.out.println("Added AI Card!: " + drawn.getColor() + "/" + drawn.getValue());
+                System.out.println("-----------------------");
+            }
+        }
+        return move;
+    }
 
-                Platform.runLater(gameUnoController::printCardsHumanPlayer);
+    /**
+     * Parks the thread until it is the turn of the machine player.
+     *
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    private void awaitTurn() throws InterruptedException {
+        turnLock.lock();
+        try {
+            while (!hasPlayerPlayed) {
+                machineTurn.await();
             }
+        } finally {
+            turnLock.unlock();
         }
     }
 
@@ -99,13 +220,22 @@ public class ThreadPlayMachine extends Thread {
      * Sets the player's play status.
      * <p>
      * This method updates the {@code hasPlayerPlayed} flag to indicate whether
-     * the player has played their turn or not.
+     * the player has played their turn or not. Setting it to {@code true} wakes the thread up
+     * to play the turn of the machine player.
      *
      * @param hasPlayerPlayed A boolean value where {@code true} indicates the player has played,
      *                        and {@code false} indicates they have not.
      */
     public void setHasPlayerPlayed(boolean hasPlayerPlayed) {
-        this.hasPlayerPlayed.set(hasPlayerPlayed);
+        turnLock.lock();
+        try {
+            this.hasPlayerPlayed = hasPlayerPlayed;
+            if (hasPlayerPlayed) {
+                machineTurn.signal();
+            }
+        } finally {
+            turnLock.unlock();
+        }
     }
 
     /**
@@ -119,6 +249,6 @@ public class ThreadPlayMachine extends Thread {
      *         and {@code false} indicates the player HAS played.
      */
     public boolean getHasPlayerPlayed() {
-        return !hasPlayerPlayed.get();
+        return !hasPlayerPlayed;
     }
 }
@@ -0,0 +1,131 @@
+package org.example.eiscuno.model.machine;
+
+import org.example.eiscuno.model.clock.TimerWheel;
+import org.example.eiscuno.model.clock.TurnClock;
+import org.example.eiscuno.model.player.Hand;
+import org.example.eiscuno.model.rng.GameRng;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Calls "UNO" on behalf of the machine when the human player is left with one card.
+ * <p>
+ * The detector listens to the size of the human player's {@link Hand}. When the hand goes down to
+ * one card, the machine's reaction is scheduled after a random delay on the {@link TurnClock} of
+ * the game; if the hand changes again, or the human calls "UNO" first, the reaction is cancelled.
+ * No thread waits for the human player: the delay is a timeout on the timer wheel shared by every
+ * game of the process.
+ * <p>
+ * The reaction itself is handed to the executor that owns the game (in the application, a command
+ * of the {@link org.example.eiscuno.model.game.GameActor} of the game, which then redraws the hand
+ * on the JavaFX Application Thread), and it checks again that the hand still holds one card, so a
+ * reaction that lost a race with a change of the hand does nothing.
+ */
+public final class UnoCallDetector implements Hand.SizeListener {
+    private final Hand hand;
+    private final TurnClock clock;
+    private final Executor gameExecutor;
+    private final Runnable callUno;
+    private final GameRng rng;
+    private final int maxDelayMillis;
+    private TimerWheel.Timeout pendingCall;
+    private long generation;
+    private boolean closed;
+
+    /**
+     * Constructs a detector and starts listening to a hand.
+     *
+     * @param hand           the hand of the human player
+     * @param clock          the clock of the game, which times the machine's reactions
+     * @param gameExecutor   the executor that runs the reaction in the game
+     * @param callUno        the reaction of the machine, run by the game executor
+     * @param rng            the random stream of the delays
+     * @param maxDelayMillis the maximum reaction delay, in game milliseconds
+     */
+    public UnoCallDetector(Hand hand, TurnClock clock, Executor gameExecutor,
+                           Runnable callUno, GameRng rng, int maxDelayMillis) {
+        if (maxDelayMillis < 1) {
+            throw new IllegalArgumentException("The maximum delay must be positive: " + maxDelayMillis);
+        }
+        this.hand = hand;
+        this.clock = clock;
+        this.gameExecutor = gameExecutor;
+        this.callUno = callUno;
+        this.rng = rng;
+        this.maxDelayMillis = maxDelayMillis;
+        hand.addSizeListener(this);
+    }
+
+    /**
+     * Schedules the machine's reaction when the hand goes down to one card, and cancels it on any
+     * other change.
+     *
+     * @param previousSize the number of cards before the change
+     * @param newSize      the number of cards after the change
+     */
+    @Override
+    public synchronized void onSizeChanged(int previousSize, int newSize) {
+        if (closed) {
+            return;
+        }
+        cancelPendingCall();
+        if (newSize == 1) {
+            long scheduled = generation;
+            pendingCall = clock.schedule(() -> gameExecutor.execute(() -> react(scheduled)),
+                    rng.nextInt(maxDelayMillis));
+        }
+    }
+
+    /**
+     * Cancels the machine's reaction because the human player called "UNO" first.
+     */
+    public synchronized void humanCalled() {
+        cancelPendingCall();
+    }
+
+    /**
+     * Checks whether the machine's reaction is scheduled.
+     *
+     * @return true if the machine is about to call "UNO"
+     */
+    public synchronized boolean isCallPending() {
+        return pendingCall != null;
+    }
+
+    /**
+     * Stops listening to the hand and cancels the pending reaction, at the end of a game.
+     */
+    public synchronized void close() {
+        closed = true;
+        cancelPendingCall();
+        hand.removeSizeListener(this);
+    }
+
+    /**
+     * Runs the machine's reaction if it was not cancelled in the meantime.
+     *
+     * @param scheduled the generation of the reaction when it was scheduled
+     */
+    private void react(long scheduled) {
+        synchronized (this) {
+            if (closed || scheduled != generation || hand.size() != 1) {
+                return;
+            }
+            pendingCall = null;
+            generation++;
+        }
+        System.out.println("UNO");
+        callUno.run();
+    }
+
+    /**
+     * Cancels the pending reaction, if any, including one already handed to the game executor.
+     */
+    private void cancelPendingCall() {
+        generation++;
+        if (pendingCall != null) {
+            pendingCall.cancel();
+            pendingCall = null;
+        }
+    }
+}
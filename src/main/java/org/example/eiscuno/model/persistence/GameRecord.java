@@ -0,0 +1,112 @@
+package org.example.eiscuno.model.persistence;
+
+import java.util.List;
+
+/**
+ * The result of a finished game, as written by a {@link GameResultStore}.
+ * <p>
+ * Records are immutable, so a game can hand one to the store and forget it.
+ */
+public final class GameRecord {
+    private final long gameId;
+    private final long seed;
+    private final List<String> players;
+    private final String winner;
+    private final int moves;
+    private final long durationMillis;
+    private final long endedAtMillis;
+
+    /**
+     * Constructs the record of a game that just ended.
+     *
+     * @param gameId         the id of the game, from {@link GameResultStore#nextGameId()}
+     * @param seed           the seed of the game
+     * @param players        the names of the players, by seat
+     * @param winner         the name of the winner, or {@code null} for a game without a winner
+     * @param moves          the number of moves played
+     * @param durationMillis the time the game lasted
+     */
+    public GameRecord(long gameId, long seed, List<String> players, String winner, int moves, long durationMillis) {
+        this.gameId = gameId;
+        this.seed = seed;
+        this.players = List.copyOf(players);
+        this.winner = winner;
+        this.moves = moves;
+        this.durationMillis = durationMillis;
+        this.endedAtMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * Gets the id of the game.
+     *
+     * @return the id of the game in the store
+     */
+    public long getGameId() {
+        return gameId;
+    }
+
+    /**
+     * Gets the seed of the game.
+     *
+     * @return the seed that deals the game again
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the players of the game.
+     *
+     * @return the names of the players, by seat
+     */
+    public List<String> getPlayers() {
+        return players;
+    }
+
+    /**
+     * Gets the winner of the game.
+     *
+     * @return the name of the winner, or {@code null} for a game without a winner
+     */
+    public String getWinner() {
+        return winner;
+    }
+
+    /**
+     * Gets the number of moves played.
+     *
+     * @return the number of cards played and drawn on the turns of the players
+     */
+    public int getMoves() {
+        return moves;
+    }
+
+    /**
+     * Gets the time the game lasted.
+     *
+     * @return the duration in milliseconds
+     */
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    /**
+     * Gets the time the game ended.
+     *
+     * @return the end of the game, in milliseconds since the epoch
+     */
+    public long getEndedAtMillis() {
+        return endedAtMillis;
+    }
+
+    /**
+     * Formats the record for the console.
+     *
+     * @return the id, the winner, the moves and the duration of the game
+     */
+    @Override
+    public String toString() {
+        return "GameRecord[" + gameId + " seed=" + seed + " players=" + players + " winner=" + winner
+                + " moves=" + moves + " duration=" + durationMillis + " ms]";
+    }
+}
@@ -0,0 +1,651 @@
+package org.example.eiscuno.model.persistence;
+
+import org.example.eiscuno.model.clock.TimerWheel;
+import org.example.eiscuno.model.game.GameEventSink;
+import org.example.eiscuno.model.session.SessionExecutor;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Writes the results of the finished games, and optionally their events, to a relational database.
+ * <p>
+ * The games never wait on the database: a record is put in a bounded queue and the call returns
+ * at once. The queue is flushed in JDBC batches, one transaction per batch, on the
+ * {@link SessionExecutor}, as soon as it holds a full batch or, for the last records, at the next
+ * flush tick of the {@link TimerWheel}. When the queue is full the record is dropped and counted;
+ * a batch the database refuses is rolled back and counted as lost.
+ * <p>
+ * The store counts the queue depth, the batches and their size, the time the database takes to
+ * write a batch and the longest time a record waited in the queue before it was committed. Each
+ * queued record carries the time it was queued, so the wait of a batch is measured from its
+ * oldest record, however the records were split in batches.
+ * <p>
+ * The database is any JDBC database whose driver is on the class path; the tables are created on
+ * the first connection. The store shared by the game screen connects to the URL of the
+ * {@value #URL_PROPERTY} system property.
+ */
+public final class GameResultStore implements AutoCloseable {
+    /**
+     * The system property with the JDBC URL of the shared store.
+     */
+    public static final String URL_PROPERTY = "eiscuno.db.url";
+
+    /**
+     * The system property that also records the events of the games of the shared store.
+     */
+    public static final String EVENTS_PROPERTY = "eiscuno.db.events";
+
+    private static final String[] SCHEMA = {
+            "CREATE TABLE IF NOT EXISTS uno_game (game_id BIGINT PRIMARY KEY, seed BIGINT NOT NULL, "
+                    + "players INT NOT NULL, winner VARCHAR(64), moves INT NOT NULL, duration_ms BIGINT NOT NULL, "
+                    + "ended_at TIMESTAMP NOT NULL)",
+            "CREATE TABLE IF NOT EXISTS uno_game_player (game_id BIGINT NOT NULL, seat INT NOT NULL, "
+                    + "name VARCHAR(64) NOT NULL, PRIMARY KEY (game_id, seat))",
+            "CREATE TABLE IF NOT EXISTS uno_game_event (game_id BIGINT NOT NULL, seq INT NOT NULL, "
+                    + "type SMALLINT NOT NULL, seat SMALLINT NOT NULL, color SMALLINT NOT NULL, "
+                    + "derived BOOLEAN NOT NULL, argument BIGINT NOT NULL, PRIMARY KEY (game_id, seq))"
+    };
+
+    private final Connection connection;
+    private final PreparedStatement insertGame;
+    private final PreparedStatement insertPlayer;
+    private final PreparedStatement insertEvent;
+    private final BlockingQueue<Pending> queue;
+    private final int batchSize;
+    private final long flushMillis;
+    private final boolean recordEvents;
+    private final SessionExecutor executor;
+    private final TimerWheel wheel;
+    private final Lock flushLock = new ReentrantLock();
+    private final Condition flushDone = flushLock.newCondition();
+    private boolean flushing;
+    private final AtomicLong nextGameId = new AtomicLong(System.currentTimeMillis() * 1000);
+    private final AtomicInteger maxQueueDepth = new AtomicInteger();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder writtenGames = new LongAdder();
+    private final LongAdder writtenEvents = new LongAdder();
+    private final LongAdder lost = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder batchedRecords = new LongAdder();
+    private final LongAdder flushNanos = new LongAdder();
+    private volatile long maxFlushNanos;
+    private volatile long maxCommitDelayNanos;
+    private volatile boolean closed;
+
+    /**
+     * Connects a store on the shared executor and timer wheel, and creates its tables.
+     *
+     * @param url           the JDBC URL of the database
+     * @param queueCapacity the largest number of records waiting to be written
+     * @param batchSize     the largest number of records written in one batch
+     * @param flushMillis   the longest time a record waits for its batch to fill, in real milliseconds
+     * @param recordEvents  true to write the events of the games as well as their results
+     * @throws SQLException if the database cannot be reached or its tables cannot be created
+     */
+    public GameResultStore(String url, int queueCapacity, int batchSize, long flushMillis, boolean recordEvents)
+            throws SQLException {
+        this(url, queueCapacity, batchSize, flushMillis, recordEvents, SessionExecutor.shared(), TimerWheel.shared());
+    }
+
+    /**
+     * Connects a store and creates its tables.
+     *
+     * @param url           the JDBC URL of the database
+     * @param queueCapacity the largest number of records waiting to be written
+     * @param batchSize     the largest number of records written in one batch
+     * @param flushMillis   the longest time a record waits for its batch to fill, in real milliseconds
+     * @param recordEvents  true to write the events of the games as well as their results
+     * @param executor      the executor that writes the batches
+     * @param wheel         the wheel of the flush ticks
+     * @throws SQLException if the database cannot be reached or its tables cannot be created
+     */
+    public GameResultStore(String url, int queueCapacity, int batchSize, long flushMillis, boolean recordEvents,
+                           SessionExecutor executor, TimerWheel wheel) throws SQLException {
+        if (queueCapacity < 1 || batchSize < 1 || flushMillis < 1) {
+            throw new IllegalArgumentException("Invalid result store: queue " + queueCapacity + ", batch "
+                    + batchSize + ", flush " + flushMillis + " ms");
+        }
+        this.connection = DriverManager.getConnection(url);
+        try {
+            try (Statement statement = connection.createStatement()) {
+                for (String table : SCHEMA) {
+                    statement.execute(table);
+                }
+            }
+            connection.setAutoCommit(false);
+            this.insertGame = connection.prepareStatement("INSERT INTO uno_game "
+                    + "(game_id, seed, players, winner, moves, duration_ms, ended_at) VALUES (?, ?, ?, ?, ?, ?, ?)");
+            this.insertPlayer = connection.prepareStatement(
+                    "INSERT INTO uno_game_player (game_id, seat, name) VALUES (?, ?, ?)");
+            this.insertEvent = connection.prepareStatement("INSERT INTO uno_game_event "
+                    + "(game_id, seq, type, seat, color, derived, argument) VALUES (?, ?, ?, ?, ?, ?, ?)");
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushMillis = flushMillis;
+        this.recordEvents = recordEvents;
+        this.executor = executor;
+        this.wheel = wheel;
+        scheduleFlush();
+    }
+
+    /**
+     * Gives a new id to a game.
+     * <p>
+     * The ids grow from the start time of the store, so the games of successive runs do not
+     * collide in the same database.
+     *
+     * @return a unique id
+     */
+    public long nextGameId() {
+        return nextGameId.incrementAndGet();
+    }
+
+    /**
+     * Checks whether the events of the games are written.
+     *
+     * @return true if {@link #eventSink(long)} records the events
+     */
+    public boolean isRecordingEvents() {
+        return recordEvents;
+    }
+
+    /**
+     * Queues the result of a game, without waiting.
+     *
+     * @param record the result
+     * @return true if the record was queued, false if the queue is full or the store is closed
+     */
+    public boolean submit(GameRecord record) {
+        return enqueue(record);
+    }
+
+    /**
+     * Gets the sink that queues the events of a game.
+     * <p>
+     * The events are numbered in the order the game announces them. The sink must be used from
+     * the thread that owns the game.
+     *
+     * @param gameId the id of the game
+     * @return the sink of the game, or {@link GameEventSink#NONE} if the store does not record events
+     */
+    public GameEventSink eventSink(long gameId) {
+        if (!recordEvents) {
+            return GameEventSink.NONE;
+        }
+        return new GameEventSink() {
+            private int seq;
+
+            @Override
+            public void append(int type, int seat, int color, boolean derived, long argument) {
+                enqueue(new EventRecord(gameId, seq++, type, seat, color, derived, argument));
+            }
+        };
+    }
+
+    /**
+     * Puts a record in the queue and starts a flush once a batch is full.
+     *
+     * @param record the record
+     * @return true if the record was queued
+     */
+    private boolean enqueue(Object record) {
+        if (closed || !queue.offer(new Pending(record, System.nanoTime()))) {
+            dropped.increment();
+            return false;
+        }
+        int depth = queue.size();
+        maxQueueDepth.accumulateAndGet(depth, Math::max);
+        if (depth >= batchSize) {
+            requestFlush();
+        }
+        return true;
+    }
+
+    /**
+     * Starts a flush on the executor, unless one is running.
+     */
+    private void requestFlush() {
+        if (startFlush()) {
+            executor.submit("GameResultStore", () -> {
+                try {
+                    flush();
+                } finally {
+                    endFlush();
+                }
+                if (queue.size() >= batchSize) {
+                    requestFlush();
+                }
+            });
+        }
+    }
+
+    /**
+     * Marks a flush as running, unless one already is.
+     *
+     * @return true if the caller may flush
+     */
+    private boolean startFlush() {
+        flushLock.lock();
+        try {
+            if (flushing) {
+                return false;
+            }
+            flushing = true;
+            return true;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Marks the running flush as done and wakes up a {@link #close()} waiting for it.
+     */
+    private void endFlush() {
+        flushLock.lock();
+        try {
+            flushing = false;
+            flushDone.signalAll();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Schedules the next flush tick on the wheel.
+     */
+    private void scheduleFlush() {
+        if (closed) {
+            return;
+        }
+        wheel.schedule(() -> {
+            if (!queue.isEmpty()) {
+                requestFlush();
+            }
+            scheduleFlush();
+        }, flushMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Writes the queue in batches until it is empty.
+     * <p>
+     * Only one flush runs at a time, guarded by {@link #startFlush()}.
+     */
+    private void flush() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Writes one batch in one transaction.
+     * <p>
+     * The commit delay of the batch is measured from its oldest record, which is not always its
+     * first one, as concurrent games may queue their records in another order than they stamped
+     * them.
+     *
+     * @param batch the records, with the time they were queued
+     */
+    private void write(List<Pending> batch) {
+        long start = System.nanoTime();
+        long pendingSince = start;
+        int games = 0;
+        int events = 0;
+        try {
+            for (Pending pending : batch) {
+                pendingSince = Math.min(pendingSince, pending.queuedNanos);
+                if (pending.record instanceof GameRecord game) {
+                    addGame(game);
+                    games++;
+                } else {
+                    ((EventRecord) pending.record).addTo(insertEvent);
+                    events++;
+                }
+            }
+            if (games > 0) {
+                insertGame.executeBatch();
+                insertPlayer.executeBatch();
+            }
+            if (events > 0) {
+                insertEvent.executeBatch();
+            }
+            connection.commit();
+            writtenGames.add(games);
+            writtenEvents.add(events);
+            long delay = System.nanoTime() - pendingSince;
+            if (delay > maxCommitDelayNanos) {
+                maxCommitDelayNanos = delay;
+            }
+        } catch (SQLException e) {
+            lost.add(batch.size());
+            System.out.println("Could not write " + batch.size() + " records: " + e.getMessage());
+            try {
+                insertGame.clearBatch();
+                insertPlayer.clearBatch();
+                insertEvent.clearBatch();
+                connection.rollback();
+            } catch (SQLException rollback) {
+                System.out.println("Could not roll back the batch: " + rollback.getMessage());
+            }
+        }
+        long end = System.nanoTime();
+        long took = end - start;
+        batches.increment();
+        batchedRecords.add(batch.size());
+        flushNanos.add(took);
+        if (took > maxFlushNanos) {
+            maxFlushNanos = took;
+        }
+    }
+
+    /**
+     * Adds the rows of a game to the batches of the statements.
+     *
+     * @param game the result of the game
+     * @throws SQLException if a parameter cannot be set
+     */
+    private void addGame(GameRecord game) throws SQLException {
+        insertGame.setLong(1, game.getGameId());
+        insertGame.setLong(2, game.getSeed());
+        insertGame.setInt(3, game.getPlayers().size());
+        insertGame.setString(4, game.getWinner());
+        insertGame.setInt(5, game.getMoves());
+        insertGame.setLong(6, game.getDurationMillis());
+        insertGame.setTimestamp(7, new Timestamp(game.getEndedAtMillis()));
+        insertGame.addBatch();
+        for (int seat = 0; seat < game.getPlayers().size(); seat++) {
+            insertPlayer.setLong(1, game.getGameId());
+            insertPlayer.setInt(2, seat);
+            insertPlayer.setString(3, game.getPlayers().get(seat));
+            insertPlayer.addBatch();
+        }
+    }
+
+    /**
+     * Stops accepting records, writes the ones in the queue and closes the connection.
+     * <p>
+     * A flush running on the executor is waited for without using the CPU; the store then keeps
+     * the flush to itself, so no other one can start on the closed connection.
+     *
+     * @throws SQLException if the connection cannot be closed
+     */
+    @Override
+    public void close() throws SQLException {
+        closed = true;
+        flushLock.lock();
+        try {
+            while (flushing) {
+                flushDone.awaitUninterruptibly();
+            }
+            flushing = true;
+        } finally {
+            flushLock.unlock();
+        }
+        try {
+            flush();
+        } finally {
+            connection.close();
+        }
+    }
+
+    /**
+     * Gets the number of records waiting to be written.
+     *
+     * @return the depth of the queue
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Gets the deepest the queue has been.
+     *
+     * @return the largest number of records waiting at once
+     */
+    public int getMaxQueueDepth() {
+        return maxQueueDepth.get();
+    }
+
+    /**
+     * Gets the number of records dropped because the queue was full or the store closed.
+     *
+     * @return the number of dropped records
+     */
+    public long getDroppedRecords() {
+        return dropped.sum();
+    }
+
+    /**
+     * Gets the number of records of the batches the database refused.
+     *
+     * @return the number of lost records
+     */
+    public long getLostRecords() {
+        return lost.sum();
+    }
+
+    /**
+     * Gets the number of game results written.
+     *
+     * @return the number of committed games
+     */
+    public long getWrittenGames() {
+        return writtenGames.sum();
+    }
+
+    /**
+     * Gets the number of game events written.
+     *
+     * @return the number of committed events
+     */
+    public long getWrittenEvents() {
+        return writtenEvents.sum();
+    }
+
+    /**
+     * Gets the number of batches written.
+     *
+     * @return the number of transactions
+     */
+    public long getBatches() {
+        return batches.sum();
+    }
+
+    /**
+     * Gets the average number of records of a batch.
+     *
+     * @return the records per batch, or 0 before the first batch
+     */
+    public double getAverageBatchSize() {
+        long count = batches.sum();
+        return count == 0 ? 0 : (double) batchedRecords.sum() / count;
+    }
+
+    /**
+     * Gets the average time the database took to write a batch.
+     *
+     * @return the average flush latency in nanoseconds
+     */
+    public long getAverageFlushNanos() {
+        long count = batches.sum();
+        return count == 0 ? 0 : flushNanos.sum() / count;
+    }
+
+    /**
+     * Gets the longest time the database took to write a batch.
+     *
+     * @return the maximum flush latency in nanoseconds
+     */
+    public long getMaxFlushNanos() {
+        return maxFlushNanos;
+    }
+
+    /**
+     * Gets the longest time between the queueing of a record and the commit of its batch.
+     *
+     * @return the maximum commit delay in nanoseconds
+     */
+    public long getMaxCommitDelayNanos() {
+        return maxCommitDelayNanos;
+    }
+
+    /**
+     * Formats the metrics of the store for the console.
+     *
+     * @return the queue, the written records and the latencies
+     */
+    @Override
+    public String toString() {
+        return String.format("GameResultStore queue=%d (max %d) games=%d events=%d batches=%d (avg %.1f) dropped=%d lost=%d flush avg=%d us max=%d us commit delay max=%d ms",
+                getQueueDepth(), getMaxQueueDepth(), getWrittenGames(), getWrittenEvents(), getBatches(),
+                getAverageBatchSize(), getDroppedRecords(), getLostRecords(), getAverageFlushNanos() / 1000,
+                getMaxFlushNanos() / 1000, getMaxCommitDelayNanos() / 1_000_000);
+    }
+
+    /**
+     * Gets the store shared by the game screen.
+     * <p>
+     * The store connects to the URL of the {@value #URL_PROPERTY} system property, with a queue
+     * of 4096 records flushed in batches of 256 at least every second; it writes the events of
+     * the games when the {@value #EVENTS_PROPERTY} property is {@code true}.
+     *
+     * @return the shared store, or {@code null} if no URL is set or the database cannot be reached
+     */
+    public static synchronized GameResultStore shared() {
+        if (GameResultStoreHolder.INSTANCE == null && !GameResultStoreHolder.failed) {
+            String url = System.getProperty(URL_PROPERTY);
+            if (url == null) {
+                GameResultStoreHolder.failed = true;
+                return null;
+            }
+            try {
+                GameResultStoreHolder.INSTANCE = new GameResultStore(url, 4096, 256, 1000,
+                        Boolean.getBoolean(EVENTS_PROPERTY));
+            } catch (SQLException e) {
+                GameResultStoreHolder.failed = true;
+                System.out.println("The game results will not be saved: " + e.getMessage());
+            }
+        }
+        return GameResultStoreHolder.INSTANCE;
+    }
+
+    /**
+     * Closes the shared store, if it was created, writing the records still in its queue.
+     * <p>
+     * The application calls it when it stops; the store is not created just to be closed.
+     */
+    public static synchronized void closeShared() {
+        GameResultStore store = GameResultStoreHolder.INSTANCE;
+        if (store == null) {
+            return;
+        }
+        GameResultStoreHolder.INSTANCE = null;
+        GameResultStoreHolder.failed = true;
+        try {
+            store.close();
+            System.out.println(store);
+        } catch (SQLException e) {
+            System.out.println("The game results could not be saved: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Holder class for the shared store.
+     * This class ensures lazy initialization of the store.
+     */
+    private static class GameResultStoreHolder {
+        private static GameResultStore INSTANCE;
+        private static boolean failed;
+    }
+
+    /**
+     * A record waiting in the queue, with the time it was queued.
+     */
+    private static final class Pending {
+        private final Object record;
+        private final long queuedNanos;
+
+        /**
+         * Constructs a queued record.
+         *
+         * @param record      the result or event
+         * @param queuedNanos the time it was queued, from {@link System#nanoTime()}
+         */
+        private Pending(Object record, long queuedNanos) {
+            this.record = record;
+            this.queuedNanos = queuedNanos;
+        }
+    }
+
+    /**
+     * One event of a game, waiting in the queue.
+     */
+    private static final class EventRecord {
+        private final long gameId;
+        private final int seq;
+        private final int type;
+        private final int seat;
+        private final int color;
+        private final boolean derived;
+        private final long argument;
+
+        /**
+         * Constructs an event.
+         *
+         * @param gameId   the id of the game
+         * @param seq      the number of the event in its game
+         * @param type     the type of the event
+         * @param seat     the seat of the event
+         * @param color    the color of the event
+         * @param derived  true if the event is derived from another one
+         * @param argument the argument of the event
+         */
+        private EventRecord(long gameId, int seq, int type, int seat, int color, boolean derived, long argument) {
+            this.gameId = gameId;
+            this.seq = seq;
+            this.type = type;
+            this.seat = seat;
+            this.color = color;
+            this.derived = derived;
+            this.argument = argument;
+        }
+
+        /**
+         * Adds the row of the event to the batch of a statement.
+         *
+         * @param insert the insert statement of the events
+         * @throws SQLException if a parameter cannot be set
+         */
+        private void addTo(PreparedStatement insert) throws SQLException {
+            insert.setLong(1, gameId);
+            insert.setInt(2, seq);
+            insert.setShort(3, (short) type);
+            insert.setShort(4, (short) seat);
+            insert.setShort(5, (short) color);
+            insert.setBoolean(6, derived);
+            insert.setLong(7, argument);
+            insert.addBatch();
+        }
+    }
+}
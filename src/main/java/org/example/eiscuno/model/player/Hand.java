@@ -0,0 +1,366 @@
+package org.example.eiscuno.model.player;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardColor;
+import org.example.eiscuno.model.card.CardValue;
+import org.example.eiscuno.model.card.PlayabilityTable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The cards held by a player, in the order they were received, with an index by face, color
+ * and value.
+ * <p>
+ * Next to the ordered list, the hand keeps per-face, per-color and per-value counts and a bit set
+ * of the standard faces it holds (see {@link PlayabilityTable#bitOf(int)}). Adding or removing a
+ * card updates these counts in constant time, and the playable cards for a top card and game
+ * color are found with a single AND against {@link PlayabilityTable#playableBits(int, int)},
+ * without scanning the hand or allocating.
+ * <p>
+ * The list itself is not indexed: removing a card still finds it with a linear scan and shifts
+ * the cards after it, so that the hand keeps the order in which it is shown. Hands hold a handful
+ * of cards, so the scan costs less than keeping a position for each card up to date.
+ * <p>
+ * The hand is still an {@link ArrayList}, so existing code can keep reading and editing it as a
+ * list. Edits made through methods that are not overridden here (for example
+ * {@code removeIf} or an iterator) are detected through the list modification count, and the
+ * index is rebuilt on the next query.
+ * <p>
+ * Cards whose face is not one of the standard faces, or whose type disagrees with the wildness of
+ * their value, are kept in the list but not in the face set; {@link #isFullyIndexed()} reports
+ * whether such cards are present.
+ * <p>
+ * Changes of the number of cards made through the methods overridden here are published to the
+ * registered {@link SizeListener}s, on the thread that made the change.
+ */
+public class Hand extends ArrayList<Card> {
+    private static final long serialVersionUID = 1L;
+
+    private final int[] faceCounts = new int[PlayabilityTable.FACES];
+    private final int[] colorCounts = new int[CardColor.COUNT];
+    private final int[] valueCounts = new int[CardValue.COUNT];
+    private long faceBits;
+    private int unindexedCards;
+    private int indexedModCount;
+    private final List<SizeListener> sizeListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Listens to the changes of the number of cards of a hand.
+     */
+    @FunctionalInterface
+    public interface SizeListener {
+
+        /**
+         * Called after a card was added to or removed from the hand.
+         *
+         * @param previousSize the number of cards before the change
+         * @param newSize the number of cards after the change
+         */
+        void onSizeChanged(int previousSize, int newSize);
+    }
+
+    /**
+     * Adds a card at the end of the hand.
+     *
+     * @param card the card to add
+     * @return always {@code true}
+     */
+    @Override
+    public boolean add(Card card) {
+        boolean stale = isStale();
+        super.add(card);
+        update(card, 1, stale);
+        sizeChanged(size() - 1);
+        return true;
+    }
+
+    /**
+     * Inserts a card at a position of the hand.
+     *
+     * @param index the position of the new card
+     * @param card the card to add
+     */
+    @Override
+    public void add(int index, Card card) {
+        boolean stale = isStale();
+        super.add(index, card);
+        update(card, 1, stale);
+        sizeChanged(size() - 1);
+    }
+
+    /**
+     * Removes the card at a position of the hand.
+     *
+     * @param index the position of the card to remove
+     * @return the removed card
+     */
+    @Override
+    public Card remove(int index) {
+        boolean stale = isStale();
+        Card card = super.remove(index);
+        update(card, -1, stale);
+        sizeChanged(size() + 1);
+        return card;
+    }
+
+    /**
+     * Removes a card from the hand.
+     * <p>
+     * Cards are compared by identity, so this removes exactly the given physical card. The card
+     * is found with a linear scan, then the counts are updated in constant time.
+     *
+     * @param card the card to remove
+     * @return {@code true} if the card was in the hand
+     */
+    @Override
+    public boolean remove(Object card) {
+        int index = indexOf(card);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Replaces the card at a position of the hand.
+     *
+     * @param index the position of the card to replace
+     * @param card the new card
+     * @return the replaced card
+     */
+    @Override
+    public Card set(int index, Card card) {
+        boolean stale = isStale();
+        Card previous = super.set(index, card);
+        if (!stale) {
+            index(previous, -1);
+            index(card, 1);
+        }
+        return previous;
+    }
+
+    /**
+     * Removes every card from the hand.
+     */
+    @Override
+    public void clear() {
+        int previousSize = size();
+        super.clear();
+        rebuildIndex();
+        if (previousSize > 0) {
+            sizeChanged(previousSize);
+        }
+    }
+
+    /**
+     * Registers a listener of the changes of the number of cards.
+     *
+     * @param listener the listener to add
+     */
+    public void addSizeListener(SizeListener listener) {
+        sizeListeners.add(listener);
+    }
+
+    /**
+     * Unregisters a listener of the changes of the number of cards.
+     *
+     * @param listener the listener to remove
+     */
+    public void removeSizeListener(SizeListener listener) {
+        sizeListeners.remove(listener);
+    }
+
+    /**
+     * Gets the set of standard faces in the hand that can be played.
+     *
+     * @param topCard the card on the table
+     * @param gameColor the current game color, or {@code null} if none is set
+     * @return a bit set, indexed by {@link PlayabilityTable#bitOf(int)}, of the playable faces held
+     */
+    public long getPlayableBits(Card topCard, CardColor gameColor) {
+        ensureIndexed();
+        return faceBits & PlayabilityTable.playableBits(topCard.getFaceCode(), PlayabilityTable.colorCode(gameColor));
+    }
+
+    /**
+     * Gets the set of standard faces in the hand.
+     *
+     * @return a bit set, indexed by {@link PlayabilityTable#bitOf(int)}, of the faces held
+     */
+    public long getFaceBits() {
+        ensureIndexed();
+        return faceBits;
+    }
+
+    /**
+     * Finds the first card of the hand whose face is in a face set.
+     *
+     * @param bits a bit set of faces, indexed by {@link PlayabilityTable#bitOf(int)}
+     * @return the position of the first matching card, or -1 if no card matches
+     */
+    public int indexOfFirst(long bits) {
+        if (bits == 0) {
+            return -1;
+        }
+        for (int i = 0; i < size(); i++) {
+            int bit = bitOf(get(i));
+            if (bit >= 0 && (bits & (1L << bit)) != 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Counts the cards of a face in the hand.
+     *
+     * @param face the face code, as given by {@link Card#getFaceCode()}
+     * @return the number of cards with that face
+     */
+    public int countOfFace(int face) {
+        ensureIndexed();
+        return faceCounts[face];
+    }
+
+    /**
+     * Counts the cards of a color in the hand.
+     *
+     * @param color the color to count
+     * @return the number of cards of that color
+     */
+    public int countOfColor(CardColor color) {
+        ensureIndexed();
+        return colorCounts[color.ordinal()];
+    }
+
+    /**
+     * Counts the cards of a value in the hand.
+     *
+     * @param value the value to count
+     * @return the number of cards with that value
+     */
+    public int countOfValue(CardValue value) {
+        ensureIndexed();
+        return valueCounts[value.ordinal()];
+    }
+
+    /**
+     * Checks whether every card of the hand is in the face set.
+     * <p>
+     * When this returns {@code false}, {@link #getPlayableBits(Card, CardColor)} does not cover
+     * every card and callers should check the remaining cards with {@link Card.CardValidator}.
+     *
+     * @return {@code true} if the face set describes the whole hand
+     */
+    public boolean isFullyIndexed() {
+        ensureIndexed();
+        return unindexedCards == 0;
+    }
+
+    /**
+     * Gets the bit of a card in a face set.
+     *
+     * @param card the card
+     * @return the bit of its face, or -1 if the card is not indexed
+     */
+    private static int bitOf(Card card) {
+        int bit = PlayabilityTable.bitOf(card.getFaceCode());
+        if (bit < 0 || card.isWild() != card.getValueCode().isWild()) {
+            return -1;
+        }
+        return bit;
+    }
+
+    /**
+     * Publishes a change of the number of cards to the listeners.
+     *
+     * @param previousSize the number of cards before the change
+     */
+    private void sizeChanged(int previousSize) {
+        for (SizeListener listener : sizeListeners) {
+            listener.onSizeChanged(previousSize, size());
+        }
+    }
+
+    /**
+     * Checks whether the list was edited without updating the index.
+     *
+     * @return {@code true} if the index must be rebuilt
+     */
+    private boolean isStale() {
+        return modCount != indexedModCount;
+    }
+
+    /**
+     * Rebuilds the index if the list was edited without updating it.
+     */
+    private void ensureIndexed() {
+        if (isStale()) {
+            rebuildIndex();
+        }
+    }
+
+    /**
+     * Updates the index after one card was added or removed through this class.
+     *
+     * @param card the card that was added or removed
+     * @param delta 1 for an added card, -1 for a removed card
+     * @param stale whether the index was already out of date before the edit
+     */
+    private void update(Card card, int delta, boolean stale) {
+        if (stale) {
+            rebuildIndex();
+        } else {
+            index(card, delta);
+            indexedModCount = modCount;
+        }
+    }
+
+    /**
+     * Adds or removes one card from the counts and the face set.
+     *
+     * @param card the card
+     * @param delta 1 to add the card, -1 to remove it
+     */
+    private void index(Card card, int delta) {
+        int face = card.getFaceCode();
+        if (card.getColorCode() != null) {
+            colorCounts[card.getColorCode().ordinal()] += delta;
+        }
+        if (card.getValueCode() != null) {
+            valueCounts[card.getValueCode().ordinal()] += delta;
+        }
+        if (face >= 0) {
+            faceCounts[face] += delta;
+        }
+        int bit = bitOf(card);
+        if (bit < 0) {
+            unindexedCards += delta;
+            return;
+        }
+        if (faceCounts[face] == 0) {
+            faceBits &= ~(1L << bit);
+        } else {
+            faceBits |= 1L << bit;
+        }
+    }
+
+    /**
+     * Recomputes the whole index from the list.
+     */
+    private void rebuildIndex() {
+        Arrays.fill(faceCounts, 0);
+        Arrays.fill(colorCounts, 0);
+        Arrays.fill(valueCounts, 0);
+        faceBits = 0;
+        unindexedCards = 0;
+        for (int i = 0; i < size(); i++) {
+            index(get(i), 1);
+        }
+        indexedModCount = modCount;
+    }
+}
@@ -38,4 +38,24 @@ public interface IPlayer {
      * @param index The index of the card to remove.
      */
     void removeCard(int index);
+
+    /**
+     * Removes a specific card from the player's hand.
+     * <p>
+     * The card is found by identity, so exactly that physical card is removed.
+     *
+     * @param card The card to remove.
+     * @return true if the card was in the player's hand, false otherwise.
+     */
+    boolean removeCard(Card card);
+
+    /**
+     * Retrieves the indexed hand of the player.
+     * <p>
+     * The hand answers face, color and value counts and the set of playable cards without
+     * scanning or allocating.
+     *
+     * @return The player's hand.
+     */
+    Hand getHand();
 }
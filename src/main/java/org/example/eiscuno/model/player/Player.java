@@ -8,14 +8,14 @@ import java.util.ArrayList;
  * Represents a player in the Uno game.
  */
 public class Player implements IPlayer {
-    private ArrayList<Card> cardsPlayer;
+    private Hand cardsPlayer;
     private String typePlayer;
 
     /**
      * Constructs a new Player object with an empty hand of cards.
      */
     public Player(String typePlayer){
-        this.cardsPlayer = new ArrayList<Card>();
+        this.cardsPlayer = new Hand();
         this.typePlayer = typePlayer;
     };
 
@@ -49,6 +49,27 @@ public class Player implements IPlayer {
         cardsPlayer.remove(index);
     }
 
+    /**
+     * Removes a specific card from the player's hand.
+     *
+     * @param card The card to remove.
+     * @return true if the card was in the player's hand, false otherwise.
+     */
+    @Override
+    public boolean removeCard(Card card) {
+        return cardsPlayer.remove(card);
+    }
+
+    /**
+     * Retrieves the indexed hand of the player.
+     *
+     * @return The player's hand.
+     */
+    @Override
+    public Hand getHand() {
+        return cardsPlayer;
+    }
+
     /**
      * Retrieves a card from the player's hand based on its index.
      *
@@ -0,0 +1,104 @@
+package org.example.eiscuno.model.rng;
+
+import org.example.eiscuno.model.card.CardColor;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * The source of randomness of a game session.
+ * <p>
+ * Every random decision of the game (deck shuffles, the colors chosen by the machine and the
+ * delays of its UNO calls) is drawn from a {@code GameRng}. A session starts from one seed and
+ * hands an independent stream to each consumer with {@link #split()}; each split stream has its
+ * own seed, derived from its parent, so a whole session can be replayed from the root seed as long
+ * as the streams are split in the same order.
+ * <p>
+ * A {@code GameRng} is not thread-safe: each thread or parallel worker must use its own split
+ * stream. Drawing a number does not allocate.
+ */
+public final class GameRng {
+    /**
+     * The system property that fixes the seed of the sessions created with {@link #create()}.
+     */
+    public static final String SEED_PROPERTY = "eiscuno.seed";
+
+    private static final CardColor[] PLAYABLE_COLORS = {
+            CardColor.RED, CardColor.GREEN, CardColor.YELLOW, CardColor.BLUE
+    };
+
+    private final long seed;
+    private final SplittableRandom random;
+
+    /**
+     * Constructs a random generator from a seed.
+     *
+     * @param seed the seed of the stream
+     */
+    public GameRng(long seed) {
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Creates the random generator of a new session.
+     * <p>
+     * The seed is taken from the {@value #SEED_PROPERTY} system property when it is set, and
+     * chosen at random otherwise.
+     *
+     * @return a new root random generator
+     */
+    public static GameRng create() {
+        Long seed = Long.getLong(SEED_PROPERTY);
+        return new GameRng(seed != null ? seed : new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Creates an independent stream for another consumer or worker.
+     * <p>
+     * The new stream is seeded from this one, so the same sequence of splits always yields the same
+     * streams.
+     *
+     * @return a new random generator
+     */
+    public GameRng split() {
+        return new GameRng(random.nextLong());
+    }
+
+    /**
+     * Gets the seed this stream was created from.
+     *
+     * @return the seed of the stream
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets this stream as a {@link RandomGenerator}, for instance to shuffle a deck.
+     *
+     * @return the underlying generator
+     */
+    public RandomGenerator generator() {
+        return random;
+    }
+
+    /**
+     * Draws a number between 0 (inclusive) and a bound (exclusive).
+     *
+     * @param bound the upper bound, which must be positive
+     * @return a random number below the bound
+     */
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    /**
+     * Draws one of the four colors a wild card can turn the game into.
+     *
+     * @return RED, GREEN, YELLOW or BLUE
+     */
+    public CardColor randomColor() {
+        return PLAYABLE_COLORS[random.nextInt(PLAYABLE_COLORS.length)];
+    }
+}
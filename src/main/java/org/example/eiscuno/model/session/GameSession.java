@@ -0,0 +1,677 @@
+package org.example.eiscuno.model.session;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.clock.TimerWheel;
+import org.example.eiscuno.model.clock.TurnClock;
+import org.example.eiscuno.model.game.GameActor;
+import org.example.eiscuno.model.game.GameCodec;
+import org.example.eiscuno.model.game.GameEventSink;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.game.GameView;
+import org.example.eiscuno.model.game.Move;
+import org.example.eiscuno.model.machine.AIPlayerStrategy;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.rng.GameRng;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * One table hosted by a {@link SessionManager}: a game, its actor and the strategies of its bots.
+ * <p>
+ * All the state of a table belongs to the table: its {@link GameUno}, deck, table and strategy
+ * instances are never shared, and every change goes through the {@link GameActor} of the game.
+ * Nothing else is reserved for it: the commands of the actor run on the executor shared by the
+ * manager, and the turns of the bots are timeouts of the shared clock, so a table waiting for a
+ * human player costs no thread.
+ * <p>
+ * A seat is played either by a bot, whose turns the session plays by itself, or by a client, who
+ * sends its moves with {@link #submitMove(int, Move)}. A paused session keeps its game but plays
+ * no turn and refuses the moves until it is resumed. A hibernated session keeps nothing but a
+ * file: its game is saved with the {@link GameCodec} and released with its actor and bots, and it
+ * is restored from the file when it is resumed or receives a move.
+ * <p>
+ * The session estimates the heap it holds from what it owns: a fixed part for itself, its game,
+ * seats and actor, a part per card in the hands, the deck and the discard pile, and a part per
+ * command waiting in the mailbox of its actor. The sizes are those of a 64-bit JVM with compressed
+ * references; the card faces and the strategies' shared tables are not counted, as every table
+ * shares them. A hibernated session only holds its fixed part.
+ */
+public final class GameSession {
+    /**
+     * The number of turns after which a game is stopped without a winner.
+     */
+    public static final int MAX_TURNS = 2000;
+
+    /**
+     * The seat reported when a game ends without a winner.
+     */
+    public static final int NO_WINNER = GameUno.NO_WINNER;
+
+    private static final long SESSION_BYTES = 512;
+    private static final long GAME_BYTES = 2048;
+    private static final long SEAT_BYTES = 1024;
+    private static final long CARD_BYTES = 32;
+    private static final long COMMAND_BYTES = 96;
+
+    /**
+     * The life cycle of a session.
+     */
+    public enum State {
+        /** The game is running, or finished and waiting to be collected. */
+        ACTIVE,
+        /** The game is kept, but no turn is played. */
+        PAUSED,
+        /** The game is saved to a file and released until the session is resumed. */
+        HIBERNATED,
+        /** The session was closed and its game released. */
+        CLOSED
+    }
+
+    private final long id;
+    private final long seed;
+    private final String name;
+    private final List<Supplier<? extends AIPlayerStrategy>> strategies;
+    private final List<String> playerNames;
+    private final boolean restored;
+    private final SessionExecutor executor;
+    private final TurnClock clock;
+    private final long botDelayMillis;
+    private final LongAdder managerTurns;
+    private final GameEventSink sink;
+    private final AIPlayerStrategy[] bots;
+    private final long createdNanos = System.nanoTime();
+    private final AtomicBoolean botTurnPending = new AtomicBoolean();
+    private final CompletableFuture<Integer> result = new CompletableFuture<>();
+    private volatile GameUno game;
+    private volatile GameActor actor;
+    private volatile State state = State.ACTIVE;
+    private volatile boolean finished;
+    private volatile long lastActivityNanos = createdNanos;
+    private volatile int turns;
+    private volatile int heldCards;
+    private volatile TimerWheel.Timeout pendingBotTurn;
+    private volatile Path hibernationFile;
+    private CompletableFuture<Void> waking;
+
+    /**
+     * Constructs a session and deals its game.
+     *
+     * @param id             the id of the session in its manager
+     * @param seats          creates the strategy of each seat, or {@code null} for a seat played by
+     *                       a client
+     * @param rng            the random stream of the game
+     * @param executor       the executor shared by the tables
+     * @param clock          the clock that paces the bots
+     * @param botDelayMillis the time a bot waits before each move, in game milliseconds
+     * @param managerTurns   the turn counter of the manager
+     * @param sink           receives every action of the game
+     */
+    GameSession(long id, List<Supplier<? extends AIPlayerStrategy>> seats, GameRng rng, SessionExecutor executor,
+                TurnClock clock, long botDelayMillis, LongAdder managerTurns, GameEventSink sink) {
+        this(id, seats, GameUno.newGame(players(seats), rng), rng.getSeed(), false, executor, clock, botDelayMillis,
+                managerTurns, sink);
+    }
+
+    /**
+     * Constructs a session around a game restored from a saved game.
+     *
+     * @param id             the id of the session in its manager
+     * @param seats          creates the strategy of each seat, or {@code null} for a seat played by
+     *                       a client
+     * @param game           the restored game, which is not dealt again
+     * @param executor       the executor shared by the tables
+     * @param clock          the clock that paces the bots
+     * @param botDelayMillis the time a bot waits before each move, in game milliseconds
+     * @param managerTurns   the turn counter of the manager
+     * @param sink           receives every action of the game
+     * @throws IllegalArgumentException if the game does not have one player per seat
+     */
+    GameSession(long id, List<Supplier<? extends AIPlayerStrategy>> seats, GameUno game, SessionExecutor executor,
+                TurnClock clock, long botDelayMillis, LongAdder managerTurns, GameEventSink sink) {
+        this(id, seats, game, 0, true, executor, clock, botDelayMillis, managerTurns, sink);
+    }
+
+    /**
+     * Constructs a session.
+     *
+     * @param id             the id of the session in its manager
+     * @param seats          creates the strategy of each seat, or {@code null} for a seat played by
+     *                       a client
+     * @param game           the game
+     * @param seed           the seed of the game, or 0 for a restored game
+     * @param restored       true if the game is restored and must not be dealt
+     * @param executor       the executor shared by the tables
+     * @param clock          the clock that paces the bots
+     * @param botDelayMillis the time a bot waits before each move, in game milliseconds
+     * @param managerTurns   the turn counter of the manager
+     * @param sink           receives every action of the game
+     */
+    private GameSession(long id, List<Supplier<? extends AIPlayerStrategy>> seats, GameUno game, long seed,
+                        boolean restored, SessionExecutor executor, TurnClock clock, long botDelayMillis,
+                        LongAdder managerTurns, GameEventSink sink) {
+        if (game.getPlayerCount() != seats.size()) {
+            throw new IllegalArgumentException("The game has " + game.getPlayerCount() + " players for "
+                    + seats.size() + " seats");
+        }
+        this.id = id;
+        this.seed = seed;
+        this.name = "Table-" + id;
+        this.strategies = new ArrayList<>(seats);
+        this.restored = restored;
+        this.executor = executor;
+        this.clock = clock;
+        this.botDelayMillis = botDelayMillis;
+        this.managerTurns = managerTurns;
+        this.sink = sink;
+        this.bots = new AIPlayerStrategy[seats.size()];
+        List<String> names = new ArrayList<>(seats.size());
+        for (int seat = 0; seat < seats.size(); seat++) {
+            names.add(game.getPlayer(seat).getTypePlayer());
+        }
+        this.playerNames = List.copyOf(names);
+        attach(game);
+    }
+
+    /**
+     * Creates the players of the seats.
+     *
+     * @param seats the strategies of the seats, {@code null} for a client
+     * @return the players, named after their seat
+     */
+    private static List<Player> players(List<Supplier<? extends AIPlayerStrategy>> seats) {
+        List<Player> players = new ArrayList<>(seats.size());
+        for (int seat = 0; seat < seats.size(); seat++) {
+            players.add(new Player((seats.get(seat) == null ? "HUMAN_PLAYER_" : "MACHINE_PLAYER_") + seat));
+        }
+        return players;
+    }
+
+    /**
+     * Makes a game the game of the session, with new bots and a new actor.
+     *
+     * @param g the game
+     */
+    private void attach(GameUno g) {
+        g.setVerbose(false);
+        g.setEventSink(sink);
+        g.chooseRandomColors();
+        for (int seat = 0; seat < bots.length; seat++) {
+            Supplier<? extends AIPlayerStrategy> strategy = strategies.get(seat);
+            bots[seat] = strategy == null ? null : strategy.get();
+            if (bots[seat] != null) {
+                bots[seat].setGameUno(g);
+            }
+        }
+        this.game = g;
+        this.actor = new GameActor(g, command -> executor.submit(name, command));
+    }
+
+    /**
+     * Deals the cards, unless the game was restored, and lets the bots play until it is the turn
+     * of a client.
+     * <p>
+     * A restored game announces a {@link GameEventSink#RESUME} event instead of a start: its events
+     * before the save are not in the sink, so it cannot be replayed.
+     *
+     * @return a future completed once the cards are dealt
+     */
+    CompletableFuture<Void> start() {
+        return actor.execute(g -> {
+            if (restored) {
+                g.resumeGame(false);
+            } else {
+                g.startGame();
+            }
+            countCards(g);
+            scheduleBotTurn(g);
+        });
+    }
+
+    /**
+     * Plays the move of a client, waking the session first if it is hibernated.
+     *
+     * @param seat the seat of the client, whose turn it must be
+     * @param move the move
+     * @return a future completed with the card drawn by a draw move, or {@code null}; it fails if
+     *         the session is not active, the seat is played by a bot or the move is not legal
+     */
+    public CompletableFuture<Card> submitMove(int seat, Move move) {
+        GameActor current = actor;
+        if (current == null) {
+            return wake().thenCompose(woken -> submitMove(seat, move));
+        }
+        return current.submit(g -> {
+            if (state != State.ACTIVE || finished || g != game) {
+                throw new IllegalStateException("The session " + id + " does not accept moves: " + state);
+            }
+            if (strategies.get(seat) != null) {
+                throw new IllegalArgumentException("The seat " + seat + " is played by a bot");
+            }
+            Card drawn = g.applyMove(g.getPlayer(seat), move);
+            turnPlayed(g);
+            scheduleBotTurn(g);
+            return drawn;
+        });
+    }
+
+    /**
+     * Stops playing turns, keeping the game.
+     */
+    public synchronized void pause() {
+        if (state == State.ACTIVE) {
+            state = State.PAUSED;
+            cancelBotTurn();
+        }
+    }
+
+    /**
+     * Plays the turns again after a pause, or wakes a hibernated session.
+     *
+     * @return a future completed once the session is active again
+     */
+    public synchronized CompletableFuture<Void> resume() {
+        if (state == State.HIBERNATED) {
+            return wake();
+        }
+        if (state == State.PAUSED) {
+            state = State.ACTIVE;
+            actor.execute(this::scheduleBotTurn);
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Saves the game to a file and releases it, with its actor and its bots, until the session is
+     * resumed.
+     * <p>
+     * The session stops playing turns at once; the game is saved by a command of its actor, after
+     * the commands already queued.
+     *
+     * @param file the file of the saved game, replaced if it exists
+     * @return a future completed once the game is released; it fails if the session is closed or
+     *         the file cannot be written, in which case the session stays paused
+     */
+    public synchronized CompletableFuture<Void> hibernate(Path file) {
+        if (state == State.CLOSED || state == State.HIBERNATED) {
+            return CompletableFuture.failedFuture(new IllegalStateException("The session " + id
+                    + " cannot hibernate: " + state));
+        }
+        state = State.PAUSED;
+        cancelBotTurn();
+        GameUno saved = game;
+        return actor.execute(g -> save(g, file)).thenRun(() -> release(saved, file));
+    }
+
+    /**
+     * Saves the game to a channel, for instance to move the session to another manager.
+     *
+     * @param channel the channel
+     * @return a future completed with the number of bytes written
+     */
+    public CompletableFuture<Integer> save(WritableByteChannel channel) {
+        GameActor current = actor;
+        if (current == null) {
+            return wake().thenCompose(woken -> save(channel));
+        }
+        return current.submit(g -> {
+            try {
+                return GameCodec.write(g, channel);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Writes a game to a file.
+     *
+     * @param g    the game
+     * @param file the file
+     * @throws UncheckedIOException if the file cannot be written
+     */
+    private static void save(GameUno g, Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            GameCodec.write(g, channel);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Releases a saved game, unless the session changed meanwhile.
+     *
+     * @param saved the game that was saved
+     * @param file  the file of the saved game
+     */
+    private synchronized void release(GameUno saved, Path file) {
+        if (state != State.PAUSED || game != saved) {
+            deleteQuietly(file);
+            return;
+        }
+        hibernationFile = file;
+        state = State.HIBERNATED;
+        game = null;
+        actor = null;
+        pendingBotTurn = null;
+        Arrays.fill(bots, null);
+    }
+
+    /**
+     * Restores the game of a hibernated session from its file, on the executor.
+     *
+     * @return a future completed once the session is active again; it fails if the session is
+     *         closed or its file cannot be read
+     */
+    private synchronized CompletableFuture<Void> wake() {
+        if (state == State.CLOSED) {
+            return CompletableFuture.failedFuture(new IllegalStateException("The session " + id + " is closed"));
+        }
+        if (state != State.HIBERNATED) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> woken = waking;
+        if (woken == null) {
+            Path file = hibernationFile;
+            woken = CompletableFuture.supplyAsync(() -> load(file), command -> executor.submit(name, command))
+                    .thenAccept(this::awake);
+            waking = woken;
+            woken.whenComplete((ignored, failure) -> wakeDone());
+        }
+        return woken;
+    }
+
+    /**
+     * Forgets the finished wake, so a failed one can be tried again.
+     */
+    private synchronized void wakeDone() {
+        waking = null;
+    }
+
+    /**
+     * Makes a restored game the game of the session and plays again.
+     * <p>
+     * The game goes on logging under the id of the session, after a {@link GameEventSink#RESUME}
+     * event, so a replay restores it the same way.
+     *
+     * @param g the restored game
+     */
+    private synchronized void awake(GameUno g) {
+        if (state != State.HIBERNATED) {
+            return;
+        }
+        attach(g);
+        deleteQuietly(hibernationFile);
+        hibernationFile = null;
+        state = State.ACTIVE;
+        lastActivityNanos = System.nanoTime();
+        actor.execute(woken -> {
+            woken.resumeGame(true);
+            countCards(woken);
+            scheduleBotTurn(woken);
+        });
+    }
+
+    /**
+     * Reads a game from a file.
+     *
+     * @param file the file
+     * @return the restored game
+     * @throws UncheckedIOException if the file cannot be read
+     */
+    private static GameUno load(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return GameCodec.read(channel);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Deletes a file, if there is one.
+     *
+     * @param file the file, or {@code null}
+     */
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            System.out.println("Could not delete " + file + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Releases the game; a game that did not finish ends without a winner.
+     */
+    synchronized void close() {
+        state = State.CLOSED;
+        cancelBotTurn();
+        deleteQuietly(hibernationFile);
+        hibernationFile = null;
+        result.complete(NO_WINNER);
+    }
+
+    /**
+     * Schedules the next turn of a bot, if it is the turn of a bot and none is scheduled.
+     * <p>
+     * Called inside a command of the actor, so the turn read is the one of the game; a command
+     * queued for a game released by a hibernation does nothing.
+     *
+     * @param g the game
+     */
+    private void scheduleBotTurn(GameUno g) {
+        GameActor current = actor;
+        if (state != State.ACTIVE || finished || g != game || current == null || bots[g.getCurrentSeat()] == null
+                || !botTurnPending.compareAndSet(false, true)) {
+            return;
+        }
+        pendingBotTurn = clock.schedule(() -> current.execute(this::playBotTurn), botDelayMillis);
+    }
+
+    /**
+     * Plays the turn of the bot whose turn it is, then schedules the next one.
+     *
+     * @param g the game
+     */
+    private void playBotTurn(GameUno g) {
+        botTurnPending.set(false);
+        int seat = g.getCurrentSeat();
+        AIPlayerStrategy bot = bots[seat];
+        if (state != State.ACTIVE || finished || g != game || bot == null) {
+            return;
+        }
+        Player player = g.getPlayer(seat);
+        g.applyMove(player, bot.chooseMove(g.viewFor(player)));
+        turnPlayed(g);
+        scheduleBotTurn(g);
+    }
+
+    /**
+     * Counts a turn and ends the game if it is over.
+     *
+     * @param g the game
+     */
+    private void turnPlayed(GameUno g) {
+        turns++;
+        managerTurns.increment();
+        lastActivityNanos = System.nanoTime();
+        countCards(g);
+        if (g.isGameOver() || turns >= MAX_TURNS) {
+            finished = true;
+            result.complete(g.isGameOver() ? g.getWinnerSeat() : NO_WINNER);
+        }
+    }
+
+    /**
+     * Counts the cards held by the game, in the hands, the deck and the discard pile.
+     * <p>
+     * Called inside a command of the actor, so the sizes read are the ones of the game.
+     *
+     * @param g the game
+     */
+    private void countCards(GameUno g) {
+        GameView view = g.viewFor(g.getPlayer(0));
+        int cards = view.getDeckSize() + view.getTableSize();
+        for (int seat = 0; seat < g.getPlayerCount(); seat++) {
+            cards += g.getPlayer(seat).getCardsPlayer().size();
+        }
+        heldCards = cards;
+    }
+
+    /**
+     * Cancels the scheduled turn of a bot, if any.
+     */
+    private void cancelBotTurn() {
+        TimerWheel.Timeout pending = pendingBotTurn;
+        if (pending != null && pending.cancel()) {
+            botTurnPending.set(false);
+        }
+    }
+
+    /**
+     * Gets the id of the session.
+     *
+     * @return the id given by the manager
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Gets the seed of the game, which replays it.
+     *
+     * @return the seed of the random stream of the game, or 0 for a restored game
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the names of the players.
+     *
+     * @return the names, by seat
+     */
+    public List<String> getPlayerNames() {
+        return playerNames;
+    }
+
+    /**
+     * Gets the time since the session was opened.
+     *
+     * @return the age of the session in milliseconds
+     */
+    public long getAgeMillis() {
+        return (System.nanoTime() - createdNanos) / 1_000_000;
+    }
+
+    /**
+     * Gets the actor of the game, to read its snapshots or send it commands.
+     *
+     * @return the actor that owns the game, or {@code null} while the session is hibernated
+     */
+    public GameActor getActor() {
+        return actor;
+    }
+
+    /**
+     * Gets the state of the session.
+     *
+     * @return the state in its life cycle
+     */
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * Checks whether the game is over.
+     *
+     * @return true once a player won, no card can be drawn or the maximum number of turns was played
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Gets the result of the game.
+     *
+     * @return a future completed with the winning seat, or {@link #NO_WINNER} if the game ended
+     *         without a winner or the session was closed first
+     */
+    public CompletableFuture<Integer> getResult() {
+        return result;
+    }
+
+    /**
+     * Gets the number of turns played.
+     *
+     * @return the number of moves applied to the game
+     */
+    public int getTurns() {
+        return turns;
+    }
+
+    /**
+     * Gets the number of commands waiting for the actor of the game.
+     *
+     * @return the depth of the mailbox, 0 while the session is hibernated
+     */
+    public int getQueuedCommands() {
+        GameActor current = actor;
+        return current == null ? 0 : current.getQueueDepth();
+    }
+
+    /**
+     * Estimates the heap held by the session.
+     *
+     * @return the bytes of the session, its game and the commands waiting for its actor; only the
+     *         session itself while it is hibernated
+     */
+    public long getEstimatedBytes() {
+        if (game == null) {
+            return SESSION_BYTES;
+        }
+        return SESSION_BYTES + GAME_BYTES + bots.length * SEAT_BYTES + heldCards * CARD_BYTES
+                + getQueuedCommands() * COMMAND_BYTES;
+    }
+
+    /**
+     * Gets the time since the last move of the game, or since its creation.
+     *
+     * @param now the current {@link System#nanoTime()}
+     * @return the idle time in nanoseconds
+     */
+    long getIdleNanos(long now) {
+        return now - lastActivityNanos;
+    }
+
+    /**
+     * Formats the resources used by the session for the console.
+     *
+     * @return the state, the turns, the commands and the latency of the actor, and the estimated heap
+     */
+    @Override
+    public String toString() {
+        GameActor current = actor;
+        return String.format("GameSession[%d seed=%d %s%s] seats=%d turns=%d commands=%d queue=%d maxQueue=%d latency avg=%d us age=%d ms heap=%d B",
+                id, seed, state, finished ? " finished" : "", bots.length, turns,
+                current == null ? 0 : current.getProcessedCommands(), getQueuedCommands(),
+                current == null ? 0 : current.getMaxQueueDepth(),
+                current == null ? 0 : current.getAverageLatencyNanos() / 1000, getAgeMillis(), getEstimatedBytes());
+    }
+}
@@ -0,0 +1,226 @@
+package org.example.eiscuno.model.session;
+
+import java.lang.reflect.Method;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs the background work of game sessions, on virtual threads or on a pool of platform threads.
+ * <p>
+ * Every long-running task of a game (the machine player's turn loop, for example) is submitted
+ * here instead of starting its own thread, so the execution mode can be chosen once for the whole
+ * process. In {@link Mode#VIRTUAL} mode each task gets a virtual thread, which costs a few hundred
+ * bytes while parked and lets a single JVM host tens of thousands of games. Virtual threads need
+ * Java 21; on an older runtime the executor falls back to {@link Mode#PLATFORM}, a cached pool of
+ * daemon platform threads.
+ * <p>
+ * The platform pool is not bounded, as a task that parks (the turn loop of
+ * {@link org.example.eiscuno.model.machine.ThreadPlayMachine}, which waits for the human player)
+ * must not keep the other tasks from starting. On Java 17 each such task holds a platform thread
+ * for the whole game, which is fine for the single game of the desktop client but would not scale
+ * to many of them. The tables of a {@link SessionManager} do not park: their bot turns are
+ * timeouts of the timer wheel and their actor commands are short, so the pool only grows with the
+ * number of commands running at the same time, not with the number of tables.
+ * <p>
+ * The mode of the shared executor is read from the {@value #MODE_PROPERTY} system property
+ * ({@code virtual} or {@code platform}) and defaults to virtual threads when the runtime has them.
+ * The executor counts the running tasks, the platform threads it created and the delay between
+ * the submission of a task and its start, which is the scheduling latency of a session.
+ */
+public final class SessionExecutor {
+    /**
+     * The system property that selects the mode of the shared executor.
+     */
+    public static final String MODE_PROPERTY = "eiscuno.executor";
+
+    /**
+     * The kind of threads the tasks of the sessions run on.
+     */
+    public enum Mode {
+        /** One virtual thread per task. */
+        VIRTUAL,
+        /** A cached pool of daemon platform threads. */
+        PLATFORM
+    }
+
+    private final Mode mode;
+    private final ExecutorService executor;
+    private final AtomicInteger platformThreads = new AtomicInteger();
+    private final AtomicInteger runningTasks = new AtomicInteger();
+    private final LongAdder startedTasks = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final LongAccumulator maxLatencyNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Constructs an executor in the requested mode, or in platform mode if virtual threads are not
+     * available.
+     *
+     * @param requested the requested mode
+     */
+    public SessionExecutor(Mode requested) {
+        ExecutorService virtual = requested == Mode.VIRTUAL ? newVirtualThreadExecutor() : null;
+        if (virtual != null) {
+            this.mode = Mode.VIRTUAL;
+            this.executor = virtual;
+        } else {
+            this.mode = Mode.PLATFORM;
+            this.executor = Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "SessionWorker-" + platformThreads.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Creates an executor with one virtual thread per task, if the runtime supports it.
+     * <p>
+     * The factory method is looked up by reflection, so the game still compiles and runs on Java 17.
+     *
+     * @return the executor, or {@code null} if virtual threads are not available
+     */
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Runs a task of a session in the background.
+     * <p>
+     * While the task runs, its thread is named after the session. Cancelling the returned future
+     * with {@code cancel(true)} interrupts the task.
+     *
+     * @param sessionName the name of the session, used to name the thread
+     * @param task        the task to run
+     * @return the future of the task
+     */
+    public Future<?> submit(String sessionName, Runnable task) {
+        long submitted = System.nanoTime();
+        return executor.submit(() -> {
+            long latency = System.nanoTime() - submitted;
+            startedTasks.increment();
+            totalLatencyNanos.add(latency);
+            maxLatencyNanos.accumulate(latency);
+            runningTasks.incrementAndGet();
+            Thread thread = Thread.currentThread();
+            String previousName = thread.getName();
+            thread.setName(sessionName);
+            try {
+                task.run();
+            } finally {
+                thread.setName(previousName);
+                runningTasks.decrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * Gets the mode the executor actually runs in.
+     *
+     * @return the mode, which is {@link Mode#PLATFORM} if virtual threads were requested but are
+     *         not available
+     */
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Gets the number of tasks running now.
+     *
+     * @return the number of running tasks
+     */
+    public int getRunningTasks() {
+        return runningTasks.get();
+    }
+
+    /**
+     * Gets the number of tasks started since the executor was created.
+     *
+     * @return the number of started tasks
+     */
+    public long getStartedTasks() {
+        return startedTasks.sum();
+    }
+
+    /**
+     * Gets the number of platform threads created by the executor.
+     *
+     * @return the number of threads of the pool, 0 in virtual mode
+     */
+    public int getPlatformThreads() {
+        return platformThreads.get();
+    }
+
+    /**
+     * Gets the average delay between the submission of a task and its start.
+     *
+     * @return the average scheduling latency in nanoseconds, or 0 if no task started
+     */
+    public long getAverageLatencyNanos() {
+        long started = startedTasks.sum();
+        return started == 0 ? 0 : totalLatencyNanos.sum() / started;
+    }
+
+    /**
+     * Gets the longest delay between the submission of a task and its start.
+     *
+     * @return the maximum scheduling latency in nanoseconds
+     */
+    public long getMaxLatencyNanos() {
+        return maxLatencyNanos.get();
+    }
+
+    /**
+     * Stops accepting tasks and interrupts the running ones.
+     */
+    public void shutdownNow() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Formats the metrics of the executor for the console.
+     *
+     * @return the mode, the task and thread counts and the scheduling latencies
+     */
+    @Override
+    public String toString() {
+        return String.format("SessionExecutor[%s] running=%d started=%d platformThreads=%d latency avg=%d us max=%d us",
+                mode, getRunningTasks(), getStartedTasks(), getPlatformThreads(),
+                getAverageLatencyNanos() / 1000, getMaxLatencyNanos() / 1000);
+    }
+
+    /**
+     * Gets the executor shared by every session of the process.
+     * <p>
+     * Its mode is read from the {@value #MODE_PROPERTY} system property the first time.
+     *
+     * @return the shared executor
+     */
+    public static synchronized SessionExecutor shared() {
+        if (SessionExecutorHolder.INSTANCE == null) {
+            String property = System.getProperty(MODE_PROPERTY, Mode.VIRTUAL.name());
+            Mode requested = Mode.valueOf(property.trim().toUpperCase(Locale.ROOT));
+            SessionExecutorHolder.INSTANCE = new SessionExecutor(requested);
+            System.out.println("Session executor: " + SessionExecutorHolder.INSTANCE.getMode()
+                    + " threads (requested " + requested + ")");
+        }
+        return SessionExecutorHolder.INSTANCE;
+    }
+
+    /**
+     * Holder class for the shared executor.
+     * This class ensures lazy initialization of the executor.
+     */
+    private static class SessionExecutorHolder {
+        private static SessionExecutor INSTANCE;
+    }
+}
@@ -0,0 +1,491 @@
+package org.example.eiscuno.model.session;
+
+import org.example.eiscuno.model.clock.TimerWheel;
+import org.example.eiscuno.model.clock.TurnClock;
+import org.example.eiscuno.model.game.GameCodec;
+import org.example.eiscuno.model.game.GameEventSink;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.log.EventLog;
+import org.example.eiscuno.model.persistence.GameRecord;
+import org.example.eiscuno.model.persistence.GameResultStore;
+import org.example.eiscuno.model.machine.AIPlayerStrategy;
+import org.example.eiscuno.model.machine.ThreadPlayMachine;
+import org.example.eiscuno.model.rng.GameRng;
+
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Hosts many independent tables of Uno in one process.
+ * <p>
+ * The manager creates the {@link GameSession}s, admits at most a fixed number of them at a time,
+ * and collects them: a periodic sweep on the shared {@link TimerWheel} closes the finished games
+ * and evicts the sessions idle for longer than the idle timeout. The tables share the
+ * {@link SessionExecutor} that runs their commands, the clock that paces their bots and the card
+ * faces of their decks, and keep everything else to themselves.
+ * <p>
+ * When a hibernation directory is set, the sweep hibernates the sessions idle for a while instead
+ * of keeping their games in memory: each game is saved to a file of the directory and restored
+ * when its session is resumed or receives a move. A game saved by one manager can also be opened
+ * by another with {@link #restore(List, ReadableByteChannel)}, to move a session between processes.
+ * <p>
+ * The manager counts the open and active tables, the turns played per second between two sweeps,
+ * the rejected and hibernated sessions, and the heap held by the tables and the commands queued for
+ * them. The heap is the sum of the estimates of the sessions (see {@link GameSession}), not a
+ * measure of the process, so the shared caches and the garbage not yet collected are not charged
+ * to the tables.
+ */
+public final class SessionManager {
+    private final int maxSessions;
+    private final long idleTimeoutNanos;
+    private final long sweepMillis;
+    private final SessionExecutor executor;
+    private final TurnClock clock;
+    private final TimerWheel wheel;
+    private final GameRng rng;
+    private final Map<Long, GameSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicInteger openSessions = new AtomicInteger();
+    private final AtomicLong nextId = new AtomicLong();
+    private final LongAdder turns = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder collected = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+    private final LongAdder hibernations = new LongAdder();
+    private volatile Path hibernationDirectory;
+    private volatile long hibernateAfterNanos;
+    private volatile EventLog eventLog;
+    private volatile GameResultStore resultStore;
+    private volatile boolean shutdown;
+    private volatile double turnsPerSecond;
+    private long lastSweepNanos = System.nanoTime();
+    private long lastSweepTurns;
+
+    /**
+     * Constructs a manager on the shared executor and timer wheel, and starts its sweeps.
+     *
+     * @param maxSessions       the largest number of open sessions
+     * @param idleTimeoutMillis the time after which a session without moves is evicted, in real
+     *                          milliseconds
+     * @param clock             the clock that paces the bots of the tables
+     * @param rng               the random stream the games are split from
+     */
+    public SessionManager(int maxSessions, long idleTimeoutMillis, TurnClock clock, GameRng rng) {
+        this(maxSessions, idleTimeoutMillis, clock, rng, SessionExecutor.shared(), TimerWheel.shared());
+    }
+
+    /**
+     * Constructs a manager and starts its sweeps.
+     *
+     * @param maxSessions       the largest number of open sessions
+     * @param idleTimeoutMillis the time after which a session without moves is evicted, in real
+     *                          milliseconds
+     * @param clock             the clock that paces the bots of the tables
+     * @param rng               the random stream the games are split from
+     * @param executor          the executor that runs the commands of the tables
+     * @param wheel             the wheel of the sweeps
+     */
+    public SessionManager(int maxSessions, long idleTimeoutMillis, TurnClock clock, GameRng rng,
+                          SessionExecutor executor, TimerWheel wheel) {
+        if (maxSessions < 1 || idleTimeoutMillis < 1) {
+            throw new IllegalArgumentException("Invalid session manager: " + maxSessions + " sessions, "
+                    + idleTimeoutMillis + " ms");
+        }
+        this.maxSessions = maxSessions;
+        this.idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis);
+        this.sweepMillis = Math.max(10, idleTimeoutMillis / 4);
+        this.executor = executor;
+        this.clock = clock;
+        this.wheel = wheel;
+        this.rng = rng;
+        scheduleSweep();
+    }
+
+    /**
+     * Opens a table and deals its game.
+     *
+     * @param seats creates the strategy of each seat, or {@code null} for a seat played by a
+     *              client; from {@value GameUno#MIN_PLAYERS} to {@value GameUno#MAX_PLAYERS} seats
+     * @return the new session, whose bots start playing right away
+     * @throws RejectedExecutionException if the manager already hosts its maximum number of
+     *                                    sessions, or is shut down
+     */
+    public GameSession open(List<Supplier<? extends AIPlayerStrategy>> seats) {
+        return admit(seats, null);
+    }
+
+    /**
+     * Opens a table around a saved game, which goes on where it was saved.
+     *
+     * @param seats   creates the strategy of each seat, or {@code null} for a seat played by a
+     *                client; one per player of the saved game
+     * @param channel the channel holding the game, saved with {@link GameSession#save}
+     * @return the new session, whose bots start playing right away
+     * @throws IOException if the channel cannot be read
+     * @throws IllegalArgumentException if the channel does not hold a saved game with one player
+     *                                  per seat
+     * @throws RejectedExecutionException if the manager already hosts its maximum number of
+     *                                    sessions, or is shut down
+     */
+    public GameSession restore(List<Supplier<? extends AIPlayerStrategy>> seats, ReadableByteChannel channel)
+            throws IOException {
+        return admit(seats, GameCodec.read(channel));
+    }
+
+    /**
+     * Admits a new session, if there is room for it, and starts it.
+     *
+     * @param seats the strategies of the seats
+     * @param saved the restored game, or {@code null} to deal a new one
+     * @return the new session
+     * @throws RejectedExecutionException if the manager is full or shut down
+     */
+    private GameSession admit(List<Supplier<? extends AIPlayerStrategy>> seats, GameUno saved) {
+        if (shutdown) {
+            throw new RejectedExecutionException("The session manager is shut down.");
+        }
+        if (openSessions.incrementAndGet() > maxSessions) {
+            openSessions.decrementAndGet();
+            rejected.increment();
+            throw new RejectedExecutionException("The server is full: " + maxSessions + " sessions.");
+        }
+        GameSession session;
+        try {
+            GameRng gameRng;
+            synchronized (rng) {
+                gameRng = rng.split();
+            }
+            long id = nextId.incrementAndGet();
+            EventLog log = eventLog;
+            GameResultStore store = resultStore;
+            long gameId = store == null ? 0 : store.nextGameId();
+            GameEventSink sink = (log == null ? GameEventSink.NONE : log.sink((int) id))
+                    .andThen(store == null ? GameEventSink.NONE : store.eventSink(gameId));
+            session = saved == null
+                    ? new GameSession(id, seats, gameRng, executor, clock, ThreadPlayMachine.THINKING_DELAY_MILLIS,
+                    turns, sink)
+                    : new GameSession(id, seats, saved, executor, clock, ThreadPlayMachine.THINKING_DELAY_MILLIS,
+                    turns, sink);
+            if (store != null) {
+                GameSession opened = session;
+                session.getResult().thenAccept(winner -> record(store, gameId, opened, winner));
+            }
+        } catch (RuntimeException e) {
+            openSessions.decrementAndGet();
+            throw e;
+        }
+        sessions.put(session.getId(), session);
+        session.start();
+        return session;
+    }
+
+    /**
+     * Records the games of the sessions opened from now on in a log, under the ids of their
+     * sessions.
+     *
+     * @param eventLog the log, or {@code null} to record nothing
+     */
+    public void setEventLog(EventLog eventLog) {
+        this.eventLog = eventLog;
+    }
+
+    /**
+     * Hibernates the sessions idle for a while, saving their games to files of a directory.
+     * <p>
+     * The idle timeout still applies: a session that stays hibernated until then is evicted and
+     * its file deleted.
+     *
+     * @param directory   the directory of the saved games, which must exist, or {@code null} to
+     *                    keep every game in memory
+     * @param afterMillis the idle time after which a session hibernates, in real milliseconds
+     */
+    public void setHibernation(Path directory, long afterMillis) {
+        this.hibernateAfterNanos = TimeUnit.MILLISECONDS.toNanos(afterMillis);
+        this.hibernationDirectory = directory;
+    }
+
+    /**
+     * Saves the results of the sessions opened from now on, and their events if the store
+     * records them.
+     *
+     * @param resultStore the store, or {@code null} to save nothing
+     */
+    public void setResultStore(GameResultStore resultStore) {
+        this.resultStore = resultStore;
+    }
+
+    /**
+     * Queues the result of a session whose game finished; a closed session saves nothing.
+     *
+     * @param store   the store
+     * @param gameId  the id of the game in the store
+     * @param session the session
+     * @param winner  the winning seat, or {@link GameSession#NO_WINNER}
+     */
+    private static void record(GameResultStore store, long gameId, GameSession session, int winner) {
+        if (session.isFinished()) {
+            List<String> players = session.getPlayerNames();
+            store.submit(new GameRecord(gameId, session.getSeed(), players,
+                    winner == GameSession.NO_WINNER ? null : players.get(winner), session.getTurns(),
+                    session.getAgeMillis()));
+        }
+    }
+
+    /**
+     * Gets an open session.
+     *
+     * @param id the id of the session
+     * @return the session, or {@code null} if it was closed or collected
+     */
+    public GameSession get(long id) {
+        return sessions.get(id);
+    }
+
+    /**
+     * Gets the open sessions.
+     *
+     * @return a live, unmodifiable view of the sessions
+     */
+    public Collection<GameSession> getSessions() {
+        return Collections.unmodifiableCollection(sessions.values());
+    }
+
+    /**
+     * Closes a session and frees its place.
+     *
+     * @param id the id of the session
+     * @return true if the session was open
+     */
+    public boolean close(long id) {
+        return release(id, null);
+    }
+
+    /**
+     * Removes a session, frees its place and closes it, in that order, so the counters are up to
+     * date when its result completes.
+     *
+     * @param id      the id of the session
+     * @param counter the counter of the reason of the release, or {@code null}
+     * @return true if the session was open
+     */
+    private boolean release(long id, LongAdder counter) {
+        GameSession session = sessions.remove(id);
+        if (session == null) {
+            return false;
+        }
+        openSessions.decrementAndGet();
+        if (counter != null) {
+            counter.increment();
+        }
+        session.close();
+        return true;
+    }
+
+    /**
+     * Closes the finished sessions and evicts the idle ones, and samples the turn rate.
+     */
+    synchronized void sweep() {
+        long now = System.nanoTime();
+        Path directory = hibernationDirectory;
+        for (GameSession session : sessions.values()) {
+            if (session.isFinished()) {
+                release(session.getId(), collected);
+            } else if (session.getIdleNanos(now) > idleTimeoutNanos && release(session.getId(), evicted)) {
+                System.out.println("Evicted idle session: " + session);
+            } else if (directory != null && session.getState() == GameSession.State.ACTIVE
+                    && session.getIdleNanos(now) > hibernateAfterNanos) {
+                hibernations.increment();
+                session.hibernate(directory.resolve("session-" + session.getId() + ".uno"))
+                        .exceptionally(failure -> {
+                            System.out.println("Could not hibernate " + session + ": " + failure.getMessage());
+                            return null;
+                        });
+            }
+        }
+        long played = turns.sum();
+        if (now > lastSweepNanos) {
+            turnsPerSecond = (played - lastSweepTurns) * 1e9 / (now - lastSweepNanos);
+        }
+        lastSweepNanos = now;
+        lastSweepTurns = played;
+    }
+
+    /**
+     * Schedules the next sweep on the wheel; the sweep itself runs on the executor.
+     */
+    private void scheduleSweep() {
+        if (shutdown) {
+            return;
+        }
+        wheel.schedule(() -> executor.submit("SessionManager", () -> {
+            try {
+                sweep();
+            } finally {
+                scheduleSweep();
+            }
+        }), sweepMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the sweeps and closes every session.
+     */
+    public void shutdown() {
+        shutdown = true;
+        for (Long id : sessions.keySet()) {
+            close(id);
+        }
+    }
+
+    /**
+     * Gets the number of open sessions, finished or not.
+     *
+     * @return the number of sessions holding a place
+     */
+    public int getOpenSessions() {
+        return openSessions.get();
+    }
+
+    /**
+     * Gets the number of tables whose game is being played.
+     *
+     * @return the number of active sessions that did not finish
+     */
+    public int getActiveTables() {
+        int active = 0;
+        for (GameSession session : sessions.values()) {
+            if (session.getState() == GameSession.State.ACTIVE && !session.isFinished()) {
+                active++;
+            }
+        }
+        return active;
+    }
+
+    /**
+     * Gets the number of turns played by every table.
+     *
+     * @return the total number of turns
+     */
+    public long getTurns() {
+        return turns.sum();
+    }
+
+    /**
+     * Gets the number of turns played per second between the last two sweeps.
+     *
+     * @return the turn rate of the whole manager
+     */
+    public double getTurnsPerSecond() {
+        return turnsPerSecond;
+    }
+
+    /**
+     * Gets the number of sessions refused because the manager was full.
+     *
+     * @return the number of rejected sessions
+     */
+    public long getRejectedSessions() {
+        return rejected.sum();
+    }
+
+    /**
+     * Gets the number of finished sessions closed by the sweeps.
+     *
+     * @return the number of collected sessions
+     */
+    public long getCollectedSessions() {
+        return collected.sum();
+    }
+
+    /**
+     * Gets the number of sessions closed because they were idle.
+     *
+     * @return the number of evicted sessions
+     */
+    public long getEvictedSessions() {
+        return evicted.sum();
+    }
+
+    /**
+     * Gets the number of sessions whose game is saved to a file.
+     *
+     * @return the number of hibernated sessions
+     */
+    public int getHibernatedSessions() {
+        int hibernated = 0;
+        for (GameSession session : sessions.values()) {
+            if (session.getState() == GameSession.State.HIBERNATED) {
+                hibernated++;
+            }
+        }
+        return hibernated;
+    }
+
+    /**
+     * Gets the number of times the sweeps hibernated a session.
+     *
+     * @return the number of hibernations
+     */
+    public long getHibernations() {
+        return hibernations.sum();
+    }
+
+    /**
+     * Estimates the heap held by the open sessions.
+     *
+     * @return the sum of {@link GameSession#getEstimatedBytes()} over the open sessions
+     */
+    public long getEstimatedBytes() {
+        long bytes = 0;
+        for (GameSession session : sessions.values()) {
+            bytes += session.getEstimatedBytes();
+        }
+        return bytes;
+    }
+
+    /**
+     * Estimates the heap held by an open session on average.
+     *
+     * @return the estimated bytes per open table, or 0 when none is open
+     */
+    public long getEstimatedBytesPerTable() {
+        int open = sessions.size();
+        return open == 0 ? 0 : getEstimatedBytes() / open;
+    }
+
+    /**
+     * Gets the number of commands waiting for the actors of the open sessions.
+     *
+     * @return the sum of the mailbox depths of the tables
+     */
+    public int getQueuedCommands() {
+        int queued = 0;
+        for (GameSession session : sessions.values()) {
+            queued += session.getQueuedCommands();
+        }
+        return queued;
+    }
+
+    /**
+     * Formats the metrics of the manager for the console.
+     *
+     * @return the tables, the turn rate, the collections, the queued commands and the estimated heap
+     */
+    @Override
+    public String toString() {
+        return String.format("SessionManager open=%d/%d active=%d hibernated=%d turns=%d (%.0f/s) rejected=%d collected=%d evicted=%d queued=%d heap=%d KiB (%d B/table)",
+                getOpenSessions(), maxSessions, getActiveTables(), getHibernatedSessions(), getTurns(),
+                getTurnsPerSecond(), getRejectedSessions(), getCollectedSessions(), getEvictedSessions(),
+                getQueuedCommands(), getEstimatedBytes() / 1024, getEstimatedBytesPerTable());
+    }
+}
@@ -0,0 +1,164 @@
+package org.example.eiscuno.model.simulation;
+
+import org.example.eiscuno.model.machine.AIPlayerStrategy;
+import org.example.eiscuno.model.machine.BasicAIPlayerStrategy;
+import org.example.eiscuno.model.rng.GameRng;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Supplier;
+
+/**
+ * Plays large batches of headless games on every core of the machine.
+ * <p>
+ * The games of a batch are split recursively over a {@link ForkJoinPool}, whose work stealing
+ * keeps every worker busy even though games have different lengths. The seed of every game is
+ * drawn up front from the seed of the batch, so the results do not depend on how the games were
+ * spread over the threads. Each game writes its outcome into its own slot of plain arrays, so the
+ * workers never share mutable state.
+ * <p>
+ * The simulator can be run from the command line with
+ * {@code java -cp <classpath> org.example.eiscuno.model.simulation.BatchSimulator
+ * [games] [seed] [threads] [firstStrategyClass] [secondStrategyClass]}.
+ */
+public final class BatchSimulator {
+    private static final int GAMES_PER_TASK = 256;
+    private static final int DEFAULT_MAX_TURNS = 2000;
+
+    private final GameSimulator simulator;
+
+    /**
+     * Constructs a batch simulator.
+     *
+     * @param simulator the simulator that plays each game
+     */
+    public BatchSimulator(GameSimulator simulator) {
+        this.simulator = simulator;
+    }
+
+    /**
+     * Plays a batch of games.
+     *
+     * @param games       the number of games to play
+     * @param seed        the seed of the batch
+     * @param parallelism the number of worker threads
+     * @return the report of the batch
+     */
+    public SimulationReport run(int games, long seed, int parallelism) {
+        long[] seeds = new long[games];
+        GameRng root = new GameRng(seed);
+        for (int i = 0; i < games; i++) {
+            seeds[i] = root.split().getSeed();
+        }
+        byte[] winners = new byte[games];
+        int[] turns = new int[games];
+        long[] latencies = new long[games];
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        long start = System.nanoTime();
+        try {
+            pool.invoke(new Batch(seeds, winners, turns, latencies, 0, games));
+        } finally {
+            pool.shutdown();
+        }
+        return new SimulationReport(winners, turns, latencies, System.nanoTime() - start);
+    }
+
+    /**
+     * A range of games of the batch, split in halves until it is small enough to play directly.
+     */
+    private final class Batch extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final long[] seeds;
+        private final byte[] winners;
+        private final int[] turns;
+        private final long[] latencies;
+        private final int from;
+        private final int to;
+
+        /**
+         * Constructs the task of a range of games.
+         *
+         * @param seeds     the seed of every game of the batch
+         * @param winners   receives the winner of every game
+         * @param turns     receives the number of turns of every game
+         * @param latencies receives the duration of every game
+         * @param from      the first game of the range
+         * @param to        the end of the range, exclusive
+         */
+        Batch(long[] seeds, byte[] winners, int[] turns, long[] latencies, int from, int to) {
+            this.seeds = seeds;
+            this.winners = winners;
+            this.turns = turns;
+            this.latencies = latencies;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Plays the range, or splits it between two subtasks.
+         */
+        @Override
+        protected void compute() {
+            if (to - from > GAMES_PER_TASK) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new Batch(seeds, winners, turns, latencies, from, middle),
+                        new Batch(seeds, winners, turns, latencies, middle, to));
+                return;
+            }
+            for (int i = from; i < to; i++) {
+                long start = System.nanoTime();
+                GameSimulator.GameOutcome outcome = simulator.play(new GameRng(seeds[i]));
+                latencies[i] = System.nanoTime() - start;
+                winners[i] = (byte) outcome.getWinner();
+                turns[i] = outcome.getTurns();
+            }
+        }
+    }
+
+    /**
+     * Runs a batch from the command line and prints its report.
+     * <p>
+     * A short warm-up batch is played first so that the measured batch runs on compiled code.
+     *
+     * @param args the number of games, the seed, the number of threads and the class names of the
+     *             two strategies, all optional
+     * @throws ReflectiveOperationException if a strategy class cannot be instantiated
+     */
+    public static void main(String[] args) throws ReflectiveOperationException {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : GameRng.create().getSeed();
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        Supplier<AIPlayerStrategy> first = strategy(args.length > 3 ? args[3] : null);
+        Supplier<AIPlayerStrategy> second = strategy(args.length > 4 ? args[4] : null);
+
+        BatchSimulator batch = new BatchSimulator(new GameSimulator(first, second, DEFAULT_MAX_TURNS));
+        batch.run(Math.min(games, 20_000), seed ^ 0x5DEECE66DL, threads);
+        System.out.println("Simulating " + games + " games on " + threads + " threads (seed " + seed + ")");
+        System.out.println(batch.run(games, seed, threads));
+    }
+
+    /**
+     * Creates a factory of strategies from a class name.
+     *
+     * @param className the name of a class implementing {@link AIPlayerStrategy} with a no-argument
+     *                  constructor, or {@code null} for {@link BasicAIPlayerStrategy}
+     * @return a factory of new strategy instances
+     * @throws ReflectiveOperationException if the class cannot be found or is not a strategy
+     */
+    private static Supplier<AIPlayerStrategy> strategy(String className) throws ReflectiveOperationException {
+        if (className == null) {
+            return BasicAIPlayerStrategy::new;
+        }
+        var constructor = Class.forName(className).asSubclass(AIPlayerStrategy.class).getDeclaredConstructor();
+        constructor.newInstance();
+        return () -> {
+            try {
+                return constructor.newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Cannot create strategy " + className, e);
+            }
+        };
+    }
+}
@@ -0,0 +1,180 @@
+package org.example.eiscuno.model.simulation;
+
+import org.example.eiscuno.model.game.GameEventSink;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.machine.AIPlayerStrategy;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.rng.GameRng;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Plays complete games of Uno between {@link AIPlayerStrategy} implementations, one per seat, without a
+ * user interface and without any delay between turns.
+ * <p>
+ * Each game gets its own {@link GameUno}, deck, table and strategy instances, so several games can
+ * be played at the same time on different threads. The game runs with its console log turned off,
+ * and the colors of wild cards are chosen at random from the game stream, as the controller does
+ * for the machine player.
+ */
+public final class GameSimulator {
+    /**
+     * The seat reported when a game ends without a winner.
+     */
+    public static final int NO_WINNER = GameUno.NO_WINNER;
+
+    private final List<Supplier<? extends AIPlayerStrategy>> strategies;
+    private final int maxTurns;
+
+    /**
+     * Constructs a simulator for games between two strategies.
+     *
+     * @param firstStrategy  creates the strategy of the first seat, which plays first
+     * @param secondStrategy creates the strategy of the second seat
+     * @param maxTurns       the number of turns after which a game is stopped without a winner
+     */
+    public GameSimulator(Supplier<? extends AIPlayerStrategy> firstStrategy,
+                         Supplier<? extends AIPlayerStrategy> secondStrategy, int maxTurns) {
+        this(List.of(firstStrategy, secondStrategy), maxTurns);
+    }
+
+    /**
+     * Constructs a simulator for games around a ring of strategies.
+     *
+     * @param strategies creates the strategy of each seat, from {@value GameUno#MIN_PLAYERS} to
+     *                   {@value GameUno#MAX_PLAYERS}; the first seat plays first
+     * @param maxTurns   the number of turns after which a game is stopped without a winner
+     */
+    public GameSimulator(List<Supplier<? extends AIPlayerStrategy>> strategies, int maxTurns) {
+        if (maxTurns < 1) {
+            throw new IllegalArgumentException("A game needs at least one turn: " + maxTurns);
+        }
+        if (strategies.size() < GameUno.MIN_PLAYERS || strategies.size() > GameUno.MAX_PLAYERS) {
+            throw new IllegalArgumentException("A game needs " + GameUno.MIN_PLAYERS + " to "
+                    + GameUno.MAX_PLAYERS + " players: " + strategies.size());
+        }
+        this.strategies = List.copyOf(strategies);
+        this.maxTurns = maxTurns;
+    }
+
+    /**
+     * Plays one game to the end.
+     * <p>
+     * A game is won by the first player who runs out of cards. If no card can be drawn any more,
+     * the player with the fewest cards wins, as in the game screen; a tie, or a game stopped after
+     * the maximum number of turns, has no winner.
+     *
+     * @param rng the random stream of the game, used for the deck and the colors of wild cards
+     * @return the outcome of the game
+     */
+    public GameOutcome play(GameRng rng) {
+        return play(rng, GameEventSink.NONE);
+    }
+
+    /**
+     * Plays one game to the end, recording its actions.
+     *
+     * @param rng  the random stream of the game, used for the deck and the colors of wild cards
+     * @param sink receives every action of the game
+     * @return the outcome of the game
+     */
+    public GameOutcome play(GameRng rng, GameEventSink sink) {
+        GameUno game = newGame(rng, sink);
+        game.startGame();
+        int turns = playTurns(game, maxTurns);
+        return new GameOutcome(game.isGameOver() ? game.getWinnerSeat() : NO_WINNER, turns);
+    }
+
+    /**
+     * Deals a game for the seats of this simulator, with its console log turned off.
+     *
+     * @param rng  the random stream of the game, used for the deck and the colors of wild cards
+     * @param sink receives every action of the game
+     * @return the new game, not started
+     */
+    public GameUno newGame(GameRng rng, GameEventSink sink) {
+        int seats = strategies.size();
+        List<Player> players = new ArrayList<>(seats);
+        players.add(new Player("HUMAN_PLAYER"));
+        players.add(new Player("MACHINE_PLAYER"));
+        for (int seat = 2; seat < seats; seat++) {
+            players.add(new Player("MACHINE_PLAYER_" + seat));
+        }
+        GameUno game = GameUno.newGame(players, rng);
+        game.setVerbose(false);
+        game.setEventSink(sink);
+        return game;
+    }
+
+    /**
+     * Plays turns of a started or restored game with new instances of the strategies, until the
+     * game is over or the given number of turns is played.
+     * <p>
+     * The colors of wild cards are chosen at random from the stream of the game.
+     *
+     * @param game  the game, with one seat per strategy of this simulator
+     * @param turns the number of turns to play at most
+     * @return the number of turns played
+     * @throws IllegalArgumentException if the game does not have one seat per strategy
+     */
+    public int playTurns(GameUno game, int turns) {
+        int seats = strategies.size();
+        if (game.getPlayerCount() != seats) {
+            throw new IllegalArgumentException("The game has " + game.getPlayerCount() + " seats, not " + seats);
+        }
+        game.chooseRandomColors();
+        AIPlayerStrategy[] ais = new AIPlayerStrategy[seats];
+        for (int seat = 0; seat < seats; seat++) {
+            ais[seat] = strategies.get(seat).get();
+            ais[seat].setGameUno(game);
+        }
+
+        int played = 0;
+        while (played < turns && !game.isGameOver()) {
+            int seat = game.getCurrentSeat();
+            Player current = game.getPlayer(seat);
+            game.applyMove(current, ais[seat].chooseMove(game.viewFor(current)));
+            played++;
+        }
+        return played;
+    }
+
+    /**
+     * The result of one simulated game.
+     */
+    public static final class GameOutcome {
+        private final int winner;
+        private final int turns;
+
+        /**
+         * Constructs the result of a game.
+         *
+         * @param winner the winning seat, or {@link #NO_WINNER}
+         * @param turns  the number of turns played
+         */
+        GameOutcome(int winner, int turns) {
+            this.winner = winner;
+            this.turns = turns;
+        }
+
+        /**
+         * Gets the winning seat.
+         *
+         * @return the index of the winning seat, or {@link #NO_WINNER}
+         */
+        public int getWinner() {
+            return winner;
+        }
+
+        /**
+         * Gets the number of turns played.
+         *
+         * @return the number of turns of the game
+         */
+        public int getTurns() {
+            return turns;
+        }
+    }
+}
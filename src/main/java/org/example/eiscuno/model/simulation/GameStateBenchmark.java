@@ -0,0 +1,81 @@
+package org.example.eiscuno.model.simulation;
+
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.game.GameState;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.rng.GameRng;
+import org.example.eiscuno.model.table.Table;
+
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+/**
+ * Measures the cost of the operations search algorithms use on a {@link GameState}: creating a
+ * copy, overwriting a state with {@link GameState#copyFrom(GameState)}, and applying then undoing a
+ * move.
+ * <p>
+ * It can be run from the command line with
+ * {@code java -cp <classpath> org.example.eiscuno.model.simulation.GameStateBenchmark [operations]}.
+ */
+public final class GameStateBenchmark {
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private GameStateBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark and prints the average time of each operation.
+     *
+     * @param args the number of operations per measurement, optional
+     */
+    public static void main(String[] args) {
+        int operations = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+        GameRng rng = new GameRng(1);
+        GameUno game = new GameUno(new Player("HUMAN_PLAYER"), new Player("MACHINE_PLAYER"),
+                new Deck(rng.split().generator()), new Table(), rng.split());
+        game.setVerbose(false);
+        game.startGame();
+        GameState state = GameState.from(game);
+        SplittableRandom random = new SplittableRandom(2);
+
+        for (int round = 0; round < 3; round++) {
+            boolean report = round == 2;
+            measure("copy()", operations, report, () -> state.copy());
+            GameState target = state.copy();
+            measure("copyFrom()", operations, report, () -> {
+                target.copyFrom(state);
+                return target;
+            });
+            measure("apply() + undo()", operations, report, () -> {
+                long legal = target.legalActions();
+                target.apply(Long.numberOfTrailingZeros(legal), random);
+                target.undo();
+                return target;
+            });
+        }
+    }
+
+    /**
+     * Times an operation and prints its average duration.
+     *
+     * @param name       the name of the operation
+     * @param operations the number of times to run it
+     * @param report     whether to print the result, false during the warm-up
+     * @param operation  the operation; its result is kept so it cannot be optimized away
+     */
+    private static void measure(String name, int operations, boolean report,
+                                Supplier<GameState> operation) {
+        int sink = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < operations; i++) {
+            sink += operation.get().getDeckSize();
+        }
+        long elapsed = System.nanoTime() - start;
+        if (report) {
+            System.out.printf("%-18s %8.1f ns/op (%d)%n", name, (double) elapsed / operations, sink & 1);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package org.example.eiscuno.model.simulation;
+
+import java.util.Arrays;
+
+/**
+ * The results and throughput of a batch of simulated games.
+ * <p>
+ * Besides the wins of each seat, the report keeps the wall-clock time of every game, so latency
+ * percentiles can be read from it.
+ */
+public final class SimulationReport {
+    private final int games;
+    private final int[] wins = new int[2];
+    private final int draws;
+    private final long totalTurns;
+    private final long elapsedNanos;
+    private final long[] sortedLatencies;
+
+    /**
+     * Builds the report of a batch.
+     *
+     * @param winners      the winning seat of each game, or {@link GameSimulator#NO_WINNER}
+     * @param turns        the number of turns of each game
+     * @param latencies    the duration of each game in nanoseconds; the array is sorted and kept
+     * @param elapsedNanos the wall-clock duration of the whole batch
+     */
+    SimulationReport(byte[] winners, int[] turns, long[] latencies, long elapsedNanos) {
+        this.games = winners.length;
+        int noWinner = 0;
+        long turnSum = 0;
+        for (int i = 0; i < games; i++) {
+            if (winners[i] == GameSimulator.NO_WINNER) {
+                noWinner++;
+            } else {
+                wins[winners[i]]++;
+            }
+            turnSum += turns[i];
+        }
+        this.draws = noWinner;
+        this.totalTurns = turnSum;
+        this.elapsedNanos = elapsedNanos;
+        Arrays.sort(latencies);
+        this.sortedLatencies = latencies;
+    }
+
+    /**
+     * Gets the number of games played.
+     *
+     * @return the number of games
+     */
+    public int getGames() {
+        return games;
+    }
+
+    /**
+     * Gets the number of games won by a seat.
+     *
+     * @param seat 0 for the first seat, 1 for the second one
+     * @return the number of wins of the seat
+     */
+    public int getWins(int seat) {
+        return wins[seat];
+    }
+
+    /**
+     * Gets the number of games that ended without a winner.
+     *
+     * @return the number of ties and games stopped at the turn limit
+     */
+    public int getDraws() {
+        return draws;
+    }
+
+    /**
+     * Gets the number of turns played in every game together.
+     *
+     * @return the total number of turns
+     */
+    public long getTotalTurns() {
+        return totalTurns;
+    }
+
+    /**
+     * Gets the wall-clock duration of the batch.
+     *
+     * @return the duration in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Gets the number of games played per second of wall-clock time.
+     *
+     * @return the game throughput
+     */
+    public double gamesPerSecond() {
+        return games * 1e9 / Math.max(1, elapsedNanos);
+    }
+
+    /**
+     * Gets the number of turns played per second of wall-clock time.
+     *
+     * @return the turn throughput
+     */
+    public double turnsPerSecond() {
+        return totalTurns * 1e9 / Math.max(1, elapsedNanos);
+    }
+
+    /**
+     * Gets a percentile of the duration of a game.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the duration in nanoseconds below which that share of the games finished
+     */
+    public long latencyPercentileNanos(double percentile) {
+        if (games == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100 * games) - 1;
+        return sortedLatencies[Math.max(0, Math.min(games - 1, index))];
+    }
+
+    /**
+     * Formats the report for the console.
+     *
+     * @return a multi-line summary of the batch
+     */
+    @Override
+    public String toString() {
+        return String.format("Games: %d (first seat %d, second seat %d, no winner %d)%n"
+                        + "Throughput: %.0f games/s, %.0f turns/s, %.1f turns/game%n"
+                        + "Game latency: p50 %.1f us, p90 %.1f us, p99 %.1f us",
+                games, wins[0], wins[1], draws,
+                gamesPerSecond(), turnsPerSecond(), games == 0 ? 0.0 : (double) totalTurns / games,
+                latencyPercentileNanos(50) / 1e3, latencyPercentileNanos(90) / 1e3,
+                latencyPercentileNanos(99) / 1e3);
+    }
+}
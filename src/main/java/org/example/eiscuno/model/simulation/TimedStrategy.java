@@ -0,0 +1,68 @@
+package org.example.eiscuno.model.simulation;
+
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.game.GameView;
+import org.example.eiscuno.model.game.Move;
+import org.example.eiscuno.model.machine.AIPlayerStrategy;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An {@link AIPlayerStrategy} that times the decisions of another strategy.
+ * <p>
+ * The time and the number of decisions are added to counters that can be shared by every instance
+ * of the same strategy, across threads.
+ */
+final class TimedStrategy implements AIPlayerStrategy {
+    private final AIPlayerStrategy strategy;
+    private final LongAdder decisionNanos;
+    private final LongAdder decisions;
+
+    /**
+     * Constructs a timed strategy.
+     *
+     * @param strategy      the strategy to time
+     * @param decisionNanos the counter of the thinking time, in nanoseconds
+     * @param decisions     the counter of the decisions
+     */
+    TimedStrategy(AIPlayerStrategy strategy, LongAdder decisionNanos, LongAdder decisions) {
+        this.strategy = strategy;
+        this.decisionNanos = decisionNanos;
+        this.decisions = decisions;
+    }
+
+    /**
+     * Passes the game to the timed strategy.
+     *
+     * @param gameUno The current game.
+     */
+    @Override
+    public void setGameUno(GameUno gameUno) {
+        strategy.setGameUno(gameUno);
+    }
+
+    /**
+     * Asks the timed strategy for its move and counts the time it took.
+     *
+     * @param view The view of the game from the player.
+     * @return The move of the timed strategy.
+     */
+    @Override
+    public Move chooseMove(GameView view) {
+        long start = System.nanoTime();
+        Move move = strategy.chooseMove(view);
+        decisionNanos.add(System.nanoTime() - start);
+        decisions.increment();
+        return move;
+    }
+
+    /**
+     * Gets the game of the timed strategy.
+     *
+     * @return The current game.
+     */
+    @Override
+    public GameUno getGameUno() {
+        return strategy.getGameUno();
+    }
+}
@@ -0,0 +1,286 @@
+package org.example.eiscuno.model.simulation;
+
+import org.example.eiscuno.model.machine.AIPlayerStrategy;
+import org.example.eiscuno.model.machine.BasicAIPlayerStrategy;
+import org.example.eiscuno.model.machine.IsmctsAIPlayerStrategy;
+import org.example.eiscuno.model.rng.GameRng;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Plays every pair of a set of strategies against each other and tells which one is stronger.
+ * <p>
+ * Each match is played in rounds of seeded deals. Every deal is played twice with the seats
+ * swapped, so both strategies get the same cards and the luck of the deal mostly cancels out. The
+ * games of a round are spread over the cores by {@link BatchSimulator}. After each round, the win
+ * rate of the first strategy over the decided games gets a Wilson score interval; the match stops
+ * as soon as the interval excludes 50%, or when the maximum number of deals is reached.
+ * <p>
+ * Checking a 95% interval after every round and stopping at the first success would declare a
+ * winner between equal strategies far more often than 5% of the time, as each check is one more
+ * chance of a lucky streak. The level of the interval is therefore adjusted for the number of
+ * checks a match can make (a Bonferroni correction): with {@code k} checks, each one uses the
+ * level {@code 1 - 0.05 / k}, so the probability that a match between equal strategies is
+ * reported significant is at most 5%. The bound is conservative, as successive checks share
+ * most of their games; the real error rate is lower, and the price is a few more deals before a
+ * real difference is detected.
+ * <p>
+ * The two games of a mirrored deal are not independent, so the interval is slightly narrower than
+ * it should be, and the 5% above is an approximation as well; the tournament is meant to rank
+ * strategies, not to publish exact figures.
+ */
+public final class Tournament {
+    /**
+     * The probability, for a whole match, of declaring a winner between strategies of equal strength.
+     */
+    public static final double ALPHA = 0.05;
+
+    private static final int MAX_TURNS = 2000;
+
+    private final Map<String, Supplier<? extends AIPlayerStrategy>> strategies = new LinkedHashMap<>();
+    private final Map<String, LongAdder[]> timers = new LinkedHashMap<>();
+    private final int dealsPerRound;
+    private final int minDeals;
+    private final int maxDeals;
+    private final int parallelism;
+    private final double z;
+
+    /**
+     * Constructs a tournament.
+     *
+     * @param dealsPerRound the number of deals played between two significance checks
+     * @param minDeals      the number of deals played before a match may stop early
+     * @param maxDeals      the maximum number of deals of a match
+     * @param parallelism   the number of worker threads
+     */
+    public Tournament(int dealsPerRound, int minDeals, int maxDeals, int parallelism) {
+        if (dealsPerRound < 1 || maxDeals < dealsPerRound || minDeals > maxDeals) {
+            throw new IllegalArgumentException("Invalid numbers of deals: " + dealsPerRound + ", "
+                    + minDeals + ", " + maxDeals);
+        }
+        this.dealsPerRound = dealsPerRound;
+        this.minDeals = minDeals;
+        this.maxDeals = maxDeals;
+        this.parallelism = parallelism;
+        this.z = zScore(ALPHA, checks(dealsPerRound, minDeals, maxDeals));
+    }
+
+    /**
+     * Counts the significance checks of a match that plays all its deals.
+     *
+     * @param dealsPerRound the number of deals played between two checks
+     * @param minDeals      the number of deals played before the first check
+     * @param maxDeals      the maximum number of deals of a match
+     * @return the number of rounds that end with a check
+     */
+    static int checks(int dealsPerRound, int minDeals, int maxDeals) {
+        int rounds = (maxDeals + dealsPerRound - 1) / dealsPerRound;
+        int firstChecked = Math.max(1, (minDeals + dealsPerRound - 1) / dealsPerRound);
+        return Math.max(1, rounds - firstChecked + 1);
+    }
+
+    /**
+     * Computes the score of a two-sided interval whose level is split between several checks.
+     *
+     * @param alpha  the total probability of a false significant result
+     * @param checks the number of checks
+     * @return the score {@code z} such that {@code P(|Z| > z) = alpha / checks} for a standard
+     *         normal {@code Z}
+     */
+    static double zScore(double alpha, int checks) {
+        return inverseNormal(1 - alpha / (2.0 * checks));
+    }
+
+    /**
+     * Computes the quantile of the standard normal distribution, with the rational approximation
+     * of P. J. Acklam, accurate to about 1e-9.
+     *
+     * @param p the probability, strictly between 0 and 1
+     * @return the value below which a standard normal variable falls with probability {@code p}
+     */
+    private static double inverseNormal(double p) {
+        double[] a = {-3.969683028665376e+01, 2.209460984245205e+02, -2.759285104469687e+02,
+                1.383577518672690e+02, -3.066479806614716e+01, 2.506628277459239e+00};
+        double[] b = {-5.447609879822406e+01, 1.615858368580409e+02, -1.556989798598866e+02,
+                6.680131188771972e+01, -1.328068155288572e+01};
+        double[] c = {-7.784894002430293e-03, -3.223964580411365e-01, -2.400758277161838e+00,
+                -2.549732539343734e+00, 4.374664141464968e+00, 2.938163982698783e+00};
+        double[] d = {7.784695709041462e-03, 3.224671290700398e-01, 2.445134137142996e+00,
+                3.754408661907416e+00};
+        double low = 0.02425;
+        if (p < low) {
+            double q = Math.sqrt(-2 * Math.log(p));
+            return (((((c[0] * q + c[1]) * q + c[2]) * q + c[3]) * q + c[4]) * q + c[5])
+                    / ((((d[0] * q + d[1]) * q + d[2]) * q + d[3]) * q + 1);
+        }
+        if (p > 1 - low) {
+            return -inverseNormal(1 - p);
+        }
+        double q = p - 0.5;
+        double r = q * q;
+        return (((((a[0] * r + a[1]) * r + a[2]) * r + a[3]) * r + a[4]) * r + a[5]) * q
+                / (((((b[0] * r + b[1]) * r + b[2]) * r + b[3]) * r + b[4]) * r + 1);
+    }
+
+    /**
+     * Registers a strategy.
+     *
+     * @param name     the name of the strategy in the report
+     * @param strategy creates a new instance of the strategy for each game
+     * @return this tournament
+     */
+    public Tournament add(String name, Supplier<? extends AIPlayerStrategy> strategy) {
+        LongAdder[] timer = {new LongAdder(), new LongAdder()};
+        strategies.put(name, () -> new TimedStrategy(strategy.get(), timer[0], timer[1]));
+        timers.put(name, timer);
+        return this;
+    }
+
+    /**
+     * Plays every match of the tournament.
+     *
+     * @param seed the seed of the deals
+     * @return the report of the tournament
+     */
+    public TournamentReport run(long seed) {
+        List<String> names = new ArrayList<>(strategies.keySet());
+        List<TournamentReport.MatchResult> matches = new ArrayList<>();
+        GameRng rng = new GameRng(seed);
+        for (int a = 0; a < names.size(); a++) {
+            for (int b = a + 1; b < names.size(); b++) {
+                matches.add(playMatch(names.get(a), names.get(b), rng.split().getSeed()));
+            }
+        }
+        Map<String, Double> decisionMicros = new LinkedHashMap<>();
+        for (Map.Entry<String, LongAdder[]> timer : timers.entrySet()) {
+            long decisions = timer.getValue()[1].sum();
+            decisionMicros.put(timer.getKey(), decisions == 0 ? 0 : timer.getValue()[0].sum() / 1e3 / decisions);
+        }
+        return new TournamentReport(matches, decisionMicros);
+    }
+
+    /**
+     * Plays the mirrored deals of a match until the result is significant or the deals run out.
+     *
+     * @param first  the name of the first strategy
+     * @param second the name of the second strategy
+     * @param seed   the seed of the match
+     * @return the result of the match
+     */
+    private TournamentReport.MatchResult playMatch(String first, String second, long seed) {
+        BatchSimulator firstSeated = new BatchSimulator(
+                new GameSimulator(strategies.get(first), strategies.get(second), MAX_TURNS));
+        BatchSimulator secondSeated = new BatchSimulator(
+                new GameSimulator(strategies.get(second), strategies.get(first), MAX_TURNS));
+        GameRng rng = new GameRng(seed);
+        int deals = 0;
+        int firstWins = 0;
+        int secondWins = 0;
+        int draws = 0;
+        boolean significant = false;
+        while (deals < maxDeals && !significant) {
+            int round = Math.min(dealsPerRound, maxDeals - deals);
+            long roundSeed = rng.split().getSeed();
+            SimulationReport straight = firstSeated.run(round, roundSeed, parallelism);
+            SimulationReport swapped = secondSeated.run(round, roundSeed, parallelism);
+            firstWins += straight.getWins(0) + swapped.getWins(1);
+            secondWins += straight.getWins(1) + swapped.getWins(0);
+            draws += straight.getDraws() + swapped.getDraws();
+            deals += round;
+            significant = deals >= minDeals && excludesEven(firstWins, firstWins + secondWins, z);
+        }
+        int decided = firstWins + secondWins;
+        return new TournamentReport.MatchResult(first, second, deals, firstWins, secondWins, draws,
+                wilsonLow(firstWins, decided, z), wilsonHigh(firstWins, decided, z), significant);
+    }
+
+    /**
+     * Checks whether the Wilson interval of a win rate excludes 50%.
+     *
+     * @param wins  the number of wins
+     * @param games the number of decided games
+     * @param z     the score of the interval
+     * @return true if the result is significant
+     */
+    static boolean excludesEven(int wins, int games, double z) {
+        return games > 0 && (wilsonLow(wins, games, z) > 0.5 || wilsonHigh(wins, games, z) < 0.5);
+    }
+
+    /**
+     * Computes the lower bound of the Wilson score interval of a win rate.
+     *
+     * @param wins  the number of wins
+     * @param games the number of decided games
+     * @param z     the score of the interval
+     * @return the lower bound, between 0 and 1
+     */
+    static double wilsonLow(int wins, int games, double z) {
+        return games == 0 ? 0 : wilsonCenter(wins, games, z) - wilsonHalfWidth(wins, games, z);
+    }
+
+    /**
+     * Computes the upper bound of the Wilson score interval of a win rate.
+     *
+     * @param wins  the number of wins
+     * @param games the number of decided games
+     * @param z     the score of the interval
+     * @return the upper bound, between 0 and 1
+     */
+    static double wilsonHigh(int wins, int games, double z) {
+        return games == 0 ? 1 : wilsonCenter(wins, games, z) + wilsonHalfWidth(wins, games, z);
+    }
+
+    /**
+     * Computes the center of the Wilson score interval.
+     *
+     * @param wins  the number of wins
+     * @param games the number of decided games
+     * @param z     the score of the interval
+     * @return the center of the interval
+     */
+    private static double wilsonCenter(int wins, int games, double z) {
+        double p = (double) wins / games;
+        return (p + z * z / (2.0 * games)) / (1 + z * z / games);
+    }
+
+    /**
+     * Computes the half width of the Wilson score interval.
+     *
+     * @param wins  the number of wins
+     * @param games the number of decided games
+     * @param z     the score of the interval
+     * @return the half width of the interval
+     */
+    private static double wilsonHalfWidth(int wins, int games, double z) {
+        double p = (double) wins / games;
+        return z * Math.sqrt(p * (1 - p) / games + z * z / (4.0 * games * games)) / (1 + z * z / games);
+    }
+
+    /**
+     * Runs a tournament between the basic strategy and ISMCTS with two iteration budgets.
+     * <p>
+     * The searches use a stream split from the seed of the tournament and a time budget long
+     * enough for the iterations to run out first, so the same seed gives the same report.
+     *
+     * @param args the maximum number of deals per match and the seed, both optional
+     */
+    public static void main(String[] args) {
+        int maxDeals = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : GameRng.create().getSeed();
+        int threads = Runtime.getRuntime().availableProcessors();
+        GameRng searchRng = new GameRng(seed).split();
+        long smallSearch = searchRng.split().getSeed();
+        long largeSearch = searchRng.split().getSeed();
+        Tournament tournament = new Tournament(100, 200, maxDeals, threads)
+                .add("basic", BasicAIPlayerStrategy::new)
+                .add("ismcts-200", () -> new IsmctsAIPlayerStrategy(60_000, 200, 1, new GameRng(smallSearch)))
+                .add("ismcts-1000", () -> new IsmctsAIPlayerStrategy(60_000, 1000, 1, new GameRng(largeSearch)));
+        System.out.println("Tournament with up to " + maxDeals + " mirrored deals per match (seed " + seed + ")");
+        System.out.println(tournament.run(seed));
+    }
+}
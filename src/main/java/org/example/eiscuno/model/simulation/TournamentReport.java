@@ -0,0 +1,208 @@
+package org.example.eiscuno.model.simulation;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The results of a {@link Tournament}: one result per match and the average decision time of each
+ * strategy.
+ */
+public final class TournamentReport {
+    private final List<MatchResult> matches;
+    private final Map<String, Double> decisionMicros;
+
+    /**
+     * Constructs the report of a tournament.
+     *
+     * @param matches        the result of every match
+     * @param decisionMicros the average decision time of each strategy, in microseconds
+     */
+    TournamentReport(List<MatchResult> matches, Map<String, Double> decisionMicros) {
+        this.matches = Collections.unmodifiableList(matches);
+        this.decisionMicros = Collections.unmodifiableMap(decisionMicros);
+    }
+
+    /**
+     * Gets the result of every match.
+     *
+     * @return the match results, in the order they were played
+     */
+    public List<MatchResult> getMatches() {
+        return matches;
+    }
+
+    /**
+     * Gets the average time a strategy took to decide a move.
+     *
+     * @param name the name of the strategy
+     * @return the average decision time in microseconds
+     */
+    public double getDecisionMicros(String name) {
+        return decisionMicros.getOrDefault(name, 0.0);
+    }
+
+    /**
+     * Formats the report for the console.
+     *
+     * @return one line per match, then one line per strategy
+     */
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        for (MatchResult match : matches) {
+            text.append(match).append(System.lineSeparator());
+        }
+        for (Map.Entry<String, Double> entry : decisionMicros.entrySet()) {
+            text.append(String.format("%s: %.1f us per decision%n", entry.getKey(), entry.getValue()));
+        }
+        return text.toString();
+    }
+
+    /**
+     * The result of a match between two strategies.
+     */
+    public static final class MatchResult {
+        private final String first;
+        private final String second;
+        private final int deals;
+        private final int firstWins;
+        private final int secondWins;
+        private final int draws;
+        private final double low;
+        private final double high;
+        private final boolean significant;
+
+        /**
+         * Constructs the result of a match.
+         *
+         * @param first       the name of the first strategy
+         * @param second      the name of the second strategy
+         * @param deals       the number of mirrored deals played
+         * @param firstWins   the games won by the first strategy
+         * @param secondWins  the games won by the second strategy
+         * @param draws       the games without a winner
+         * @param low         the lower bound of the win rate of the first strategy
+         * @param high        the upper bound of the win rate of the first strategy
+         * @param significant whether the interval, adjusted for the repeated checks, excludes 50%
+         */
+        MatchResult(String first, String second, int deals, int firstWins, int secondWins, int draws,
+                    double low, double high, boolean significant) {
+            this.first = first;
+            this.second = second;
+            this.deals = deals;
+            this.firstWins = firstWins;
+            this.secondWins = secondWins;
+            this.draws = draws;
+            this.low = low;
+            this.high = high;
+            this.significant = significant;
+        }
+
+        /**
+         * Gets the name of the first strategy.
+         *
+         * @return the name
+         */
+        public String getFirst() {
+            return first;
+        }
+
+        /**
+         * Gets the name of the second strategy.
+         *
+         * @return the name
+         */
+        public String getSecond() {
+            return second;
+        }
+
+        /**
+         * Gets the number of mirrored deals played; each deal is two games.
+         *
+         * @return the number of deals
+         */
+        public int getDeals() {
+            return deals;
+        }
+
+        /**
+         * Gets the games won by the first strategy.
+         *
+         * @return the number of wins
+         */
+        public int getFirstWins() {
+            return firstWins;
+        }
+
+        /**
+         * Gets the games won by the second strategy.
+         *
+         * @return the number of wins
+         */
+        public int getSecondWins() {
+            return secondWins;
+        }
+
+        /**
+         * Gets the games without a winner.
+         *
+         * @return the number of draws
+         */
+        public int getDraws() {
+            return draws;
+        }
+
+        /**
+         * Gets the win rate of the first strategy over the decided games.
+         *
+         * @return the win rate, between 0 and 1
+         */
+        public double getWinRate() {
+            int decided = firstWins + secondWins;
+            return decided == 0 ? 0.5 : (double) firstWins / decided;
+        }
+
+        /**
+         * Gets the lower bound of the interval of the win rate of the first strategy, at the level
+         * adjusted for the repeated checks of the match.
+         *
+         * @return the lower bound
+         */
+        public double getLow() {
+            return low;
+        }
+
+        /**
+         * Gets the upper bound of the interval of the win rate of the first strategy, at the level
+         * adjusted for the repeated checks of the match.
+         *
+         * @return the upper bound
+         */
+        public double getHigh() {
+            return high;
+        }
+
+        /**
+         * Checks whether one strategy is significantly stronger.
+         *
+         * @return true if the interval excludes 50%, which happens by chance between strategies of
+         *         equal strength in at most {@value Tournament#ALPHA} of the matches
+         */
+        public boolean isSignificant() {
+            return significant;
+        }
+
+        /**
+         * Formats the result for the console.
+         *
+         * @return a one-line summary of the match
+         */
+        @Override
+        public String toString() {
+            return String.format("%s vs %s: %d-%d (%d draws, %d deals), win rate %.1f%% [%.1f%%, %.1f%%]%s",
+                    first, second, firstWins, secondWins, draws, deals, getWinRate() * 100, low * 100, high * 100,
+                    significant ? " significant" : "");
+        }
+    }
+}
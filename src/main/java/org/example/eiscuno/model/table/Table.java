@@ -2,28 +2,58 @@ package org.example.eiscuno.model.table;
 
 import org.example.eiscuno.model.card.Card;
 
-import java.util.ArrayList;
-
 /**
  * Represents the table in the Uno game where cards are played.
+ * <p>
+ * The discard pile is a ring buffer of fixed capacity. While it is not full, it holds every card
+ * played since the last reshuffle, so those cards can be recycled into the deck. When it is full,
+ * the oldest card is dropped to make room, which bounds the memory of long games and sessions.
+ * To keep every card in play, the capacity should be at least the size of the deck.
  */
 public class Table {
-    private ArrayList<Card> cardsTable;
+    private static final int DEFAULT_CAPACITY = 128;
+
+    private final Card[] cardsTable;
+    private int head;
+    private int size;
+    private long droppedCards;
 
     /**
      * Constructs a new Table object with no cards on it.
      */
     public Table(){
-        this.cardsTable = new ArrayList<Card>();
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a new Table object with no cards on it and a discard pile of the given capacity.
+     *
+     * @param capacity the maximum number of cards kept on the table
+     * @throws IllegalArgumentException if the capacity is less than 1
+     */
+    public Table(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The table must hold at least one card: " + capacity);
+        }
+        this.cardsTable = new Card[capacity];
     }
 
     /**
      * Adds a card to the table.
+     * <p>
+     * If the discard pile is full, its oldest card is dropped.
      *
      * @param card The card to be added to the table.
      */
     public void addCardOnTheTable(Card card){
-        this.cardsTable.add(card);
+        if (size == cardsTable.length) {
+            cardsTable[head] = null;
+            head = (head + 1) % cardsTable.length;
+            size--;
+            droppedCards++;
+        }
+        cardsTable[(head + size) % cardsTable.length] = card;
+        size++;
     }
 
     /**
@@ -33,9 +63,71 @@ public class Table {
      * @throws IndexOutOfBoundsException if there are no cards on the table.
      */
     public Card getCurrentCardOnTheTable() throws IndexOutOfBoundsException {
-        if (cardsTable.isEmpty()) {
+        if (size == 0) {
             throw new IndexOutOfBoundsException("There are no cards on the table.");
         }
-        return this.cardsTable.get(this.cardsTable.size()-1);
+        return getCard(0);
+    }
+
+    /**
+     * Retrieves a card of the discard pile, counting from the top.
+     *
+     * @param fromTop the position of the card, 0 being the card currently on the table
+     * @return The card at that position.
+     * @throws IndexOutOfBoundsException if the position is outside the discard pile.
+     */
+    public Card getCard(int fromTop) {
+        if (fromTop < 0 || fromTop >= size) {
+            throw new IndexOutOfBoundsException("No card at position " + fromTop + " of the table.");
+        }
+        return cardsTable[(head + size - 1 - fromTop) % cardsTable.length];
+    }
+
+    /**
+     * Moves every card except the one on top into an array, oldest first.
+     * <p>
+     * At most {@code max} cards are moved; the most recent ones stay on the table.
+     *
+     * @param target the array that receives the cards
+     * @param offset the position of the first card in the array
+     * @param max the maximum number of cards to move
+     * @return the number of cards moved
+     */
+    public int removeAllButTop(Card[] target, int offset, int max) {
+        int moved = Math.max(0, Math.min(size - 1, max));
+        for (int i = 0; i < moved; i++) {
+            target[offset + i] = cardsTable[head];
+            cardsTable[head] = null;
+            head = (head + 1) % cardsTable.length;
+        }
+        size -= moved;
+        return moved;
+    }
+
+    /**
+     * Gets the number of cards the table can hold.
+     *
+     * @return the capacity of the discard pile
+     */
+    public int capacity() {
+        return cardsTable.length;
+    }
+
+    /**
+     * Gets the number of cards on the table.
+     *
+     * @return the number of cards in the discard pile
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the number of cards dropped because the discard pile was full.
+     *
+     * @return the number of dropped cards
+     */
+    public long getDroppedCards() {
+        return droppedCards;
     }
 }
@@ -1,5 +1,12 @@
 package org.example.eiscuno.model.unoenum;
 
+import org.example.eiscuno.model.card.CardColor;
+import org.example.eiscuno.model.card.CardType;
+import org.example.eiscuno.model.card.CardValue;
+
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Enum EISCUnoEnum
  *
@@ -70,7 +77,17 @@ public enum EISCUnoEnum {
 
     private final String filePath;
     private final String cardType;
+    private final CardType typeCode;
+    private final CardValue cardValue;
+    private final CardColor cardColor;
     private static final String PATH = "/org/example/eiscuno/";
+    private static final Map<String, EISCUnoEnum> BY_FILE_PATH = new HashMap<>();
+
+    static {
+        for (EISCUnoEnum value : values()) {
+            BY_FILE_PATH.put(value.filePath, value);
+        }
+    }
 
     /**
      * Constructor for the EISCUnoEnum enum.
@@ -80,6 +97,50 @@ public enum EISCUnoEnum {
     EISCUnoEnum(String filePath, String cardType) {
         this.filePath = PATH + filePath;
         this.cardType = cardType;
+        this.typeCode = CardType.fromName(cardType);
+        this.cardValue = cardType == null ? null : parseCardValue(name());
+        this.cardColor = cardType == null ? null : parseCardColor(name());
+    }
+
+    /**
+     * Works out the value of a card from the name of its entry.
+     * <p>
+     * Numeric cards end with their digit; special cards start with "TWO_WILD_DRAW", "REVERSE"
+     * or "SKIP", or are named "FOUR_WILD_DRAW" or "WILD".
+     *
+     * @param name the name of the entry
+     * @return the value of the card
+     */
+    private static CardValue parseCardValue(String name) {
+        char last = name.charAt(name.length() - 1);
+        if (Character.isDigit(last)) {
+            return CardValue.values()[last - '0'];
+        } else if (name.startsWith("TWO_WILD_DRAW_")) {
+            return CardValue.TWO_WILD_DRAW;
+        } else if (name.startsWith("REVERSE")) {
+            return CardValue.REVERSE;
+        } else if (name.startsWith("SKIP")) {
+            return CardValue.SKIP;
+        }
+        return CardValue.valueOf(name);
+    }
+
+    /**
+     * Works out the color of a card from the name of its entry.
+     * <p>
+     * The color appears at the start or at the end of the name; the wild cards use their own
+     * name as color.
+     *
+     * @param name the name of the entry
+     * @return the color of the card
+     */
+    private static CardColor parseCardColor(String name) {
+        for (CardColor color : CardColor.values()) {
+            if (name.equals(color.name()) || name.startsWith(color.name() + "_") || name.endsWith("_" + color.name())) {
+                return color;
+            }
+        }
+        throw new IllegalArgumentException("Unknown card color: " + name);
     }
 
     /**
@@ -93,6 +154,43 @@ public enum EISCUnoEnum {
 
     public String getCardType() {return cardType;}
 
+    /**
+     * Gets the type code of the card shown by this entry.
+     *
+     * @return the type of the card, or {@code null} if the entry is not a playable card
+     */
+    public CardType getTypeCode() {
+        return typeCode;
+    }
+
+    /**
+     * Gets the value of the card shown by this entry.
+     *
+     * @return the value of the card, or {@code null} if the entry is not a playable card
+     */
+    public CardValue getCardValue() {
+        return cardValue;
+    }
+
+    /**
+     * Gets the color of the card shown by this entry.
+     *
+     * @return the color of the card, or {@code null} if the entry is not a playable card
+     */
+    public CardColor getCardColor() {
+        return cardColor;
+    }
+
+    /**
+     * Finds the entry whose full file path matches the given path.
+     *
+     * @param filePath the full file path of the image (e.g., "/org/example/eiscuno/cards-uno/0_red.png")
+     * @return the matching entry, or {@code null} if no entry uses that path
+     */
+    public static EISCUnoEnum fromFilePath(String filePath) {
+        return BY_FILE_PATH.get(filePath);
+    }
+
     public boolean isPlayableCard(){
         return cardType != null;
     }
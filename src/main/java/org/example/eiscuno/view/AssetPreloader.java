@@ -0,0 +1,168 @@
+package org.example.eiscuno.view;
+
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
+import javafx.scene.image.Image;
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Decodes the images of the game on background threads while the window is already showing.
+ * <p>
+ * Every {@link EISCUnoEnum} asset, including the large backgrounds under {@code images/}, is
+ * loaded into the {@link CardImageCache} by a small pool of daemon threads. The card faces are
+ * queued first. Callers that need specific assets right away can ask for them with
+ * {@link #whenReady(Collection)}, which decodes them on a dedicated thread ahead of the queue.
+ * When the atlas mode of the cache is enabled, the {@link CardAtlas} is built on the pool as soon
+ * as the card faces are decoded. Progress is published on the JavaFX Application Thread.
+ */
+public final class AssetPreloader {
+    private static final int TOTAL_ASSETS = EISCUnoEnum.values().length;
+
+    private final Map<EISCUnoEnum, CompletableFuture<Image>> assets = new EnumMap<>(EISCUnoEnum.class);
+    private final ExecutorService pool;
+    private final ExecutorService urgent;
+    private final AtomicInteger loaded = new AtomicInteger();
+    private final ReadOnlyDoubleWrapper progress = new ReadOnlyDoubleWrapper(0);
+    private final CompletableFuture<Void> allLoaded;
+
+    /**
+     * Starts decoding every asset of the game in the background.
+     */
+    private AssetPreloader() {
+        int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+        this.pool = Executors.newFixedThreadPool(threads, runnable -> daemon(runnable, "AssetPreloader"));
+        this.urgent = Executors.newSingleThreadExecutor(runnable -> daemon(runnable, "AssetPreloaderUrgent"));
+
+        long start = System.nanoTime();
+        for (EISCUnoEnum asset : EISCUnoEnum.values()) {
+            if (asset.isPlayableCard()) {
+                submit(asset);
+            }
+        }
+        CompletableFuture<Void> atlas = CompletableFuture.allOf(assets.values().toArray(new CompletableFuture<?>[0]))
+                .thenRunAsync(() -> {
+                    if (CardImageCache.isAtlasEnabled()) {
+                        CardImageCache.getAtlas();
+                    }
+                }, pool);
+        for (EISCUnoEnum asset : EISCUnoEnum.values()) {
+            if (!asset.isPlayableCard()) {
+                submit(asset);
+            }
+        }
+        CompletableFuture<?>[] everything = assets.values().toArray(new CompletableFuture<?>[TOTAL_ASSETS + 1]);
+        everything[TOTAL_ASSETS] = atlas;
+        this.allLoaded = CompletableFuture.allOf(everything)
+                .thenRun(() -> {
+                    StartupMetrics.record(StartupMetrics.Phase.ASSET_DECODE, System.nanoTime() - start);
+                    pool.shutdown();
+                });
+    }
+
+    /**
+     * Queues the decoding of an asset on the background pool.
+     *
+     * @param asset the asset to decode
+     */
+    private void submit(EISCUnoEnum asset) {
+        CompletableFuture<Image> future = CompletableFuture.supplyAsync(() -> CardImageCache.getImage(asset), pool);
+        future.thenRun(this::assetLoaded);
+        assets.put(asset, future);
+    }
+
+    /**
+     * Counts a decoded asset and publishes the new progress on the JavaFX Application Thread.
+     */
+    private void assetLoaded() {
+        double value = (double) loaded.incrementAndGet() / TOTAL_ASSETS;
+        Platform.runLater(() -> progress.set(value));
+    }
+
+    /**
+     * Returns a future that completes once the given assets are decoded.
+     * <p>
+     * Assets that are still waiting in the queue are decoded right away on a dedicated thread, so
+     * the images needed for the first frame do not wait behind the rest of the game assets. An
+     * asset the pool finishes first is not looked up again.
+     *
+     * @param needed the assets that must be ready
+     * @return a future completed when every needed asset is in the {@link CardImageCache}
+     */
+    public CompletableFuture<Void> whenReady(Collection<EISCUnoEnum> needed) {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[needed.size()];
+        int i = 0;
+        for (EISCUnoEnum asset : needed) {
+            CompletableFuture<Image> future = assets.get(asset);
+            if (!future.isDone()) {
+                urgent.execute(() -> {
+                    if (!future.isDone()) {
+                        future.complete(CardImageCache.getImage(asset));
+                    }
+                });
+            }
+            futures[i++] = future;
+        }
+        return CompletableFuture.allOf(futures);
+    }
+
+    /**
+     * Returns a future that completes once every asset of the game is decoded.
+     *
+     * @return the future of the whole preload
+     */
+    public CompletableFuture<Void> whenAllLoaded() {
+        return allLoaded;
+    }
+
+    /**
+     * Gets the fraction of the assets that are already decoded, from 0 to 1.
+     * <p>
+     * The property is updated on the JavaFX Application Thread.
+     *
+     * @return the progress property of the preload
+     */
+    public ReadOnlyDoubleProperty progressProperty() {
+        return progress.getReadOnlyProperty();
+    }
+
+    /**
+     * Creates a daemon thread so the preload never keeps the application alive.
+     *
+     * @param runnable the task of the thread
+     * @param name the name of the thread
+     * @return the new daemon thread
+     */
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Retrieves the singleton instance of AssetPreloader, starting the preload on the first call.
+     *
+     * @return the singleton instance of AssetPreloader
+     */
+    public static synchronized AssetPreloader getInstance() {
+        return AssetPreloaderHolder.INSTANCE != null ?
+                AssetPreloaderHolder.INSTANCE :
+                (AssetPreloaderHolder.INSTANCE = new AssetPreloader());
+    }
+
+    /**
+     * Holder class for the singleton instance of AssetPreloader.
+     * This class ensures lazy initialization of the singleton instance.
+     */
+    private static class AssetPreloaderHolder {
+        private static AssetPreloader INSTANCE;
+    }
+}
@@ -0,0 +1,98 @@
+package org.example.eiscuno.view;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.WritableImage;
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A sprite atlas that packs every card face into a single texture.
+ * <p>
+ * Each playable {@link EISCUnoEnum} entry is copied into one cell of a grid. Image views display
+ * a card by showing the atlas image and setting their viewport to the cell of that card, so all
+ * the card faces share one decoded bitmap.
+ */
+public class CardAtlas {
+    private static final int COLUMNS = 9;
+
+    private final Image image;
+    private final Map<EISCUnoEnum, Rectangle2D> viewports;
+
+    /**
+     * Builds an atlas from the decoded card faces.
+     * <p>
+     * All faces are expected to share the size of the first playable card; cells are laid out
+     * left to right, top to bottom, in the declaration order of {@link EISCUnoEnum}.
+     *
+     * @param faceLoader the function that supplies the decoded image of each card face
+     */
+    CardAtlas(Function<EISCUnoEnum, Image> faceLoader) {
+        Map<EISCUnoEnum, Image> faces = new EnumMap<>(EISCUnoEnum.class);
+        for (EISCUnoEnum cardEnum : EISCUnoEnum.values()) {
+            if (cardEnum.isPlayableCard()) {
+                faces.put(cardEnum, faceLoader.apply(cardEnum));
+            }
+        }
+
+        Image first = faces.values().iterator().next();
+        int cellWidth = (int) first.getWidth();
+        int cellHeight = (int) first.getHeight();
+        int rows = (faces.size() + COLUMNS - 1) / COLUMNS;
+
+        WritableImage atlas = new WritableImage(cellWidth * COLUMNS, cellHeight * rows);
+        this.viewports = new EnumMap<>(EISCUnoEnum.class);
+        int cell = 0;
+        for (Map.Entry<EISCUnoEnum, Image> entry : faces.entrySet()) {
+            int x = (cell % COLUMNS) * cellWidth;
+            int y = (cell / COLUMNS) * cellHeight;
+            Image face = entry.getValue();
+            PixelReader reader = face.getPixelReader();
+            int width = Math.min(cellWidth, (int) face.getWidth());
+            int height = Math.min(cellHeight, (int) face.getHeight());
+            atlas.getPixelWriter().setPixels(x, y, width, height, reader, 0, 0);
+            viewports.put(entry.getKey(), new Rectangle2D(x, y, width, height));
+            cell++;
+        }
+        this.image = atlas;
+    }
+
+    /**
+     * Gets the atlas texture.
+     *
+     * @return the image holding every card face
+     */
+    public Image getImage() {
+        return image;
+    }
+
+    /**
+     * Copies a card face out of the atlas into an image of its own.
+     *
+     * @param cardEnum the card face
+     * @return a new image holding the pixels of the cell of the face
+     * @throws IllegalArgumentException if the face is not in the atlas
+     */
+    public Image copyFace(EISCUnoEnum cardEnum) {
+        Rectangle2D viewport = viewports.get(cardEnum);
+        if (viewport == null) {
+            throw new IllegalArgumentException(cardEnum + " is not in the atlas");
+        }
+        return new WritableImage(image.getPixelReader(), (int) viewport.getMinX(), (int) viewport.getMinY(),
+                (int) viewport.getWidth(), (int) viewport.getHeight());
+    }
+
+    /**
+     * Gets the region of the atlas that holds a card face.
+     *
+     * @param cardEnum the card face
+     * @return the viewport of the card face, or {@code null} if the face is not in the atlas
+     */
+    public Rectangle2D getViewport(EISCUnoEnum cardEnum) {
+        return viewports.get(cardEnum);
+    }
+}
@@ -0,0 +1,214 @@
+package org.example.eiscuno.view;
+
+import javafx.scene.image.Image;
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Process-wide registry of the decoded images of the game, keyed by {@link EISCUnoEnum}.
+ * <p>
+ * Each asset is decoded at most once and shared by every deck, card and game session, so the
+ * decoded-bitmap memory is bounded by the number of entries in {@link EISCUnoEnum}. When the
+ * atlas mode is enabled, the card faces are packed into a single {@link CardAtlas} and the
+ * individual face bitmaps are released. From then on every lookup of a card face goes through the
+ * atlas: {@link CardView} shows the cell of the card, and {@link #getImage(EISCUnoEnum)} copies
+ * the cell, once, instead of decoding the face file again.
+ * <p>
+ * The registry is safe to use from any thread and tracks hit, miss and decode-time counters. The
+ * misses load their image under the read side of a lock whose write side builds the atlas, so a
+ * face decoded while the atlas is built cannot be stored after the faces were released.
+ */
+public final class CardImageCache {
+    private static final Map<EISCUnoEnum, Image> IMAGES = new ConcurrentHashMap<>();
+    private static final AtomicLong HITS = new AtomicLong();
+    private static final AtomicLong MISSES = new AtomicLong();
+    private static final AtomicLong DECODE_NANOS = new AtomicLong();
+    private static final ReadWriteLock ATLAS_LOCK = new ReentrantReadWriteLock();
+
+    private static volatile boolean atlasEnabled;
+    private static volatile CardAtlas atlas;
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private CardImageCache() {
+    }
+
+    /**
+     * Gets the decoded image of an asset, decoding it on the first request.
+     * <p>
+     * Once the atlas is built, a card face is copied from its cell of the atlas on its first
+     * request and the copy is kept for the next ones. Only the requests answered by an image
+     * already in the registry count as hits.
+     *
+     * @param asset the asset to get the image for
+     * @return the decoded Image of the asset
+     */
+    public static Image getImage(EISCUnoEnum asset) {
+        Image image = IMAGES.get(asset);
+        if (image != null) {
+            HITS.incrementAndGet();
+            return image;
+        }
+        Lock lock = ATLAS_LOCK.readLock();
+        lock.lock();
+        try {
+            CardAtlas current = atlas;
+            if (current != null && asset.isPlayableCard()) {
+                return IMAGES.computeIfAbsent(asset, face -> {
+                    MISSES.incrementAndGet();
+                    return current.copyFace(face);
+                });
+            }
+            return IMAGES.computeIfAbsent(asset, CardImageCache::decode);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the decoded image stored at a resource path.
+     * <p>
+     * Paths that belong to an {@link EISCUnoEnum} entry are served from the registry; any other
+     * path is decoded on each call and counted as a miss.
+     *
+     * @param filePath the full resource path of the image
+     * @return the decoded Image
+     */
+    public static Image getImage(String filePath) {
+        EISCUnoEnum asset = EISCUnoEnum.fromFilePath(filePath);
+        if (asset != null) {
+            return getImage(asset);
+        }
+        return decode(filePath);
+    }
+
+    /**
+     * Gets the card atlas, building it from the cached card faces on the first call.
+     * <p>
+     * The atlas is built and the faces are released under the write side of the lock, so no miss
+     * can store a face in between.
+     *
+     * @return the shared card atlas
+     */
+    public static CardAtlas getAtlas() {
+        CardAtlas current = atlas;
+        if (current == null) {
+            Lock lock = ATLAS_LOCK.writeLock();
+            lock.lock();
+            try {
+                current = atlas;
+                if (current == null) {
+                    current = new CardAtlas(CardImageCache::getImage);
+                    IMAGES.keySet().removeIf(EISCUnoEnum::isPlayableCard);
+                    atlas = current;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Checks whether the atlas was built, in which case the card faces are only held by it.
+     *
+     * @return {@code true} once {@link #getAtlas()} was called
+     */
+    public static boolean hasAtlas() {
+        return atlas != null;
+    }
+
+    /**
+     * Enables or disables rendering card faces from the shared atlas.
+     * <p>
+     * The application enables it at startup, and {@link AssetPreloader} then builds the atlas as
+     * soon as the card faces are decoded.
+     *
+     * @param enabled {@code true} to render card faces through the atlas
+     */
+    public static void setAtlasEnabled(boolean enabled) {
+        atlasEnabled = enabled;
+    }
+
+    /**
+     * Checks whether card faces are rendered from the shared atlas.
+     *
+     * @return {@code true} if the atlas mode is enabled
+     */
+    public static boolean isAtlasEnabled() {
+        return atlasEnabled;
+    }
+
+    /**
+     * Gets the number of requests served from the registry.
+     *
+     * @return the hit count
+     */
+    public static long getHitCount() {
+        return HITS.get();
+    }
+
+    /**
+     * Gets the number of requests that had to load an image, by decoding it or, for a card face
+     * once the atlas is built, by copying its cell.
+     *
+     * @return the miss count
+     */
+    public static long getMissCount() {
+        return MISSES.get();
+    }
+
+    /**
+     * Gets the total time spent decoding images.
+     *
+     * @return the decode time in nanoseconds
+     */
+    public static long getDecodeNanos() {
+        return DECODE_NANOS.get();
+    }
+
+    /**
+     * Gets the number of individual images currently held by the registry.
+     *
+     * @return the number of cached images
+     */
+    public static int size() {
+        return IMAGES.size();
+    }
+
+    /**
+     * Decodes the image of an asset.
+     * <p>
+     * It runs under the read side of the lock, so the atlas cannot be built while a face is decoded.
+     *
+     * @param asset the asset to decode
+     * @return the decoded Image
+     */
+    private static Image decode(EISCUnoEnum asset) {
+        return decode(asset.getFilePath());
+    }
+
+    /**
+     * Decodes the image stored at a resource path and updates the miss and decode-time counters.
+     * <p>
+     * The paths that belong to no {@link EISCUnoEnum} entry are decoded without the lock, as they
+     * are never stored.
+     *
+     * @param filePath the full resource path of the image
+     * @return the decoded Image
+     */
+    private static Image decode(String filePath) {
+        MISSES.incrementAndGet();
+        long start = System.nanoTime();
+        Image image = new Image(String.valueOf(CardImageCache.class.getResource(filePath)));
+        DECODE_NANOS.addAndGet(System.nanoTime() - start);
+        return image;
+    }
+}
@@ -0,0 +1,91 @@
+package org.example.eiscuno.view;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Binds headless {@link Card} instances to their JavaFX representation.
+ * <p>
+ * The model cards carry only their data and image URL. This class creates the {@link ImageView}
+ * of a card the first time it is rendered and keeps it only as long as the card itself is alive.
+ * The decoded images come from the shared {@link CardImageCache}, so creating new decks or
+ * restarting a game does no image I/O. It must be used from the JavaFX Application Thread.
+ */
+public final class CardView {
+    private static final Map<Card, ImageView> CARD_VIEWS = new WeakHashMap<>();
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private CardView() {
+    }
+
+    /**
+     * Gets the image of a card from the shared image cache.
+     *
+     * @param card the card to get the image for
+     * @return the Image of the card
+     */
+    public static Image getImage(Card card) {
+        EISCUnoEnum cardEnum = card.getFace().getAsset();
+        return cardEnum != null ? CardImageCache.getImage(cardEnum) : CardImageCache.getImage(card.getUrl());
+    }
+
+    /**
+     * Shows a card in an existing ImageView.
+     * <p>
+     * When the atlas mode of {@link CardImageCache} is enabled, or the atlas was already built, the
+     * view displays the atlas and its viewport is set to the region of the card; otherwise it
+     * displays the card image.
+     *
+     * @param imageView the ImageView that will display the card
+     * @param card the card to display
+     */
+    public static void bind(ImageView imageView, Card card) {
+        EISCUnoEnum cardEnum = card.getFace().getAsset();
+        if (cardEnum != null && cardEnum.isPlayableCard()
+                && (CardImageCache.isAtlasEnabled() || CardImageCache.hasAtlas())) {
+            CardAtlas atlas = CardImageCache.getAtlas();
+            imageView.setImage(atlas.getImage());
+            imageView.setViewport(atlas.getViewport(cardEnum));
+        } else {
+            imageView.setViewport(null);
+            imageView.setImage(getImage(card));
+        }
+    }
+
+    /**
+     * Gets the ImageView representation of a card.
+     * <p>
+     * The ImageView is created and configured on the first call for the given card and reused
+     * afterwards, so the same card is always rendered by the same node.
+     *
+     * @param card the card to get the ImageView for
+     * @return the ImageView of the card
+     */
+    public static ImageView getImageView(Card card) {
+        return CARD_VIEWS.computeIfAbsent(card, CardView::createCardImageView);
+    }
+
+    /**
+     * Creates and configures the ImageView for a card.
+     * <p>
+     * This method creates an ImageView to display the card's image, setting its size and position.
+     *
+     * @param card the card to create the ImageView for
+     * @return the configured ImageView of the card
+     */
+    private static ImageView createCardImageView(Card card) {
+        ImageView cardImageView = new ImageView();
+        bind(cardImageView, card);
+        cardImageView.setY(16);
+        cardImageView.setFitHeight(90);
+        cardImageView.setFitWidth(70);
+        return cardImageView;
+    }
+}
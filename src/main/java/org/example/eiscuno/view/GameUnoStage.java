@@ -15,10 +15,14 @@ public class GameUnoStage extends Stage {
 
     /**
      * Constructs a new instance of GameUnoStage.
+     * <p>
+     * The time spent loading the FXML file and the time until the first frame is rendered are
+     * recorded in {@link StartupMetrics}.
      *
      * @throws IOException if an error occurs while loading the FXML file for the game interface.
      */
     public GameUnoStage() throws IOException {
+        long fxmlStart = System.nanoTime();
         FXMLLoader loader = new FXMLLoader(getClass().getResource("/org/example/eiscuno/game-uno-view.fxml"));
         Parent root;
         try {
@@ -27,7 +31,15 @@ public class GameUnoStage extends Stage {
             // Re-throwing the caught IOException
             throw new IOException("Error while loading FXML file", e);
         }
+        StartupMetrics.record(StartupMetrics.Phase.FXML_LOAD, System.nanoTime() - fxmlStart);
         Scene scene = new Scene(root);
+        scene.addPostLayoutPulseListener(new Runnable() {
+            @Override
+            public void run() {
+                StartupMetrics.mark(StartupMetrics.Phase.FIRST_FRAME);
+                scene.removePostLayoutPulseListener(this);
+            }
+        });
         // Configuring the stage
         setTitle("EISC Uno"); // Sets the title of the stage
         setScene(scene); // Sets the scene for the stage
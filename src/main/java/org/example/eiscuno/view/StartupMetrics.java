@@ -0,0 +1,95 @@
+package org.example.eiscuno.view;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Records the duration of the phases of the application start-up.
+ * <p>
+ * All the times are measured from {@link #begin()}, which is called once when the application
+ * starts. The values are exposed so cold-start regressions can be tracked, and a summary is
+ * printed when the game becomes interactive.
+ */
+public final class StartupMetrics {
+
+    /**
+     * The phases of the start-up that are timed.
+     */
+    public enum Phase {
+        /** Loading the FXML file and building the scene graph. */
+        FXML_LOAD,
+        /** Decoding every image of the game in the background. */
+        ASSET_DECODE,
+        /** Rendering the first frame of the window. */
+        FIRST_FRAME,
+        /** Rendering the first cards and accepting player input. */
+        INTERACTIVE
+    }
+
+    private static final Map<Phase, Long> PHASE_NANOS = new EnumMap<>(Phase.class);
+    private static long startNanos = System.nanoTime();
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private StartupMetrics() {
+    }
+
+    /**
+     * Marks the start of the application and clears any previous measurement.
+     */
+    public static synchronized void begin() {
+        PHASE_NANOS.clear();
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * Records a phase that ends now, measured from the start of the application.
+     * <p>
+     * Only the first record of each phase is kept.
+     *
+     * @param phase the phase that ended
+     */
+    public static synchronized void mark(Phase phase) {
+        record(phase, System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Records the duration of a phase.
+     * <p>
+     * Only the first record of each phase is kept.
+     *
+     * @param phase the phase that was measured
+     * @param nanos the duration of the phase in nanoseconds
+     */
+    public static synchronized void record(Phase phase, long nanos) {
+        PHASE_NANOS.putIfAbsent(phase, nanos);
+        if (phase == Phase.INTERACTIVE) {
+            System.out.println(summary());
+        }
+    }
+
+    /**
+     * Gets the recorded time of a phase.
+     *
+     * @param phase the phase to query
+     * @return the time of the phase in milliseconds, or {@code -1} if it was not recorded yet
+     */
+    public static synchronized double getPhaseMillis(Phase phase) {
+        Long nanos = PHASE_NANOS.get(phase);
+        return nanos == null ? -1 : nanos / 1_000_000.0;
+    }
+
+    /**
+     * Builds a one-line summary of the recorded phases.
+     *
+     * @return the summary of the start-up times
+     */
+    public static synchronized String summary() {
+        StringBuilder summary = new StringBuilder("Startup:");
+        for (Phase phase : Phase.values()) {
+            summary.append(String.format(" %s=%.1fms", phase, getPhaseMillis(phase)));
+        }
+        return summary.toString();
+    }
+}
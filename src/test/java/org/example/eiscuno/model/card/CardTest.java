@@ -2,7 +2,6 @@ package org.example.eiscuno.model.card;
 
 import static org.junit.jupiter.api.Assertions.*;
 
-import javafx.application.Platform;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
@@ -16,7 +15,8 @@ class CardTest {
 
     /**
      * Test to ensure that a card is created with the correct properties.
-     * This test checks that the card's value, color, type, image, and card view are correctly set.
+     * This test checks that the card's value, color, type and image URL are correctly set,
+     * without requiring the JavaFX toolkit.
      */
     @Test
     @DisplayName("Should create card with correct properties")
@@ -31,8 +31,7 @@ class CardTest {
         assertEquals(value, card.getValue(), "Card should have correct value");
         assertEquals(color, card.getColor(), "Card should have correct color");
         assertEquals(cardType, card.getCardType(), "Card should have correct type");
-        assertNotNull(card.getCard(), "Card should have an ImageView");
-        assertNotNull(card.getImage(), "Card should have an Image");
+        assertEquals(url, card.getUrl(), "Card should have correct image URL");
     }
 
     /**
@@ -43,7 +42,6 @@ class CardTest {
     @Test
     @DisplayName("Should validate card matching correctly")
     void shouldValidateCardMatchingCorrectly() {
-        Platform.startup(()->{});
         Card card1 = new Card("/org/example/eiscuno/cards-uno/0_red.png", "0", "RED", "NUMBER");
         Card card2 = new Card("/org/example/eiscuno/cards-uno/0_blue.png", "0", "BLUE", "NUMBER");
         Card card3 = new Card("/org/example/eiscuno/cards-uno/1_red.png", "1", "RED", "NUMBER");
@@ -61,4 +59,47 @@ class CardTest {
         assertTrue(Card.CardValidator.canPlayCard(wildCard, card1, null),
                 "Should always allow playing wild card");
     }
+
+    /**
+     * Test to ensure that the precomputed playability table gives the same answers as the
+     * string-based matching rules for every card face, top card and game color.
+     */
+    @Test
+    @DisplayName("Should match the string rules for every table combination")
+    void shouldMatchStringRulesForEveryCombination() {
+        for (int face = 0; face < PlayabilityTable.FACES; face++) {
+            for (int top = 0; top < PlayabilityTable.FACES; top++) {
+                for (int gameColor = 0; gameColor < PlayabilityTable.GAME_COLORS; gameColor++) {
+                    String value = PlayabilityTable.valueOf(face).getLabel();
+                    String color = PlayabilityTable.colorOf(face).name();
+                    String topValue = PlayabilityTable.valueOf(top).getLabel();
+                    String topColor = PlayabilityTable.colorOf(top).name();
+                    String gameColorName = gameColor == PlayabilityTable.NO_COLOR
+                            ? null : CardColor.values()[gameColor].name();
+
+                    boolean expected = value.equals("WILD") || value.equals("FOUR_WILD_DRAW")
+                            || value.equals(topValue) || color.equals(topColor) || color.equals(gameColorName);
+
+                    assertEquals(expected, PlayabilityTable.canPlay(face, top, gameColor),
+                            "Table should agree for " + color + "/" + value + " on " + topColor + "/" + topValue
+                                    + " with game color " + gameColorName);
+                }
+            }
+        }
+    }
+
+    /**
+     * Test to ensure that the game color is matched when neither value nor color match the top card.
+     */
+    @Test
+    @DisplayName("Should allow playing a card that matches the game color")
+    void shouldAllowPlayingCardMatchingGameColor() {
+        Card wildOnTable = new Card("/org/example/eiscuno/cards-uno/wild.png", "WILD", "WILD", "WILD");
+        Card blueCard = new Card("/org/example/eiscuno/cards-uno/5_blue.png", "5", "BLUE", "NUMBER");
+
+        assertTrue(Card.CardValidator.canPlayCard(blueCard, wildOnTable, "BLUE"),
+                "Should allow playing a card of the chosen color");
+        assertFalse(Card.CardValidator.canPlayCard(blueCard, wildOnTable, "RED"),
+                "Should not allow playing a card of another color");
+    }
 }
@@ -0,0 +1,104 @@
+package org.example.eiscuno.model.clock;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for the {@link TurnClock} class and its {@link TimerWheel}.
+ * This class tests the delays of the clock, the instant mode and the timeouts of the turns.
+ */
+@DisplayName("TurnClock Tests")
+class TurnClockTest {
+    private TimerWheel wheel;
+
+    /**
+     * Creates a wheel with short ticks before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        wheel = new TimerWheel(1, 64, "TestWheel");
+    }
+
+    /**
+     * Stops the wheel after each test.
+     */
+    @AfterEach
+    void tearDown() {
+        wheel.stop();
+    }
+
+    /**
+     * Test to ensure that scheduled tasks run once after their delay, even beyond one turn of the
+     * wheel, and that cancelled tasks never run.
+     */
+    @Test
+    @DisplayName("Should run due timeouts and skip cancelled ones")
+    void shouldRunDueTimeouts() throws InterruptedException {
+        TurnClock clock = new TurnClock(wheel, 1.0);
+        CountDownLatch fired = new CountDownLatch(2);
+        AtomicInteger cancelledRuns = new AtomicInteger();
+        long start = System.nanoTime();
+
+        clock.schedule(fired::countDown, 20);
+        clock.schedule(fired::countDown, 150);
+        TimerWheel.Timeout cancelled = clock.schedule(cancelledRuns::incrementAndGet, 30);
+        assertTrue(cancelled.cancel(), "A waiting timeout should be cancellable");
+
+        assertTrue(fired.await(5, TimeUnit.SECONDS), "Both timeouts should fire");
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(150),
+                "A timeout should not fire before its delay");
+        Thread.sleep(50);
+        assertEquals(0, cancelledRuns.get(), "A cancelled timeout should not run");
+        assertFalse(cancelled.cancel(), "A timeout should only be cancelled once");
+    }
+
+    /**
+     * Test to ensure that an instant clock runs delays right away and never expires turns.
+     */
+    @Test
+    @DisplayName("Should not wait nor expire turns with an instant clock")
+    void shouldRunInstantly() {
+        TurnClock clock = TurnClock.instant();
+        AtomicInteger runs = new AtomicInteger();
+        TimeControl timeControl = new TimeControl(1, 0);
+
+        assertTrue(clock.delay(60_000).isDone(), "The delay should be over right away");
+        assertTrue(clock.schedule(runs::incrementAndGet, 60_000).isExpired(), "The task should have run");
+        TurnClock.Turn turn = clock.startTurn(timeControl, runs::incrementAndGet);
+
+        assertEquals(1, runs.get(), "The turn should not expire");
+        assertTrue(turn.end(), "The turn should end normally");
+        assertFalse(turn.end(), "A turn should only end once");
+        assertEquals(1, timeControl.getRemainingMillis(), "An instant turn should use no time");
+    }
+
+    /**
+     * Test to ensure that a turn expires when the bank runs out, and that ending it and expiring it
+     * exclude each other.
+     */
+    @Test
+    @DisplayName("Should expire a turn once the bank runs out")
+    void shouldExpireTurn() throws InterruptedException {
+        TurnClock clock = new TurnClock(wheel, 0.5);
+        TimeControl timeControl = new TimeControl(60, 10);
+        CountDownLatch expired = new CountDownLatch(1);
+
+        TurnClock.Turn turn = clock.startTurn(timeControl, expired::countDown);
+
+        assertTrue(expired.await(5, TimeUnit.SECONDS), "The turn should expire");
+        assertTrue(turn.isExpired(), "The turn should be marked as expired");
+        assertFalse(turn.end(), "An expired turn should not end");
+        assertEquals(10, timeControl.getRemainingMillis(), "Only the increment should be left");
+
+        TimeControl fresh = new TimeControl(60_000, 1_000);
+        TurnClock.Turn ended = clock.startTurn(fresh, expired::countDown);
+        assertTrue(ended.end(), "A running turn should end");
+        assertFalse(ended.isExpired(), "An ended turn should not expire");
+        assertTrue(fresh.getRemainingMillis() > 60_000, "A quick turn should gain time");
+    }
+}
@@ -2,11 +2,16 @@ package org.example.eiscuno.model.deck;
 
 import static org.junit.jupiter.api.Assertions.*;
 
-import javafx.application.Platform;
 import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardFace;
+import org.example.eiscuno.model.player.Player;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
 /**
  * Unit tests for the {@link Deck} class.
  * This class tests various functionalities of a deck of cards including initialization,
@@ -22,8 +27,6 @@ class DeckTest {
     @Test
     @DisplayName("Should initialize deck with correct number of cards")
     void shouldInitializeDeckWithCorrectCards() {
-        Platform.startup(()->{});
-
         Deck deck = new Deck();
         assertFalse(deck.isEmpty(), "Deck should not be empty after initialization");
     }
@@ -60,4 +63,65 @@ class DeckTest {
         assertThrows(IllegalStateException.class, deck::takeCard,
                 "Should throw IllegalStateException when taking card from empty deck");
     }
+
+    /**
+     * Test to check that two decks shuffled with the same seed deal the same cards.
+     */
+    @Test
+    @DisplayName("Should shuffle reproducibly with a seeded generator")
+    void shouldShuffleReproduciblyWithSeed() {
+        Deck first = new Deck(new SplittableRandom(42));
+        Deck second = new Deck(new SplittableRandom(42));
+
+        while (!first.isEmpty()) {
+            Card a = first.takeCard();
+            Card b = second.takeCard();
+            assertEquals(a.getColor(), b.getColor(), "Seeded decks should deal the same colors");
+            assertEquals(a.getValue(), b.getValue(), "Seeded decks should deal the same values");
+        }
+        assertTrue(second.isEmpty(), "Seeded decks should have the same size");
+    }
+
+    /**
+     * Test to check that bulk dealing stops at the end of the deck and that the non-throwing
+     * take reports an empty deck with {@code null}.
+     */
+    @Test
+    @DisplayName("Should deal in bulk and take without throwing")
+    void shouldDealInBulkAndTakeWithoutThrowing() {
+        Deck deck = new Deck();
+        Player player = new Player("HUMAN_PLAYER");
+        int size = deck.size();
+
+        assertEquals(5, deck.takeCards(5, player), "Should deal the requested cards");
+        assertEquals(5, player.getCardsPlayer().size(), "Player should receive the dealt cards");
+        assertEquals(size - 5, deck.takeCards(size, player), "Should deal only the cards left");
+        assertNull(deck.tryTakeCard(), "Should return null when the deck is empty");
+    }
+
+    /**
+     * Test to check that multi-deck shoes have the standard size and that every copy of a face
+     * shares the same face flyweight.
+     */
+    @Test
+    @DisplayName("Should build standard multi-deck shoes with shared faces")
+    void shouldBuildStandardShoesWithSharedFaces() {
+        Deck shoe = Deck.builder()
+                .composition(DeckBuilder.Composition.STANDARD)
+                .decks(2)
+                .random(new SplittableRandom(7))
+                .build();
+
+        assertEquals(216, shoe.size(), "Two standard decks should hold 216 cards");
+
+        Map<String, CardFace> faces = new HashMap<>();
+        while (!shoe.isEmpty()) {
+            Card card = shoe.takeCard();
+            CardFace previous = faces.putIfAbsent(card.getUrl(), card.getFace());
+            if (previous != null) {
+                assertSame(previous, card.getFace(), "Copies of a face should share one flyweight");
+            }
+        }
+        assertEquals(54, faces.size(), "A shoe should use every face");
+    }
 }
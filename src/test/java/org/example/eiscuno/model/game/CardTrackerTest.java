@@ -0,0 +1,77 @@
+package org.example.eiscuno.model.game;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.example.eiscuno.model.card.CardColor;
+import org.example.eiscuno.model.card.PlayabilityTable;
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.machine.BasicAIPlayerStrategy;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.rng.GameRng;
+import org.example.eiscuno.model.table.Table;
+import org.junit.jupiter.api.*;
+
+import java.util.SplittableRandom;
+
+/**
+ * Unit tests for the {@link CardTracker} class, through the {@link GameView} of the players.
+ * This class tests that the incremental counts match a full scan of the hidden cards during whole
+ * games, recycles included, and that a draw lowers the estimate of the opponent's holdings.
+ */
+@DisplayName("CardTracker Tests")
+class CardTrackerTest {
+
+    /**
+     * Test to ensure that the tracked counts of unseen cards equal the cards of the deck and of the
+     * opponent's hand after every move of several games.
+     */
+    @Test
+    @DisplayName("Should match a full scan of the hidden cards after every move")
+    void shouldMatchFullScan() {
+        int[] scanned = new int[PlayabilityTable.FACES];
+        for (long seed = 1; seed <= 20; seed++) {
+            Player human = new Player("HUMAN_PLAYER");
+            Player machine = new Player("MACHINE_PLAYER");
+            Deck deck = new Deck(new SplittableRandom(seed));
+            GameUno game = new GameUno(human, machine, deck, new Table(), new GameRng(seed));
+            game.setVerbose(false);
+            game.startGame();
+            BasicAIPlayerStrategy strategy = new BasicAIPlayerStrategy();
+            for (int turn = 0; turn < 500 && !game.isGameOver(); turn++) {
+                Player player = game.getCurrentPlayer();
+                GameView view = game.viewFor(player);
+                view.countUnseenFaces(scanned);
+                int total = 0;
+                for (int face = 0; face < PlayabilityTable.FACES; face++) {
+                    assertEquals(scanned[face], view.getUnseenCount(face), "Face " + face + " on turn " + turn);
+                    total += scanned[face];
+                }
+                assertEquals(total, view.getUnseenCardCount(), "Unseen cards on turn " + turn);
+                game.applyMove(player, strategy.chooseMove(view));
+            }
+        }
+    }
+
+    /**
+     * Test to ensure that an opponent who drew on a color is thought less likely to hold it.
+     */
+    @Test
+    @DisplayName("Should lower the chance of a color the opponent drew on")
+    void shouldLowerChanceAfterDraw() {
+        Player human = new Player("HUMAN_PLAYER");
+        Player machine = new Player("MACHINE_PLAYER");
+        GameUno game = new GameUno(human, machine, new Deck(new SplittableRandom(3)), new Table(), new GameRng(3));
+        game.setVerbose(false);
+        game.startGame();
+        game.setGameColor("RED");
+        GameView machineView = game.viewFor(machine);
+        double before = machineView.getOpponentColorProbability(CardColor.RED);
+
+        game.applyMove(human, Move.draw());
+
+        double after = machineView.getOpponentColorProbability(CardColor.RED);
+        assertTrue(after < before, "Drawing on red should lower the chance of holding red: " + before + " -> " + after);
+        assertTrue(machineView.getOpponentColorProbability(CardColor.BLUE) > after,
+                "Colors not drawn on should keep the estimate from the whole hand");
+    }
+}
@@ -0,0 +1,160 @@
+package org.example.eiscuno.model.game;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.table.Table;
+import org.junit.jupiter.api.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Unit tests for the {@link GameActor} class.
+ * This class tests that commands submitted from many threads run one at a time, and that the
+ * snapshots and metrics follow the commands.
+ */
+@DisplayName("GameActor Tests")
+class GameActorTest {
+    private ExecutorService executor;
+    private Player human;
+    private Player machine;
+    private GameActor actor;
+
+    /**
+     * Creates a game owned by an actor on a pool of four threads before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        human = new Player("HUMAN_PLAYER");
+        machine = new Player("MACHINE_PLAYER");
+        GameUno game = new GameUno(human, machine, new Deck(), new Table());
+        game.setVerbose(false);
+        actor = new GameActor(game, executor);
+    }
+
+    /**
+     * Stops the pool after each test.
+     */
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Test to ensure that commands from many threads never overlap and are all applied.
+     */
+    @Test
+    @DisplayName("Should run the commands of many threads one at a time")
+    void shouldSerializeCommands() throws Exception {
+        actor.execute(GameUno::startGame).get(5, TimeUnit.SECONDS);
+        AtomicBoolean inside = new AtomicBoolean();
+        int[] counter = new int[1];
+        int threads = 8;
+        int commands = 2000;
+        ExecutorService submitters = Executors.newFixedThreadPool(threads);
+        CompletableFuture<?>[] last = new CompletableFuture<?>[threads];
+        Future<?>[] submitted = new Future<?>[threads];
+        try {
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                submitted[t] = submitters.submit(() -> {
+                    for (int i = 0; i < commands; i++) {
+                        last[thread] = actor.execute(game -> {
+                            assertTrue(inside.compareAndSet(false, true), "Two commands ran at once");
+                            counter[0]++;
+                            inside.set(false);
+                        });
+                    }
+                });
+            }
+            for (Future<?> future : submitted) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+            CompletableFuture.allOf(last).get(30, TimeUnit.SECONDS);
+        } finally {
+            submitters.shutdownNow();
+        }
+
+        assertEquals(threads * commands, counter[0], "Every command should run once");
+        assertEquals(threads * commands + 1, actor.snapshot().getVersion(), "Every command should publish a snapshot");
+        assertEquals(threads * commands + 1, actor.getProcessedCommands(), "Every command should be counted");
+        assertEquals(0, actor.getQueueDepth(), "The queue should be empty");
+        assertTrue(actor.getMaxLatencyNanos() >= actor.getAverageLatencyNanos(), "Latencies should be ordered");
+    }
+
+    /**
+     * Test to ensure that a failed command reports its exception and still publishes a snapshot.
+     */
+    @Test
+    @DisplayName("Should report failed commands and keep snapshots immutable")
+    void shouldReportFailures() throws Exception {
+        actor.execute(GameUno::startGame).get(5, TimeUnit.SECONDS);
+        GameSnapshot before = actor.snapshot();
+
+        CompletableFuture<Void> failed = actor.execute(game -> game.applyMove(new Player("OTHER"), Move.draw()));
+
+        assertThrows(Exception.class, () -> failed.get(5, TimeUnit.SECONDS), "A move out of turn should fail");
+        assertEquals(before.getVersion() + 1, actor.snapshot().getVersion(), "A failed command should still publish");
+        assertEquals(5, before.getHumanHand().size(), "The human player should have been dealt five cards");
+        assertThrows(UnsupportedOperationException.class, () -> before.getHumanHand().clear(),
+                "The hand of a snapshot should be immutable");
+        assertTrue(before.isHumanTurn(), "The human player should play first");
+    }
+
+    /**
+     * Test to ensure that a command that throws an {@link Error} completes its future and does not
+     * stop the commands queued after it.
+     */
+    @Test
+    @DisplayName("Should complete the future of a command that throws an Error")
+    void shouldSurviveCommandError() throws Exception {
+        actor.execute(GameUno::startGame).get(5, TimeUnit.SECONDS);
+        long version = actor.snapshot().getVersion();
+
+        CompletableFuture<Void> failed = actor.execute(game -> {
+            throw new StackOverflowError("Simulated");
+        });
+        CompletableFuture<Integer> next = actor.submit(game -> human.getCardsPlayer().size());
+
+        Throwable failure = assertThrows(Exception.class, () -> failed.get(5, TimeUnit.SECONDS),
+                "The command should fail instead of hanging");
+        assertInstanceOf(StackOverflowError.class, GameActor.causeOf(failure.getCause()),
+                "The future should carry the Error of the command");
+        assertEquals(5, next.get(5, TimeUnit.SECONDS), "The next command should still run");
+        assertEquals(version + 2, actor.snapshot().getVersion(), "Both commands should publish a snapshot");
+    }
+
+    /**
+     * Test to ensure that a card clicked out of turn reports the exception of the command, both on
+     * the future of the command and on the stages derived from it.
+     */
+    @Test
+    @DisplayName("Should report the reason of a card played out of turn")
+    void shouldReportOutOfTurnPlay() throws Exception {
+        actor.execute(GameUno::startGame).get(5, TimeUnit.SECONDS);
+        Card card = actor.submit(game -> machine.getCard(0)).get(5, TimeUnit.SECONDS);
+        AtomicReference<String> reason = new AtomicReference<>();
+
+        CompletableFuture<Card> played = actor.submit(game -> game.applyMove(machine, Move.play(card)));
+        CompletableFuture<Card> reported = played.whenComplete((ignored, failure) ->
+                reason.set(GameActor.causeOf(failure).getMessage()));
+        CompletableFuture<Card> derived = played.thenApply(drawn -> drawn);
+
+        assertThrows(Exception.class, () -> reported.get(5, TimeUnit.SECONDS), "A card out of turn should fail");
+        assertEquals("It is not the turn of MACHINE_PLAYER", reason.get(),
+                "The reason should be the message of the command");
+        Throwable wrapped = assertThrows(Exception.class, derived::join, "A derived stage should fail too");
+        assertInstanceOf(IllegalStateException.class, GameActor.causeOf(wrapped),
+                "The exception of the command should be unwrapped");
+        assertEquals(5, actor.snapshot().getMachineCardCount(), "The machine should keep its five cards");
+    }
+}
@@ -0,0 +1,151 @@
+package org.example.eiscuno.model.game;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.simulation.BotGames;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Unit tests for the {@link GameCodec} class.
+ * This class tests that a saved game restores the whole state of play, through a buffer or a
+ * file channel, and that unknown formats are refused.
+ */
+@DisplayName("GameCodec Tests")
+class GameCodecTest {
+
+    /**
+     * Deals a seeded game and lets bots play some turns.
+     *
+     * @param seats the number of players
+     * @param turns the number of turns to play at most
+     * @return the game
+     */
+    private static GameUno playedGame(int seats, int turns) {
+        return BotGames.play(seats, 21, turns, GameEventSink.NONE);
+    }
+
+    /**
+     * Describes the whole state of play of a game.
+     *
+     * @param game the game
+     * @return the turn, the color, the piles and the hands, as text
+     */
+    private static String stateOf(GameUno game) {
+        StringBuilder state = new StringBuilder();
+        state.append(game.getCurrentSeat()).append('/').append(game.getDirection()).append('/')
+                .append(game.getGameColor()).append('/').append(game.getMoveCount());
+        state.append(" deck");
+        for (Card card : game.getDeck().toArray()) {
+            state.append(' ').append(card.getId()).append(card.getFace().getAsset());
+        }
+        state.append(" table");
+        for (int i = game.getTable().size() - 1; i >= 0; i--) {
+            state.append(' ').append(game.getTable().getCard(i).getId());
+        }
+        for (int seat = 0; seat < game.getPlayerCount(); seat++) {
+            Player player = game.getPlayer(seat);
+            state.append(' ').append(player.getTypePlayer());
+            for (Card card : player.getCardsPlayer()) {
+                state.append(' ').append(card.getId()).append(card.getFace().getAsset());
+            }
+        }
+        return state.toString();
+    }
+
+    /**
+     * Test to ensure that a game restored from a buffer has the same state and plays on the same
+     * way each time it is restored.
+     */
+    @Test
+    @DisplayName("Should restore the whole state of play from a buffer")
+    void shouldRestoreFromBuffer() {
+        GameUno game = playedGame(3, 12);
+        ByteBuffer buffer = ByteBuffer.allocate(GameCodec.sizeOf(game));
+
+        GameCodec.write(game, buffer);
+        assertFalse(buffer.hasRemaining(), "The computed size should be exact");
+        GameUno first = GameCodec.read(buffer.flip());
+        GameUno second = GameCodec.read(buffer.rewind());
+
+        assertEquals(stateOf(game), stateOf(first), "The restored game should have the same state");
+        assertTrue(GameCodec.sizeOf(game) < 512, "A game of one deck should take less than 512 bytes");
+        BotGames.playTurns(first, 30);
+        BotGames.playTurns(second, 30);
+        assertEquals(stateOf(first), stateOf(second), "The same save should always play the same game");
+    }
+
+    /**
+     * Test to ensure that a game is saved to a file channel and restored from it.
+     */
+    @Test
+    @DisplayName("Should save and restore a game through a file channel")
+    void shouldRoundTripThroughChannel(@TempDir Path directory) throws IOException {
+        GameUno game = playedGame(2, 7);
+        Path file = directory.resolve("game.uno");
+
+        int written;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            written = GameCodec.write(game, channel);
+        }
+        GameUno restored;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            restored = GameCodec.read(channel);
+        }
+
+        assertEquals(GameCodec.sizeOf(game), written, "The whole game should be written");
+        assertEquals(stateOf(game), stateOf(restored), "The restored game should have the same state");
+    }
+
+    /**
+     * Test to ensure that the codec refuses data that is not a saved game of a known version.
+     */
+    @Test
+    @DisplayName("Should refuse unknown formats and versions")
+    void shouldRefuseUnknownFormats() {
+        GameUno game = playedGame(2, 0);
+        ByteBuffer buffer = ByteBuffer.allocate(GameCodec.sizeOf(game));
+        GameCodec.write(game, buffer);
+
+        buffer.putShort(4, (short) (GameCodec.VERSION + 1));
+        assertThrows(IllegalArgumentException.class, () -> GameCodec.read(buffer.rewind()),
+                "A newer version should be refused");
+        buffer.putInt(0, 0);
+        assertThrows(IllegalArgumentException.class, () -> GameCodec.read(buffer.rewind()),
+                "Data without the magic number should be refused");
+    }
+
+    /**
+     * Test to ensure that a saved game with a corrupt card code or color is refused with an
+     * {@link IllegalArgumentException}, whatever the value of the corrupt bytes.
+     */
+    @Test
+    @DisplayName("Should refuse corrupt card codes and colors")
+    void shouldRefuseCorruptCards() {
+        GameUno game = playedGame(2, 0);
+        ByteBuffer buffer = ByteBuffer.allocate(GameCodec.sizeOf(game));
+        GameCodec.write(game, buffer);
+        int firstCode = GameCodec.HEADER_SIZE + 8 + 4 + 4 + 2 + 2 + 2 + 2;
+        int colorAt = GameCodec.HEADER_SIZE + 8 + 4 + 3;
+
+        for (short code : new short[]{-1, Short.MIN_VALUE, 54, Short.MAX_VALUE}) {
+            ByteBuffer corrupt = ByteBuffer.allocate(buffer.capacity()).order(ByteOrder.LITTLE_ENDIAN)
+                    .put(buffer.duplicate().rewind());
+            corrupt.putShort(firstCode, code);
+            assertThrows(IllegalArgumentException.class, () -> GameCodec.read(corrupt.rewind()),
+                    "The card code " + code + " should be refused");
+        }
+        buffer.put(colorAt, (byte) 100);
+        assertThrows(IllegalArgumentException.class, () -> GameCodec.read(buffer.rewind()),
+                "An unknown color should be refused");
+    }
+}
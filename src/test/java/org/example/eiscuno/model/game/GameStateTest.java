@@ -0,0 +1,131 @@
+package org.example.eiscuno.model.game;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.example.eiscuno.model.rng.GameRng;
+import org.example.eiscuno.model.simulation.BotGames;
+import org.junit.jupiter.api.*;
+
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+
+/**
+ * Unit tests for the {@link GameState} class.
+ * This class tests the conversion from and to {@link GameUno}, the agreement of the moves with the
+ * rules of the game, and the exact undo of moves.
+ */
+@DisplayName("GameState Tests")
+class GameStateTest {
+
+    private GameUno game;
+
+    /**
+     * Setup method to start a seeded game before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        game = BotGames.play(2, 21, 0, GameEventSink.NONE);
+    }
+
+    /**
+     * Test to ensure that a state converted to a game and back is unchanged.
+     */
+    @Test
+    @DisplayName("Should convert to and from GameUno without loss")
+    void shouldConvertWithoutLoss() {
+        GameState state = GameState.from(game);
+        GameUno rebuilt = state.toGame(new SplittableRandom(1), new GameRng(2));
+
+        assertEquals(state, GameState.from(rebuilt), "The rebuilt game should have the same state");
+        assertSame(game.getCurrentPlayer().getCard(0), rebuilt.getCurrentPlayer().getCard(0),
+                "The rebuilt game should hold the same cards");
+        assertEquals(state, state.copy(), "A copy should equal its original");
+    }
+
+    /**
+     * Test to ensure that a game rebuilt from a state keeps the number of moves and the resume
+     * seed of a game restored from a save.
+     */
+    @Test
+    @DisplayName("Should keep the move count and resume seed of the game")
+    void shouldKeepMoveCountAndResumeSeed() {
+        SplittableRandom random = new SplittableRandom(5);
+        for (int turn = 0; turn < 6 && !game.isGameOver(); turn++) {
+            GameState state = GameState.from(game);
+            game.applyMove(game.getCurrentPlayer(), state.toMove(pick(state.legalActions(), random)));
+        }
+        ByteBuffer saved = ByteBuffer.allocate(GameCodec.sizeOf(game));
+        GameCodec.write(game, saved);
+        GameUno restored = GameCodec.read(saved.flip());
+
+        GameState state = GameState.from(restored);
+        GameUno rebuilt = state.toGame(new SplittableRandom(1), new GameRng(2));
+
+        assertEquals(game.getMoveCount(), state.getMoveCount(), "The state should count the moves of the game");
+        assertEquals(restored.getMoveCount(), rebuilt.getMoveCount(), "The rebuilt game should keep the moves");
+        assertEquals(restored.getResumeSeed(), rebuilt.getResumeSeed(), "The rebuilt game should keep the resume seed");
+    }
+
+    /**
+     * Test to ensure that applying the same moves to a game and to its state gives the same result,
+     * as long as the deck does not have to be reshuffled.
+     */
+    @Test
+    @DisplayName("Should follow the rules of GameUno")
+    void shouldFollowGameRules() {
+        GameState state = GameState.from(game);
+        SplittableRandom random = new SplittableRandom(3);
+        for (int turn = 0; turn < 60 && !state.isOver() && state.getDeckSize() > 4; turn++) {
+            long legal = state.legalActions();
+            int action = pick(legal, random);
+            Move move = state.toMove(action);
+            state.apply(action, random);
+            game.applyMove(game.getCurrentPlayer(), move);
+            assertEquals(GameState.from(game), state, "The state should match the game after move " + move);
+        }
+    }
+
+    /**
+     * Test to ensure that undoing every move of a game, reshuffles of the table included, restores
+     * the starting state exactly. Most of the deck is moved to the table first so that it runs out.
+     */
+    @Test
+    @DisplayName("Should undo every move exactly")
+    void shouldUndoEveryMove() {
+        while (game.getDeck().size() > 2) {
+            game.getTable().addCardOnTheTable(game.getDeck().takeCard());
+        }
+        GameState start = GameState.from(game);
+        GameState state = start.copy();
+        SplittableRandom random = new SplittableRandom(4);
+        int deckSizeBefore = state.getDeckSize();
+        boolean recycled = false;
+        while (!state.isOver() && state.undoDepth() < 2000) {
+            int before = state.getDeckSize();
+            state.apply(pick(state.legalActions(), random), random);
+            recycled |= state.getDeckSize() > before;
+        }
+        assertTrue(state.undoDepth() > 0, "Some moves should be played");
+
+        while (state.undoDepth() > 0) {
+            state.undo();
+        }
+        assertEquals(start, state, "Undoing every move should restore the start");
+        assertEquals(deckSizeBefore, state.getDeckSize(), "The deck should be restored");
+        assertTrue(recycled, "The table should be reshuffled into the deck during the game");
+    }
+
+    /**
+     * Picks a legal action at random.
+     *
+     * @param legal  the legal actions
+     * @param random the random generator
+     * @return one of the legal actions
+     */
+    private static int pick(long legal, SplittableRandom random) {
+        for (int skip = random.nextInt(Long.bitCount(legal)); skip > 0; skip--) {
+            legal &= legal - 1;
+        }
+        return Long.numberOfTrailingZeros(legal);
+    }
+}
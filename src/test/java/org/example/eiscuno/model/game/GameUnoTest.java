@@ -2,13 +2,20 @@ package org.example.eiscuno.model.game;
 
 import static org.junit.jupiter.api.Assertions.*;
 
-import javafx.application.Platform;
 import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardColor;
+import org.example.eiscuno.model.card.CardType;
+import org.example.eiscuno.model.card.CardValue;
 import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.exception.InvalidCardPlayException;
+import org.example.eiscuno.model.machine.BasicAIPlayerStrategy;
 import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.rng.GameRng;
 import org.example.eiscuno.model.table.Table;
 import org.junit.jupiter.api.*;
 
+import java.util.List;
+
 /**
  * Unit tests for the {@link GameUno} class.
  * This class tests various functionalities of the UNO game logic, including game initialization,
@@ -25,11 +32,6 @@ class GameUnoTest {
     private Deck deck;
     private Table table;
 
-    @BeforeAll
-    static void start() {
-        Platform.startup(()->{});
-
-    }
     /**
      * Setup method to initialize the game, players, deck, and table before each test.
      * This ensures that each test starts with a fresh game state.
@@ -133,6 +135,53 @@ class GameUnoTest {
         }
     }
 
+    /**
+     * Nested test class for the move API used by the AI strategies.
+     * Verifies that a strategy only decides, and that the game applies its moves.
+     */
+    @Nested
+    @DisplayName("Move Tests")
+    class MoveTests {
+
+        /**
+         * Test to ensure that the move chosen by the basic strategy is legal and is applied by the game:
+         * a played card leaves the hand and reaches the table, a draw adds a card and passes the turn.
+         */
+        @Test
+        @DisplayName("Should apply the move chosen by a strategy")
+        void shouldApplyStrategyMove() {
+            gameUno.startGame();
+            int handSize = humanPlayer.getCardsPlayer().size();
+
+            Move move = new BasicAIPlayerStrategy().chooseMove(gameUno.viewFor(humanPlayer));
+            gameUno.applyMove(humanPlayer, move);
+
+            if (move.isDraw()) {
+                assertEquals(handSize + 1, humanPlayer.getCardsPlayer().size(), "A draw should add a card");
+                assertSame(machinePlayer, gameUno.getCurrentPlayer(), "A draw should pass the turn");
+            } else {
+                assertEquals(handSize - 1, humanPlayer.getCardsPlayer().size(), "A play should remove the card");
+                assertSame(move.getCard(), table.getCurrentCardOnTheTable(), "The card should be on the table");
+            }
+        }
+
+        /**
+         * Test to ensure that a move is rejected when it is not the player's turn or the card is not in
+         * the player's hand.
+         */
+        @Test
+        @DisplayName("Should reject moves out of turn or with cards not held")
+        void shouldRejectIllegalMoves() {
+            gameUno.startGame();
+            Card machineCard = machinePlayer.getCard(0);
+
+            assertThrows(IllegalStateException.class, () -> gameUno.applyMove(machinePlayer, Move.draw()),
+                    "The machine should not move during the human turn");
+            assertThrows(InvalidCardPlayException.class, () -> gameUno.applyMove(humanPlayer, Move.play(machineCard)),
+                    "A card that is not in the hand should be rejected");
+        }
+    }
+
     /**
      * Nested test class for game state-related tests.
      * Verifies the game state, including game-over conditions and handling of UNO declarations.
@@ -158,6 +207,45 @@ class GameUnoTest {
             assertTrue(gameUno.isGameOver(), "Game should be over when player has no cards");
         }
 
+        /**
+         * Test to verify that the winner is the seat with the fewest cards, and that a tie has no
+         * winner.
+         */
+        @Test
+        @DisplayName("Should find the seat with the fewest cards as the winner")
+        void shouldFindWinnerSeat() {
+            gameUno.startGame();
+            machinePlayer.getCardsPlayer().clear();
+            assertEquals(1, gameUno.getWinnerSeat(), "The machine without cards should win");
+
+            humanPlayer.getCardsPlayer().clear();
+            assertEquals(GameUno.NO_WINNER, gameUno.getWinnerSeat(), "Two empty hands should be a tie");
+        }
+
+        /**
+         * Test to verify that the cards played on the table are recycled into an empty deck.
+         * Only the top card stays on the table, and the game goes on while cards can be drawn.
+         */
+        @Test
+        @DisplayName("Should recycle the table into the deck when the deck runs out")
+        void shouldRecycleTableWhenDeckRunsOut() {
+            gameUno.startGame();
+            while (!deck.isEmpty()) {
+                table.addCardOnTheTable(deck.takeCard());
+            }
+            int played = table.size();
+            Card top = table.getCurrentCardOnTheTable();
+            assertFalse(gameUno.isGameOver(), "Game should go on while the table can be recycled");
+
+            Card drawn = gameUno.drawCard();
+
+            assertNotNull(drawn, "A card should be drawn from the recycled deck");
+            assertEquals(1, deck.getRecycleCount(), "The deck should be recycled once");
+            assertEquals(played - 2, deck.size(), "Every card but the top one should be recycled");
+            assertEquals(1, table.size(), "Only the top card should stay on the table");
+            assertSame(top, table.getCurrentCardOnTheTable(), "The top card should not change");
+        }
+
         /**
          * Test to verify that the game correctly handles UNO declarations.
          * If a player fails to declare UNO when they have only one card left, they should receive a penalty card.
@@ -180,4 +268,155 @@ class GameUnoTest {
                     "Human player should receive a penalty card when not declaring UNO");
         }
     }
+
+    /**
+     * Nested test class for games of more than two players.
+     * Verifies that the turn moves around the ring of seats as the special cards say.
+     */
+    @Nested
+    @DisplayName("Turn Ring Tests")
+    class TurnRingTests {
+
+        /**
+         * Test to ensure that SKIP, REVERSE, DRAW_TWO and WILD_DRAW_FOUR move the turn around a ring of
+         * four players, and that the penalties go to the next player in the direction of play.
+         */
+        @Test
+        @DisplayName("Should move the turn around a ring of four players")
+        void shouldMoveTurnAroundRing() {
+            List<Player> players = List.of(new Player("HUMAN_PLAYER"), new Player("MACHINE_PLAYER"),
+                    new Player("MACHINE_PLAYER_2"), new Player("MACHINE_PLAYER_3"));
+            GameUno ring = new GameUno(players, deck, table, new GameRng(7));
+            ring.setVerbose(false);
+            ring.startGame();
+            table.addCardOnTheTable(card(CardValue.FIVE, CardColor.RED, CardType.NUMBER));
+            ring.setGameColor("RED");
+            assertEquals(4, ring.getPlayerCount(), "The game should have four seats");
+            assertEquals(0, ring.getCurrentSeat(), "The first seat should play first");
+
+            play(ring, 0, card(CardValue.SKIP, CardColor.RED, CardType.SKIP), null);
+            assertEquals(2, ring.getCurrentSeat(), "A SKIP should jump over the next seat");
+
+            play(ring, 2, card(CardValue.REVERSE, CardColor.RED, CardType.REVERSE), null);
+            assertEquals(-1, ring.getDirection(), "A REVERSE should flip the direction");
+            assertEquals(1, ring.getCurrentSeat(), "A REVERSE should pass the turn backwards");
+
+            int firstHand = players.get(0).getCardsPlayer().size();
+            play(ring, 1, card(CardValue.TWO_WILD_DRAW, CardColor.RED, CardType.DRAW_TWO), null);
+            assertEquals(firstHand + 2, players.get(0).getCardsPlayer().size(), "The next seat should draw 2");
+            assertEquals(3, ring.getCurrentSeat(), "A DRAW_TWO should skip the victim");
+
+            int victimHand = players.get(2).getCardsPlayer().size();
+            play(ring, 3, card(CardValue.FOUR_WILD_DRAW, null, CardType.WILD_DRAW_FOUR), CardColor.BLUE);
+            assertEquals(victimHand + 4, players.get(2).getCardsPlayer().size(), "The seat before should draw 4");
+            assertEquals(1, ring.getCurrentSeat(), "A WILD_DRAW_FOUR should skip the victim");
+            assertEquals(CardColor.BLUE, ring.getGameColor(), "The chosen color should be set");
+
+            ring.applyMove(players.get(1), Move.draw());
+            assertEquals(0, ring.getCurrentSeat(), "A draw should pass the turn along the direction");
+        }
+
+        /**
+         * Test to ensure that each special card moves the turn the standard number of seats around a
+         * ring of three players.
+         */
+        @Test
+        @DisplayName("Should apply the standard rules of the special cards with three players")
+        void shouldApplySpecialCardsWithThreePlayers() {
+            List<Player> players = List.of(new Player("HUMAN_PLAYER"), new Player("MACHINE_PLAYER"),
+                    new Player("MACHINE_PLAYER_2"));
+            GameUno ring = new GameUno(players, deck, table, new GameRng(7));
+            ring.setVerbose(false);
+            ring.startGame();
+            table.addCardOnTheTable(card(CardValue.FIVE, CardColor.RED, CardType.NUMBER));
+            ring.setGameColor("RED");
+
+            play(ring, 0, card(CardValue.SEVEN, CardColor.RED, CardType.NUMBER), null);
+            assertEquals(1, ring.getCurrentSeat(), "A number card should pass the turn to the next seat");
+
+            play(ring, 1, card(CardValue.SKIP, CardColor.RED, CardType.SKIP), null);
+            assertEquals(0, ring.getCurrentSeat(), "A SKIP should jump over the next seat");
+
+            int victimHand = players.get(1).getCardsPlayer().size();
+            play(ring, 0, card(CardValue.TWO_WILD_DRAW, CardColor.RED, CardType.DRAW_TWO), null);
+            assertEquals(victimHand + 2, players.get(1).getCardsPlayer().size(), "The next seat should draw 2");
+            assertEquals(2, ring.getCurrentSeat(), "A DRAW_TWO should skip the victim");
+
+            play(ring, 2, card(CardValue.WILD, null, CardType.WILD), CardColor.GREEN);
+            assertEquals(CardColor.GREEN, ring.getGameColor(), "The chosen color should be set");
+            assertEquals(0, ring.getCurrentSeat(), "A WILD should pass the turn to the next seat");
+
+            play(ring, 0, card(CardValue.REVERSE, CardColor.GREEN, CardType.REVERSE), null);
+            assertEquals(-1, ring.getDirection(), "A REVERSE should flip the direction");
+            assertEquals(2, ring.getCurrentSeat(), "A REVERSE should pass the turn backwards");
+
+            victimHand = players.get(1).getCardsPlayer().size();
+            play(ring, 2, card(CardValue.FOUR_WILD_DRAW, null, CardType.WILD_DRAW_FOUR), CardColor.BLUE);
+            assertEquals(victimHand + 4, players.get(1).getCardsPlayer().size(), "The next seat should draw 4");
+            assertEquals(0, ring.getCurrentSeat(), "A WILD_DRAW_FOUR should skip the victim");
+        }
+
+        /**
+         * Test to ensure that a game of two players keeps its own rules for DRAW_TWO and WILD.
+         */
+        @Test
+        @DisplayName("Should keep the two-player rules of DRAW_TWO and WILD")
+        void shouldKeepTwoPlayerRules() {
+            GameUno pair = new GameUno(List.of(humanPlayer, machinePlayer), deck, table, new GameRng(7));
+            pair.setVerbose(false);
+            pair.startGame();
+            table.addCardOnTheTable(card(CardValue.FIVE, CardColor.RED, CardType.NUMBER));
+            pair.setGameColor("RED");
+
+            play(pair, 0, card(CardValue.TWO_WILD_DRAW, CardColor.RED, CardType.DRAW_TWO), null);
+            assertEquals(1, pair.getCurrentSeat(), "The victim of a DRAW_TWO should play next");
+
+            play(pair, 1, card(CardValue.WILD, null, CardType.WILD), CardColor.YELLOW);
+            assertEquals(1, pair.getCurrentSeat(), "A WILD should let the same player play again");
+        }
+
+        /**
+         * Test to ensure that the number of players is checked.
+         */
+        @Test
+        @DisplayName("Should reject rings that are too small or too large")
+        void shouldRejectInvalidRings() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new GameUno(List.of(humanPlayer), deck, table, new GameRng(1)),
+                    "A single player should be rejected");
+            Player[] crowd = new Player[GameUno.MAX_PLAYERS + 1];
+            for (int i = 0; i < crowd.length; i++) {
+                crowd[i] = new Player("MACHINE_PLAYER_" + i);
+            }
+            assertThrows(IllegalArgumentException.class,
+                    () -> new GameUno(List.of(crowd), deck, table, new GameRng(1)),
+                    "More than ten players should be rejected");
+        }
+
+        /**
+         * Gives a card to the player of a seat and plays it.
+         *
+         * @param game  the game
+         * @param seat  the seat whose turn it is
+         * @param card  the card to play
+         * @param color the color chosen for a wild card, or {@code null}
+         */
+        private void play(GameUno game, int seat, Card card, CardColor color) {
+            Player player = game.getPlayer(seat);
+            player.addCard(card);
+            game.applyMove(player, color == null ? Move.play(card) : Move.play(card, color));
+        }
+
+        /**
+         * Creates a card outside the deck.
+         *
+         * @param value the value of the card
+         * @param color the color of the card, or {@code null} for a wild card
+         * @param type  the type of the card
+         * @return the card
+         */
+        private Card card(CardValue value, CardColor color, CardType type) {
+            return new Card("test-card", value, color, type);
+        }
+    }
 }
@@ -0,0 +1,139 @@
+package org.example.eiscuno.model.log;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.example.eiscuno.model.game.GameEventSink;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.session.SessionExecutor;
+import org.example.eiscuno.model.simulation.BotGames;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Unit tests for the {@link EventLog} and {@link EventReplayer} classes.
+ * This class tests that the events of several games survive the rolling of segments and the
+ * reopening of the log, and that replaying them rebuilds the same games.
+ */
+@DisplayName("EventLog Tests")
+class EventLogTest {
+    private static final int SEGMENT_BYTES = 16 * EventLog.EVENT_SIZE;
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Asserts that two games are in the same state.
+     *
+     * @param expected the recorded game
+     * @param actual   the replayed game
+     */
+    private static void assertSameGame(GameUno expected, GameUno actual) {
+        assertEquals(expected.getPlayerCount(), actual.getPlayerCount(), "The same players should sit");
+        assertEquals(expected.getCurrentSeat(), actual.getCurrentSeat(), "The same seat should play");
+        assertEquals(expected.getDirection(), actual.getDirection(), "The ring should turn the same way");
+        assertEquals(expected.getGameColor(), actual.getGameColor(), "The game color should be the same");
+        assertEquals(expected.viewFor(expected.getPlayer(0)).getTopCard().getId(),
+                actual.viewFor(actual.getPlayer(0)).getTopCard().getId(),
+                "The same card should be on the table");
+        for (int seat = 0; seat < expected.getPlayerCount(); seat++) {
+            assertEquals(ids(expected.getPlayer(seat)), ids(actual.getPlayer(seat)),
+                    "The seat " + seat + " should hold the same cards");
+        }
+    }
+
+    /**
+     * Lists the ids of the cards of a player.
+     *
+     * @param player the player
+     * @return the ids, in the order of the hand
+     */
+    private static List<Integer> ids(Player player) {
+        List<Integer> ids = new ArrayList<>();
+        player.getCardsPlayer().forEach(card -> ids.add(card.getId()));
+        return ids;
+    }
+
+    /**
+     * Test to ensure that interleaved games written across several segments are replayed, and that
+     * the segments are mapped ahead on the executor given to the log.
+     */
+    @Test
+    @DisplayName("Should replay every game of a log spread over several segments")
+    void shouldReplayGamesAcrossSegments() {
+        GameUno first;
+        GameUno second;
+        SessionExecutor executor = new SessionExecutor(SessionExecutor.Mode.PLATFORM);
+        try (EventLog log = new EventLog(directory, SEGMENT_BYTES, executor)) {
+            first = BotGames.play(2, 7, 150, log.sink(1));
+            second = BotGames.play(4, 11, 150, log.sink(2));
+            assertTrue(log.getPosition() > 2L * SEGMENT_BYTES, "The games should fill several segments");
+        } finally {
+            executor.shutdownNow();
+        }
+        assertTrue(executor.getStartedTasks() > 0, "The next segments should be mapped on the given executor");
+
+        Map<Integer, GameUno> replayed = EventReplayer.replayAll(directory, SEGMENT_BYTES);
+
+        assertEquals(2, replayed.size(), "Both games should be replayed");
+        assertSameGame(first, replayed.get(1));
+        assertSameGame(second, replayed.get(2));
+        assertSameGame(second, EventReplayer.replay(directory, SEGMENT_BYTES, 2));
+    }
+
+    /**
+     * Test to ensure that the consequences of the moves are flagged as derived.
+     */
+    @Test
+    @DisplayName("Should flag the consequences of the moves as derived")
+    void shouldFlagDerivedEvents() {
+        try (EventLog log = new EventLog(directory, SEGMENT_BYTES)) {
+            BotGames.play(2, 3, 40, log.sink(1));
+        }
+        int[] inputs = new int[GameEventSink.COLOR_SET + 1];
+        int[] derived = new int[GameEventSink.COLOR_SET + 1];
+
+        EventLog.read(directory, SEGMENT_BYTES, (gameId, type, seat, color, isDerived, argument) -> {
+            (isDerived ? derived : inputs)[type]++;
+        });
+
+        assertEquals(1, inputs[GameEventSink.START], "The start should be an input");
+        assertEquals(0, inputs[GameEventSink.CARD_PLAYED], "Cards are only played inside moves");
+        assertEquals(0, inputs[GameEventSink.TURN_PASSED], "Turns only pass inside moves");
+        assertEquals(inputs[GameEventSink.MOVE_PLAY], derived[GameEventSink.CARD_PLAYED],
+                "Every played move should put one card on the table");
+        assertEquals(0, derived[GameEventSink.MOVE_PLAY] + derived[GameEventSink.MOVE_DRAW],
+                "Moves should be inputs");
+    }
+
+    /**
+     * Test to ensure that a reopened log appends after its last event.
+     */
+    @Test
+    @DisplayName("Should append after the last event when reopened")
+    void shouldAppendAfterReopen() {
+        try (EventLog log = new EventLog(directory, SEGMENT_BYTES)) {
+            for (int i = 0; i < 100; i++) {
+                log.append(1, GameEventSink.TURN_PASSED, 0, GameEventSink.NO_COLOR, false, i);
+            }
+        }
+        try (EventLog log = new EventLog(directory, SEGMENT_BYTES)) {
+            assertEquals(100L * EventLog.EVENT_SIZE, log.getPosition(), "The log should resume after its events");
+            log.append(1, GameEventSink.UNO_CALLED, 1, GameEventSink.NO_COLOR, true, 100);
+        }
+        List<Long> arguments = new ArrayList<>();
+
+        long events = EventLog.read(directory, SEGMENT_BYTES,
+                (gameId, type, seat, color, derived, argument) -> arguments.add(argument));
+
+        assertEquals(101, events, "Every event should be read once");
+        for (int i = 0; i <= 100; i++) {
+            assertEquals(i, arguments.get(i), "The events should be read in order");
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.eiscuno.model.machine;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.example.eiscuno.model.game.GameEventSink;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.game.Move;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.rng.GameRng;
+import org.example.eiscuno.model.simulation.BatchSimulator;
+import org.example.eiscuno.model.simulation.BotGames;
+import org.example.eiscuno.model.simulation.GameSimulator;
+import org.example.eiscuno.model.simulation.SimulationReport;
+import org.junit.jupiter.api.*;
+
+/**
+ * Unit tests for the {@link IsmctsAIPlayerStrategy} class.
+ * This class tests that the search returns legal moves within its budget, reports its metrics, and
+ * beats the basic strategy.
+ */
+@DisplayName("IsmctsAIPlayerStrategy Tests")
+class IsmctsAIPlayerStrategyTest {
+
+    /**
+     * Test to ensure that every move chosen along a whole game is legal, and that the search metrics
+     * are reported.
+     */
+    @Test
+    @DisplayName("Should choose legal moves and report its metrics")
+    void shouldChooseLegalMoves() {
+        GameUno game = BotGames.play(2, 4, 0, GameEventSink.NONE);
+        IsmctsAIPlayerStrategy strategy = new IsmctsAIPlayerStrategy(1000, 300, 2, new GameRng(5));
+
+        long searched = 0;
+        for (int turn = 0; turn < 200 && !game.isGameOver(); turn++) {
+            Player current = game.getCurrentPlayer();
+            Move move = strategy.chooseMove(game.viewFor(current));
+            if (!move.isDraw()) {
+                assertTrue(game.canPlayCard(move.getCard()), "The chosen card should be playable");
+            }
+            game.applyMove(current, move);
+            if (strategy.getLastIterations() > 0) {
+                searched++;
+                assertTrue(strategy.getLastIterations() <= 300, "The iteration budget should be respected");
+                assertTrue(strategy.getLastTreeSize() > 1, "The search tree should grow");
+                assertTrue(strategy.getLastRolloutsPerSecond() > 0, "The rollout rate should be reported");
+            }
+        }
+        assertTrue(searched > 0, "Some decisions should need a search");
+    }
+
+    /**
+     * Test to ensure that the search is stronger than the basic strategy over a batch of games.
+     */
+    @Test
+    @DisplayName("Should beat the basic strategy")
+    void shouldBeatBasicStrategy() {
+        BatchSimulator batch = new BatchSimulator(new GameSimulator(
+                () -> new IsmctsAIPlayerStrategy(1000, 200, 1, new GameRng(11)),
+                BasicAIPlayerStrategy::new, 2000));
+
+        SimulationReport report = batch.run(200, 17, 2);
+
+        assertTrue(report.getWins(0) > report.getWins(1),
+                "ISMCTS should win more games than the basic strategy: " + report);
+    }
+}
@@ -0,0 +1,163 @@
+package org.example.eiscuno.model.machine;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.clock.TurnClock;
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.game.GameActor;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.game.GameView;
+import org.example.eiscuno.model.game.Move;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.table.Table;
+import org.junit.jupiter.api.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for the {@link ThreadPlayMachine} class.
+ * This class tests that the machine task waits for its turn without using the CPU, that it
+ * decides without holding the game actor, and that a failed decision still plays the turn.
+ */
+@DisplayName("ThreadPlayMachine Tests")
+class ThreadPlayMachineTest {
+
+    /**
+     * Test to ensure that the task is parked while the human player thinks, and stops when
+     * interrupted.
+     */
+    @Test
+    @DisplayName("Should park until the turn is handed over")
+    void shouldParkUntilTurnIsHandedOver() throws InterruptedException {
+        Player human = new Player("HUMAN_PLAYER");
+        Player machine = new Player("MACHINE_PLAYER");
+        Deck deck = new Deck();
+        Table table = new Table();
+        GameUno gameUno = new GameUno(human, machine, deck, table);
+        GameActor actor = new GameActor(gameUno, Runnable::run);
+        ThreadPlayMachine task = new ThreadPlayMachine(machine, null, new BasicAIPlayerStrategy(), null, gameUno,
+                actor, TurnClock.instant());
+        Thread thread = new Thread(task);
+        thread.setDaemon(true);
+        thread.start();
+
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (thread.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(Thread.State.WAITING, thread.getState(), "The thread should be parked, not spinning");
+        assertTrue(task.getHasPlayerPlayed(), "It should still be the turn of the human player");
+        thread.interrupt();
+        thread.join(5000);
+        assertFalse(thread.isAlive(), "The thread should stop when interrupted");
+    }
+
+    /**
+     * Deals a game owned by an actor and lets the human player draw, so it is the turn of the
+     * machine player.
+     *
+     * @param executor the executor of the actor
+     * @return the actor of the game
+     */
+    private static GameActor machineToPlay(ExecutorService executor) throws Exception {
+        GameUno gameUno = new GameUno(new Player("HUMAN_PLAYER"), new Player("MACHINE_PLAYER"), new Deck(),
+                new Table());
+        gameUno.setVerbose(false);
+        gameUno.setGameEventListener(isPlayer -> gameUno.setGameColor("RED"));
+        GameActor actor = new GameActor(gameUno, executor);
+        actor.execute(game -> {
+            game.startGame();
+            game.applyMove(game.getPlayer(0), Move.draw());
+        }).get(5, TimeUnit.SECONDS);
+        return actor;
+    }
+
+    /**
+     * Test to ensure that the actor keeps running commands while the strategy decides, and that the
+     * decided move is then applied.
+     */
+    @Test
+    @DisplayName("Should decide without holding the game actor")
+    void shouldDecideWithoutHoldingActor() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            GameActor actor = machineToPlay(executor);
+            GameUno gameUno = actor.submit(game -> game).get(5, TimeUnit.SECONDS);
+            CountDownLatch deciding = new CountDownLatch(1);
+            CountDownLatch decide = new CountDownLatch(1);
+            AIPlayerStrategy slow = new AIPlayerStrategyAdapter() {
+                @Override
+                public Move chooseMove(GameView view) {
+                    deciding.countDown();
+                    try {
+                        decide.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return Move.draw();
+                }
+            };
+            ThreadPlayMachine task = new ThreadPlayMachine(gameUno.getPlayer(1), null, slow, null, gameUno, actor,
+                    TurnClock.instant());
+
+            CompletableFuture<Move> turn = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return task.playTurn();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            assertTrue(deciding.await(5, TimeUnit.SECONDS), "The strategy should be deciding");
+            Integer cards = actor.submit(game -> game.getPlayer(0).getCardsPlayer().size())
+                    .get(5, TimeUnit.SECONDS);
+            decide.countDown();
+
+            assertEquals(6, cards, "A command should run while the strategy decides");
+            assertTrue(turn.get(5, TimeUnit.SECONDS).isDraw(), "The decided move should be applied");
+            assertTrue(actor.snapshot().isHumanTurn(), "The turn should pass to the human player");
+            assertEquals(6, actor.snapshot().getMachineCardCount(), "The machine player should have drawn");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Test to ensure that a move the game refuses is replaced by the move of the fallback strategy.
+     */
+    @Test
+    @DisplayName("Should play the fallback move when the decided move is refused")
+    void shouldFallBackWhenMoveIsRefused() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            GameActor actor = machineToPlay(executor);
+            GameUno gameUno = actor.submit(game -> game).get(5, TimeUnit.SECONDS);
+            Card humanCard = actor.submit(game -> game.getPlayer(0).getCard(0)).get(5, TimeUnit.SECONDS);
+            AIPlayerStrategy cheating = new AIPlayerStrategyAdapter() {
+                @Override
+                public Move chooseMove(GameView view) {
+                    return Move.play(humanCard);
+                }
+            };
+            ThreadPlayMachine task = new ThreadPlayMachine(gameUno.getPlayer(1), null, cheating, null, gameUno,
+                    actor, TurnClock.instant());
+
+            Move move = task.playTurn();
+
+            assertNotNull(move, "A move should be played");
+            assertNotSame(humanCard, move.getCard(), "The refused move should not be played");
+            assertTrue(actor.submit(game -> game.getPlayer(0).getCardsPlayer().contains(humanCard))
+                    .get(5, TimeUnit.SECONDS), "The human player should keep its card");
+            if (actor.snapshot().isHumanTurn()) {
+                assertNull(task.playTurn(), "No move should be played once the turn passed");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package org.example.eiscuno.model.machine;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.example.eiscuno.model.clock.TimerWheel;
+import org.example.eiscuno.model.clock.TurnClock;
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.player.Hand;
+import org.example.eiscuno.model.rng.GameRng;
+import org.junit.jupiter.api.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for the {@link UnoCallDetector} class.
+ * This class tests that the machine calls "UNO" once when the hand goes down to one card, and
+ * that the call is cancelled when the human calls first or the hand changes.
+ */
+@DisplayName("UnoCallDetector Tests")
+class UnoCallDetectorTest {
+    private TimerWheel wheel;
+    private TurnClock clock;
+    private Hand hand;
+    private Deck deck;
+
+    /**
+     * Creates a real-time clock and a hand of two cards before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        wheel = new TimerWheel(1, 64, "TestWheel");
+        clock = new TurnClock(wheel, 1.0);
+        deck = new Deck();
+        hand = new Hand();
+        hand.add(deck.takeCard());
+        hand.add(deck.takeCard());
+    }
+
+    /**
+     * Stops the wheel of the clock after each test.
+     */
+    @AfterEach
+    void tearDown() {
+        wheel.stop();
+    }
+
+    /**
+     * Test to ensure that the machine calls "UNO" exactly once when the hand goes down to one card.
+     */
+    @Test
+    @DisplayName("Should call once when the hand goes down to one card")
+    void shouldCallOnceOnOneCard() throws InterruptedException {
+        CountDownLatch called = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        UnoCallDetector detector = new UnoCallDetector(hand, clock, Runnable::run, () -> {
+            calls.incrementAndGet();
+            called.countDown();
+        }, new GameRng(1), 50);
+
+        hand.remove(0);
+
+        assertTrue(called.await(5, TimeUnit.SECONDS), "The machine should call UNO");
+        Thread.sleep(100);
+        assertEquals(1, calls.get(), "The machine should call UNO only once");
+        assertFalse(detector.isCallPending(), "No call should be pending after the call");
+    }
+
+    /**
+     * Test to ensure that the call is cancelled when the human calls first or the hand changes.
+     */
+    @Test
+    @DisplayName("Should cancel the call when the human calls first or the hand changes")
+    void shouldCancelCall() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        UnoCallDetector detector = new UnoCallDetector(hand, clock, Runnable::run,
+                calls::incrementAndGet, new GameRng(2), 60_000);
+
+        hand.remove(0);
+        assertTrue(detector.isCallPending(), "The call should be scheduled");
+        detector.humanCalled();
+        hand.add(deck.takeCard());
+        hand.remove(0);
+        hand.remove(0);
+        Thread.sleep(200);
+
+        assertEquals(0, calls.get(), "The machine should not call UNO");
+        assertFalse(detector.isCallPending(), "No call should be pending");
+        detector.close();
+        hand.add(deck.takeCard());
+        assertFalse(detector.isCallPending(), "A closed detector should not schedule calls");
+    }
+}
@@ -0,0 +1,171 @@
+package org.example.eiscuno.model.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.example.eiscuno.model.clock.TimerWheel;
+import org.example.eiscuno.model.machine.BasicAIPlayerStrategy;
+import org.example.eiscuno.model.rng.GameRng;
+import org.example.eiscuno.model.session.SessionExecutor;
+import org.example.eiscuno.model.simulation.GameSimulator;
+import org.junit.jupiter.api.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Unit tests for the {@link GameResultStore} class.
+ * This class tests, against an in-memory H2 database, that the results and events of the games
+ * are written in batches, that a full queue drops records instead of blocking, and that the last
+ * records are flushed without waiting for a full batch.
+ */
+@DisplayName("GameResultStore Tests")
+class GameResultStoreTest {
+    private TimerWheel wheel;
+    private String url;
+
+    @BeforeEach
+    void setUp(TestInfo info) {
+        wheel = new TimerWheel(1, 64, "TestWheel");
+        url = "jdbc:h2:mem:" + info.getTestMethod().orElseThrow().getName() + ";DB_CLOSE_DELAY=-1";
+    }
+
+    @AfterEach
+    void tearDown() {
+        wheel.stop();
+    }
+
+    /**
+     * Creates a store on the test wheel.
+     *
+     * @param queueCapacity the capacity of the queue
+     * @param batchSize     the size of a batch
+     * @param flushMillis   the flush tick
+     * @param recordEvents  true to record the events
+     * @return the store
+     * @throws SQLException if the database cannot be reached
+     */
+    private GameResultStore store(int queueCapacity, int batchSize, long flushMillis, boolean recordEvents)
+            throws SQLException {
+        return new GameResultStore(url, queueCapacity, batchSize, flushMillis, recordEvents,
+                SessionExecutor.shared(), wheel);
+    }
+
+    /**
+     * Creates the record of a game between two players.
+     *
+     * @param store the store that gives the id
+     * @return the record
+     */
+    private static GameRecord record(GameResultStore store) {
+        return new GameRecord(store.nextGameId(), 42, List.of("HUMAN_PLAYER", "MACHINE_PLAYER"),
+                "MACHINE_PLAYER", 17, 1234);
+    }
+
+    /**
+     * Counts the rows of a table.
+     *
+     * @param table the table
+     * @return the number of rows
+     * @throws SQLException if the query fails
+     */
+    private long count(String table) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url);
+             Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            rows.next();
+            return rows.getLong(1);
+        }
+    }
+
+    /**
+     * Test to ensure that results and events are written in batches.
+     */
+    @Test
+    @DisplayName("Should write the results and the events of the games in batches")
+    void shouldWriteResultsAndEventsInBatches() throws SQLException {
+        GameResultStore store = store(10_000, 10, 20, true);
+        for (int i = 0; i < 25; i++) {
+            assertTrue(store.submit(record(store)), "A record should be queued while there is room");
+        }
+        long gameId = store.nextGameId();
+        new GameSimulator(BasicAIPlayerStrategy::new, BasicAIPlayerStrategy::new, 2000)
+                .play(new GameRng(7), store.eventSink(gameId));
+        store.close();
+
+        assertEquals(25, count("uno_game"), "Every result should be written");
+        assertEquals(50, count("uno_game_player"), "Every player should be written");
+        assertEquals(store.getWrittenEvents(), count("uno_game_event"), "Every event should be written");
+        assertTrue(store.getWrittenEvents() > 0, "The events of the game should be written");
+        assertTrue(store.getBatches() >= 3, "The records should be split in batches");
+        assertTrue(store.getAverageBatchSize() <= 10, "A batch should not exceed the batch size");
+        assertEquals(0, store.getDroppedRecords() + store.getLostRecords(), "No record should be lost");
+        assertTrue(store.getMaxFlushNanos() > 0, "The flush latency should be measured");
+    }
+
+    /**
+     * Test to ensure that a full queue refuses the records instead of blocking the game.
+     */
+    @Test
+    @DisplayName("Should drop the records when the queue is full")
+    void shouldDropWhenQueueIsFull() throws SQLException {
+        GameResultStore store = store(5, 100, 60_000, false);
+        int queued = 0;
+        for (int i = 0; i < 8; i++) {
+            if (store.submit(record(store))) {
+                queued++;
+            }
+        }
+
+        assertEquals(5, queued, "Only the capacity of the queue should be queued");
+        assertEquals(3, store.getDroppedRecords(), "The other records should be dropped");
+        assertEquals(5, store.getMaxQueueDepth(), "The queue depth should be measured");
+        store.close();
+        assertEquals(5, count("uno_game"), "The queued records should be written on close");
+    }
+
+    /**
+     * Test to ensure that the last records are flushed by the tick without a full batch.
+     */
+    @Test
+    @DisplayName("Should flush an incomplete batch on the next tick")
+    void shouldFlushIncompleteBatchOnTick() throws Exception {
+        GameResultStore store = store(100, 100, 20, false);
+        for (int i = 0; i < 3; i++) {
+            store.submit(record(store));
+        }
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (store.getWrittenGames() < 3 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+
+        assertEquals(3, store.getWrittenGames(), "The records should be written before the store is closed");
+        assertEquals(0, store.getQueueDepth(), "The queue should be empty");
+        assertTrue(store.getMaxCommitDelayNanos() > 0, "The commit delay should be measured");
+        store.close();
+    }
+
+    /**
+     * Test to ensure that the commit delay is measured from the oldest record of the batch, and
+     * that a record refused by a closed store is not measured.
+     */
+    @Test
+    @DisplayName("Should measure the commit delay from the oldest queued record")
+    void shouldMeasureCommitDelayFromOldestRecord() throws Exception {
+        GameResultStore store = store(100, 100, 60_000, false);
+        store.submit(record(store));
+        Thread.sleep(100);
+        store.submit(record(store));
+        store.close();
+        long delay = store.getMaxCommitDelayNanos();
+
+        assertTrue(delay >= 100_000_000L, "The wait of the first record should be measured: " + delay);
+        assertFalse(store.submit(record(store)), "A closed store should refuse the records");
+        assertEquals(1, store.getDroppedRecords(), "The refused record should be counted as dropped");
+        assertEquals(delay, store.getMaxCommitDelayNanos(), "The refused record should not be measured");
+    }
+}
@@ -0,0 +1,79 @@
+package org.example.eiscuno.model.player;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardColor;
+import org.example.eiscuno.model.card.CardValue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link Hand} class.
+ * This class tests that the face, color and value index of a hand stays consistent with its
+ * cards and that the playable cards are found through the face set.
+ */
+@DisplayName("Hand Tests")
+class HandTest {
+
+    private static final Card RED_ZERO = new Card("/org/example/eiscuno/cards-uno/0_red.png", "0", "RED", "NUMBER");
+    private static final Card BLUE_ZERO = new Card("/org/example/eiscuno/cards-uno/0_blue.png", "0", "BLUE", "NUMBER");
+    private static final Card BLUE_FIVE = new Card("/org/example/eiscuno/cards-uno/5_blue.png", "5", "BLUE", "NUMBER");
+    private static final Card WILD = new Card("/org/example/eiscuno/cards-uno/wild.png", "WILD", "WILD", "WILD");
+
+    /**
+     * Test to ensure that the counts follow the cards added and removed.
+     */
+    @Test
+    @DisplayName("Should keep counts in sync with added and removed cards")
+    void shouldKeepCountsInSync() {
+        Hand hand = new Hand();
+        hand.add(RED_ZERO);
+        hand.add(BLUE_ZERO);
+        hand.add(BLUE_FIVE);
+
+        assertEquals(2, hand.countOfColor(CardColor.BLUE), "Hand should hold two blue cards");
+        assertEquals(2, hand.countOfValue(CardValue.ZERO), "Hand should hold two zeros");
+
+        assertTrue(hand.remove(BLUE_ZERO), "Hand should remove a held card");
+        assertEquals(1, hand.countOfColor(CardColor.BLUE), "Hand should hold one blue card");
+        assertEquals(1, hand.countOfValue(CardValue.ZERO), "Hand should hold one zero");
+        assertFalse(hand.remove(BLUE_ZERO), "Hand should not remove a card it does not hold");
+    }
+
+    /**
+     * Test to ensure that the playable cards are found for a top card and game color.
+     */
+    @Test
+    @DisplayName("Should find the playable cards through the face set")
+    void shouldFindPlayableCards() {
+        Hand hand = new Hand();
+        hand.add(BLUE_FIVE);
+        hand.add(RED_ZERO);
+        hand.add(WILD);
+
+        long playable = hand.getPlayableBits(BLUE_ZERO, CardColor.BLUE);
+        assertEquals(0, hand.indexOfFirst(playable), "Blue five should be the first playable card");
+
+        hand.remove(0);
+        playable = hand.getPlayableBits(new Card("/org/example/eiscuno/cards-uno/7_green.png", "7", "GREEN", "NUMBER"),
+                CardColor.GREEN);
+        assertEquals(1, hand.indexOfFirst(playable), "Only the wild card should be playable");
+    }
+
+    /**
+     * Test to ensure that edits made directly on the list are picked up by the index.
+     */
+    @Test
+    @DisplayName("Should rebuild the index after direct list edits")
+    void shouldRebuildIndexAfterDirectEdits() {
+        Hand hand = new Hand();
+        hand.add(RED_ZERO);
+        hand.add(BLUE_FIVE);
+
+        hand.removeIf(card -> card == RED_ZERO);
+
+        assertEquals(0, hand.countOfColor(CardColor.RED), "Index should drop the removed card");
+        assertEquals(0, hand.getPlayableBits(RED_ZERO, CardColor.RED), "No card should match red zero");
+    }
+}
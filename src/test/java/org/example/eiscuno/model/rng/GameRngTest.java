@@ -0,0 +1,75 @@
+package org.example.eiscuno.model.rng;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.example.eiscuno.model.card.CardColor;
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.table.Table;
+import org.junit.jupiter.api.*;
+
+/**
+ * Unit tests for the {@link GameRng} class.
+ * This class tests that a session seed reproduces the whole game, and that split streams are
+ * independent of each other.
+ */
+@DisplayName("GameRng Tests")
+class GameRngTest {
+
+    /**
+     * Test to ensure that two games split from the same seed deal the same cards and choose the
+     * same random colors.
+     */
+    @Test
+    @DisplayName("Should replay a game from its seed")
+    void shouldReplayGameFromSeed() {
+        GameRng first = new GameRng(99);
+        GameRng second = new GameRng(99);
+        GameUno firstGame = newGame(first.split());
+        GameUno secondGame = newGame(second.split());
+
+        for (int i = 0; i < 5; i++) {
+            assertSame(firstGame.getCurrentPlayer().getCard(i).getFace(),
+                    secondGame.getCurrentPlayer().getCard(i).getFace(), "The same cards should be dealt");
+        }
+        for (int i = 0; i < 20; i++) {
+            assertEquals(firstGame.getRandomColor(), secondGame.getRandomColor(),
+                    "The same colors should be chosen");
+        }
+    }
+
+    /**
+     * Test to ensure that split streams have their own seeds and that random colors are never wild.
+     */
+    @Test
+    @DisplayName("Should split independent streams and draw only playable colors")
+    void shouldSplitIndependentStreams() {
+        GameRng root = new GameRng(7);
+        GameRng a = root.split();
+        GameRng b = root.split();
+
+        assertNotEquals(a.getSeed(), b.getSeed(), "Split streams should have different seeds");
+        assertEquals(new GameRng(a.getSeed()).nextInt(1000), a.nextInt(1000),
+                "A stream should be reproducible from its own seed");
+        for (int i = 0; i < 100; i++) {
+            CardColor color = b.randomColor();
+            assertFalse(color == CardColor.WILD || color == CardColor.FOUR_WILD_DRAW,
+                    "A random color should never be a wild color");
+        }
+    }
+
+    /**
+     * Creates and starts a game whose deck and choices are drawn from a game stream.
+     *
+     * @param gameRng the random stream of the game
+     * @return the started game
+     */
+    private static GameUno newGame(GameRng gameRng) {
+        Deck deck = new Deck(gameRng.split().generator());
+        GameUno game = new GameUno(new Player("HUMAN_PLAYER"), new Player("MACHINE_PLAYER"), deck, new Table(),
+                gameRng.split());
+        game.startGame();
+        return game;
+    }
+}
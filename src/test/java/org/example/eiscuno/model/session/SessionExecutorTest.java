@@ -0,0 +1,74 @@
+package org.example.eiscuno.model.session;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for the {@link SessionExecutor} class.
+ * This class tests the choice of the mode, the metrics of the tasks and their cancellation.
+ */
+@DisplayName("SessionExecutor Tests")
+class SessionExecutorTest {
+
+    /**
+     * Test to ensure that virtual threads are used only when the runtime has them.
+     */
+    @Test
+    @DisplayName("Should fall back to platform threads when virtual threads are missing")
+    void shouldChooseModeFromRuntime() {
+        SessionExecutor executor = new SessionExecutor(SessionExecutor.Mode.VIRTUAL);
+        try {
+            SessionExecutor.Mode expected = Runtime.version().feature() >= 21
+                    ? SessionExecutor.Mode.VIRTUAL : SessionExecutor.Mode.PLATFORM;
+            assertEquals(expected, executor.getMode(), "The mode should match the runtime");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Test to ensure that running tasks are counted, named after their session and interrupted
+     * when cancelled.
+     */
+    @Test
+    @DisplayName("Should count, name and cancel the tasks of the sessions")
+    void shouldRunAndCancelTasks() throws Exception {
+        SessionExecutor executor = new SessionExecutor(SessionExecutor.Mode.PLATFORM);
+        int sessions = 50;
+        CountDownLatch started = new CountDownLatch(sessions);
+        CountDownLatch interrupted = new CountDownLatch(sessions);
+        Future<?>[] tasks = new Future<?>[sessions];
+        String[] names = new String[sessions];
+        try {
+            for (int i = 0; i < sessions; i++) {
+                int session = i;
+                tasks[i] = executor.submit("Session-" + i, () -> {
+                    names[session] = Thread.currentThread().getName();
+                    started.countDown();
+                    try {
+                        Thread.sleep(60_000);
+                    } catch (InterruptedException e) {
+                        interrupted.countDown();
+                    }
+                });
+            }
+            assertTrue(started.await(5, TimeUnit.SECONDS), "Every session should start");
+            assertEquals(sessions, executor.getRunningTasks(), "Every task should be running");
+            assertEquals("Session-7", names[7], "The thread should be named after its session");
+            assertTrue(executor.getMaxLatencyNanos() >= executor.getAverageLatencyNanos(),
+                    "The maximum latency should not be below the average");
+
+            for (Future<?> task : tasks) {
+                task.cancel(true);
+            }
+            assertTrue(interrupted.await(5, TimeUnit.SECONDS), "Cancelling should interrupt every task");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
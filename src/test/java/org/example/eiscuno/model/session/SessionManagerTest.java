@@ -0,0 +1,291 @@
+package org.example.eiscuno.model.session;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.example.eiscuno.model.clock.TimerWheel;
+import org.example.eiscuno.model.clock.TurnClock;
+import org.example.eiscuno.model.game.GameActor;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.game.Move;
+import org.example.eiscuno.model.log.EventLog;
+import org.example.eiscuno.model.log.EventReplayer;
+import org.example.eiscuno.model.machine.AIPlayerStrategy;
+import org.example.eiscuno.model.machine.BasicAIPlayerStrategy;
+import org.example.eiscuno.model.rng.GameRng;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Unit tests for the {@link SessionManager} class.
+ * This class tests the admission control, the games played by the bots of many tables, the
+ * collection of finished and idle sessions, their hibernation and migration, and the replay of
+ * their events.
+ */
+@DisplayName("SessionManager Tests")
+class SessionManagerTest {
+    private SessionExecutor executor;
+    private TimerWheel wheel;
+    private SessionManager manager;
+
+    /**
+     * Creates a platform executor and a wheel for each test.
+     */
+    @BeforeEach
+    void setUp() {
+        executor = new SessionExecutor(SessionExecutor.Mode.PLATFORM);
+        wheel = new TimerWheel(1, 64, "TestWheel");
+    }
+
+    /**
+     * Shuts the manager, the wheel and the executor down after each test.
+     */
+    @AfterEach
+    void tearDown() {
+        if (manager != null) {
+            manager.shutdown();
+        }
+        wheel.stop();
+        executor.shutdownNow();
+    }
+
+    /**
+     * Test to ensure that sessions beyond the maximum are rejected until a place is freed, and
+     * that a paused session refuses the moves of its clients.
+     */
+    @Test
+    @DisplayName("Should admit sessions up to the maximum")
+    void shouldAdmitUpToMaximum() throws InterruptedException {
+        manager = new SessionManager(2, 60_000, TurnClock.instant(), new GameRng(1), executor, wheel);
+        List<Supplier<? extends AIPlayerStrategy>> seats = Arrays.asList(null, BasicAIPlayerStrategy::new);
+
+        GameSession first = manager.open(seats);
+        manager.open(seats);
+
+        assertThrows(RejectedExecutionException.class, () -> manager.open(seats), "A third session should be rejected");
+        assertEquals(1, manager.getRejectedSessions(), "The rejection should be counted");
+        first.pause();
+        ExecutionException refused = assertThrows(ExecutionException.class,
+                () -> first.submitMove(0, Move.draw()).get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, refused.getCause(), "A paused session should refuse moves");
+        assertTrue(manager.close(first.getId()), "The session should be open");
+        assertEquals(GameSession.State.CLOSED, first.getState(), "The session should be closed");
+        assertNotNull(manager.open(seats), "A freed place should admit a session");
+        assertEquals(2, manager.getOpenSessions(), "Two sessions should be open");
+    }
+
+    /**
+     * Test to ensure that the bots of many tables play their games to the end concurrently, and
+     * that the sweep collects the finished sessions.
+     */
+    @Test
+    @DisplayName("Should play many tables of bots and collect them")
+    void shouldPlayAndCollectTables() throws Exception {
+        manager = new SessionManager(100, 60_000, TurnClock.instant(), new GameRng(2), executor, wheel);
+        List<Supplier<? extends AIPlayerStrategy>> seats =
+                List.of(BasicAIPlayerStrategy::new, BasicAIPlayerStrategy::new, BasicAIPlayerStrategy::new);
+        List<GameSession> tables = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            tables.add(manager.open(seats));
+        }
+
+        for (GameSession table : tables) {
+            int winner = table.getResult().get(30, TimeUnit.SECONDS);
+            assertTrue(winner >= GameSession.NO_WINNER && winner < 3, "The winner should be a seat or none");
+            assertTrue(table.isFinished(), "The game should be over");
+        }
+        manager.sweep();
+
+        assertTrue(manager.getTurns() >= 50, "The tables should have played turns");
+        assertEquals(0, manager.getOpenSessions(), "Every finished session should be collected");
+        assertEquals(50, manager.getCollectedSessions(), "Every session should be counted as collected");
+        assertNull(manager.get(tables.get(0).getId()), "A collected session should be forgotten");
+    }
+
+    /**
+     * Test to ensure that a session waiting for a client for too long is evicted.
+     */
+    @Test
+    @DisplayName("Should evict idle sessions")
+    void shouldEvictIdleSessions() throws Exception {
+        manager = new SessionManager(10, 40, TurnClock.instant(), new GameRng(3), executor, wheel);
+        GameSession session = manager.open(Arrays.asList(null, BasicAIPlayerStrategy::new));
+
+        assertEquals(GameSession.NO_WINNER, session.getResult().get(5, TimeUnit.SECONDS),
+                "An evicted game should end without a winner");
+        assertEquals(1, manager.getEvictedSessions(), "The eviction should be counted");
+        assertEquals(0, manager.getOpenSessions(), "The place of the session should be freed");
+    }
+
+    /**
+     * Gets the ids of the cards of the client of a session.
+     *
+     * @param session the session
+     * @return the ids of the cards of the first seat
+     */
+    private static List<Integer> clientHand(GameSession session) {
+        List<Integer> ids = new ArrayList<>();
+        session.getActor().snapshot().getHumanHand().forEach(card -> ids.add(card.getId()));
+        return ids;
+    }
+
+    /**
+     * Test to ensure that an idle session is hibernated to a file, releasing the heap of its game,
+     * and restored with the same game when it receives a move.
+     */
+    @Test
+    @DisplayName("Should hibernate idle sessions and wake them on demand")
+    void shouldHibernateAndWake(@TempDir Path directory) throws Exception {
+        manager = new SessionManager(10, 60_000, TurnClock.instant(), new GameRng(4), executor, wheel);
+        GameSession session = manager.open(Arrays.asList(null, BasicAIPlayerStrategy::new));
+        session.getActor().execute(game -> { }).get(5, TimeUnit.SECONDS);
+        List<Integer> hand = clientHand(session);
+        long activeBytes = session.getEstimatedBytes();
+        assertEquals(activeBytes, manager.getEstimatedBytes(), "The manager should add up its sessions");
+        manager.setHibernation(directory, 1);
+        Thread.sleep(5);
+
+        manager.sweep();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (session.getState() != GameSession.State.HIBERNATED && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+
+        assertEquals(GameSession.State.HIBERNATED, session.getState(), "The idle session should hibernate");
+        assertNull(session.getActor(), "A hibernated session should release its game");
+        assertEquals(1, manager.getHibernatedSessions(), "The hibernated session should be counted");
+        assertTrue(session.getEstimatedBytes() < activeBytes / 10,
+                "A hibernated session should hold a fraction of the heap of an active one");
+        Path file = directory.resolve("session-" + session.getId() + ".uno");
+        assertTrue(Files.exists(file), "The game should be saved to a file");
+
+        session.submitMove(0, Move.draw()).get(5, TimeUnit.SECONDS);
+
+        assertEquals(GameSession.State.ACTIVE, session.getState(), "A move should wake the session");
+        assertTrue(session.getTurns() >= 1, "The move should be played on the restored game");
+        assertEquals(hand, clientHand(session).subList(0, hand.size()), "The restored game should keep the hand");
+        assertFalse(Files.exists(file), "The file should be deleted once the game is restored");
+    }
+
+    /**
+     * Test to ensure that a game saved by one manager goes on in another one.
+     */
+    @Test
+    @DisplayName("Should move a session to another manager")
+    void shouldMoveSessionBetweenManagers() throws Exception {
+        manager = new SessionManager(10, 60_000, TurnClock.instant(), new GameRng(5), executor, wheel);
+        List<Supplier<? extends AIPlayerStrategy>> seats = Arrays.asList(null, BasicAIPlayerStrategy::new);
+        GameSession session = manager.open(seats);
+        session.getActor().execute(game -> { }).get(5, TimeUnit.SECONDS);
+        ByteArrayOutputStream saved = new ByteArrayOutputStream();
+
+        int bytes = session.save(Channels.newChannel(saved)).get(5, TimeUnit.SECONDS);
+        SessionManager other = new SessionManager(10, 60_000, TurnClock.instant(), new GameRng(6), executor, wheel);
+        try {
+            GameSession moved = other.restore(seats, Channels.newChannel(new ByteArrayInputStream(saved.toByteArray())));
+            moved.getActor().execute(game -> { }).get(5, TimeUnit.SECONDS);
+
+            assertEquals(saved.size(), bytes, "The whole game should be written");
+            assertEquals(clientHand(session), clientHand(moved), "The moved game should keep the hand");
+            assertEquals(session.getActor().snapshot().getTopCard().getId(),
+                    moved.getActor().snapshot().getTopCard().getId(), "The moved game should keep the table");
+            assertNotNull(moved.submitMove(0, Move.draw()).get(5, TimeUnit.SECONDS), "The moved game should go on");
+        } finally {
+            other.shutdown();
+        }
+    }
+
+    /**
+     * Waits until a session waits for the move of its client, or its game is over.
+     *
+     * @param session the session, with its client on seat 0
+     */
+    private static void awaitClientTurn(GameSession session) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!session.isFinished() && System.currentTimeMillis() < deadline) {
+            GameActor actor = session.getActor();
+            if (actor != null && actor.submit(game -> game.getCurrentSeat() == 0).get(5, TimeUnit.SECONDS)) {
+                return;
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    /**
+     * Describes the state of play of a game.
+     *
+     * @param game the game
+     * @return the turn, the color, the top card, the deck size and the hands, as text
+     */
+    private static String stateOf(GameUno game) {
+        StringBuilder state = new StringBuilder();
+        state.append(game.getCurrentSeat()).append('/').append(game.getDirection()).append('/')
+                .append(game.getGameColor()).append('/').append(game.getMoveCount()).append('/')
+                .append(game.viewFor(game.getPlayer(0)).getTopCard().getId()).append('/')
+                .append(game.viewFor(game.getPlayer(0)).getDeckSize());
+        for (int seat = 0; seat < game.getPlayerCount(); seat++) {
+            state.append(' ');
+            game.getPlayer(seat).getCardsPlayer().forEach(card -> state.append(card.getId()).append(','));
+        }
+        return state.toString();
+    }
+
+    /**
+     * Test to ensure that a log shared by a session that hibernated several times and by a session
+     * restored from a game saved elsewhere can be replayed: the first game is rebuilt as it was
+     * played, the second one is left out.
+     */
+    @Test
+    @DisplayName("Should replay a log holding hibernated and restored sessions")
+    void shouldReplayHibernatedAndRestoredSessions(@TempDir Path directory) throws Exception {
+        int segmentBytes = 256 * EventLog.EVENT_SIZE;
+        Path logDirectory = directory.resolve("log");
+        EventLog log = new EventLog(logDirectory, segmentBytes, executor);
+        manager = new SessionManager(10, 60_000, TurnClock.instant(), new GameRng(8), executor, wheel);
+        manager.setEventLog(log);
+        List<Supplier<? extends AIPlayerStrategy>> seats = Arrays.asList(null, BasicAIPlayerStrategy::new);
+        GameSession hibernated = manager.open(seats);
+        awaitClientTurn(hibernated);
+        ByteArrayOutputStream saved = new ByteArrayOutputStream();
+        hibernated.save(Channels.newChannel(saved)).get(5, TimeUnit.SECONDS);
+        GameSession restored = manager.restore(seats, Channels.newChannel(new ByteArrayInputStream(saved.toByteArray())));
+        awaitClientTurn(restored);
+
+        for (int round = 0; round < 4 && !hibernated.isFinished(); round++) {
+            hibernated.hibernate(directory.resolve("session.uno")).get(5, TimeUnit.SECONDS);
+            for (int move = 0; move < 20 && !hibernated.isFinished(); move++) {
+                hibernated.submitMove(0, Move.draw()).get(5, TimeUnit.SECONDS);
+                awaitClientTurn(hibernated);
+            }
+        }
+        restored.submitMove(0, Move.draw()).get(5, TimeUnit.SECONDS);
+        awaitClientTurn(restored);
+        String expected = hibernated.getActor().submit(SessionManagerTest::stateOf).get(5, TimeUnit.SECONDS);
+        manager.shutdown();
+        log.close();
+
+        Map<Integer, GameUno> replayed = EventReplayer.replayAll(logDirectory, segmentBytes);
+
+        assertEquals(Set.of((int) hibernated.getId()), replayed.keySet(),
+                "Only the game whose events are all in the log should be replayed");
+        assertEquals(expected, stateOf(replayed.get((int) hibernated.getId())),
+                "The hibernated game should be replayed through its restores");
+        assertThrows(IllegalStateException.class,
+                () -> EventReplayer.replay(logDirectory, segmentBytes, (int) restored.getId()),
+                "A game restored from elsewhere should not be replayed");
+    }
+}
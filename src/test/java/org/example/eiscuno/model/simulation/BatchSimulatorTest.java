@@ -0,0 +1,36 @@
+package org.example.eiscuno.model.simulation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.example.eiscuno.model.machine.BasicAIPlayerStrategy;
+import org.junit.jupiter.api.*;
+
+/**
+ * Unit tests for the {@link BatchSimulator} class.
+ * This class tests that headless games are played to the end and that a batch is reproducible
+ * from its seed whatever the number of threads.
+ */
+@DisplayName("BatchSimulator Tests")
+class BatchSimulatorTest {
+
+    /**
+     * Test to ensure that a batch played on one thread and on several threads gives the same results.
+     */
+    @Test
+    @DisplayName("Should give the same results from the same seed on any number of threads")
+    void shouldReproduceBatchFromSeed() {
+        BatchSimulator batch = new BatchSimulator(
+                new GameSimulator(BasicAIPlayerStrategy::new, BasicAIPlayerStrategy::new, 2000));
+
+        SimulationReport sequential = batch.run(600, 42, 1);
+        SimulationReport parallel = batch.run(600, 42, 4);
+
+        assertEquals(600, sequential.getWins(0) + sequential.getWins(1) + sequential.getDraws(),
+                "Every game should be counted once");
+        assertEquals(sequential.getWins(0), parallel.getWins(0), "The first seat should win the same games");
+        assertEquals(sequential.getWins(1), parallel.getWins(1), "The second seat should win the same games");
+        assertEquals(sequential.getTotalTurns(), parallel.getTotalTurns(), "The same turns should be played");
+        assertTrue(sequential.latencyPercentileNanos(50) <= sequential.latencyPercentileNanos(99),
+                "Latency percentiles should be ordered");
+    }
+}
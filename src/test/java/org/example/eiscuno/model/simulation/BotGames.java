@@ -0,0 +1,62 @@
+package org.example.eiscuno.model.simulation;
+
+import org.example.eiscuno.model.game.GameEventSink;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.machine.AIPlayerStrategy;
+import org.example.eiscuno.model.machine.BasicAIPlayerStrategy;
+import org.example.eiscuno.model.rng.GameRng;
+
+import java.util.Collections;
+import java.util.function.Supplier;
+
+/**
+ * Seeded games played by {@link BasicAIPlayerStrategy} bots through a {@link GameSimulator}, for
+ * the tests that need a game in the middle of play.
+ */
+public final class BotGames {
+    private static final int MAX_TURNS = 2000;
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private BotGames() {
+    }
+
+    /**
+     * Deals a seeded game and lets the bots play some turns.
+     *
+     * @param seats the number of players
+     * @param seed  the seed of the game
+     * @param turns the number of turns to play at most
+     * @param sink  receives the events of the game
+     * @return the game after its last turn
+     */
+    public static GameUno play(int seats, long seed, int turns, GameEventSink sink) {
+        GameSimulator simulator = simulator(seats);
+        GameUno game = simulator.newGame(new GameRng(seed), sink);
+        game.startGame();
+        simulator.playTurns(game, turns);
+        return game;
+    }
+
+    /**
+     * Lets the bots play turns of a started or restored game.
+     *
+     * @param game  the game
+     * @param turns the number of turns to play at most
+     */
+    public static void playTurns(GameUno game, int turns) {
+        simulator(game.getPlayerCount()).playTurns(game, turns);
+    }
+
+    /**
+     * Creates a simulator with a bot on every seat.
+     *
+     * @param seats the number of players
+     * @return the simulator
+     */
+    private static GameSimulator simulator(int seats) {
+        Supplier<AIPlayerStrategy> bot = BasicAIPlayerStrategy::new;
+        return new GameSimulator(Collections.nCopies(seats, bot), MAX_TURNS);
+    }
+}
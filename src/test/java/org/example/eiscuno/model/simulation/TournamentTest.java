@@ -0,0 +1,110 @@
+package org.example.eiscuno.model.simulation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.example.eiscuno.model.machine.BasicAIPlayerStrategy;
+import org.example.eiscuno.model.machine.IsmctsAIPlayerStrategy;
+import org.example.eiscuno.model.rng.GameRng;
+import org.junit.jupiter.api.*;
+
+import java.util.SplittableRandom;
+
+/**
+ * Unit tests for the {@link Tournament} class.
+ * This class tests the confidence intervals, their adjustment for repeated checks, and that a match between strategies of different
+ * strength stops early with a significant result.
+ */
+@DisplayName("Tournament Tests")
+class TournamentTest {
+
+    /**
+     * Test to ensure that the Wilson interval contains the win rate and narrows with more games.
+     */
+    @Test
+    @DisplayName("Should compute Wilson intervals around the win rate")
+    void shouldComputeWilsonInterval() {
+        double z = Tournament.zScore(0.05, 1);
+        assertTrue(Tournament.wilsonLow(60, 100, z) < 0.6 && Tournament.wilsonHigh(60, 100, z) > 0.6,
+                "The interval should contain the win rate");
+        assertFalse(Tournament.excludesEven(55, 100, z), "55 wins out of 100 should not be significant");
+        assertTrue(Tournament.excludesEven(550, 1000, z), "550 wins out of 1000 should be significant");
+        assertTrue(Tournament.excludesEven(400, 1000, z), "A significant loss should also stop the match");
+    }
+
+    /**
+     * Test to ensure that the level of the interval is adjusted for the number of checks.
+     */
+    @Test
+    @DisplayName("Should widen the interval with the number of checks")
+    void shouldAdjustScoreForChecks() {
+        assertEquals(1.96, Tournament.zScore(0.05, 1), 0.001, "A single check should use the 95% score");
+        assertEquals(3.02, Tournament.zScore(0.05, 20), 0.01, "Twenty checks should use the 99.75% score");
+        assertEquals(19, Tournament.checks(100, 200, 2000), "Rounds 2 to 20 should be checked");
+        assertEquals(1, Tournament.checks(100, 2000, 2000), "Only the last round should be checked");
+        assertTrue(Tournament.excludesEven(540, 1000, Tournament.zScore(0.05, 1))
+                        && !Tournament.excludesEven(540, 1000, Tournament.zScore(0.05, 20)),
+                "A result significant once should not be significant among twenty checks");
+    }
+
+    /**
+     * Test to ensure that stopping at the first significant check declares a winner between equal
+     * strategies in at most 5% of the matches, and that the unadjusted 95% interval does not.
+     */
+    @Test
+    @DisplayName("Should keep the false positive rate of repeated checks under 5%")
+    void shouldBoundFalsePositiveRate() {
+        int checks = Tournament.checks(100, 100, 2000);
+        assertTrue(falsePositiveRate(Tournament.zScore(0.05, checks), checks) <= 0.05,
+                "The adjusted checks should declare few winners between equal strategies");
+        assertTrue(falsePositiveRate(Tournament.zScore(0.05, 1), checks) > 0.05,
+                "Repeating the 95% check should declare too many winners");
+    }
+
+    /**
+     * Simulates matches between equal strategies that stop at the first significant check.
+     *
+     * @param z      the score of the interval
+     * @param checks the number of checks of a match, one every 200 decided games
+     * @return the fraction of the matches reported significant
+     */
+    private static double falsePositiveRate(double z, int checks) {
+        SplittableRandom random = new SplittableRandom(42);
+        int matches = 2000;
+        int significant = 0;
+        for (int match = 0; match < matches; match++) {
+            int wins = 0;
+            for (int check = 1; check <= checks; check++) {
+                for (int game = 0; game < 200; game++) {
+                    wins += random.nextBoolean() ? 1 : 0;
+                }
+                if (Tournament.excludesEven(wins, 200 * check, z)) {
+                    significant++;
+                    break;
+                }
+            }
+        }
+        return (double) significant / matches;
+    }
+
+    /**
+     * Test to ensure that a match stops before its maximum once one strategy is clearly stronger.
+     */
+    @Test
+    @DisplayName("Should stop a lopsided match early and report decision times")
+    void shouldStopLopsidedMatchEarly() {
+        Tournament tournament = new Tournament(50, 50, 2000, 4)
+                .add("ismcts", () -> new IsmctsAIPlayerStrategy(1000, 300, 1, new GameRng(7)))
+                .add("basic", BasicAIPlayerStrategy::new);
+
+        TournamentReport report = tournament.run(42);
+        TournamentReport.MatchResult match = report.getMatches().get(0);
+
+        assertTrue(match.isSignificant(), "The match should reach a significant result: " + match);
+        assertTrue(match.getDeals() < 2000, "The match should stop before its maximum: " + match);
+        assertTrue(match.getWinRate() > 0.5, "ISMCTS should beat the basic strategy: " + match);
+        assertEquals(2 * match.getDeals(), match.getFirstWins() + match.getSecondWins() + match.getDraws(),
+                "Every deal should be played in both seats");
+        assertTrue(report.getDecisionMicros("ismcts") > report.getDecisionMicros("basic"),
+                "Searching should take longer than the basic rules");
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.eiscuno.model.table;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.deck.Deck;
+import org.junit.jupiter.api.*;
+
+import java.util.SplittableRandom;
+
+/**
+ * Unit tests for the {@link Table} class.
+ * This class tests the bounded discard pile and the recycling of its cards into the deck.
+ */
+@DisplayName("Table Tests")
+class TableTest {
+
+    /**
+     * Test to ensure that a full table drops its oldest card and keeps the most recent ones.
+     */
+    @Test
+    @DisplayName("Should drop the oldest card when the table is full")
+    void shouldDropOldestCardWhenFull() {
+        Deck deck = new Deck(new SplittableRandom(1));
+        Table table = new Table(3);
+        Card[] played = new Card[4];
+        for (int i = 0; i < played.length; i++) {
+            played[i] = deck.takeCard();
+            table.addCardOnTheTable(played[i]);
+        }
+
+        assertEquals(3, table.size(), "The table should keep at most its capacity");
+        assertEquals(1, table.getDroppedCards(), "One card should be dropped");
+        assertSame(played[3], table.getCurrentCardOnTheTable(), "The last card played should be on top");
+        assertSame(played[1], table.getCard(2), "The oldest kept card should be the second one played");
+    }
+
+    /**
+     * Test to ensure that recycling moves every card but the top one into the deck, and that a
+     * table with only its top card has nothing to recycle.
+     */
+    @Test
+    @DisplayName("Should recycle every card but the top one into the deck")
+    void shouldRecycleAllButTop() {
+        Deck deck = new Deck(new SplittableRandom(2));
+        Table table = new Table();
+        while (!deck.isEmpty()) {
+            table.addCardOnTheTable(deck.takeCard());
+        }
+        Card top = table.getCurrentCardOnTheTable();
+
+        assertEquals(deck.capacity() - 1, deck.recycle(table), "Every card but the top one should move");
+        assertEquals(deck.capacity() - 1, deck.size(), "The deck should hold the recycled cards");
+        assertSame(top, table.getCurrentCardOnTheTable(), "The top card should stay on the table");
+        assertEquals(0, deck.recycle(table), "A table with only its top card has nothing to recycle");
+        assertEquals(1, deck.getRecycleCount(), "Only recycles that move cards should be counted");
+    }
+}
@@ -0,0 +1,106 @@
+package org.example.eiscuno.view;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import javafx.application.Platform;
+import javafx.scene.image.Image;
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+import org.junit.jupiter.api.*;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for the {@link AssetPreloader} class.
+ * This class tests that {@link AssetPreloader#whenReady(java.util.Collection)} completes once the
+ * needed assets are decoded, and that the progress and the cache counters account for every asset
+ * of the preload.
+ */
+@DisplayName("AssetPreloader Tests")
+class AssetPreloaderTest {
+    private static final List<EISCUnoEnum> BACKGROUNDS = List.of(EISCUnoEnum.BACKGROUND_UNO, EISCUnoEnum.UNO);
+
+    /**
+     * Skips the tests when the JavaFX toolkit cannot start.
+     */
+    @BeforeAll
+    static void startToolkit() {
+        assumeTrue(JavaFxToolkit.start(), "The JavaFX toolkit needs a display");
+    }
+
+    /**
+     * Waits for the end of the preload, so no decoding goes on during the next test classes.
+     */
+    @AfterAll
+    static void finishPreload() throws Exception {
+        if (JavaFxToolkit.start()) {
+            AssetPreloader.getInstance().whenAllLoaded().get(60, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Test to ensure that the future of the needed assets completes and that they are then kept in
+     * the cache.
+     */
+    @Test
+    @DisplayName("Should complete whenReady once the needed assets are decoded")
+    void shouldCompleteWhenReady() throws Exception {
+        CompletableFuture<Void> ready = AssetPreloader.getInstance().whenReady(BACKGROUNDS);
+
+        ready.get(30, TimeUnit.SECONDS);
+
+        assertTrue(ready.isDone() && !ready.isCompletedExceptionally(), "The needed assets should be decoded");
+        for (EISCUnoEnum asset : BACKGROUNDS) {
+            Image image = CardImageCache.getImage(asset);
+            assertFalse(image.isError(), asset + " should be decoded without error");
+            assertSame(image, CardImageCache.getImage(asset), asset + " should be kept in the cache");
+        }
+    }
+
+    /**
+     * Test to ensure that the progress reaches 100% once every asset is decoded, that assets asked
+     * for afterwards are ready at once, and that they are then cache hits.
+     */
+    @Test
+    @DisplayName("Should count every asset of the preload")
+    void shouldCountEveryAsset() throws Exception {
+        AssetPreloader preloader = AssetPreloader.getInstance();
+        preloader.whenAllLoaded().get(60, TimeUnit.SECONDS);
+
+        assertEquals(1.0, progressWithin(5_000), 1e-9, "The progress should reach every asset");
+        assertTrue(preloader.whenReady(EnumSet.allOf(EISCUnoEnum.class)).isDone(),
+                "Every asset should be ready at once after the preload");
+        long hits = CardImageCache.getHitCount();
+        long misses = CardImageCache.getMissCount();
+        int backgrounds = 0;
+        for (EISCUnoEnum asset : EISCUnoEnum.values()) {
+            if (!asset.isPlayableCard()) {
+                CardImageCache.getImage(asset);
+                backgrounds++;
+            }
+        }
+        assertEquals(misses, CardImageCache.getMissCount(), "The preloaded assets should not be misses");
+        assertTrue(CardImageCache.getHitCount() - hits >= backgrounds, "The preloaded assets should be hits");
+    }
+
+    /**
+     * Reads the progress on the JavaFX Application Thread until it is complete or the time is up.
+     *
+     * @param millis the time to wait at most
+     * @return the last progress read
+     * @throws Exception if the JavaFX Application Thread does not answer
+     */
+    private static double progressWithin(long millis) throws Exception {
+        long deadline = System.currentTimeMillis() + millis;
+        double progress;
+        do {
+            CompletableFuture<Double> read = new CompletableFuture<>();
+            Platform.runLater(() -> read.complete(AssetPreloader.getInstance().progressProperty().get()));
+            progress = read.get(5, TimeUnit.SECONDS);
+        } while (progress < 1 && System.currentTimeMillis() < deadline);
+        return progress;
+    }
+}
@@ -0,0 +1,116 @@
+package org.example.eiscuno.view;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardFace;
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+import org.junit.jupiter.api.*;
+
+/**
+ * Unit tests for the {@link CardImageCache} class.
+ * This class tests that the hit and miss counters only count what the cache really did, and that
+ * the card faces are served from the atlas once it is enabled or built. The atlas is shared by the
+ * whole process, so the tests run in order: the atlas is only built by the second one.
+ */
+@DisplayName("CardImageCache Tests")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class CardImageCacheTest {
+
+    /**
+     * Skips the tests when the JavaFX toolkit cannot start.
+     */
+    @BeforeAll
+    static void startToolkit() {
+        assumeTrue(JavaFxToolkit.start(), "The JavaFX toolkit needs a display");
+    }
+
+    /**
+     * Test to ensure that an asset is decoded at most once and that the next requests are hits.
+     */
+    @Test
+    @Order(1)
+    @DisplayName("Should count a decode as a miss and the next requests as hits")
+    void shouldCountHitsAndMisses() {
+        long hits = CardImageCache.getHitCount();
+        long misses = CardImageCache.getMissCount();
+        Image first = CardImageCache.getImage(EISCUnoEnum.BUTTON_UNO);
+        assertEquals(1, CardImageCache.getHitCount() - hits + CardImageCache.getMissCount() - misses,
+                "The first request should be counted once");
+
+        hits = CardImageCache.getHitCount();
+        misses = CardImageCache.getMissCount();
+        long decodeNanos = CardImageCache.getDecodeNanos();
+        Image second = CardImageCache.getImage(EISCUnoEnum.BUTTON_UNO);
+
+        assertSame(first, second, "The decoded image should be shared");
+        assertEquals(hits + 1, CardImageCache.getHitCount(), "The second request should be a hit");
+        assertEquals(misses, CardImageCache.getMissCount(), "The second request should not be a miss");
+        assertEquals(decodeNanos, CardImageCache.getDecodeNanos(), "A hit should not decode");
+    }
+
+    /**
+     * Test to ensure that the card faces are drawn from the atlas when the atlas mode is enabled,
+     * and still after it is disabled, as the atlas then holds the only bitmap of the faces.
+     */
+    @Test
+    @Order(2)
+    @DisplayName("Should render the card faces from the atlas once it is enabled")
+    void shouldSwitchToAtlas() {
+        assertFalse(CardImageCache.hasAtlas(), "The atlas should not be built before it is used");
+        Card card = new Card(CardFace.of(EISCUnoEnum.GREEN_3), 0);
+        ImageView view = new ImageView();
+
+        CardView.bind(view, card);
+        assertSame(CardImageCache.getImage(EISCUnoEnum.GREEN_3), view.getImage(),
+                "Without the atlas the view should show the face");
+        assertNull(view.getViewport(), "Without the atlas the view should show the whole image");
+
+        CardImageCache.setAtlasEnabled(true);
+        try {
+            CardView.bind(view, card);
+        } finally {
+            CardImageCache.setAtlasEnabled(false);
+        }
+        CardAtlas atlas = CardImageCache.getAtlas();
+        assertSame(atlas.getImage(), view.getImage(), "With the atlas the view should show the atlas");
+        assertEquals(atlas.getViewport(EISCUnoEnum.GREEN_3), view.getViewport(),
+                "The viewport should be the cell of the card");
+        assertTrue(CardImageCache.hasAtlas(), "The atlas should be built");
+
+        CardView.bind(view, new Card(CardFace.of(EISCUnoEnum.RED_5), 1));
+        assertSame(atlas.getImage(), view.getImage(), "Once built the atlas should stay in use");
+        assertEquals(atlas.getViewport(EISCUnoEnum.RED_5), view.getViewport(),
+                "The viewport should follow the card");
+    }
+
+    /**
+     * Test to ensure that, once the atlas is built, a card face is copied from it once and the copy
+     * is served as a hit afterwards, without decoding the face file again.
+     */
+    @Test
+    @Order(3)
+    @DisplayName("Should copy a face from the atlas once and keep the copy")
+    void shouldKeepAtlasCopy() {
+        CardAtlas atlas = CardImageCache.getAtlas();
+        long hits = CardImageCache.getHitCount();
+        long misses = CardImageCache.getMissCount();
+        long decodeNanos = CardImageCache.getDecodeNanos();
+
+        Image copy = CardImageCache.getImage(EISCUnoEnum.BLUE_8);
+        assertEquals(misses + 1, CardImageCache.getMissCount(), "The copy should be a miss");
+        assertEquals(hits, CardImageCache.getHitCount(), "The copy should not be a hit");
+        assertEquals(decodeNanos, CardImageCache.getDecodeNanos(), "The face should not be decoded again");
+        Rectangle2D cell = atlas.getViewport(EISCUnoEnum.BLUE_8);
+        assertEquals(cell.getWidth(), copy.getWidth(), "The copy should have the size of the cell");
+        assertEquals(cell.getHeight(), copy.getHeight(), "The copy should have the size of the cell");
+
+        assertSame(copy, CardImageCache.getImage(EISCUnoEnum.BLUE_8), "The copy should be kept");
+        assertEquals(hits + 1, CardImageCache.getHitCount(), "The kept copy should be a hit");
+        assertEquals(misses + 1, CardImageCache.getMissCount(), "The kept copy should not be a miss");
+    }
+}
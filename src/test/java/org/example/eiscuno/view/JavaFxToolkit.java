@@ -0,0 +1,38 @@
+package org.example.eiscuno.view;
+
+import javafx.application.Platform;
+
+/**
+ * Starts the JavaFX toolkit once for the tests that decode images.
+ * <p>
+ * Decoding an {@link javafx.scene.image.Image} needs the toolkit, which cannot start without a
+ * display; the tests that depend on it are skipped on a headless machine.
+ */
+final class JavaFxToolkit {
+    private static Boolean started;
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private JavaFxToolkit() {
+    }
+
+    /**
+     * Starts the toolkit on the first call.
+     *
+     * @return true if the toolkit is running
+     */
+    static synchronized boolean start() {
+        if (started == null) {
+            try {
+                Platform.startup(() -> { });
+                started = true;
+            } catch (IllegalStateException alreadyStarted) {
+                started = true;
+            } catch (RuntimeException noDisplay) {
+                started = false;
+            }
+        }
+        return started;
+    }
+}